@@ -1,8 +1,6 @@
 package org.chronos.chronodb.api;
 
-import org.chronos.chronodb.internal.impl.BranchHeadStatisticsImpl;
-
-import static com.google.common.base.Preconditions.*;
+import java.util.Map;
 
 public interface BranchHeadStatistics {
 
@@ -14,4 +12,11 @@ public interface BranchHeadStatistics {
 
     public double getHeadHistoryRatio();
 
+    /**
+     * Returns the statistics of the individual keyspaces on the branch.
+     *
+     * @return An unmodifiable map from keyspace name to keyspace statistics. May be empty, but never <code>null</code>.
+     */
+    public Map<String, KeyspaceStatistics> getKeyspaceStatistics();
+
 }
@@ -1,5 +1,6 @@
 package org.chronos.chronodb.api;
 
+import org.chronos.chronodb.api.conflict.ConflictResolutionStrategy;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
@@ -126,11 +127,55 @@ public interface BranchManager {
      * Child branches are deleted before parent branches.
      * </p>
      *
+     * <p>
+     * Once this method returns, the deleted branches are no longer accessible. Depending on the backend, their data may
+     * still be removed from disk asynchronously.
+     * </p>
+     *
      * @param branchName The name of the branch to delete. Must not be <code>null</code>. The {@link ChronoDBConstants#MASTER_BRANCH_IDENTIFIER master} branch cannot be deleted!
      * @return The list of branch names which have been deleted by this operation. May be empty, but never <code>null</code>.
      */
     public List<String> deleteBranchRecursively(String branchName);
 
+    /**
+     * Merges the changes of the given source branch into its parent branch.
+     *
+     * <p>
+     * This is the same as calling {@link #mergeBranch(String, String, ConflictResolutionStrategy, Object)} with the
+     * {@linkplain ConflictResolutionStrategy#DO_NOT_MERGE DO_NOT_MERGE} strategy and without commit metadata.
+     * </p>
+     *
+     * @param sourceBranchName The name of the branch to merge. Must not be <code>null</code>, must refer to an existing branch.
+     * @param targetBranchName The name of the branch to merge into. Must not be <code>null</code>, must be the parent of the source branch.
+     * @return The result of the merge. Never <code>null</code>.
+     */
+    public default BranchMergeResult mergeBranch(final String sourceBranchName, final String targetBranchName) {
+        return this.mergeBranch(sourceBranchName, targetBranchName, ConflictResolutionStrategy.DO_NOT_MERGE, null);
+    }
+
+    /**
+     * Merges the changes of the given source branch into its parent branch.
+     *
+     * <p>
+     * The common ancestor of the merge is the target branch at the {@linkplain Branch#getBranchingTimestamp() branching timestamp}
+     * of the source branch. Every key which has been modified on the source branch after that timestamp is written to
+     * the target branch. If the key has also been modified on the target branch after that timestamp, and the two
+     * values differ, the given conflict resolution strategy decides on the value to write. All changes are written in a
+     * single commit on the target branch, which also updates the secondary indices.
+     * </p>
+     *
+     * <p>
+     * The source branch is not modified by this operation and continues to exist.
+     * </p>
+     *
+     * @param sourceBranchName   The name of the branch to merge. Must not be <code>null</code>, must refer to an existing branch.
+     * @param targetBranchName   The name of the branch to merge into. Must not be <code>null</code>, must be the parent of the source branch.
+     * @param conflictResolution The strategy to apply to keys which have been modified on both branches. Must not be <code>null</code>.
+     * @param commitMetadata     The metadata for the merge commit. May be <code>null</code>.
+     * @return The result of the merge. Never <code>null</code>.
+     */
+    public BranchMergeResult mergeBranch(String sourceBranchName, String targetBranchName, ConflictResolutionStrategy conflictResolution, Object commitMetadata);
+
     /**
      * Gets the actual branch which is referred to by the given coordinates.
      *
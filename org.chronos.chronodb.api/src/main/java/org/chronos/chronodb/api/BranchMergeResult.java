@@ -0,0 +1,65 @@
+package org.chronos.chronodb.api;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * The result of merging one branch into another via {@link BranchManager#mergeBranch(String, String)}.
+ */
+public class BranchMergeResult {
+
+    private final long commitTimestamp;
+    private final int mergedKeyCount;
+    private final int conflictCount;
+
+    public BranchMergeResult(final long commitTimestamp, final int mergedKeyCount, final int conflictCount) {
+        checkArgument(commitTimestamp >= -1, "Precondition violation - argument 'commitTimestamp' must not be less than -1!");
+        checkArgument(mergedKeyCount >= 0, "Precondition violation - argument 'mergedKeyCount' must not be negative!");
+        checkArgument(conflictCount >= 0, "Precondition violation - argument 'conflictCount' must not be negative!");
+        this.commitTimestamp = commitTimestamp;
+        this.mergedKeyCount = mergedKeyCount;
+        this.conflictCount = conflictCount;
+    }
+
+    /**
+     * Returns the timestamp of the merge commit on the target branch.
+     *
+     * @return The commit timestamp, or -1 if there was nothing to merge and no commit has been performed.
+     */
+    public long getCommitTimestamp() {
+        return commitTimestamp;
+    }
+
+    /**
+     * Returns the number of keys which have been written to the target branch by the merge.
+     *
+     * @return The number of merged keys.
+     */
+    public int getMergedKeyCount() {
+        return mergedKeyCount;
+    }
+
+    /**
+     * Returns the number of keys which have been modified on both branches and were passed to the conflict resolution strategy.
+     *
+     * @return The number of conflicts.
+     */
+    public int getConflictCount() {
+        return conflictCount;
+    }
+
+    /**
+     * Checks if the merge resulted in a commit on the target branch.
+     *
+     * @return <code>true</code> if a merge commit has been performed, otherwise <code>false</code>.
+     */
+    public boolean hasMergeCommit() {
+        return this.commitTimestamp >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "BranchMergeResult[commitTimestamp=" + this.commitTimestamp + ", mergedKeys=" + this.mergedKeyCount
+            + ", conflicts=" + this.conflictCount + "]";
+    }
+
+}
@@ -333,6 +333,12 @@ public interface Dateback {
      *
      * </p>
      *
+     * <p>
+     * The transformation should be a pure, side-effect free function. It is invoked concurrently from several threads
+     * only if {@link org.chronos.chronodb.internal.api.ChronoDBConfiguration#DATEBACK_TRANSFORMATION_PARALLELISM} is
+     * greater than 1 (default: 1).
+     * </p>
+     *
      * @param keyspace The keyspace to transform. Must not be <code>null</code>.
      * @param valueTransformation The value transformation to apply. Must not be <code>null</code>.
      */
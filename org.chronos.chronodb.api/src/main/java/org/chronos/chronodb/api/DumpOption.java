@@ -4,6 +4,7 @@ import static com.google.common.base.Preconditions.*;
 
 import org.chronos.chronodb.api.dump.ChronoConverter;
 import org.chronos.chronodb.api.dump.ChronoDBDumpFormat.Alias;
+import org.chronos.chronodb.api.dump.DumpCompressor;
 import org.chronos.chronodb.api.dump.annotations.ChronosExternalizable;
 
 /**
@@ -31,6 +32,20 @@ public abstract class DumpOption {
 	 */
 	public static final DumpOption ENABLE_GZIP = new FlagOption("enableGZip");
 
+	/**
+	 * Writes the dump in the binary dump format instead of XML.
+	 *
+	 * <p>
+	 * The binary format splits the entries into length-prefixed blocks per branch and keyspace, which are encoded, compressed and decoded in
+	 * parallel. Entry values are always written in their serialized (binary) form; {@linkplain #defaultConverter(Class, ChronoConverter)
+	 * converters} and {@linkplain #aliasHint(Class, String) aliases} only apply to the metadata of the dump. The {@link #ENABLE_GZIP} option
+	 * has no effect on binary dumps, use {@link #compressor(DumpCompressor)} instead.
+	 *
+	 * <p>
+	 * When reading a dump, the format is detected automatically; this option is not required.
+	 */
+	public static final DumpOption BINARY_FORMAT = new FlagOption("binaryFormat");
+
 	/**
 	 * Creates an alias for the given class in the output format.
 	 *
@@ -124,6 +139,38 @@ public abstract class DumpOption {
 		return new IntOption("batchSize", batchSize);
 	}
 
+	/**
+	 * Sets the number of threads which encode or decode the blocks of a {@linkplain #BINARY_FORMAT binary dump}.
+	 *
+	 * <p>
+	 * Defaults to the number of available processors.
+	 *
+	 * @param threads
+	 *            The number of threads to use. Must be greater than or equal to 1.
+	 * @return The option that sets the number of threads. Never <code>null</code>.
+	 */
+	public static DumpOption parallelism(final int threads) {
+		checkArgument(threads > 0, "Precondition violation - argument 'threads' must be strictly greater than zero!");
+		return new IntOption("parallelism", threads);
+	}
+
+	/**
+	 * Sets the compressor to use for the blocks of a {@linkplain #BINARY_FORMAT binary dump}.
+	 *
+	 * <p>
+	 * The {@linkplain DumpCompressor#getId() ID} of the compressor is recorded in the dump. Reading a dump which was written with one of the
+	 * {@linkplain org.chronos.chronodb.api.dump.StandardDumpCompressor standard compressors} requires no further options; custom compressors
+	 * have to be passed to the read operation via this option as well.
+	 *
+	 * @param compressor
+	 *            The compressor to use. Must not be <code>null</code>.
+	 * @return The option that sets the compressor. Never <code>null</code>.
+	 */
+	public static DumpOption compressor(final DumpCompressor compressor) {
+		checkNotNull(compressor, "Precondition violation - argument 'compressor' must not be NULL!");
+		return new CompressorOption(compressor);
+	}
+
 	// =====================================================================================================================
 	// INNER CLASSES
 	// =====================================================================================================================
@@ -314,6 +361,54 @@ public abstract class DumpOption {
 
 	}
 
+	/**
+	 * This option selects the {@link DumpCompressor} for binary dumps.
+	 *
+	 * <p>
+	 * At most one compressor can be selected, therefore all instances of this class are equal to each other.
+	 */
+	public static class CompressorOption extends DumpOption {
+
+		/** The selected compressor. */
+		private final DumpCompressor compressor;
+
+		/**
+		 * Creates a new compressor option.
+		 *
+		 * @param compressor
+		 *            The compressor to use. Must not be <code>null</code>.
+		 */
+		public CompressorOption(final DumpCompressor compressor) {
+			checkNotNull(compressor, "Precondition violation - argument 'compressor' must not be NULL!");
+			this.compressor = compressor;
+		}
+
+		/**
+		 * Returns the compressor selected by this option.
+		 *
+		 * @return The compressor. Never <code>null</code>.
+		 */
+		public DumpCompressor getCompressor() {
+			return this.compressor;
+		}
+
+		@Override
+		public int hashCode() {
+			return CompressorOption.class.hashCode();
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof CompressorOption;
+		}
+
+		@Override
+		public String toString() {
+			return "CompressorOption [compressor=" + this.compressor.getId() + "]";
+		}
+
+	}
+
 	/**
 	 * An {@link IntOption} is a named container for an integer value.
 	 *
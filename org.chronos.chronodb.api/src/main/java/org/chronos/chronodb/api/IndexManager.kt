@@ -1,6 +1,7 @@
 package org.chronos.chronodb.api
 
 import org.chronos.chronodb.api.key.QualifiedKey
+import org.chronos.chronodb.internal.api.Period
 import org.chronos.chronodb.internal.api.index.IndexManagerInternal
 import org.chronos.chronodb.internal.api.query.ChronoDBQuery
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification
@@ -133,6 +134,60 @@ interface IndexManager {
      */
     fun evaluateCount(timestamp: Long, branch: Branch, query: ChronoDBQuery): Long
 
+    /**
+     * Evaluates the given [ChronoDBQuery] over a range of timestamps, rather than at a single timestamp.
+     *
+     * A key is part of the result if it matched the query at any point in time within the range. For every matching
+     * key, the result contains the periods in which the key matched. Each atomic condition of the query is tracked
+     * separately over time, and the resulting periods are intersected (for AND) and merged (for OR) according to the
+     * structure of the query.
+     *
+     * Example: finding all keys which had the status "ERROR" at some point last week:
+     *
+     * ```
+     *     ChronoDBQuery query = tx.find().inDefaultKeyspace().where("status").isEqualTo("ERROR").toQuery();
+     *     Map<QualifiedKey, List<Period>> matches = db.getIndexManager().evaluateBetween(master, query, lastMonday, lastSunday);
+     * ```
+     *
+     * @param branch
+     * The branch to evaluate the query in. Must not be `null`.
+     * @param query
+     * The query to run. Must not be `null`. Must have been optimized before calling this method.
+     * @param from
+     * The lower bound of the time range (inclusive). Must not be negative.
+     * @param to
+     * The upper bound of the time range (inclusive). Must not be less than [from]. Will be limited to the current
+     * timestamp of the branch.
+     *
+     * @return A map from matching key to the periods in which it matched the query. The periods are sorted, do not
+     * overlap, and are limited to the given time range. May be empty, but never `null`.
+     */
+    fun evaluateBetween(branch: Branch, query: ChronoDBQuery, from: Long, to: Long): Map<QualifiedKey, List<Period>>
+
+    /**
+     * Evaluates the given [ChronoDBQuery] and returns a single page of its result.
+     *
+     * If a [sort] is given which consists of a single index, the keys are read from the secondary index in index order,
+     * and the evaluation stops as soon as the page is complete. Sorts over multiple indices are applied to the entire
+     * result set, as in [sortKeysWithIndex].
+     *
+     * @param timestamp
+     * The timestamp at which the evaluation takes place. Must not be negative.
+     * @param branch
+     * The branch to evaluate the query in. Must not be `null`.
+     * @param query
+     * The query to run. Must not be `null`. Must have been optimized before calling this method.
+     * @param sort
+     * The sort order of the result. May be `null`, in which case the order of the result is undefined.
+     * @param offset
+     * The number of keys to skip at the start of the (sorted) result. Must not be negative.
+     * @param limit
+     * The maximum number of keys to return. Must not be negative. Use [Int.MAX_VALUE] for an unlimited result.
+     *
+     * @return An iterator on the keys in the requested page of the result. May be empty, but never `null`.
+     */
+    fun evaluate(timestamp: Long, branch: Branch, query: ChronoDBQuery, sort: Sort?, offset: Int, limit: Int): Iterator<QualifiedKey>
+
     /**
      * Scans the index for the values associated with all keys in the given keyspace and groups them by key.
      *
@@ -263,6 +318,142 @@ interface IndexManager {
         sort: Sort
     ): List<String>
 
+    // =====================================================================================================================
+    // AGGREGATION METHODS
+    // =====================================================================================================================
+
+    /**
+     * Returns the distinct values of the given index in the given keyspace.
+     *
+     * The values are computed by scanning the secondary index; the values of the individual keys are never collected.
+     *
+     * @param timestamp The timestamp to execute the query on.
+     * @param branch The branch to execute the query on.
+     * @param keyspace The keyspace to query.
+     * @param indexName The name of the index to query.
+     *
+     * @return The distinct indexed values, in ascending order. May be empty, but never `null`.
+     */
+    fun getDistinctIndexedValues(
+        timestamp: Long,
+        branch: Branch,
+        keyspace: String,
+        indexName: String
+    ): List<Comparable<*>>
+
+    /**
+     * Counts the keys in the given keyspace per value of the given index.
+     *
+     * A key which has multiple values in the index is counted once for each of its values. Keys which have no value
+     * in the index are not counted at all.
+     *
+     * @param timestamp The timestamp to execute the query on.
+     * @param branch The branch to execute the query on.
+     * @param keyspace The keyspace to query.
+     * @param indexName The name of the index to query.
+     *
+     * @return A map from indexed value to the number of keys which have this value. Iterates in ascending order of the
+     * values. May be empty, but never `null`.
+     */
+    fun countKeysByIndexedValue(
+        timestamp: Long,
+        branch: Branch,
+        keyspace: String,
+        indexName: String
+    ): Map<Comparable<*>, Long>
+
+    /**
+     * Returns the smallest value of the given index in the given keyspace.
+     *
+     * Only the first entry of the secondary index needs to be read.
+     *
+     * @param timestamp The timestamp to execute the query on.
+     * @param branch The branch to execute the query on.
+     * @param keyspace The keyspace to query.
+     * @param indexName The name of the index to query.
+     *
+     * @return The smallest indexed value, or `null` if the index contains no values for the keyspace.
+     */
+    fun getMinIndexedValue(
+        timestamp: Long,
+        branch: Branch,
+        keyspace: String,
+        indexName: String
+    ): Comparable<*>?
+
+    /**
+     * Returns the largest value of the given index in the given keyspace.
+     *
+     * Only the last entry of the secondary index needs to be read.
+     *
+     * @param timestamp The timestamp to execute the query on.
+     * @param branch The branch to execute the query on.
+     * @param keyspace The keyspace to query.
+     * @param indexName The name of the index to query.
+     *
+     * @return The largest indexed value, or `null` if the index contains no values for the keyspace.
+     */
+    fun getMaxIndexedValue(
+        timestamp: Long,
+        branch: Branch,
+        keyspace: String,
+        indexName: String
+    ): Comparable<*>?
+
+    /**
+     * Sums up all values of the given index in the given keyspace.
+     *
+     * A key which has multiple values in the index contributes all of its values to the sum.
+     *
+     * @param timestamp The timestamp to execute the query on.
+     * @param branch The branch to execute the query on.
+     * @param keyspace The keyspace to query.
+     * @param indexName The name of the index to query. Must refer to a [Long][org.chronos.chronodb.api.indexing.LongIndexer]
+     * or [Double][org.chronos.chronodb.api.indexing.DoubleIndexer] index.
+     *
+     * @return The sum of all indexed values. A [Long] for long indices, a [Double] for double indices. Zero if there are no values.
+     */
+    fun sumIndexedValues(
+        timestamp: Long,
+        branch: Branch,
+        keyspace: String,
+        indexName: String
+    ): Number
+
+    /**
+     * Computes a histogram of the values of the given index in the given keyspace.
+     *
+     * The given bucket boundaries `b0 < b1 < ... < bn` define `n + 2` buckets: the first bucket contains all values
+     * smaller than `b0`, the bucket `i` (for `1 <= i <= n`) contains all values in the range `[b(i-1), b(i))`, and the
+     * last bucket contains all values greater than or equal to `bn`.
+     *
+     * A key which has multiple values in the index is counted once for each of its values.
+     *
+     * Example:
+     *
+     * ```
+     *     // counts the values below 18, between 18 (inclusive) and 65 (exclusive), and from 65 onwards
+     *     List<Long> counts = db.getIndexManager().getIndexedValueHistogram(
+     *          master.getNow(), master, "default", "age", Lists.newArrayList(18L, 65L)
+     *     )
+     * ```
+     *
+     * @param timestamp The timestamp to execute the query on.
+     * @param branch The branch to execute the query on.
+     * @param keyspace The keyspace to query.
+     * @param indexName The name of the index to query.
+     * @param bucketBoundaries The boundaries of the buckets, in strictly ascending order. The boundaries must match the value type of the index.
+     *
+     * @return The number of values per bucket. The list always contains `bucketBoundaries.size + 1` entries.
+     */
+    fun getIndexedValueHistogram(
+        timestamp: Long,
+        branch: Branch,
+        keyspace: String,
+        indexName: String,
+        bucketBoundaries: List<Comparable<*>>
+    ): List<Long>
+
     // =====================================================================================================================
     // ROLLBACK METHODS
     // =====================================================================================================================
@@ -0,0 +1,48 @@
+package org.chronos.chronodb.api;
+
+/**
+ * Statistics about the "head portion" of a single keyspace on a single branch.
+ *
+ * <p>
+ * The definition of what the "head portion" is, is up to the backend at hand. In general, it refers to the more recent
+ * history. Instances of this interface are immutable.
+ */
+public interface KeyspaceStatistics {
+
+    /**
+     * Returns the name of the keyspace described by this statistics object.
+     *
+     * @return The keyspace name. Never <code>null</code>.
+     */
+    public String getKeyspace();
+
+    /**
+     * Returns the number of versions (including deletions) stored for this keyspace in the head portion.
+     *
+     * @return The total number of versions. Never negative.
+     */
+    public long getTotalNumberOfEntries();
+
+    /**
+     * Returns the number of keys which exist in the head revision of this keyspace.
+     *
+     * @return The number of entries in the head revision. Never negative.
+     */
+    public long getNumberOfEntriesInHead();
+
+    /**
+     * Returns the number of versions in the head portion which have been superseded or deleted, i.e. the length of the
+     * history which is kept in addition to the head revision.
+     *
+     * @return The number of historical entries. Never negative.
+     */
+    public long getNumberOfEntriesInHistory();
+
+    /**
+     * Returns the average size of the serialized values stored in the head portion of this keyspace.
+     *
+     * @return The average value size, in bytes. Zero if there are no values.
+     */
+    public double getAverageValueSize();
+
+}
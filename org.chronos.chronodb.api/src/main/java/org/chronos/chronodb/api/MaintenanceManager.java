@@ -158,4 +158,51 @@ public interface MaintenanceManager {
 	 */
 	public void performRolloverOnAllBranchesWhere(Predicate<String> branchPredicate, boolean updateIndices);
 
+	/**
+	 * Purges the history of the given branch before the given retention horizon.
+	 *
+	 * <p>
+	 * The history is purged in units of closed rollover periods: a period is only removed if it ends at or before the given horizon. The purged history includes the commit metadata of the period and its secondary index entries. Dateback log entries and secondary indices which have ended before the new horizon are removed as well. The head revision is never affected.
+	 *
+	 * <p>
+	 * The horizon is never moved past the branching timestamp of a child branch, because child branches keep referring to the state of their origin at that point in time.
+	 *
+	 * <p>
+	 * After this operation, opening a transaction on the branch at a timestamp before its {@linkplain org.chronos.chronodb.internal.api.TemporalKeyValueStore#getRetentionHorizon() retention horizon} results in an {@link org.chronos.chronodb.api.exceptions.InvalidTransactionTimestampException}.
+	 *
+	 * <p>
+	 * Not all backends support this operation. Please use {@link ChronoDBFeatures#isRolloverSupported()} first to check if this operation is supported or not.
+	 *
+	 * <p>
+	 * <b>Important note:</b> The purged history is <b>irrecoverably</b> deleted. Use with care.
+	 *
+	 * @param branchName
+	 *            The name of the branch to purge. Must not be <code>null</code>, must refer to an existing branch.
+	 * @param retentionHorizon
+	 *            The timestamp before which the history may be purged. Must not be negative.
+	 *
+	 * @return The retention horizon of the branch after the operation. May be less than the requested horizon.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if this backend {@link ChronoDBFeatures#isRolloverSupported() does not support rollovers}.
+	 */
+	public long purgeHistoryOfBranch(String branchName, long retentionHorizon);
+
+	/**
+	 * Purges the history of all existing branches before the given retention horizon.
+	 *
+	 * <p>
+	 * Please see {@link #purgeHistoryOfBranch(String, long)} for details.
+	 *
+	 * <p>
+	 * <b>Important note:</b> This method is <b>not guaranteed to be ACID safe</b>. Branches will be purged one after the other.
+	 *
+	 * @param retentionHorizon
+	 *            The timestamp before which the history may be purged. Must not be negative.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if this backend {@link ChronoDBFeatures#isRolloverSupported() does not support rollovers}.
+	 */
+	public void purgeHistoryOfAllBranches(long retentionHorizon);
+
 }
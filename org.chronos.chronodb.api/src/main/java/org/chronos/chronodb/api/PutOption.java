@@ -17,7 +17,18 @@ public enum PutOption {
 	 * <p>
 	 * This can potentially break your secondary index and make it inconsistent! Use this option only as a performance optimization when you are <b>sure</b> that this put operation <b>would not have altered</b> the state of the secondary indexer.
 	 */
-	NO_INDEX;
+	NO_INDEX,
+
+	/**
+	 * [ADVANCED USERS ONLY] This option tells {@link ChronoDB} that the put operation does not change any of the indexed values of the given key.
+	 *
+	 * <p>
+	 * In contrast to {@link #NO_INDEX}, this option only applies to the value which was visible to the transaction. If the value has to be merged with a change of a concurrent transaction on commit, the secondary indexing step will be performed as usual.
+	 *
+	 * <p>
+	 * As with {@link #NO_INDEX}, using this option for a value which <b>does</b> alter the state of the secondary indexer will make the secondary index inconsistent.
+	 */
+	NO_INDEX_CHANGES;
 
 	/** The default option to use. */
 	public static final PutOption[] NONE = {};
@@ -46,4 +46,18 @@ public interface StatisticsManager {
 	 */
 	public BranchHeadStatistics getBranchHeadStatistics(String branchName);
 
+	/**
+	 * Returns the statistics for the "head portion" of the given keyspace on the given branch.
+	 *
+	 * @param branchName
+	 *            The name of the branch to retrieve the statistics for. Must not be <code>null</code>, must refer to an existing branch.
+	 * @param keyspace
+	 *            The name of the keyspace to retrieve the statistics for. Must not be <code>null</code>.
+	 *
+	 * @return The statistics, or <code>null</code> if the keyspace does not exist on the given branch.
+	 */
+	public default KeyspaceStatistics getKeyspaceStatistics(String branchName, String keyspace){
+		return this.getBranchHeadStatistics(branchName).getKeyspaceStatistics().get(keyspace);
+	}
+
 }
@@ -1,10 +1,15 @@
 package org.chronos.chronodb.api.builder.query;
 
 import com.google.common.collect.Sets;
+import org.chronos.chronodb.api.NullSortPosition;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.key.QualifiedKey;
+import org.chronos.chronodb.internal.api.Period;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -16,6 +21,71 @@ import java.util.Set;
  */
 public interface QueryBuilderFinalizer {
 
+    /**
+     * Sorts the query result by the values of the given secondary index.
+     *
+     * <p>
+     * Keys which have no value in the given index are placed according to {@link NullSortPosition#DEFAULT}.
+     *
+     * <p>
+     * Usage example:
+     *
+     * <pre>
+     * Iterator&lt;QualifiedKey&gt; iterator = tx.find().inDefaultKeyspace().where("age").isGreaterThan(18)
+     *     .orderBy("name", Order.ASCENDING).offset(1000).limit(50).getKeys();
+     * </pre>
+     *
+     * @param indexName The name of the secondary index to sort by. Must not be <code>null</code>. Must refer to an existing index.
+     * @param order     The sort order to apply. Must not be <code>null</code>.
+     * @return The finalizer for method chaining. Never <code>null</code>.
+     * @see #orderBy(String, Order, NullSortPosition)
+     */
+    public default QueryBuilderFinalizer orderBy(final String indexName, final Order order) {
+        return this.orderBy(indexName, order, NullSortPosition.DEFAULT);
+    }
+
+    /**
+     * Sorts the query result by the values of the given secondary index.
+     *
+     * <p>
+     * The result is read from the secondary index in index order. In combination with {@link #limit(int)}, the
+     * evaluation stops as soon as the requested page is complete, instead of sorting the entire result set. This
+     * works best with {@link NullSortPosition#NULLS_LAST}, as keys without a value can only be identified after the
+     * index has been scanned completely.
+     *
+     * <p>
+     * If a key has multiple values in the index, the smallest of those values will be used for ascending sort, and the
+     * largest for descending sort. Ties are broken by primary key. Only one sort criterion is supported per query.
+     *
+     * @param indexName The name of the secondary index to sort by. Must not be <code>null</code>. Must refer to an existing index.
+     * @param order     The sort order to apply. Must not be <code>null</code>.
+     * @param nulls     The position of keys which have no value in the given index. Must not be <code>null</code>.
+     * @return The finalizer for method chaining. Never <code>null</code>.
+     */
+    public QueryBuilderFinalizer orderBy(String indexName, Order order, NullSortPosition nulls);
+
+    /**
+     * Limits the query result to the given number of keys.
+     *
+     * <p>
+     * Unless {@link #orderBy(String, Order)} is specified as well, it is undefined which keys are part of the result.
+     *
+     * @param limit The maximum number of keys to return. Must not be negative.
+     * @return The finalizer for method chaining. Never <code>null</code>.
+     */
+    public QueryBuilderFinalizer limit(int limit);
+
+    /**
+     * Skips the given number of keys at the start of the query result.
+     *
+     * <p>
+     * Unless {@link #orderBy(String, Order)} is specified as well, it is undefined which keys are skipped.
+     *
+     * @param offset The number of keys to skip. Must not be negative.
+     * @return The finalizer for method chaining. Never <code>null</code>.
+     */
+    public QueryBuilderFinalizer offset(int offset);
+
     /**
      * Executes the previously built query.
      *
@@ -161,6 +231,30 @@ public interface QueryBuilderFinalizer {
      */
     public Iterator<Object> getValues();
 
+    /**
+     * Executes the previously built query over a range of timestamps, rather than at the transaction timestamp.
+     *
+     * <p>
+     * A key is part of the result if it matched the query at any point in time within the given range. Any
+     * {@linkplain #orderBy(String, Order) ordering}, {@linkplain #limit(int) limit} and {@linkplain #offset(int) offset}
+     * is ignored.
+     *
+     * <p>
+     * Usage example:
+     *
+     * <pre>
+     * Map&lt;QualifiedKey, List&lt;Period&gt;&gt; matches = tx.find().inDefaultKeyspace().where("status").isEqualTo("ERROR").getMatchPeriodsBetween(lastMonday, lastSunday);
+     * </pre>
+     *
+     * @param from The lower bound of the time range (inclusive). Must not be negative.
+     * @param to   The upper bound of the time range (inclusive). Must not be less than <code>from</code>. Must not be
+     *             greater than the transaction timestamp.
+     * @return A map from matching key to the periods in which it matched the query. The periods are sorted, do not
+     * overlap, and are limited to the given time range. May be empty, but never <code>null</code>.
+     * @see org.chronos.chronodb.api.IndexManager#evaluateBetween
+     */
+    public Map<QualifiedKey, List<Period>> getMatchPeriodsBetween(long from, long to);
+
     /**
      * Executes the previously built query.
      *
@@ -265,6 +265,36 @@ public class ChronoDBDumpFormat {
         }
     }
 
+    /**
+     * Writes the given object as XML to the given stream, using the same encoding as the XML dump format.
+     *
+     * <p>
+     * This is used for the metadata section of binary dumps.
+     *
+     * @param object  The object to write. Must not be <code>null</code>.
+     * @param out     The stream to write to. Must not be <code>null</code>. Will not be closed.
+     * @param options The options to use. Must not be <code>null</code>.
+     */
+    public static void writeXML(final Object object, final OutputStream out, final DumpOptions options) {
+        checkNotNull(object, "Precondition violation - argument 'object' must not be NULL!");
+        checkNotNull(out, "Precondition violation - argument 'out' must not be NULL!");
+        checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
+        createXStream(options).toXML(object, out);
+    }
+
+    /**
+     * Reads an object from the given XML stream, which has been written by {@link #writeXML(Object, OutputStream, DumpOptions)}.
+     *
+     * @param in      The stream to read from. Must not be <code>null</code>. Will not be closed.
+     * @param options The options to use. Must not be <code>null</code>.
+     * @return The object. Never <code>null</code>.
+     */
+    public static Object readXML(final InputStream in, final DumpOptions options) {
+        checkNotNull(in, "Precondition violation - argument 'in' must not be NULL!");
+        checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
+        return createXStream(options).fromXML(in);
+    }
+
     // =====================================================================================================================
     // INTERNAL HELPER METHODS
     // =====================================================================================================================
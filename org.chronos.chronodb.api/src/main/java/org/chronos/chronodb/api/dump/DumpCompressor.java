@@ -0,0 +1,48 @@
+package org.chronos.chronodb.api.dump;
+
+import org.chronos.chronodb.api.DumpOption;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A {@link DumpCompressor} compresses the blocks of a {@linkplain DumpOption#BINARY_FORMAT binary dump}.
+ *
+ * <p>
+ * Every block of a binary dump is compressed individually, which allows the blocks to be compressed and decompressed in
+ * parallel. Implementations must therefore be thread-safe. The {@link StandardDumpCompressor}s cover the compression
+ * formats of the JDK; faster compression libraries can be plugged in by implementing this interface and passing it to
+ * {@link DumpOption#compressor(DumpCompressor)}.
+ */
+public interface DumpCompressor {
+
+    /**
+     * Returns the unique ID of this compressor.
+     *
+     * <p>
+     * The ID is recorded in the dump file, and is used to find the compressor again when the dump is read.
+     *
+     * @return The ID. Never <code>null</code>.
+     */
+    public String getId();
+
+    /**
+     * Wraps the given stream into a stream which compresses all data written to it.
+     *
+     * @param out The stream to receive the compressed data. Must not be <code>null</code>.
+     * @return The compressing stream. Closing it closes the given stream. Never <code>null</code>.
+     * @throws IOException If the compressing stream could not be created.
+     */
+    public OutputStream compress(OutputStream out) throws IOException;
+
+    /**
+     * Wraps the given stream into a stream which decompresses all data read from it.
+     *
+     * @param in The stream which provides the compressed data. Must not be <code>null</code>.
+     * @return The decompressing stream. Closing it closes the given stream. Never <code>null</code>.
+     * @throws IOException If the decompressing stream could not be created.
+     */
+    public InputStream decompress(InputStream in) throws IOException;
+
+}
@@ -8,12 +8,18 @@ public class IncrementalBackupResult {
 
     private File cibFile;
     private IncrementalBackupInfo metadata;
+    private IncrementalBackupStatistics statistics;
 
     public IncrementalBackupResult(File cibFile, IncrementalBackupInfo metadata){
+        this(cibFile, metadata, null);
+    }
+
+    public IncrementalBackupResult(File cibFile, IncrementalBackupInfo metadata, IncrementalBackupStatistics statistics){
         checkNotNull(cibFile, "Precondition violation - argument 'cibFile' must not be NULL!");
         checkNotNull(metadata, "Precondition violation - argument 'metadata' must not be NULL!");
         this.cibFile = cibFile;
         this.metadata = metadata;
+        this.statistics = statistics;
     }
 
     public File getCibFile() {
@@ -23,4 +29,13 @@ public class IncrementalBackupResult {
     public IncrementalBackupInfo getMetadata() {
         return metadata;
     }
+
+    /**
+     * Returns the throughput metrics of the chunk export.
+     *
+     * @return The statistics, or <code>null</code> if the backend does not collect them.
+     */
+    public IncrementalBackupStatistics getStatistics() {
+        return statistics;
+    }
 }
@@ -0,0 +1,81 @@
+package org.chronos.chronodb.api.dump;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Throughput metrics of a single incremental backup export or import.
+ */
+public class IncrementalBackupStatistics {
+
+    private final int chunkCount;
+    private final long byteCount;
+    private final long durationMillis;
+    private final int parallelism;
+
+    public IncrementalBackupStatistics(final int chunkCount, final long byteCount, final long durationMillis, final int parallelism) {
+        checkArgument(chunkCount >= 0, "Precondition violation - argument 'chunkCount' must not be negative!");
+        checkArgument(byteCount >= 0, "Precondition violation - argument 'byteCount' must not be negative!");
+        checkArgument(durationMillis >= 0, "Precondition violation - argument 'durationMillis' must not be negative!");
+        checkArgument(parallelism >= 1, "Precondition violation - argument 'parallelism' must be at least 1!");
+        this.chunkCount = chunkCount;
+        this.byteCount = byteCount;
+        this.durationMillis = durationMillis;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the number of chunks which have been exported or imported.
+     *
+     * @return The number of chunks.
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns the total size of the exported or imported chunk files.
+     *
+     * @return The size in bytes.
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Returns the wall clock time which has been spent on processing the chunks.
+     *
+     * @return The duration in milliseconds.
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Returns the number of chunks which have been processed concurrently.
+     *
+     * @return The parallelism.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the throughput of the chunk processing.
+     *
+     * @return The number of bytes processed per second.
+     */
+    public double getBytesPerSecond() {
+        if (this.durationMillis <= 0) {
+            return this.byteCount;
+        }
+        return this.byteCount * 1000.0 / this.durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "IncrementalBackupStatistics[chunks=" + this.chunkCount + ", bytes=" + this.byteCount
+            + ", duration=" + this.durationMillis + "ms, parallelism=" + this.parallelism
+            + ", throughput=" + String.format("%.2f", this.getBytesPerSecond() / (1024 * 1024)) + "MB/s]";
+    }
+
+}
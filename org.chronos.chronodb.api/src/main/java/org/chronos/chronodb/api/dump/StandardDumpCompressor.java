@@ -0,0 +1,101 @@
+package org.chronos.chronodb.api.dump;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The {@link DumpCompressor}s which are available out of the box.
+ */
+public enum StandardDumpCompressor implements DumpCompressor {
+
+    /** Does not compress the data at all. Fastest option, but creates the largest files. */
+    NONE("none") {
+
+        @Override
+        public OutputStream compress(final OutputStream out) {
+            return out;
+        }
+
+        @Override
+        public InputStream decompress(final InputStream in) {
+            return in;
+        }
+
+    },
+
+    /** Uses the deflate algorithm with the fastest compression level. This is the default. */
+    DEFLATE_FAST("deflate-fast") {
+
+        @Override
+        public OutputStream compress(final OutputStream out) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            return new DeflaterOutputStream(out, deflater, 64 * 1024) {
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        // we created the deflater ourselves, so the stream won't release it.
+                        deflater.end();
+                    }
+                }
+
+            };
+        }
+
+        @Override
+        public InputStream decompress(final InputStream in) {
+            return new InflaterInputStream(in);
+        }
+
+    },
+
+    /** Uses GZIP with its default compression level. Slower, but creates smaller files. */
+    GZIP("gzip") {
+
+        @Override
+        public OutputStream compress(final OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, 64 * 1024);
+        }
+
+        @Override
+        public InputStream decompress(final InputStream in) throws IOException {
+            return new GZIPInputStream(in);
+        }
+
+    };
+
+    private final String id;
+
+    StandardDumpCompressor(final String id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Returns the standard compressor with the given {@linkplain #getId() ID}.
+     *
+     * @param id The ID to look for. Must not be <code>null</code>.
+     * @return The compressor with the given ID, or <code>null</code> if there is none.
+     */
+    public static StandardDumpCompressor fromId(final String id) {
+        for (StandardDumpCompressor compressor : values()) {
+            if (compressor.getId().equals(id)) {
+                return compressor;
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,549 @@
+package org.chronos.chronodb.inmemory;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.chronos.chronodb.api.Order;
+import org.chronos.chronodb.api.key.QualifiedKey;
+import org.chronos.chronodb.api.key.TemporalKey;
+import org.chronos.chronodb.internal.api.GetResult;
+import org.chronos.chronodb.internal.api.Period;
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.internal.impl.engines.base.AbstractTemporalDataMatrix;
+import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
+import org.chronos.chronodb.internal.util.KeySetModifications;
+import org.chronos.common.exceptions.UnknownEnumLiteralException;
+
+import java.util.*;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * A {@link org.chronos.chronodb.internal.api.TemporalDataMatrix} for in-memory databases which keeps its contents in
+ * compact primitive arrays.
+ *
+ * <p>
+ * In contrast to {@link TemporalInMemoryMatrix}, which allocates a key object and a skip list node for every single
+ * version (plus another pair for the inverse index), this matrix maintains one {@link KeyHistory} per user key. The
+ * history stores the versions of the key in a sorted <code>long[]</code> of timestamps and a parallel array of values.
+ * Every user key is interned to an <code>int</code> ID, and the inverse (timestamp-to-keys) index maps each commit
+ * timestamp to the IDs of the keys which changed at that commit.
+ *
+ * <p>
+ * Deletions are stored as empty values; the empty array instance is shared among all deletions.
+ *
+ * <p>
+ * Readers never block. Every history exposes an immutable {@link Versions} snapshot which is replaced on modification;
+ * appending a new latest version reuses the spare capacity of the arrays (which is invisible to older snapshots),
+ * all other modifications copy the arrays. Modifications are serialized on the matrix.
+ */
+public class CompactTemporalInMemoryMatrix extends AbstractTemporalDataMatrix {
+
+    private static final byte[] EMPTY_VALUE = new byte[0];
+
+    // =================================================================================================================
+    // FIELDS
+    // =================================================================================================================
+
+    /** The history of every key which has ever been written to this matrix, sorted by key. */
+    private final ConcurrentSkipListMap<String, KeyHistory> histories = new ConcurrentSkipListMap<>();
+    /** The IDs of the keys which changed at a given commit timestamp, each array sorted by key. */
+    private final ConcurrentSkipListMap<Long, int[]> changedKeyIdsByTimestamp = new ConcurrentSkipListMap<>();
+    /** Resolves an interned key ID to the key. Only grows; elements are published before their ID is used. */
+    private volatile String[] keysById = new String[16];
+    private int nextKeyId = 0;
+
+    private volatile long size = 0;
+
+    // =================================================================================================================
+    // CONSTRUCTOR
+    // =================================================================================================================
+
+    public CompactTemporalInMemoryMatrix(final String keyspace, final long timestamp) {
+        super(keyspace, timestamp);
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    @Override
+    public GetResult<byte[]> get(final long timestamp, final String key) {
+        checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+        checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+        QualifiedKey qKey = QualifiedKey.create(this.getKeyspace(), key);
+        KeyHistory history = this.histories.get(key);
+        Versions versions = history == null ? Versions.EMPTY : history.versions;
+        if (versions.size <= 0) {
+            // there is no value for this key (at all, not at any timestamp)
+            return GetResult.createNoValueResult(qKey, Period.eternal());
+        }
+        int floorIndex = versions.floorIndex(timestamp);
+        if (floorIndex < 0) {
+            // there is no value for this key, until a certain timestamp is reached
+            return GetResult.createNoValueResult(qKey, Period.createRange(0, versions.timestamps[0]));
+        }
+        byte[] value = versions.values[floorIndex];
+        if (value.length <= 0) {
+            // value is non-null, but empty -> it's effectively null
+            value = null;
+        }
+        final Period period;
+        if (floorIndex + 1 < versions.size) {
+            // the value of the result is valid until the next version
+            period = Period.createRange(versions.timestamps[floorIndex], versions.timestamps[floorIndex + 1]);
+        } else {
+            // there is no further value for this key, therefore we have an open-ended period
+            period = Period.createOpenEndedRange(versions.timestamps[floorIndex]);
+        }
+        return GetResult.create(qKey, value, period);
+    }
+
+    @Override
+    public synchronized void put(final long time, final Map<String, byte[]> contents) {
+        checkArgument(time >= 0, "Precondition violation - argument 'time' must not be negative!");
+        checkNotNull(contents, "Precondition violation - argument 'contents' must not be NULL!");
+        if (contents.isEmpty()) {
+            return;
+        }
+        this.ensureCreationTimestampIsGreaterThanOrEqualTo(time);
+        List<KeyHistory> changedHistories = Lists.newArrayListWithCapacity(contents.size());
+        for (Entry<String, byte[]> entry : contents.entrySet()) {
+            KeyHistory history = this.getOrCreateHistory(entry.getKey());
+            this.putVersion(history, time, entry.getValue());
+            changedHistories.add(history);
+        }
+        this.addChangedKeys(time, changedHistories);
+    }
+
+    @Override
+    public synchronized void insertEntries(final Set<UnqualifiedTemporalEntry> entries, final boolean force) {
+        checkNotNull(entries, "Precondition violation - argument 'entries' must not be NULL!");
+        if (entries.isEmpty()) {
+            return;
+        }
+        // update the creation timestamp in case that at least one of the entries is in the past
+        long minTimestamp = entries.stream().mapToLong(entry -> entry.getKey().getTimestamp()).min().orElse(-1);
+        if (minTimestamp > 0) {
+            this.ensureCreationTimestampIsGreaterThanOrEqualTo(minTimestamp);
+        }
+        Map<Long, List<KeyHistory>> changedHistoriesByTimestamp = new TreeMap<>();
+        for (UnqualifiedTemporalEntry entry : entries) {
+            UnqualifiedTemporalKey key = entry.getKey();
+            KeyHistory history = this.getOrCreateHistory(key.getKey());
+            this.putVersion(history, key.getTimestamp(), entry.getValue());
+            changedHistoriesByTimestamp.computeIfAbsent(key.getTimestamp(), t -> Lists.newArrayList()).add(history);
+        }
+        changedHistoriesByTimestamp.forEach(this::addChangedKeys);
+    }
+
+    @Override
+    public KeySetModifications keySetModifications(final long timestamp) {
+        checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+        Set<String> additions = Sets.newHashSet();
+        Set<String> removals = Sets.newHashSet();
+        for (KeyHistory history : this.histories.values()) {
+            Versions versions = history.versions;
+            int floorIndex = versions.floorIndex(timestamp);
+            if (floorIndex < 0) {
+                continue;
+            }
+            if (versions.values[floorIndex].length <= 0) {
+                removals.add(history.key);
+            } else {
+                additions.add(history.key);
+            }
+        }
+        return new KeySetModifications(additions, removals);
+    }
+
+    @Override
+    public Iterator<Long> history(final String key, final long lowerBound, final long upperBound, final Order order) {
+        checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+        checkArgument(lowerBound >= 0, "Precondition violation - argument 'lowerBound' must not be negative!");
+        checkArgument(upperBound >= 0, "Precondition violation - argument 'upperBound' must not be negative!");
+        checkArgument(lowerBound <= upperBound, "Precondition violation - argument 'lowerBound' must be less than or equal to argument 'upperBound'!");
+        checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+        KeyHistory history = this.histories.get(key);
+        if (history == null) {
+            return Collections.emptyIterator();
+        }
+        Versions versions = history.versions;
+        int first = versions.floorIndex(lowerBound - 1) + 1;
+        int last = versions.floorIndex(upperBound);
+        switch (order) {
+            case ASCENDING:
+                return new ChangeTimesIterator(versions.timestamps, first, last, 1);
+            case DESCENDING:
+                return new ChangeTimesIterator(versions.timestamps, last, first, -1);
+            default:
+                throw new UnknownEnumLiteralException(order);
+        }
+    }
+
+    @Override
+    public long lastCommitTimestamp(final String key, final long upperBound) {
+        checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+        checkArgument(upperBound >= 0, "Precondition violation - argument 'upperBound' must not be negative!");
+        KeyHistory history = this.histories.get(key);
+        if (history == null) {
+            // has never been modified
+            return -1;
+        }
+        Versions versions = history.versions;
+        int floorIndex = versions.floorIndex(upperBound);
+        if (floorIndex < 0) {
+            return -1;
+        }
+        return versions.timestamps[floorIndex];
+    }
+
+    @Override
+    public CloseableIterator<UnqualifiedTemporalEntry> allEntriesIterator(final long minTimestamp, final long maxTimestamp) {
+        Iterator<UnqualifiedTemporalEntry> iterator = Iterators.concat(Iterators.transform(
+            this.histories.values().iterator(),
+            history -> history.versions.entries(history.key, minTimestamp, maxTimestamp)
+        ));
+        return new AllEntriesIterator(iterator);
+    }
+
+    @Override
+    public synchronized void rollback(final long timestamp) {
+        for (KeyHistory history : this.histories.values()) {
+            Versions versions = history.versions;
+            Versions truncated = versions.truncateAfter(timestamp);
+            if (truncated != versions) {
+                history.versions = truncated;
+                this.size -= versions.size - truncated.size;
+            }
+        }
+        this.changedKeyIdsByTimestamp.tailMap(timestamp, false).clear();
+    }
+
+    @Override
+    public Iterator<TemporalKey> getModificationsBetween(final long timestampLowerBound, final long timestampUpperBound) {
+        checkArgument(timestampLowerBound >= 0,
+            "Precondition violation - argument 'timestampLowerBound' must not be negative!");
+        checkArgument(timestampUpperBound >= 0,
+            "Precondition violation - argument 'timestampUpperBound' must not be negative!");
+        checkArgument(timestampLowerBound <= timestampUpperBound,
+            "Precondition violation - argument 'timestampLowerBound' must be less than or equal to 'timestampUpperBound'!");
+        NavigableMap<Long, int[]> subMap = this.changedKeyIdsByTimestamp.subMap(timestampLowerBound, true, timestampUpperBound, true);
+        String[] keys = this.keysById;
+        return Iterators.concat(Iterators.transform(subMap.entrySet().iterator(), entry ->
+            Arrays.stream(entry.getValue()).mapToObj(id -> TemporalKey.create(entry.getKey(), this.getKeyspace(), keys[id])).iterator()
+        ));
+    }
+
+    @Override
+    public Iterator<Long> getCommitTimestampsBetween(final long timestampLowerBound, final long timestampUpperBound) {
+        checkArgument(timestampLowerBound >= 0,
+            "Precondition violation - argument 'timestampLowerBound' must not be negative!");
+        checkArgument(timestampUpperBound >= 0,
+            "Precondition violation - argument 'timestampUpperBound' must not be negative!");
+        checkArgument(timestampLowerBound <= timestampUpperBound,
+            "Precondition violation - argument 'timestampLowerBound' must be less than or equal to 'timestampUpperBound'!");
+        return this.changedKeyIdsByTimestamp.subMap(timestampLowerBound, true, timestampUpperBound, true).keySet().iterator();
+    }
+
+    @Override
+    public Iterator<String> getChangedKeysAtCommit(final long commitTimestamp) {
+        checkArgument(commitTimestamp >= 0,
+            "Precondition violation - argument 'commitTimestamp' must not be negative!");
+        int[] keyIds = this.changedKeyIdsByTimestamp.get(commitTimestamp);
+        if (keyIds == null) {
+            return Collections.emptyIterator();
+        }
+        String[] keys = this.keysById;
+        return Arrays.stream(keyIds).mapToObj(id -> keys[id]).iterator();
+    }
+
+    @Override
+    public synchronized int purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+        checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+        int successfullyPurged = 0;
+        for (UnqualifiedTemporalKey utk : keys) {
+            if (this.removeVersion(utk.getKey(), utk.getTimestamp())) {
+                successfullyPurged++;
+            }
+        }
+        return successfullyPurged;
+    }
+
+    @Override
+    public synchronized Set<UnqualifiedTemporalKey> purgeAllEntriesInTimeRange(final long purgeRangeStart, final long purgeRangeEnd) {
+        NavigableMap<Long, int[]> subMap = this.changedKeyIdsByTimestamp.subMap(purgeRangeStart, true, purgeRangeEnd, true);
+        String[] keys = this.keysById;
+        Set<UnqualifiedTemporalKey> purgedKeys = Sets.newHashSet();
+        for (Entry<Long, int[]> entry : subMap.entrySet()) {
+            for (int keyId : entry.getValue()) {
+                purgedKeys.add(UnqualifiedTemporalKey.create(keys[keyId], entry.getKey()));
+            }
+        }
+        purgedKeys.forEach(utk -> this.removeVersion(utk.getKey(), utk.getTimestamp()));
+        return purgedKeys;
+    }
+
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    @Override
+    public synchronized void ensureCreationTimestampIsGreaterThanOrEqualTo(final long timestamp) {
+        checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+        if (this.getCreationTimestamp() > timestamp) {
+            this.setCreationTimestamp(timestamp);
+        }
+    }
+
+    // =================================================================================================================
+    // HELPER METHODS
+    // =================================================================================================================
+
+    private KeyHistory getOrCreateHistory(final String key) {
+        KeyHistory history = this.histories.get(key);
+        if (history != null) {
+            return history;
+        }
+        int keyId = this.nextKeyId++;
+        String[] keys = this.keysById;
+        if (keyId >= keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+        }
+        keys[keyId] = key;
+        this.keysById = keys;
+        history = new KeyHistory(key, keyId);
+        this.histories.put(key, history);
+        return history;
+    }
+
+    private void putVersion(final KeyHistory history, final long timestamp, final byte[] value) {
+        Versions versions = history.versions;
+        Versions newVersions = versions.withVersion(timestamp, value == null || value.length <= 0 ? EMPTY_VALUE : value);
+        history.versions = newVersions;
+        this.size += newVersions.size - versions.size;
+    }
+
+    private boolean removeVersion(final String key, final long timestamp) {
+        KeyHistory history = this.histories.get(key);
+        if (history == null) {
+            return false;
+        }
+        Versions versions = history.versions;
+        int index = versions.indexOf(timestamp);
+        if (index < 0) {
+            return false;
+        }
+        history.versions = versions.without(index);
+        this.size--;
+        int[] keyIds = this.changedKeyIdsByTimestamp.get(timestamp);
+        if (keyIds != null) {
+            int[] remainingKeyIds = Arrays.stream(keyIds).filter(id -> id != history.id).toArray();
+            if (remainingKeyIds.length <= 0) {
+                this.changedKeyIdsByTimestamp.remove(timestamp);
+            } else {
+                this.changedKeyIdsByTimestamp.put(timestamp, remainingKeyIds);
+            }
+        }
+        return true;
+    }
+
+    private void addChangedKeys(final long timestamp, final List<KeyHistory> changedHistories) {
+        int[] existingKeyIds = this.changedKeyIdsByTimestamp.get(timestamp);
+        String[] keys = this.keysById;
+        SortedSet<String> changedKeys = new TreeSet<>();
+        Map<String, Integer> keyToId = new HashMap<>();
+        if (existingKeyIds != null) {
+            for (int keyId : existingKeyIds) {
+                changedKeys.add(keys[keyId]);
+                keyToId.put(keys[keyId], keyId);
+            }
+        }
+        for (KeyHistory history : changedHistories) {
+            changedKeys.add(history.key);
+            keyToId.put(history.key, history.id);
+        }
+        this.changedKeyIdsByTimestamp.put(timestamp, changedKeys.stream().mapToInt(keyToId::get).toArray());
+    }
+
+    // =================================================================================================================
+    // INNER CLASSES
+    // =================================================================================================================
+
+    private static class KeyHistory {
+
+        private final String key;
+        private final int id;
+        private volatile Versions versions = Versions.EMPTY;
+
+        private KeyHistory(final String key, final int id) {
+            this.key = key;
+            this.id = id;
+        }
+
+    }
+
+    /**
+     * An immutable view on the versions of a single key.
+     *
+     * <p>
+     * Only the first {@link #size} elements of the arrays belong to this snapshot. A newer snapshot may share the
+     * arrays and use the elements beyond that point, which is why snapshots never read or write them.
+     */
+    private static class Versions {
+
+        private static final Versions EMPTY = new Versions(new long[0], new byte[0][], 0);
+
+        private final long[] timestamps;
+        private final byte[][] values;
+        private final int size;
+
+        private Versions(final long[] timestamps, final byte[][] values, final int size) {
+            this.timestamps = timestamps;
+            this.values = values;
+            this.size = size;
+        }
+
+        /**
+         * Returns the index of the latest version at or before the given timestamp, or -1 if there is none.
+         */
+        private int floorIndex(final long timestamp) {
+            int index = Arrays.binarySearch(this.timestamps, 0, this.size, timestamp);
+            return index >= 0 ? index : -(index + 1) - 1;
+        }
+
+        private int indexOf(final long timestamp) {
+            int index = Arrays.binarySearch(this.timestamps, 0, this.size, timestamp);
+            return index >= 0 ? index : -1;
+        }
+
+        private Versions withVersion(final long timestamp, final byte[] value) {
+            int index = Arrays.binarySearch(this.timestamps, 0, this.size, timestamp);
+            if (index >= 0) {
+                // overwrite the existing version
+                long[] newTimestamps = Arrays.copyOf(this.timestamps, this.size);
+                byte[][] newValues = Arrays.copyOf(this.values, this.size);
+                newValues[index] = value;
+                return new Versions(newTimestamps, newValues, this.size);
+            }
+            int insertionIndex = -(index + 1);
+            if (insertionIndex == this.size && this.size < this.timestamps.length) {
+                // append into the spare capacity; older snapshots don't see it
+                this.timestamps[this.size] = timestamp;
+                this.values[this.size] = value;
+                return new Versions(this.timestamps, this.values, this.size + 1);
+            }
+            // most keys only ever have very few versions, so grow carefully
+            int capacity = this.size < 2 ? this.size + 1 : this.size + (this.size >> 1);
+            long[] newTimestamps = new long[capacity];
+            byte[][] newValues = new byte[capacity][];
+            System.arraycopy(this.timestamps, 0, newTimestamps, 0, insertionIndex);
+            System.arraycopy(this.values, 0, newValues, 0, insertionIndex);
+            newTimestamps[insertionIndex] = timestamp;
+            newValues[insertionIndex] = value;
+            System.arraycopy(this.timestamps, insertionIndex, newTimestamps, insertionIndex + 1, this.size - insertionIndex);
+            System.arraycopy(this.values, insertionIndex, newValues, insertionIndex + 1, this.size - insertionIndex);
+            return new Versions(newTimestamps, newValues, this.size + 1);
+        }
+
+        private Versions without(final int index) {
+            if (this.size <= 1) {
+                return EMPTY;
+            }
+            long[] newTimestamps = new long[this.size - 1];
+            byte[][] newValues = new byte[this.size - 1][];
+            System.arraycopy(this.timestamps, 0, newTimestamps, 0, index);
+            System.arraycopy(this.values, 0, newValues, 0, index);
+            System.arraycopy(this.timestamps, index + 1, newTimestamps, index, this.size - index - 1);
+            System.arraycopy(this.values, index + 1, newValues, index, this.size - index - 1);
+            return new Versions(newTimestamps, newValues, this.size - 1);
+        }
+
+        private Versions truncateAfter(final long timestamp) {
+            int newSize = this.floorIndex(timestamp) + 1;
+            if (newSize == this.size) {
+                return this;
+            }
+            if (newSize <= 0) {
+                return EMPTY;
+            }
+            // always copy, the spare capacity must not be shared with the older (larger) snapshots
+            return new Versions(Arrays.copyOf(this.timestamps, newSize), Arrays.copyOf(this.values, newSize), newSize);
+        }
+
+        private Iterator<UnqualifiedTemporalEntry> entries(final String key, final long minTimestamp, final long maxTimestamp) {
+            int first = this.floorIndex(minTimestamp - 1) + 1;
+            int last = this.floorIndex(maxTimestamp);
+            List<UnqualifiedTemporalEntry> entries = Lists.newArrayListWithCapacity(Math.max(0, last - first + 1));
+            for (int i = first; i <= last; i++) {
+                entries.add(new UnqualifiedTemporalEntry(UnqualifiedTemporalKey.create(key, this.timestamps[i]), this.values[i]));
+            }
+            return entries.iterator();
+        }
+
+    }
+
+    private static class ChangeTimesIterator implements Iterator<Long> {
+
+        private final long[] timestamps;
+        private final int end;
+        private final int step;
+        private int current;
+
+        /**
+         * Iterates over the timestamps from <code>start</code> to <code>end</code> (both inclusive) in the given step direction.
+         */
+        private ChangeTimesIterator(final long[] timestamps, final int start, final int end, final int step) {
+            this.timestamps = timestamps;
+            this.current = start;
+            this.end = end;
+            this.step = step;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.step > 0 ? this.current <= this.end : this.current >= this.end;
+        }
+
+        @Override
+        public Long next() {
+            if (this.hasNext() == false) {
+                throw new NoSuchElementException();
+            }
+            long timestamp = this.timestamps[this.current];
+            this.current += this.step;
+            return timestamp;
+        }
+
+    }
+
+    private static class AllEntriesIterator extends AbstractCloseableIterator<UnqualifiedTemporalEntry> {
+
+        private final Iterator<UnqualifiedTemporalEntry> entryIterator;
+
+        private AllEntriesIterator(final Iterator<UnqualifiedTemporalEntry> entryIterator) {
+            this.entryIterator = entryIterator;
+        }
+
+        @Override
+        protected boolean hasNextInternal() {
+            return this.entryIterator.hasNext();
+        }
+
+        @Override
+        public UnqualifiedTemporalEntry next() {
+            return this.entryIterator.next();
+        }
+
+        @Override
+        protected void closeInternal() {
+            // nothing to do for an in-memory matrix.
+        }
+    }
+
+}
@@ -50,6 +50,12 @@ public class InMemoryDatebackManager extends AbstractDatebackManager {
         }
     }
 
+    @Override
+    public void deleteLogsForBranchBefore(final String branchName, final long wallClockTime) {
+        checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+        this.map.subMap(new LogKey(branchName, Long.MIN_VALUE, ""), true, new LogKey(branchName, wallClockTime, ""), false).clear();
+    }
+
     private static class LogKey {
 
         private final String branch;
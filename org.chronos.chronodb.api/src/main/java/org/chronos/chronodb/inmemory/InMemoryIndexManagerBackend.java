@@ -8,7 +8,6 @@ import org.chronos.chronodb.api.SecondaryIndex;
 import org.chronos.chronodb.api.TextCompare;
 import org.chronos.chronodb.api.key.ChronoIdentifier;
 import org.chronos.chronodb.internal.api.ChronoDBInternal;
-import org.chronos.chronodb.internal.api.Period;
 import org.chronos.chronodb.internal.api.index.*;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
 import org.chronos.chronodb.internal.impl.engines.base.AbstractDocumentBasedIndexManagerBackend;
@@ -21,8 +20,9 @@ import org.chronos.chronodb.internal.impl.index.cursor.RawIndexCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -37,14 +37,14 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
 
 
     /**
-     * Index -> Index Documents
+     * Index -> Keyspace Name -> Key -> Index Documents
      */
-    protected final SetMultimap<SecondaryIndex, ChronoIndexDocument> indexToDocuments;
+    protected final Map<SecondaryIndex, Map<String, SetMultimap<String, ChronoIndexDocument>>> documents;
 
     /**
-     * Index -> Keyspace Name -> Key -> Index Documents
+     * Index -> Keyspace Name -> Index Documents sorted by (Indexed Value, Key)
      */
-    protected final Map<SecondaryIndex, Map<String, SetMultimap<String, ChronoIndexDocument>>> documents;
+    protected final Map<SecondaryIndex, Map<String, InMemorySortedIndex>> sortedDocuments;
 
     /**
      * Index name -> indexers
@@ -57,8 +57,8 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
 
     public InMemoryIndexManagerBackend(final ChronoDBInternal owningDB) {
         super(owningDB);
-        this.indexToDocuments = HashMultimap.create();
         this.documents = Maps.newHashMap();
+        this.sortedDocuments = Maps.newConcurrentMap();
     }
 
     // =================================================================================================================
@@ -77,19 +77,19 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
     @Override
     public void deleteAllIndexContents() {
         this.documents.clear();
-        this.indexToDocuments.clear();
+        this.sortedDocuments.clear();
     }
 
     public void deleteAllIndicesAndIndexers() {
         this.allIndices.clear();
         this.documents.clear();
-        this.indexToDocuments.clear();
+        this.sortedDocuments.clear();
     }
 
     @Override
     public void deleteIndexContents(final SecondaryIndex index) {
         this.documents.remove(index);
-        this.indexToDocuments.removeAll(index);
+        this.sortedDocuments.remove(index);
     }
 
     public void deleteIndexContentsAndIndex(final SecondaryIndex index) {
@@ -134,8 +134,11 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
             if (!index.getValidPeriod().contains(document.getValidFromTimestamp())) {
                 continue;
             }
-            // remove from index-name-to-documents map
-            this.indexToDocuments.remove(index, document);
+            // remove from the sorted documents
+            InMemorySortedIndex sortedIndex = this.getSortedIndex(index, document.getKeyspace());
+            if (sortedIndex != null) {
+                sortedIndex.removeDocument(document);
+            }
             // remove from general documents map
             Map<String, SetMultimap<String, ChronoIndexDocument>> keyspaceToKey = this.documents
                 .get(index);
@@ -163,11 +166,21 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
             // no indices are requested, so the result set is empty by definition.
             return resultSet;
         }
-        for (ChronoIndexDocument document : this.indexToDocuments.values()) {
-            if (indices != null && indices.contains(document.getIndex()) == false) {
-                // the index of the document is not in the set of requested indices -> ignore the document
+        for (Entry<SecondaryIndex, Map<String, SetMultimap<String, ChronoIndexDocument>>> entry : this.documents.entrySet()) {
+            if (indices != null && indices.contains(entry.getKey()) == false) {
+                // the index of the documents is not in the set of requested indices -> ignore the documents
                 continue;
             }
+            for (SetMultimap<String, ChronoIndexDocument> keyToDocuments : entry.getValue().values()) {
+                this.collectDocumentsTouchedAtOrAfterTimestamp(timestamp, keyToDocuments.values(), resultSet);
+            }
+        }
+        return resultSet;
+    }
+
+    private void collectDocumentsTouchedAtOrAfterTimestamp(final long timestamp, final Collection<ChronoIndexDocument> documents,
+                                                           final Set<ChronoIndexDocument> resultSet) {
+        for (ChronoIndexDocument document : documents) {
             if (document.getValidFromTimestamp() >= timestamp) {
                 // the document was added at or after the timestamp in question
                 resultSet.add(document);
@@ -177,7 +190,6 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
                 resultSet.add(document);
             }
         }
-        return resultSet;
     }
 
     // =================================================================================================================
@@ -235,22 +247,15 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
             "Precondition violation - argument 'index' refers to a different branch than the given argument 'branch'!"
         );
 
-        // TODO: this is GOD AWFUL. We really need to redo the inmemory backend...
-        Set<ChronoIndexDocument> documents = this.indexToDocuments.get(index);
-        List<IndexEntry> indexContents = Multimaps.index(
-            documents, doc -> new IndexKey((Comparable<?>) doc.getIndexedValue(), doc.getKey())
-        ).asMap().entrySet().stream().map(entry -> {
-            IndexKey key = entry.getKey();
-            List<Period> validPeriods = entry.getValue().stream()
-                .map(ChronoIndexDocument::getValidPeriod)
-                .sorted()
-                .collect(Collectors.toList());
-            return new IndexEntry(key, validPeriods);
-        }).sorted(IndexEntry.createComparator(textCompare)).collect(Collectors.toList());
-        if(order == Order.DESCENDING){
-            indexContents = Lists.reverse(indexContents);
+        // the documents are kept sorted, we only need to walk along them
+        InMemorySortedIndex sortedIndex = this.getSortedIndex(index, keyspace);
+        Iterator<IndexEntry> indexContents;
+        if (sortedIndex == null) {
+            indexContents = Collections.emptyIterator();
+        } else {
+            indexContents = sortedIndex.scan(order, textCompare);
         }
-        RawIndexCursor<?> rawCursor = new RawInMemoryIndexCursor(indexContents.iterator(), order);
+        RawIndexCursor<?> rawCursor = new RawInMemoryIndexCursor(indexContents, order);
         if (branch.getName().equals(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER)) {
             // on the master branch, we can use the simple scans as we don't have
             // to watch out for deltas.
@@ -293,16 +298,12 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
         checkNotNull(searchSpec, "Precondition violation - argument 'searchSpec' must not be NULL!");
         SecondaryIndex index = searchSpec.getIndex();
 
-        Map<String, SetMultimap<String, ChronoIndexDocument>> keyspaceToKeyToDoc = this.documents.get(index);
-        if (keyspaceToKeyToDoc == null || keyspaceToKeyToDoc.isEmpty()) {
-            return Collections.emptySet();
-        }
-        SetMultimap<String, ChronoIndexDocument> keyToDoc = keyspaceToKeyToDoc.get(keyspace);
-        if (keyToDoc == null || keyToDoc.isEmpty()) {
+        InMemorySortedIndex sortedIndex = this.getSortedIndex(index, keyspace);
+        if (sortedIndex == null || sortedIndex.isEmpty()) {
             return Collections.emptySet();
         }
         Predicate<? super ChronoIndexDocument> filter = this.createMatchFilter(timestamp, searchSpec.toFilterPredicate());
-        return Collections.unmodifiableSet(keyToDoc.values().stream().filter(filter).collect(Collectors.toSet()));
+        return Collections.unmodifiableSet(sortedIndex.getCandidateDocuments(searchSpec).filter(filter).collect(Collectors.toSet()));
     }
 
     @Override
@@ -314,16 +315,12 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
         checkNotNull(searchSpec, "Precondition violation - argument 'searchSpec' must not be NULL!");
         SecondaryIndex index = searchSpec.getIndex();
 
-        Map<String, SetMultimap<String, ChronoIndexDocument>> keyspaceToKeyToDoc = this.documents.get(index);
-        if (keyspaceToKeyToDoc == null || keyspaceToKeyToDoc.isEmpty()) {
-            return Collections.emptySet();
-        }
-        SetMultimap<String, ChronoIndexDocument> keyToDoc = keyspaceToKeyToDoc.get(keyspace);
-        if (keyToDoc == null || keyToDoc.isEmpty()) {
+        InMemorySortedIndex sortedIndex = this.getSortedIndex(index, keyspace);
+        if (sortedIndex == null || sortedIndex.isEmpty()) {
             return Collections.emptySet();
         }
         Predicate<? super ChronoIndexDocument> filter = this.createDeletionFilter(timestamp, searchSpec.toFilterPredicate());
-        return Collections.unmodifiableSet(keyToDoc.values().stream().filter(filter).collect(Collectors.toSet()));
+        return Collections.unmodifiableSet(sortedIndex.getCandidateDocuments(searchSpec).filter(filter).collect(Collectors.toSet()));
     }
 
     private Predicate<? super ChronoIndexDocument> createMatchFilter(final long timestamp, final Predicate<Object> filterPredicate) {
@@ -371,5 +368,15 @@ public class InMemoryIndexManagerBackend extends AbstractDocumentBasedIndexManag
             keyspaceToDocuments.put(keyspace, keyToDocuments);
         }
         keyToDocuments.put(key, document);
+        Map<String, InMemorySortedIndex> keyspaceToSortedIndex = this.sortedDocuments.computeIfAbsent(index, i -> Maps.newConcurrentMap());
+        keyspaceToSortedIndex.computeIfAbsent(keyspace, k -> new InMemorySortedIndex()).addDocument(document);
+    }
+
+    protected InMemorySortedIndex getSortedIndex(final SecondaryIndex index, final String keyspace) {
+        Map<String, InMemorySortedIndex> keyspaceToSortedIndex = this.sortedDocuments.get(index);
+        if (keyspaceToSortedIndex == null) {
+            return null;
+        }
+        return keyspaceToSortedIndex.get(keyspace);
     }
 }
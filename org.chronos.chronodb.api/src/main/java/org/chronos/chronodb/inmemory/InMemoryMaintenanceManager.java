@@ -35,4 +35,18 @@ public class InMemoryMaintenanceManager implements MaintenanceManager {
         throw new UnsupportedOperationException("The in-memory backend does not support rollover operations.");
     }
 
+    // =================================================================================================================
+    // HISTORY PURGE
+    // =================================================================================================================
+
+    @Override
+    public long purgeHistoryOfBranch(final String branchName, final long retentionHorizon) {
+        throw new UnsupportedOperationException("The in-memory backend does not support history purge operations.");
+    }
+
+    @Override
+    public void purgeHistoryOfAllBranches(final long retentionHorizon) {
+        throw new UnsupportedOperationException("The in-memory backend does not support history purge operations.");
+    }
+
 }
@@ -0,0 +1,273 @@
+package org.chronos.chronodb.inmemory;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import org.chronos.chronodb.api.Order;
+import org.chronos.chronodb.api.TextCompare;
+import org.chronos.chronodb.api.query.Condition;
+import org.chronos.chronodb.api.query.NumberCondition;
+import org.chronos.chronodb.api.query.StringCondition;
+import org.chronos.chronodb.internal.api.index.ChronoIndexDocument;
+import org.chronos.chronodb.internal.api.query.searchspec.DoubleSearchSpecification;
+import org.chronos.chronodb.internal.api.query.searchspec.LongSearchSpecification;
+import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
+import org.chronos.chronodb.internal.api.query.searchspec.StringSearchSpecification;
+import org.chronos.chronodb.internal.impl.query.TextMatchMode;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * The contents of a single secondary index within a single keyspace, kept sorted by {@link IndexKey} (i.e. by indexed
+ * value first, and by primary key second).
+ *
+ * <p>
+ * Every index key maps to the list of {@link ChronoIndexDocument}s which have ever been created for it, sorted
+ * ascending by their {@linkplain ChronoIndexDocument#getValidFromTimestamp() lower validity bound}. The documents
+ * themselves are shared with the other structures of the {@link InMemoryIndexManagerBackend}, so terminations of their
+ * validity are visible here immediately.
+ *
+ * <p>
+ * String values are additionally kept in a second map which is sorted by their
+ * {@linkplain TextCompare#CASE_INSENSITIVE case-insensitive} form, which serves cursors that sort case-insensitively.
+ *
+ * <p>
+ * Modifications replace the document list of an index key as a whole, which allows cursors and queries to run
+ * concurrently with commits.
+ */
+public class InMemorySortedIndex {
+
+    private static final Comparator<ChronoIndexDocument> VALID_FROM_COMPARATOR = Comparator.comparingLong(ChronoIndexDocument::getValidFromTimestamp);
+
+    private final ConcurrentSkipListMap<IndexKey, List<ChronoIndexDocument>> entries = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<IndexKey, List<ChronoIndexDocument>> caseInsensitiveEntries = new ConcurrentSkipListMap<>();
+
+    // =================================================================================================================
+    // MODIFICATION
+    // =================================================================================================================
+
+    public void addDocument(final ChronoIndexDocument document) {
+        checkNotNull(document, "Precondition violation - argument 'document' must not be NULL!");
+        IndexKey key = createKey(document);
+        this.entries.compute(key, (k, documents) -> insertDocument(documents, document));
+        IndexKey caseInsensitiveKey = createCaseInsensitiveKey(document);
+        if (caseInsensitiveKey != null) {
+            this.caseInsensitiveEntries.compute(caseInsensitiveKey, (k, documents) -> insertDocument(documents, document));
+        }
+    }
+
+    public void removeDocument(final ChronoIndexDocument document) {
+        checkNotNull(document, "Precondition violation - argument 'document' must not be NULL!");
+        IndexKey key = createKey(document);
+        this.entries.computeIfPresent(key, (k, documents) -> removeDocument(documents, document));
+        IndexKey caseInsensitiveKey = createCaseInsensitiveKey(document);
+        if (caseInsensitiveKey != null) {
+            this.caseInsensitiveEntries.computeIfPresent(caseInsensitiveKey, (k, documents) -> removeDocument(documents, document));
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.entries.isEmpty();
+    }
+
+    // =================================================================================================================
+    // QUERYING
+    // =================================================================================================================
+
+    /**
+     * Iterates over the entries of this index in the given order.
+     *
+     * <p>
+     * The entries are taken directly from the sorted structure, no sorting takes place.
+     *
+     * @param order       The order in which to iterate. Must not be <code>null</code>.
+     * @param textCompare The text comparison mode to use for sorting string values. Must not be <code>null</code>.
+     * @return The iterator over the index entries. Never <code>null</code>.
+     */
+    public Iterator<IndexEntry> scan(final Order order, final TextCompare textCompare) {
+        checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+        checkNotNull(textCompare, "Precondition violation - argument 'textCompare' must not be NULL!");
+        NavigableMap<IndexKey, List<ChronoIndexDocument>> map = this.entries;
+        if (textCompare == TextCompare.CASE_INSENSITIVE && this.caseInsensitiveEntries.isEmpty() == false) {
+            map = this.caseInsensitiveEntries;
+        }
+        if (order == Order.DESCENDING) {
+            map = map.descendingMap();
+        }
+        return Iterators.transform(map.entrySet().iterator(), entry -> new IndexEntry(
+            entry.getKey(),
+            entry.getValue().stream().map(ChronoIndexDocument::getValidPeriod).collect(Collectors.toList())
+        ));
+    }
+
+    /**
+     * Returns the documents which are candidates for matching the given search specification.
+     *
+     * <p>
+     * For equality, comparison and (case-sensitive) prefix searches, only the affected range of the index is visited.
+     * For all other searches, all documents are returned. In any case, the caller still has to apply the search
+     * specification to the returned documents.
+     *
+     * @param searchSpec The search specification to get the candidates for. Must not be <code>null</code>.
+     * @return The stream of candidate documents. Never <code>null</code>.
+     */
+    public Stream<ChronoIndexDocument> getCandidateDocuments(final SearchSpecification<?, ?> searchSpec) {
+        checkNotNull(searchSpec, "Precondition violation - argument 'searchSpec' must not be NULL!");
+        return this.narrowToSearchRange(searchSpec).values().stream().flatMap(List::stream);
+    }
+
+    // =================================================================================================================
+    // HELPER METHODS
+    // =================================================================================================================
+
+    private NavigableMap<IndexKey, List<ChronoIndexDocument>> narrowToSearchRange(final SearchSpecification<?, ?> searchSpec) {
+        if (this.entries.isEmpty()) {
+            return this.entries;
+        }
+        Object searchValue = searchSpec.getSearchValue();
+        if (searchValue == null || this.entries.firstKey().getIndexValue().getClass().equals(searchValue.getClass()) == false) {
+            // the search value doesn't fit the values in this index, we can't narrow the search
+            return this.entries;
+        }
+        Condition condition = searchSpec.getCondition();
+        if (searchSpec instanceof StringSearchSpecification) {
+            StringSearchSpecification stringSearch = (StringSearchSpecification) searchSpec;
+            if (stringSearch.getMatchMode() != TextMatchMode.STRICT) {
+                return this.entries;
+            }
+            String value = stringSearch.getSearchValue();
+            if (condition == Condition.EQUALS) {
+                return this.range(value, true, successor(value), false);
+            } else if (condition == StringCondition.STARTS_WITH) {
+                return this.range(value, true, prefixSuccessor(value), false);
+            }
+        } else if (searchSpec instanceof LongSearchSpecification) {
+            long value = ((LongSearchSpecification) searchSpec).getSearchValue();
+            Long successor = value < Long.MAX_VALUE ? value + 1 : null;
+            return this.narrowToNumberRange(condition, value, successor, value, successor);
+        } else if (searchSpec instanceof DoubleSearchSpecification) {
+            DoubleSearchSpecification doubleSearch = (DoubleSearchSpecification) searchSpec;
+            double value = doubleSearch.getSearchValue();
+            double tolerance = doubleSearch.getEqualityTolerance();
+            if (Double.isNaN(value) || Double.isInfinite(value) || Double.isNaN(tolerance)) {
+                return this.entries;
+            }
+            Double successor = successor(value);
+            if (condition == Condition.EQUALS) {
+                return this.narrowToNumberRange(condition, value - tolerance, successor(value + tolerance), value, successor);
+            }
+            return this.narrowToNumberRange(condition, value, successor, value, successor);
+        }
+        return this.entries;
+    }
+
+    /**
+     * Narrows this index to the range of the given number condition.
+     *
+     * @param condition      The condition to narrow the index for.
+     * @param equalsLow      The (inclusive) lower bound for {@link Condition#EQUALS}.
+     * @param equalsHigh     The (exclusive) upper bound for {@link Condition#EQUALS}, or <code>null</code> for none.
+     * @param value          The search value.
+     * @param valueSuccessor The smallest value which is greater than the search value, or <code>null</code> if there is none.
+     * @return The narrowed index.
+     */
+    private <T extends Comparable<T>> NavigableMap<IndexKey, List<ChronoIndexDocument>> narrowToNumberRange(
+        final Condition condition, final T equalsLow, final T equalsHigh, final T value, final T valueSuccessor
+    ) {
+        if (condition == Condition.EQUALS) {
+            return this.range(equalsLow, true, equalsHigh, false);
+        } else if (condition == NumberCondition.GREATER_THAN) {
+            if (valueSuccessor == null) {
+                return new ConcurrentSkipListMap<>();
+            }
+            return this.range(valueSuccessor, true, null, false);
+        } else if (condition == NumberCondition.GREATER_EQUAL) {
+            return this.range(value, true, null, false);
+        } else if (condition == NumberCondition.LESS_THAN) {
+            return this.range(null, false, value, false);
+        } else if (condition == NumberCondition.LESS_EQUAL) {
+            return this.range(null, false, valueSuccessor, false);
+        }
+        return this.entries;
+    }
+
+    private NavigableMap<IndexKey, List<ChronoIndexDocument>> range(final Comparable<?> low, final boolean lowInclusive, final Comparable<?> high, final boolean highInclusive) {
+        // the empty string is the smallest primary key, so (value, "") is the first key for any indexed value.
+        NavigableMap<IndexKey, List<ChronoIndexDocument>> map = this.entries;
+        if (low != null) {
+            map = map.tailMap(new IndexKey(low, ""), lowInclusive);
+        }
+        if (high != null) {
+            map = map.headMap(new IndexKey(high, ""), highInclusive);
+        }
+        return map;
+    }
+
+    private static IndexKey createKey(final ChronoIndexDocument document) {
+        return new IndexKey((Comparable<?>) document.getIndexedValue(), document.getKey());
+    }
+
+    private static IndexKey createCaseInsensitiveKey(final ChronoIndexDocument document) {
+        Object indexedValue = document.getIndexedValue();
+        if (indexedValue instanceof String == false) {
+            return null;
+        }
+        return new IndexKey(TextCompare.CASE_INSENSITIVE.apply((String) indexedValue), document.getKey());
+    }
+
+    private static List<ChronoIndexDocument> insertDocument(final List<ChronoIndexDocument> documents, final ChronoIndexDocument document) {
+        if (documents == null) {
+            return ImmutableList.of(document);
+        }
+        List<ChronoIndexDocument> newDocuments = Lists.newArrayListWithCapacity(documents.size() + 1);
+        newDocuments.addAll(documents);
+        newDocuments.add(document);
+        newDocuments.sort(VALID_FROM_COMPARATOR);
+        return ImmutableList.copyOf(newDocuments);
+    }
+
+    private static List<ChronoIndexDocument> removeDocument(final List<ChronoIndexDocument> documents, final ChronoIndexDocument document) {
+        List<ChronoIndexDocument> newDocuments = Lists.newArrayList(documents);
+        newDocuments.remove(document);
+        if (newDocuments.isEmpty()) {
+            // returning NULL removes the entry from the map
+            return null;
+        }
+        return ImmutableList.copyOf(newDocuments);
+    }
+
+    /**
+     * Returns the smallest string which is greater than the given one.
+     */
+    private static String successor(final String value) {
+        return value + '\u0000';
+    }
+
+    /**
+     * Returns the smallest string which is greater than all strings starting with the given prefix, or <code>null</code>
+     * if there is no such string.
+     */
+    private static String prefixSuccessor(final String prefix) {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char c = prefix.charAt(i);
+            if (c != Character.MAX_VALUE) {
+                return prefix.substring(0, i) + (char) (c + 1);
+            }
+        }
+        return null;
+    }
+
+    private static Double successor(final double value) {
+        double next = Math.nextUp(value);
+        return Double.isInfinite(next) ? null : next;
+    }
+
+}
@@ -1,20 +1,16 @@
 package org.chronos.chronodb.inmemory;
 
-import com.google.common.collect.Maps;
 import org.chronos.chronodb.api.BranchHeadStatistics;
-import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.internal.api.BranchInternal;
 import org.chronos.chronodb.internal.api.ChronoDBInternal;
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
 import org.chronos.chronodb.internal.impl.engines.base.AbstractStatisticsManager;
 
-import java.util.Map;
-
 import static com.google.common.base.Preconditions.*;
 
 public class InMemoryStatisticsManager extends AbstractStatisticsManager {
 
     private final ChronoDBInternal owningDB;
-    private final Map<String, BranchHeadStatistics> branchHeadStatistics = Maps.newHashMap();
 
     public InMemoryStatisticsManager(ChronoDBInternal owningDB){
         checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
@@ -22,32 +18,39 @@ public class InMemoryStatisticsManager extends AbstractStatisticsManager {
     }
 
     @Override
-    protected BranchHeadStatistics loadBranchHeadStatistics(final String branch) {
-        BranchHeadStatistics statistics = this.branchHeadStatistics.get(branch);
-        if(statistics == null){
-            BranchInternal b = this.owningDB.getBranchManager().getBranch(branch);
-            if(b == null){
-                throw new IllegalArgumentException("There is no branch named '" + branch + "'!");
-            }
-            statistics = b.getTemporalKeyValueStore().calculateBranchHeadStatistics();
-            this.branchHeadStatistics.put(branch, statistics);
+    protected TemporalKeyValueStore getTemporalKeyValueStore(final String branchName) {
+        BranchInternal b = this.owningDB.getBranchManager().getBranch(branchName);
+        if(b == null){
+            throw new IllegalArgumentException("There is no branch named '" + branchName + "'!");
         }
-        return statistics;
+        return b.getTemporalKeyValueStore();
+    }
+
+    @Override
+    protected boolean hasPersistedBranchHeadStatistics(final String branchName) {
+        // the statistics of an in-memory database do not outlive the cache, there is nothing persisted
+        return false;
+    }
+
+    @Override
+    protected BranchHeadStatistics loadBranchHeadStatistics(final String branchName, final long timestamp) {
+        // the statistics of an in-memory database do not outlive the cache, there is nothing to load
+        return null;
     }
 
     @Override
-    protected void saveBranchHeadStatistics(final String branchName, final BranchHeadStatistics statistics) {
-        this.branchHeadStatistics.put(branchName, statistics);
+    protected void saveBranchHeadStatistics(final String branchName, final long timestamp, final BranchHeadStatistics statistics) {
+        // the statistics of an in-memory database do not outlive the cache, there is nothing to save
     }
 
     @Override
     public void deleteBranchHeadStatistics() {
-        this.branchHeadStatistics.clear();
+        // the statistics of an in-memory database do not outlive the cache, there is nothing to delete
     }
 
     @Override
     public void deleteBranchHeadStatistics(final String branchName) {
         checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
-        this.branchHeadStatistics.remove(branchName);
+        // the statistics of an in-memory database do not outlive the cache, there is nothing to delete
     }
 }
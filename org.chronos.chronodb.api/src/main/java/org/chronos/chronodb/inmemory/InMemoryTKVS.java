@@ -49,7 +49,7 @@ public class InMemoryTKVS extends AbstractTemporalKeyValueStore implements Tempo
     protected TemporalDataMatrix createMatrix(final String keyspace, final long timestamp) {
         checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
         checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
-        return new TemporalInMemoryMatrix(keyspace, timestamp);
+        return new CompactTemporalInMemoryMatrix(keyspace, timestamp);
     }
 
     @Override
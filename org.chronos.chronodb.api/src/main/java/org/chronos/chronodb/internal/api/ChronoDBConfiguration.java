@@ -274,6 +274,41 @@ public interface ChronoDBConfiguration extends ChronosConfiguration {
      */
     public static final String READONLY = NS_DOT + "readonly";
 
+    /**
+     * The number of chunks which are exported or imported concurrently by incremental backups.
+     *
+     * <p>
+     * A value of 1 processes the chunks one after another. Larger values speed up backups of databases with many
+     * chunks, at the cost of additional RAM usage (one chunk per thread is held in memory during the import).
+     * </p>
+     *
+     * <p>
+     * Type: integer<br>
+     * Values: any positive integer >= 1<br>
+     * Default value: 1<br>
+     * Maps to: {@link #getBackupParallelism()}
+     * </p>
+     */
+    public static final String BACKUP_PARALLELISM = NS_DOT + "backup.parallelism";
+
+    /**
+     * The number of threads which transform the values of a keyspace during a dateback operation.
+     *
+     * <p>
+     * A value of 1 transforms the values on the thread which performs the dateback. Larger values speed up the
+     * transformation of large keyspaces with expensive transformation functions, but the transformation function has
+     * to be thread-safe.
+     * </p>
+     *
+     * <p>
+     * Type: integer<br>
+     * Values: any positive integer >= 1<br>
+     * Default value: 1<br>
+     * Maps to: {@link #getDatebackTransformationParallelism()}
+     * </p>
+     */
+    public static final String DATEBACK_TRANSFORMATION_PARALLELISM = NS_DOT + "dateback.transformation.parallelism";
+
     // =================================================================================================================
     // GENERAL CONFIGURATION
     // =================================================================================================================
@@ -438,6 +473,26 @@ public interface ChronoDBConfiguration extends ChronosConfiguration {
      */
     public boolean isReadOnly();
 
+    /**
+     * Returns the number of chunks which are processed concurrently by incremental backups.
+     *
+     * <p>
+     * Mapped by setting: {@value #BACKUP_PARALLELISM}
+     *
+     * @return The backup parallelism. Always greater than or equal to 1.
+     */
+    public int getBackupParallelism();
+
+    /**
+     * Returns the number of threads which transform the values of a keyspace during a dateback operation.
+     *
+     * <p>
+     * Mapped by setting: {@value #DATEBACK_TRANSFORMATION_PARALLELISM}
+     *
+     * @return The dateback transformation parallelism. Always greater than or equal to 1.
+     */
+    public int getDatebackTransformationParallelism();
+
     /**
      * Asserts that this database is not in read-only mode.
      *
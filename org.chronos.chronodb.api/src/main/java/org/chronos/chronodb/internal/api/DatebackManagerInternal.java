@@ -18,4 +18,16 @@ public interface DatebackManagerInternal extends DatebackManager {
 
     public void deleteLogsForBranch(String branchName);
 
+    /**
+     * Deletes the log entries of all dateback operations on the given branch which were performed before the given wall clock time.
+     *
+     * <p>
+     * <b>/!\ For internal purposes only.</b>
+     * </p>
+     *
+     * @param branchName    The name of the branch to delete the log entries for. Must not be <code>null</code>.
+     * @param wallClockTime The (exclusive) wall clock time before which log entries should be deleted.
+     */
+    public void deleteLogsForBranchBefore(String branchName, long wallClockTime);
+
 }
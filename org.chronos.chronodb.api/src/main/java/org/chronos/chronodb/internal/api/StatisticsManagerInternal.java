@@ -1,10 +1,25 @@
 package org.chronos.chronodb.internal.api;
 
 import org.chronos.chronodb.api.StatisticsManager;
+import org.chronos.chronodb.internal.impl.KeyspaceStatisticsDelta;
+
+import java.util.Map;
 
 public interface StatisticsManagerInternal extends StatisticsManager {
 
-    public void updateBranchHeadStatistics(String branchName, long inserts, long updates, long deletes);
+    /**
+     * Updates the statistics of the given branch after a commit.
+     *
+     * <p>
+     * If the statistics of the branch are not known at the previous timestamp, they are cleared instead, and will be
+     * recalculated on the next access.
+     *
+     * @param branchName        The name of the branch which received the commit. Must not be <code>null</code>.
+     * @param previousTimestamp The "now" timestamp of the branch before the commit. Must not be negative.
+     * @param timestamp         The timestamp of the commit. Must not be negative.
+     * @param keyspaceToDelta   The changes performed by the commit, per keyspace. Must not be <code>null</code>.
+     */
+    public void updateBranchHeadStatistics(String branchName, long previousTimestamp, long timestamp, Map<String, KeyspaceStatisticsDelta> keyspaceToDelta);
 
     public void clearBranchHeadStatistics();
 
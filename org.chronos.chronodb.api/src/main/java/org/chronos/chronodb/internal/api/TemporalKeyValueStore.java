@@ -13,6 +13,7 @@ import org.chronos.chronodb.api.exceptions.ChronoDBCommitException;
 import org.chronos.chronodb.api.exceptions.DatebackException;
 import org.chronos.chronodb.api.key.QualifiedKey;
 import org.chronos.chronodb.api.key.TemporalKey;
+import org.chronos.chronodb.internal.api.dateback.KeyspaceTransformationResult;
 import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.common.autolock.AutoLock;
@@ -83,6 +84,21 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
      */
     public long getNow();
 
+    /**
+     * Returns the <i>retention horizon</i> of this store, i.e. the earliest timestamp for which this store still holds
+     * the history of its own branch.
+     *
+     * <p>
+     * The history before the retention horizon has been purged (see
+     * {@link org.chronos.chronodb.api.MaintenanceManager#purgeHistoryOfBranch(String, long)}) and can no longer be
+     * accessed. Backends which do not support history purging always return zero.
+     *
+     * @return The retention horizon. Never negative.
+     */
+    public default long getRetentionHorizon() {
+        return 0L;
+    }
+
     /**
      * Returns the set of known keyspace names which are contained in this store.
      *
@@ -1000,12 +1016,20 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
      *
      * </p>
      *
+     * <p>
+     * The keyspace is processed chunk by chunk. By default, the values are deserialized and transformed by the calling
+     * thread. If {@link org.chronos.chronodb.internal.api.ChronoDBConfiguration#DATEBACK_TRANSFORMATION_PARALLELISM} is
+     * greater than 1, this happens on a pool of worker threads, and the given transformation may be called concurrently.
+     * The transformed values of each chunk are spilled to a temporary file, and written back chunk by chunk once all
+     * entries have been read, so the memory consumption does not depend on the size of the keyspace.
+     * </p>
+     *
      * @param keyspace The keyspace to transform. Must not be <code>null</code>.
      * @param valueTransformation The value transformation to apply. Must not be <code>null</code>.
      *
-     * @return The coordinates which have actually been modified.
+     * @return The number of entries which have actually been modified, and the earliest timestamp among them. Never <code>null</code>.
      */
-    public Collection<TemporalKey> datebackTransformValuesOfKeyspace(String keyspace, KeyspaceValueTransformation valueTransformation);
+    public KeyspaceTransformationResult datebackTransformValuesOfKeyspace(String keyspace, KeyspaceValueTransformation valueTransformation);
 
     /**
      * Updates the metadata of the given commit, replacing it with the given one.
@@ -1118,6 +1142,27 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
      */
     public CloseableIterator<ChronoDBEntry> allEntriesIterator(long minTimestmap, long maxTimestamp);
 
+    /**
+     * Returns an iterator over all entries in the given keyspace of this data store which have timestamps within the
+     * given range.
+     *
+     * <p>
+     * This is a variant of {@link #allEntriesIterator(long, long)} which is restricted to a single keyspace. It allows
+     * to process the keyspaces of a store independently (e.g. in parallel). The same warnings apply.
+     *
+     * <p>
+     * <b>/!\ WARNING /!\</b><br>
+     * This method does not acquire any locks, as it is intended to be called from worker threads. The caller is
+     * responsible for holding a (non-exclusive) lock on the database until the returned iterator has been closed.
+     *
+     * @param keyspace     The keyspace to iterate over. Must not be <code>null</code>. If the keyspace does not exist in
+     *                     this branch, the resulting iterator will be empty.
+     * @param minTimestamp The minimum timestamp to consider (inclusive). Must not be negative. Must be less than or equal to <code>maxTimestamp</code>.
+     * @param maxTimestamp The maximum timestamp to consider (inclusive). Must not be negative. Must be greater than or equal to <code>minTimestamp</code>.
+     * @return An iterator over all entries of the keyspace in the given time range. May be empty, but never <code>null</code>. Must be closed by the caller.
+     */
+    public CloseableIterator<ChronoDBEntry> allEntriesIterator(String keyspace, long minTimestamp, long maxTimestamp);
+
     /**
      * Directly inserts the given entries into this store, without performing any temporal consistency checks.
      *
@@ -1201,7 +1246,21 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
      *
      * @return The statistics for the given branch. Never <code>null</code>.
      */
-    public BranchHeadStatistics calculateBranchHeadStatistics();
+    public default BranchHeadStatistics calculateBranchHeadStatistics() {
+        return this.calculateBranchHeadStatistics(this.getNow());
+    }
+
+    /**
+     * Calculates the Head Chunk Statistics, as of the given timestamp.
+     *
+     * <p>
+     * Entries which have been written after the given timestamp are ignored, which allows the result to be stamped
+     * with the timestamp it refers to.
+     *
+     * @param timestamp The timestamp to calculate the statistics for. Must not be negative.
+     * @return The statistics for the given branch. Never <code>null</code>.
+     */
+    public BranchHeadStatistics calculateBranchHeadStatistics(long timestamp);
 
     /**
      * Updates the keyspace creation timestamp of the given keyspace to the given timestamp.
@@ -0,0 +1,81 @@
+package org.chronos.chronodb.internal.api.dateback;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Summarizes the outcome of a {@linkplain org.chronos.chronodb.internal.api.TemporalKeyValueStore#datebackTransformValuesOfKeyspace keyspace transformation}.
+ *
+ * <p>
+ * Keyspace transformations may touch a very large number of entries, so they only report how many entries have been
+ * modified and the earliest timestamp among them, rather than the full set of modified coordinates.
+ * </p>
+ */
+public final class KeyspaceTransformationResult {
+
+    // =================================================================================================================
+    // STATIC
+    // =================================================================================================================
+
+    private static final KeyspaceTransformationResult EMPTY = new KeyspaceTransformationResult(0, Long.MAX_VALUE);
+
+    public static KeyspaceTransformationResult empty() {
+        return EMPTY;
+    }
+
+    public static KeyspaceTransformationResult create(final long modifiedEntries, final long earliestModifiedTimestamp) {
+        checkArgument(modifiedEntries >= 0, "Precondition violation - argument 'modifiedEntries' must not be negative!");
+        if (modifiedEntries == 0) {
+            return EMPTY;
+        }
+        checkArgument(earliestModifiedTimestamp >= 0, "Precondition violation - argument 'earliestModifiedTimestamp' must not be negative!");
+        return new KeyspaceTransformationResult(modifiedEntries, earliestModifiedTimestamp);
+    }
+
+    // =================================================================================================================
+    // FIELDS
+    // =================================================================================================================
+
+    private final long modifiedEntries;
+    private final long earliestModifiedTimestamp;
+
+    // =================================================================================================================
+    // CONSTRUCTOR
+    // =================================================================================================================
+
+    private KeyspaceTransformationResult(final long modifiedEntries, final long earliestModifiedTimestamp) {
+        this.modifiedEntries = modifiedEntries;
+        this.earliestModifiedTimestamp = earliestModifiedTimestamp;
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    /**
+     * Returns the number of entries which have actually been modified by the transformation.
+     *
+     * @return The number of modified entries. Never negative.
+     */
+    public long getModifiedEntries() {
+        return this.modifiedEntries;
+    }
+
+    /**
+     * Returns the lowest timestamp of any modified entry.
+     *
+     * @return The earliest modified timestamp, or {@link Long#MAX_VALUE} if no entry has been modified.
+     */
+    public long getEarliestModifiedTimestamp() {
+        return this.earliestModifiedTimestamp;
+    }
+
+    public boolean isEmpty() {
+        return this.modifiedEntries <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "KeyspaceTransformationResult[modifiedEntries=" + this.modifiedEntries + ", earliestModifiedTimestamp=" + this.earliestModifiedTimestamp + "]";
+    }
+
+}
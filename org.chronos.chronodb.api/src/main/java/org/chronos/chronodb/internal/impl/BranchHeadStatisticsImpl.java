@@ -1,6 +1,12 @@
 package org.chronos.chronodb.internal.impl;
 
+import com.google.common.collect.Maps;
 import org.chronos.chronodb.api.BranchHeadStatistics;
+import org.chronos.chronodb.api.KeyspaceStatistics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import static com.google.common.base.Preconditions.*;
 
@@ -12,6 +18,7 @@ public class BranchHeadStatisticsImpl implements BranchHeadStatistics {
 
     private long entriesInHead;
     private long totalEntries;
+    private Map<String, KeyspaceStatistics> keyspaceStatistics;
 
     // =================================================================================================================
     // CONSTRUCTOR
@@ -22,6 +29,16 @@ public class BranchHeadStatisticsImpl implements BranchHeadStatistics {
         checkArgument(totalEntries >= 0, "Precondition violation, argument 'totalEntries' must not be negative!");
         this.entriesInHead = entriesInHead;
         this.totalEntries = totalEntries;
+        this.keyspaceStatistics = Collections.emptyMap();
+    }
+
+    public BranchHeadStatisticsImpl(Map<String, ? extends KeyspaceStatistics> keyspaceStatistics) {
+        checkNotNull(keyspaceStatistics, "Precondition violation - argument 'keyspaceStatistics' must not be NULL!");
+        this.keyspaceStatistics = Collections.unmodifiableMap(Maps.newHashMap(keyspaceStatistics));
+        for (KeyspaceStatistics statistics : keyspaceStatistics.values()) {
+            this.entriesInHead += statistics.getNumberOfEntriesInHead();
+            this.totalEntries += statistics.getTotalNumberOfEntries();
+        }
     }
 
     // =================================================================================================================
@@ -54,4 +71,36 @@ public class BranchHeadStatisticsImpl implements BranchHeadStatistics {
         }
         return (double) this.entriesInHead / this.totalEntries;
     }
+
+    @Override
+    public Map<String, KeyspaceStatistics> getKeyspaceStatistics() {
+        return this.keyspaceStatistics;
+    }
+
+    /**
+     * Creates a new statistics object which reflects the state of the branch after the given changes.
+     *
+     * <p>
+     * This only works for statistics which have been created with per-keyspace information.
+     *
+     * @param keyspaceToDelta The changes to apply, per keyspace. Must not be <code>null</code>.
+     * @return The new statistics object. Never <code>null</code>.
+     */
+    public BranchHeadStatisticsImpl applyChanges(Map<String, KeyspaceStatisticsDelta> keyspaceToDelta) {
+        checkNotNull(keyspaceToDelta, "Precondition violation - argument 'keyspaceToDelta' must not be NULL!");
+        Map<String, KeyspaceStatistics> newStatistics = Maps.newHashMap(this.keyspaceStatistics);
+        for (Entry<String, KeyspaceStatisticsDelta> entry : keyspaceToDelta.entrySet()) {
+            String keyspace = entry.getKey();
+            KeyspaceStatistics oldStatistics = newStatistics.get(keyspace);
+            KeyspaceStatisticsImpl base;
+            if (oldStatistics instanceof KeyspaceStatisticsImpl) {
+                base = (KeyspaceStatisticsImpl) oldStatistics;
+            } else {
+                // the keyspace has been created by the commit
+                base = new KeyspaceStatisticsImpl(keyspace, 0, 0, 0, 0);
+            }
+            newStatistics.put(keyspace, base.applyChanges(entry.getValue()));
+        }
+        return new BranchHeadStatisticsImpl(newStatistics);
+    }
 }
@@ -92,6 +92,12 @@ public abstract class ChronoDBBaseConfiguration extends AbstractConfiguration im
     @IgnoredIf(field = "backendType", comparison = Comparison.IS_SET_TO, compareValue = "inmemory")
     private boolean readOnly = false;
 
+    @Parameter(key = BACKUP_PARALLELISM, optional = true)
+    private int backupParallelism = 1;
+
+    @Parameter(key = DATEBACK_TRANSFORMATION_PARALLELISM, optional = true)
+    private int datebackTransformationParallelism = 1;
+
     // =================================================================================================================
     // CACHES
     // =================================================================================================================
@@ -201,4 +207,14 @@ public abstract class ChronoDBBaseConfiguration extends AbstractConfiguration im
         return this.readOnly;
     }
 
+    @Override
+    public int getBackupParallelism() {
+        return Math.max(1, this.backupParallelism);
+    }
+
+    @Override
+    public int getDatebackTransformationParallelism() {
+        return Math.max(1, this.datebackTransformationParallelism);
+    }
+
 }
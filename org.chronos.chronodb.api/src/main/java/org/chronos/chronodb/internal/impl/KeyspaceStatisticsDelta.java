@@ -0,0 +1,87 @@
+package org.chronos.chronodb.internal.impl;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Describes how a single commit changed the contents of a keyspace, for the purpose of updating the
+ * {@linkplain KeyspaceStatisticsImpl keyspace statistics} without recalculating them.
+ */
+public class KeyspaceStatisticsDelta {
+
+    // =================================================================================================================
+    // FIELDS
+    // =================================================================================================================
+
+    private final long writtenVersions;
+    private final long insertedKeys;
+    private final long deletedKeys;
+    private final long writtenValues;
+    private final long writtenValueBytes;
+
+    // =================================================================================================================
+    // CONSTRUCTOR
+    // =================================================================================================================
+
+    public KeyspaceStatisticsDelta(long writtenVersions, long insertedKeys, long deletedKeys, long writtenValues, long writtenValueBytes) {
+        checkArgument(writtenVersions >= 0, "Precondition violation - argument 'writtenVersions' must not be negative!");
+        checkArgument(insertedKeys >= 0, "Precondition violation - argument 'insertedKeys' must not be negative!");
+        checkArgument(deletedKeys >= 0, "Precondition violation - argument 'deletedKeys' must not be negative!");
+        checkArgument(writtenValues >= 0, "Precondition violation - argument 'writtenValues' must not be negative!");
+        checkArgument(writtenValueBytes >= 0, "Precondition violation - argument 'writtenValueBytes' must not be negative!");
+        this.writtenVersions = writtenVersions;
+        this.insertedKeys = insertedKeys;
+        this.deletedKeys = deletedKeys;
+        this.writtenValues = writtenValues;
+        this.writtenValueBytes = writtenValueBytes;
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    /**
+     * Returns the number of versions written by the commit, including deletion markers.
+     *
+     * @return The number of written versions.
+     */
+    public long getWrittenVersions() {
+        return this.writtenVersions;
+    }
+
+    /**
+     * Returns the number of keys which did not exist before the commit, and exist afterwards.
+     *
+     * @return The number of inserted keys.
+     */
+    public long getInsertedKeys() {
+        return this.insertedKeys;
+    }
+
+    /**
+     * Returns the number of keys which existed before the commit, and have been removed by it.
+     *
+     * @return The number of deleted keys.
+     */
+    public long getDeletedKeys() {
+        return this.deletedKeys;
+    }
+
+    /**
+     * Returns the number of versions written by the commit which are not deletion markers.
+     *
+     * @return The number of written values.
+     */
+    public long getWrittenValues() {
+        return this.writtenValues;
+    }
+
+    /**
+     * Returns the total size of the serialized values written by the commit.
+     *
+     * @return The size in bytes.
+     */
+    public long getWrittenValueBytes() {
+        return this.writtenValueBytes;
+    }
+
+}
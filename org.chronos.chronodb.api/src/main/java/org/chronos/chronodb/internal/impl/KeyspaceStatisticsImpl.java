@@ -0,0 +1,110 @@
+package org.chronos.chronodb.internal.impl;
+
+import org.chronos.chronodb.api.KeyspaceStatistics;
+
+import static com.google.common.base.Preconditions.*;
+
+public class KeyspaceStatisticsImpl implements KeyspaceStatistics {
+
+    // =================================================================================================================
+    // FIELDS
+    // =================================================================================================================
+
+    private final String keyspace;
+    private final long entriesInHead;
+    private final long totalEntries;
+    private final long valueCount;
+    private final long totalValueSize;
+
+    // =================================================================================================================
+    // CONSTRUCTOR
+    // =================================================================================================================
+
+    public KeyspaceStatisticsImpl(String keyspace, long entriesInHead, long totalEntries, long valueCount, long totalValueSize) {
+        checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+        checkArgument(entriesInHead >= 0, "Precondition violation - argument 'entriesInHead' must not be negative!");
+        checkArgument(totalEntries >= 0, "Precondition violation - argument 'totalEntries' must not be negative!");
+        checkArgument(valueCount >= 0, "Precondition violation - argument 'valueCount' must not be negative!");
+        checkArgument(totalValueSize >= 0, "Precondition violation - argument 'totalValueSize' must not be negative!");
+        this.keyspace = keyspace;
+        this.entriesInHead = entriesInHead;
+        this.totalEntries = totalEntries;
+        this.valueCount = valueCount;
+        this.totalValueSize = totalValueSize;
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    @Override
+    public String getKeyspace() {
+        return this.keyspace;
+    }
+
+    @Override
+    public long getTotalNumberOfEntries() {
+        return this.totalEntries;
+    }
+
+    @Override
+    public long getNumberOfEntriesInHead() {
+        return this.entriesInHead;
+    }
+
+    @Override
+    public long getNumberOfEntriesInHistory() {
+        // on branches, the head revision may contain entries inherited from the parent branch
+        return Math.max(0, this.totalEntries - this.entriesInHead);
+    }
+
+    @Override
+    public double getAverageValueSize() {
+        if (this.valueCount <= 0) {
+            return 0;
+        }
+        return (double) this.totalValueSize / this.valueCount;
+    }
+
+    /**
+     * Returns the number of versions in the head portion which are not deletion markers.
+     *
+     * @return The number of values.
+     */
+    public long getValueCount() {
+        return this.valueCount;
+    }
+
+    /**
+     * Returns the total size of all serialized values in the head portion.
+     *
+     * @return The size in bytes.
+     */
+    public long getTotalValueSize() {
+        return this.totalValueSize;
+    }
+
+    /**
+     * Creates a new statistics object which reflects the state of the keyspace after the given changes.
+     *
+     * @param delta The changes to apply. Must not be <code>null</code>.
+     * @return The new statistics object. Never <code>null</code>.
+     */
+    public KeyspaceStatisticsImpl applyChanges(KeyspaceStatisticsDelta delta) {
+        checkNotNull(delta, "Precondition violation - argument 'delta' must not be NULL!");
+        return new KeyspaceStatisticsImpl(
+            this.keyspace,
+            Math.max(0, this.entriesInHead + delta.getInsertedKeys() - delta.getDeletedKeys()),
+            this.totalEntries + delta.getWrittenVersions(),
+            this.valueCount + delta.getWrittenValues(),
+            this.totalValueSize + delta.getWrittenValueBytes()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "KeyspaceStatistics[" + this.keyspace + ", head=" + this.entriesInHead + ", total=" + this.totalEntries
+            + ", averageValueSize=" + this.getAverageValueSize() + "]";
+    }
+
+}
@@ -1,55 +1,92 @@
 package org.chronos.chronodb.internal.impl.builder.query;
 
+import static com.google.common.base.Preconditions.*;
+
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.NullSortPosition;
+import org.chronos.chronodb.api.Order;
+import org.chronos.chronodb.api.Sort;
 import org.chronos.chronodb.api.builder.query.QueryBuilderFinalizer;
 import org.chronos.chronodb.api.key.QualifiedKey;
 import org.chronos.chronodb.internal.api.ChronoDBInternal;
+import org.chronos.chronodb.internal.api.Period;
 import org.chronos.chronodb.internal.api.query.ChronoDBQuery;
 import org.chronos.chronodb.internal.util.ImmutableMapEntry;
 
 public abstract class AbstractFinalizableQueryBuilder implements QueryBuilderFinalizer {
 
+	private Sort sort;
+	private int offset = 0;
+	private int limit = Integer.MAX_VALUE;
+
+	@Override
+	public QueryBuilderFinalizer orderBy(final String indexName, final Order order, final NullSortPosition nulls) {
+		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
+		checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+		checkNotNull(nulls, "Precondition violation - argument 'nulls' must not be NULL!");
+		checkState(this.sort == null, "Only one sort criterion is supported per query!");
+		this.sort = Sort.by(indexName, order, nulls);
+		return this;
+	}
+
+	@Override
+	public QueryBuilderFinalizer limit(final int limit) {
+		checkArgument(limit >= 0, "Precondition violation - argument 'limit' must not be negative!");
+		this.limit = limit;
+		return this;
+	}
+
+	@Override
+	public QueryBuilderFinalizer offset(final int offset) {
+		checkArgument(offset >= 0, "Precondition violation - argument 'offset' must not be negative!");
+		this.offset = offset;
+		return this;
+	}
+
 	@Override
 	public Iterator<QualifiedKey> getKeys() {
-		ChronoDBQuery query = this.getQuery();
-		// evaluate the query
-		Branch branch = this.getBranch();
-		long timestamp = this.getTx().getTimestamp();
-		return this.getOwningDB().getIndexManager().evaluate(timestamp, branch, query);
+		return this.evaluate();
 	}
 
 	@Override
 	public Iterator<Entry<QualifiedKey, Object>> getQualifiedResult() {
-		ChronoDBQuery query = this.getQuery();
-		// evaluate the query
-		Branch branch = this.getBranch();
-		long timestamp = this.getTx().getTimestamp();
-		Iterator<QualifiedKey> keyIterator = this.getOwningDB().getIndexManager().evaluate(timestamp, branch, query);
+		Iterator<QualifiedKey> keyIterator = this.evaluate();
 		return new QualifiedResultIterator(keyIterator);
 	}
 
 	@Override
 	public Iterator<Entry<String, Object>> getResult() {
-		ChronoDBQuery query = this.getQuery();
-		// evaluate the query
-		Branch branch = this.getBranch();
-		long timestamp = this.getTx().getTimestamp();
-		Iterator<QualifiedKey> keyIterator = this.getOwningDB().getIndexManager().evaluate(timestamp, branch, query);
+		Iterator<QualifiedKey> keyIterator = this.evaluate();
 		return new UnqualifiedResultIterator(keyIterator);
 	}
 
 	@Override
 	public Iterator<Object> getValues() {
+		Iterator<QualifiedKey> keyIterator = this.evaluate();
+		return new ValuesResultIterator(keyIterator);
+	}
+
+	@Override
+	public Map<QualifiedKey, List<Period>> getMatchPeriodsBetween(final long from, final long to) {
+		checkArgument(to <= this.getTx().getTimestamp(), "Precondition violation - argument 'to' must not be greater than the transaction timestamp!");
+		return this.getOwningDB().getIndexManager().evaluateBetween(this.getBranch(), this.getQuery(), from, to);
+	}
+
+	protected Iterator<QualifiedKey> evaluate() {
 		ChronoDBQuery query = this.getQuery();
 		// evaluate the query
 		Branch branch = this.getBranch();
 		long timestamp = this.getTx().getTimestamp();
-		Iterator<QualifiedKey> keyIterator = this.getOwningDB().getIndexManager().evaluate(timestamp, branch, query);
-		return new ValuesResultIterator(keyIterator);
+		if (this.sort == null && this.offset == 0 && this.limit == Integer.MAX_VALUE) {
+			return this.getOwningDB().getIndexManager().evaluate(timestamp, branch, query);
+		}
+		return this.getOwningDB().getIndexManager().evaluate(timestamp, branch, query, this.sort, this.offset, this.limit);
 	}
 
 	protected Branch getBranch() {
@@ -9,6 +9,7 @@ import org.chronos.chronodb.internal.api.BranchInternal;
 import org.chronos.chronodb.internal.api.ChronoDBInternal;
 import org.chronos.chronodb.internal.api.MutableTransactionConfiguration;
 import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
+import org.chronos.chronodb.internal.api.dateback.KeyspaceTransformationResult;
 import org.chronos.chronodb.internal.api.dateback.log.DatebackLogger;
 import org.chronos.chronodb.internal.impl.DefaultTransactionConfiguration;
 import org.chronos.chronodb.internal.impl.dateback.log.*;
@@ -333,13 +334,13 @@ public class DatebackImpl implements Dateback, AutoCloseable {
         checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
         checkNotNull(valueTransformation, "Precondition violation - argument 'valueTransformation' must not be NULL!");
         this.assertNotClosed();
-        Collection<TemporalKey> changed = this.getTKVS().datebackTransformValuesOfKeyspace(keyspace, valueTransformation);
-        if(changed == null || changed.isEmpty()){
+        KeyspaceTransformationResult result = this.getTKVS().datebackTransformValuesOfKeyspace(keyspace, valueTransformation);
+        if(result.isEmpty()){
             return;
         }
-        this.updateEarliestTouchedTimestamp(changed);
+        this.updateEarliestTouchedTimestamp(result.getEarliestModifiedTimestamp());
         this.logger.logDatebackOperation(
-            new TransformValuesOfKeyspaceOperation(this.branch, keyspace, changed.stream().mapToLong(TemporalKey::getTimestamp).min().orElse(Long.MAX_VALUE))
+            new TransformValuesOfKeyspaceOperation(this.branch, keyspace, result.getEarliestModifiedTimestamp())
         );
     }
 
@@ -0,0 +1,155 @@
+package org.chronos.chronodb.internal.impl.dateback;
+
+import com.google.common.collect.Sets;
+import org.chronos.chronodb.api.exceptions.DatebackException;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * A temporary file which buffers the entries produced by a keyspace transformation.
+ *
+ * <p>
+ * The matrix of a keyspace must not be modified while it is being iterated. Each transformed chunk is therefore
+ * written to the spill as soon as it is available, and {@linkplain #replay(int, Consumer) replayed} into the matrix
+ * chunk by chunk after the iteration has been closed. At no point in time does the heap hold more than one chunk of
+ * the spill.
+ * </p>
+ */
+public class TransformedEntrySpill implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TransformedEntrySpill.class);
+
+    // =================================================================================================================
+    // FIELDS
+    // =================================================================================================================
+
+    private final Path file;
+    private DataOutputStream out;
+    private long entryCount = 0;
+
+    // =================================================================================================================
+    // CONSTRUCTOR
+    // =================================================================================================================
+
+    public TransformedEntrySpill() {
+        try {
+            this.file = Files.createTempFile("chronodb-dateback-", ".spill");
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(this.file)));
+        } catch (IOException e) {
+            throw new DatebackException("Could not create a temporary file for the transformed entries!", e);
+        }
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    public void write(final Set<UnqualifiedTemporalEntry> entries) {
+        checkNotNull(entries, "Precondition violation - argument 'entries' must not be NULL!");
+        checkState(this.out != null, "The transformed entries have already been replayed!");
+        try {
+            for (UnqualifiedTemporalEntry entry : entries) {
+                writeBytes(this.out, entry.getKey().getKey().getBytes(StandardCharsets.UTF_8));
+                this.out.writeLong(entry.getKey().getTimestamp());
+                writeBytes(this.out, entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new DatebackException("Could not write the transformed entries to a temporary file!", e);
+        }
+        this.entryCount += entries.size();
+    }
+
+    public long getEntryCount() {
+        return this.entryCount;
+    }
+
+    /**
+     * Reads the entries of this spill (in the order in which they have been written) and passes them to the given
+     * consumer in chunks of (at most) the given size.
+     *
+     * <p>
+     * After this method has been called, no further entries can be {@linkplain #write(Set) written} to this spill.
+     * </p>
+     *
+     * @param chunkSize The maximum number of entries to pass to the consumer at once. Must be positive.
+     * @param consumer  The consumer for the chunks. Must not be <code>null</code>.
+     */
+    public void replay(final int chunkSize, final Consumer<Set<UnqualifiedTemporalEntry>> consumer) {
+        checkArgument(chunkSize > 0, "Precondition violation - argument 'chunkSize' must be positive!");
+        checkNotNull(consumer, "Precondition violation - argument 'consumer' must not be NULL!");
+        this.closeOutput();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+            long remaining = this.entryCount;
+            while (remaining > 0) {
+                int size = (int) Math.min(chunkSize, remaining);
+                Set<UnqualifiedTemporalEntry> chunk = Sets.newHashSetWithExpectedSize(size);
+                for (int i = 0; i < size; i++) {
+                    String key = new String(readBytes(in), StandardCharsets.UTF_8);
+                    long timestamp = in.readLong();
+                    chunk.add(new UnqualifiedTemporalEntry(UnqualifiedTemporalKey.create(key, timestamp), readBytes(in)));
+                }
+                remaining -= size;
+                consumer.accept(chunk);
+            }
+        } catch (IOException e) {
+            throw new DatebackException("Could not read the transformed entries from a temporary file!", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.closeOutput();
+        } finally {
+            try {
+                Files.deleteIfExists(this.file);
+            } catch (IOException e) {
+                log.warn("Failed to delete temporary file '" + this.file + "'.", e);
+            }
+        }
+    }
+
+    // =================================================================================================================
+    // HELPER METHODS
+    // =================================================================================================================
+
+    private void closeOutput() {
+        if (this.out == null) {
+            return;
+        }
+        try {
+            this.out.close();
+        } catch (IOException e) {
+            throw new DatebackException("Could not write the transformed entries to a temporary file!", e);
+        } finally {
+            this.out = null;
+        }
+    }
+
+    private static void writeBytes(final DataOutputStream out, final byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(final DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+}
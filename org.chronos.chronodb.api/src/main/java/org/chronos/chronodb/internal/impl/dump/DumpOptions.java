@@ -8,6 +8,8 @@ import java.util.stream.Collectors;
 
 import org.chronos.chronodb.api.DumpOption;
 import org.chronos.chronodb.api.DumpOption.IntOption;
+import org.chronos.chronodb.api.dump.DumpCompressor;
+import org.chronos.chronodb.api.dump.StandardDumpCompressor;
 
 import com.google.common.collect.Sets;
 
@@ -19,6 +21,8 @@ public class DumpOptions {
 
 	public static final int DEFAULT_BATCH_SIZE = 1000;
 
+	public static final DumpCompressor DEFAULT_COMPRESSOR = StandardDumpCompressor.DEFLATE_FAST;
+
 	// =====================================================================================================================
 	// FIELDS
 	// =====================================================================================================================
@@ -51,6 +55,10 @@ public class DumpOptions {
 		return this.isOptionEnabled(DumpOption.FORCE_BINARY_ENCODING);
 	}
 
+	public boolean isBinaryFormatEnabled() {
+		return this.isOptionEnabled(DumpOption.BINARY_FORMAT);
+	}
+
 	public boolean isOptionEnabled(final DumpOption option) {
 		checkNotNull(option, "Precondition violation - argument 'option' must not be NULL!");
 		return this.options.contains(option);
@@ -77,12 +85,26 @@ public class DumpOptions {
 	}
 
 	public int getBatchSize() {
-		Optional<IntOption> batchSize = this.options.stream().filter(option -> option instanceof IntOption)
-				.map(option -> (IntOption) option).filter(option -> "batchSize".equals(option.getName())).findAny();
-		if (batchSize.isPresent()) {
-			return batchSize.get().getValue();
+		return this.getIntOptionValue("batchSize", DEFAULT_BATCH_SIZE);
+	}
+
+	public int getParallelism() {
+		return this.getIntOptionValue("parallelism", Runtime.getRuntime().availableProcessors());
+	}
+
+	public DumpCompressor getCompressor() {
+		return this.options.stream().filter(option -> option instanceof DumpOption.CompressorOption)
+				.map(option -> ((DumpOption.CompressorOption) option).getCompressor()).findAny()
+				.orElse(DEFAULT_COMPRESSOR);
+	}
+
+	private int getIntOptionValue(final String name, final int defaultValue) {
+		Optional<IntOption> intOption = this.options.stream().filter(option -> option instanceof IntOption)
+				.map(option -> (IntOption) option).filter(option -> name.equals(option.getName())).findAny();
+		if (intOption.isPresent()) {
+			return intOption.get().getValue();
 		} else {
-			return DEFAULT_BATCH_SIZE;
+			return defaultValue;
 		}
 	}
 
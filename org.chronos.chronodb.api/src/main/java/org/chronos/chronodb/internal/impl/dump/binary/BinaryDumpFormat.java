@@ -0,0 +1,104 @@
+package org.chronos.chronodb.internal.impl.dump.binary;
+
+import org.chronos.chronodb.api.dump.DumpCompressor;
+import org.chronos.chronodb.api.dump.StandardDumpCompressor;
+import org.chronos.chronodb.api.exceptions.ChronoDBSerializationException;
+import org.chronos.chronodb.internal.impl.dump.DumpOptions;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Describes the layout of binary dump files.
+ *
+ * <p>
+ * A binary dump is laid out as follows (all numbers are big-endian, as written by {@link java.io.DataOutputStream}):
+ *
+ * <pre>
+ * header:   MAGIC (8 bytes) | format version (int) | compressor ID (UTF)
+ * metadata: length (int) | compressed XML of the ChronoDBDumpMetadata
+ * blocks:   BLOCK (byte) | branch (UTF) | keyspace (UTF) | entry count (int) | length (int) | compressed entries
+ *           ... (repeated)
+ * end:      END (byte)
+ * </pre>
+ * <p>
+ * The entries of a block all belong to the same branch and keyspace; a single keyspace is usually split into many
+ * blocks. The blocks of different keyspaces may be interleaved. Each entry is encoded as:
+ *
+ * <pre>
+ * key length (int) | key (UTF-8) | timestamp (long) | value length (int, -1 for NULL) | value (serialized form)
+ * </pre>
+ * <p>
+ * Since every block is compressed on its own and carries its own length, blocks can be encoded and decoded in parallel,
+ * and a reader can skip ahead to the next block without decompressing the current one.
+ */
+public final class BinaryDumpFormat {
+
+    /** The first bytes of every binary dump file. */
+    static final byte[] MAGIC = "CHRNBDMP".getBytes(StandardCharsets.US_ASCII);
+
+    /** The current version of the binary format. */
+    static final int FORMAT_VERSION = 1;
+
+    /** Tag which introduces a block. */
+    static final byte TAG_BLOCK = 1;
+
+    /** Tag which marks the end of the dump. */
+    static final byte TAG_END = 0;
+
+    /** The number of (uncompressed) bytes after which a block is completed. */
+    static final int BLOCK_SIZE_BYTES = 4 * 1024 * 1024;
+
+    private BinaryDumpFormat() {
+        throw new UnsupportedOperationException("Do not instantiate this class!");
+    }
+
+    /**
+     * Checks if the given file is a binary dump.
+     *
+     * @param file The file to check. Must not be <code>null</code>, must exist.
+     * @return <code>true</code> if the file starts with the binary dump {@linkplain #MAGIC magic bytes}, otherwise
+     * <code>false</code>.
+     */
+    public static boolean isBinaryDump(final File file) {
+        checkNotNull(file, "Precondition violation - argument 'file' must not be NULL!");
+        if (file.length() < MAGIC.length) {
+            return false;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] header = new byte[MAGIC.length];
+            new DataInputStream(in).readFully(header);
+            return Arrays.equals(MAGIC, header);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Finds the compressor with the given ID.
+     *
+     * @param id      The ID of the compressor, as recorded in the dump. Must not be <code>null</code>.
+     * @param options The options which may contain a custom compressor. Must not be <code>null</code>.
+     * @return The compressor. Never <code>null</code>.
+     * @throws ChronoDBSerializationException If no compressor with the given ID is available.
+     */
+    static DumpCompressor resolveCompressor(final String id, final DumpOptions options) {
+        DumpCompressor compressor = options.getCompressor();
+        if (compressor.getId().equals(id)) {
+            return compressor;
+        }
+        compressor = StandardDumpCompressor.fromId(id);
+        if (compressor == null) {
+            throw new ChronoDBSerializationException("Failed to read dump - it has been compressed with '" + id + "', but no such compressor is available! Please pass it via DumpOption.compressor(...).");
+        }
+        return compressor;
+    }
+
+}
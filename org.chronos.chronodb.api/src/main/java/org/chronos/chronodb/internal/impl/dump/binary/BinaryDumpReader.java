@@ -0,0 +1,194 @@
+package org.chronos.chronodb.internal.impl.dump.binary;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.chronos.chronodb.api.dump.ChronoDBDumpFormat;
+import org.chronos.chronodb.api.dump.DumpCompressor;
+import org.chronos.chronodb.api.exceptions.ChronoDBSerializationException;
+import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
+import org.chronos.chronodb.api.key.ChronoIdentifier;
+import org.chronos.chronodb.internal.api.ChronoDBInternal;
+import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
+import org.chronos.chronodb.internal.impl.dump.ChronoDBDumpUtil;
+import org.chronos.chronodb.internal.impl.dump.CommitMetadataMap;
+import org.chronos.chronodb.internal.impl.dump.DumpOptions;
+import org.chronos.chronodb.internal.impl.dump.meta.ChronoDBDumpMetadata;
+import org.chronos.chronodb.internal.impl.dump.meta.CommitDumpMetadata;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Reads a dump in the {@linkplain BinaryDumpFormat binary dump format} into a {@link ChronoDBInternal}.
+ *
+ * <p>
+ * The calling thread reads the raw blocks from the file, and hands them to a pool of worker threads which decompress
+ * and decode them in parallel. The decoded blocks are {@linkplain ChronoDBInternal#loadEntries(List) loaded} by the
+ * calling thread in file order, one block (i.e. a large batch of entries of a single keyspace) at a time. Only a bounded
+ * number of blocks is held in memory at any point in time.
+ */
+public class BinaryDumpReader {
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    public static void readDump(final ChronoDBInternal db, final File dumpFile, final DumpOptions options) {
+        checkNotNull(db, "Precondition violation - argument 'db' must not be NULL!");
+        checkNotNull(dumpFile, "Precondition violation - argument 'dumpFile' must not be NULL!");
+        checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(dumpFile), 1024 * 1024))) {
+            // header
+            byte[] magic = new byte[BinaryDumpFormat.MAGIC.length];
+            in.readFully(magic);
+            if (Arrays.equals(BinaryDumpFormat.MAGIC, magic) == false) {
+                throw new ChronoDBSerializationException("Failed to read dump - '" + dumpFile.getAbsolutePath() + "' is not a binary dump!");
+            }
+            int formatVersion = in.readInt();
+            if (formatVersion > BinaryDumpFormat.FORMAT_VERSION) {
+                throw new ChronoDBSerializationException("Failed to read dump - it has been written in binary format version " + formatVersion + ", but this version of Chronos only supports versions up to " + BinaryDumpFormat.FORMAT_VERSION + "!");
+            }
+            DumpCompressor compressor = BinaryDumpFormat.resolveCompressor(in.readUTF(), options);
+            // metadata
+            byte[] metadataBytes = new byte[in.readInt()];
+            in.readFully(metadataBytes);
+            ChronoDBDumpMetadata metadata;
+            try (InputStream metadataIn = compressor.decompress(new ByteArrayInputStream(metadataBytes))) {
+                metadata = (ChronoDBDumpMetadata) ChronoDBDumpFormat.readXML(metadataIn, options);
+            }
+            ChronoDBDumpUtil.createBranches(db, metadata);
+            // entries
+            CommitMetadataMap commitMetadataMap = new CommitMetadataMap();
+            for (CommitDumpMetadata commit : metadata.getCommitDumpMetadata()) {
+                commitMetadataMap.addEntry(commit.getBranch(), commit.getTimestamp(), commit.getMetadata());
+            }
+            readBlocks(db, in, compressor, options.getParallelism(), commitMetadataMap);
+            db.loadCommitTimestamps(commitMetadataMap);
+            // dateback log and indexers
+            ChronoDBDumpUtil.loadDatebackLog(db, metadata);
+            if (db.requiresAutoReindexAfterDumpRead()) {
+                ChronoDBDumpUtil.setupIndexersAndReindex(db, metadata);
+            } else {
+                ChronoDBDumpUtil.setupIndexers(db, metadata);
+            }
+        } catch (IOException e) {
+            throw new ChronoDBStorageBackendException("Failed to load DB dump!", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ChronoDBStorageBackendException("Interrupted while loading DB dump!", e);
+        }
+    }
+
+    // =================================================================================================================
+    // HELPER METHODS
+    // =================================================================================================================
+
+    private static void readBlocks(final ChronoDBInternal db, final DataInputStream in, final DumpCompressor compressor, final int parallelism, final CommitMetadataMap commitMetadataMap) throws IOException, InterruptedException {
+        // the blocks which are being decoded, in file order. Bounds the number of blocks held in memory.
+        Deque<Future<DecodedBlock>> pendingBlocks = new ArrayDeque<>();
+        int maxPendingBlocks = parallelism * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+            .setNameFormat("chronodb-dump-reader-%d")
+            .setDaemon(true)
+            .build()
+        );
+        try {
+            while (true) {
+                byte tag = in.readByte();
+                if (tag == BinaryDumpFormat.TAG_END) {
+                    break;
+                } else if (tag != BinaryDumpFormat.TAG_BLOCK) {
+                    throw new ChronoDBSerializationException("Failed to read dump - encountered unknown block tag " + tag + "!");
+                }
+                String branch = in.readUTF();
+                String keyspace = in.readUTF();
+                int entryCount = in.readInt();
+                byte[] compressedEntries = new byte[in.readInt()];
+                in.readFully(compressedEntries);
+                pendingBlocks.addLast(executor.submit(() -> decodeBlock(branch, keyspace, entryCount, compressedEntries, compressor)));
+                if (pendingBlocks.size() >= maxPendingBlocks) {
+                    loadBlock(db, pendingBlocks.removeFirst(), commitMetadataMap);
+                }
+            }
+            while (pendingBlocks.isEmpty() == false) {
+                loadBlock(db, pendingBlocks.removeFirst(), commitMetadataMap);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void loadBlock(final ChronoDBInternal db, final Future<DecodedBlock> pendingBlock, final CommitMetadataMap commitMetadataMap) throws IOException, InterruptedException {
+        DecodedBlock block;
+        try {
+            block = pendingBlock.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to decode a block of the dump!", e.getCause());
+        }
+        // loading happens on the calling thread, as it holds the exclusive lock on the database.
+        db.loadEntries(block.entries);
+        for (long timestamp : block.commitTimestamps) {
+            commitMetadataMap.addEntry(block.branch, timestamp, null);
+        }
+    }
+
+    private static DecodedBlock decodeBlock(final String branch, final String keyspace, final int entryCount,
+                                            final byte[] compressedEntries, final DumpCompressor compressor) throws IOException {
+        List<ChronoDBEntry> entries = Lists.newArrayListWithCapacity(entryCount);
+        Set<Long> commitTimestamps = Sets.newHashSet();
+        try (DataInputStream blockIn = new DataInputStream(compressor.decompress(new ByteArrayInputStream(compressedEntries)))) {
+            for (int i = 0; i < entryCount; i++) {
+                byte[] key = new byte[blockIn.readInt()];
+                blockIn.readFully(key);
+                long timestamp = blockIn.readLong();
+                int valueLength = blockIn.readInt();
+                byte[] value = null;
+                if (valueLength >= 0) {
+                    value = new byte[valueLength];
+                    blockIn.readFully(value);
+                }
+                ChronoIdentifier identifier = ChronoIdentifier.create(branch, timestamp, keyspace, new String(key, StandardCharsets.UTF_8));
+                entries.add(ChronoDBEntry.create(identifier, value));
+                commitTimestamps.add(timestamp);
+            }
+        }
+        return new DecodedBlock(branch, entries, commitTimestamps);
+    }
+
+    // =================================================================================================================
+    // INNER CLASSES
+    // =================================================================================================================
+
+    private static class DecodedBlock {
+
+        private final String branch;
+        private final List<ChronoDBEntry> entries;
+        private final Set<Long> commitTimestamps;
+
+        private DecodedBlock(final String branch, final List<ChronoDBEntry> entries, final Set<Long> commitTimestamps) {
+            this.branch = branch;
+            this.entries = entries;
+            this.commitTimestamps = commitTimestamps;
+        }
+
+    }
+
+}
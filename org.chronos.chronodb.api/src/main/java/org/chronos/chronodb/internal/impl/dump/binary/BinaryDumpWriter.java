@@ -0,0 +1,238 @@
+package org.chronos.chronodb.internal.impl.dump.binary;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.chronos.chronodb.api.dump.ChronoDBDumpFormat;
+import org.chronos.chronodb.api.dump.DumpCompressor;
+import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
+import org.chronos.chronodb.internal.api.BranchInternal;
+import org.chronos.chronodb.internal.api.ChronoDBInternal;
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
+import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.internal.impl.dump.ChronoDBDumpUtil;
+import org.chronos.chronodb.internal.impl.dump.DumpOptions;
+import org.chronos.chronodb.internal.impl.dump.meta.ChronoDBDumpMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Writes the contents of a {@link ChronoDBInternal} into a dump in the {@linkplain BinaryDumpFormat binary dump format}.
+ *
+ * <p>
+ * Every keyspace of every branch forms a segment. The segments are read, encoded and compressed by a pool of worker
+ * threads, each of which produces a sequence of blocks. The calling thread writes the blocks to the file in the order
+ * in which they are completed. The number of blocks in flight is bounded, so memory consumption does not depend on the
+ * size of the database.
+ */
+public class BinaryDumpWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryDumpWriter.class);
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    public static void writeDump(final ChronoDBInternal db, final File dumpFile, final DumpOptions options) {
+        checkNotNull(db, "Precondition violation - argument 'db' must not be NULL!");
+        checkNotNull(dumpFile, "Precondition violation - argument 'dumpFile' must not be NULL!");
+        checkNotNull(options, "Precondition violation - argument 'options' must not be NULL!");
+        DumpCompressor compressor = options.getCompressor();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(dumpFile), 1024 * 1024))) {
+            // header
+            out.write(BinaryDumpFormat.MAGIC);
+            out.writeInt(BinaryDumpFormat.FORMAT_VERSION);
+            out.writeUTF(compressor.getId());
+            // metadata
+            ChronoDBDumpMetadata metadata = ChronoDBDumpUtil.extractMetadata(db, true);
+            ByteArrayOutputStream metadataBytes = new ByteArrayOutputStream();
+            try (OutputStream compressingStream = compressor.compress(metadataBytes)) {
+                ChronoDBDumpFormat.writeXML(metadata, compressingStream, options);
+            }
+            out.writeInt(metadataBytes.size());
+            metadataBytes.writeTo(out);
+            // entries
+            writeBlocks(db, out, compressor, options.getParallelism());
+            out.writeByte(BinaryDumpFormat.TAG_END);
+        } catch (IOException e) {
+            throw new ChronoDBStorageBackendException("Failed to write Chronos DB Dump to '" + dumpFile.getAbsolutePath() + "'!", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ChronoDBStorageBackendException("Interrupted while writing Chronos DB Dump!", e);
+        }
+    }
+
+    // =================================================================================================================
+    // HELPER METHODS
+    // =================================================================================================================
+
+    private static void writeBlocks(final ChronoDBInternal db, final DataOutputStream out, final DumpCompressor compressor, final int parallelism) throws IOException, InterruptedException {
+        long maxTimestamp = System.currentTimeMillis();
+        List<Segment> segments = Lists.newArrayList();
+        for (String branchName : db.getBranchManager().getBranchNames()) {
+            BranchInternal branch = db.getBranchManager().getBranch(branchName);
+            TemporalKeyValueStore tkvs = branch.getTemporalKeyValueStore();
+            for (String keyspace : tkvs.getKeyspaces(maxTimestamp)) {
+                segments.add(new Segment(branchName, keyspace, tkvs));
+            }
+        }
+        if (segments.isEmpty()) {
+            return;
+        }
+        BlockingQueue<Block> queue = new ArrayBlockingQueue<>(parallelism * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+            .setNameFormat("chronodb-dump-writer-%d")
+            .setDaemon(true)
+            .build()
+        );
+        try {
+            for (Segment segment : segments) {
+                executor.submit(() -> produceBlocks(segment, maxTimestamp, compressor, queue));
+            }
+            int completedSegments = 0;
+            long writtenEntries = 0;
+            while (completedSegments < segments.size()) {
+                Block block = queue.take();
+                if (block.error != null) {
+                    throw new IOException("Failed to encode the entries of keyspace '" + block.keyspace + "' on branch '" + block.branch + "'!", block.error);
+                }
+                if (block.isEndOfSegment()) {
+                    completedSegments++;
+                    continue;
+                }
+                out.writeByte(BinaryDumpFormat.TAG_BLOCK);
+                out.writeUTF(block.branch);
+                out.writeUTF(block.keyspace);
+                out.writeInt(block.entryCount);
+                out.writeInt(block.compressedEntries.length);
+                out.write(block.compressedEntries);
+                writtenEntries += block.entryCount;
+            }
+            log.debug("Wrote " + writtenEntries + " entries in " + segments.size() + " segments to binary dump.");
+        } finally {
+            // in case of errors, this interrupts the producers which wait for the queue
+            executor.shutdownNow();
+        }
+    }
+
+    private static void produceBlocks(final Segment segment, final long maxTimestamp, final DumpCompressor compressor, final BlockingQueue<Block> queue) {
+        Throwable error = null;
+        try (CloseableIterator<ChronoDBEntry> entries = segment.tkvs.allEntriesIterator(segment.keyspace, 0, maxTimestamp)) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(BinaryDumpFormat.BLOCK_SIZE_BYTES + 64 * 1024);
+            DataOutputStream blockOut = new DataOutputStream(buffer);
+            int entryCount = 0;
+            while (entries.hasNext()) {
+                ChronoDBEntry entry = entries.next();
+                writeEntry(blockOut, entry);
+                entryCount++;
+                if (buffer.size() >= BinaryDumpFormat.BLOCK_SIZE_BYTES) {
+                    queue.put(new Block(segment, entryCount, compress(buffer, compressor)));
+                    buffer.reset();
+                    entryCount = 0;
+                }
+            }
+            if (entryCount > 0) {
+                queue.put(new Block(segment, entryCount, compress(buffer, compressor)));
+            }
+        } catch (InterruptedException e) {
+            // the writer has given up, there is nobody left to report to
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Throwable t) {
+            error = t;
+        }
+        try {
+            queue.put(Block.endOfSegment(segment, error));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void writeEntry(final DataOutputStream out, final ChronoDBEntry entry) throws IOException {
+        byte[] key = entry.getIdentifier().getKey().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(key.length);
+        out.write(key);
+        out.writeLong(entry.getIdentifier().getTimestamp());
+        byte[] value = entry.getValue();
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+
+    private static byte[] compress(final ByteArrayOutputStream buffer, final DumpCompressor compressor) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(buffer.size() / 2);
+        try (OutputStream compressingStream = compressor.compress(compressed)) {
+            buffer.writeTo(compressingStream);
+        }
+        return compressed.toByteArray();
+    }
+
+    // =================================================================================================================
+    // INNER CLASSES
+    // =================================================================================================================
+
+    private static class Segment {
+
+        private final String branch;
+        private final String keyspace;
+        private final TemporalKeyValueStore tkvs;
+
+        private Segment(final String branch, final String keyspace, final TemporalKeyValueStore tkvs) {
+            this.branch = branch;
+            this.keyspace = keyspace;
+            this.tkvs = tkvs;
+        }
+
+    }
+
+    private static class Block {
+
+        private final String branch;
+        private final String keyspace;
+        private final int entryCount;
+        /** The compressed entries, or <code>null</code> if this block marks the end of its segment. */
+        private final byte[] compressedEntries;
+        private final Throwable error;
+
+        private Block(final Segment segment, final int entryCount, final byte[] compressedEntries) {
+            this(segment, entryCount, compressedEntries, null);
+        }
+
+        private Block(final Segment segment, final int entryCount, final byte[] compressedEntries, final Throwable error) {
+            this.branch = segment.branch;
+            this.keyspace = segment.keyspace;
+            this.entryCount = entryCount;
+            this.compressedEntries = compressedEntries;
+            this.error = error;
+        }
+
+        private static Block endOfSegment(final Segment segment, final Throwable error) {
+            return new Block(segment, 0, null, error);
+        }
+
+        private boolean isEndOfSegment() {
+            return this.compressedEntries == null;
+        }
+
+    }
+
+}
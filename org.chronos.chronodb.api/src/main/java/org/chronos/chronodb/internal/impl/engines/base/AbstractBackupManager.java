@@ -13,6 +13,9 @@ import org.chronos.chronodb.internal.api.stream.ObjectInput;
 import org.chronos.chronodb.internal.api.stream.ObjectOutput;
 import org.chronos.chronodb.internal.impl.dump.ChronoDBDumpUtil;
 import org.chronos.chronodb.internal.impl.dump.DumpOptions;
+import org.chronos.chronodb.internal.impl.dump.binary.BinaryDumpFormat;
+import org.chronos.chronodb.internal.impl.dump.binary.BinaryDumpReader;
+import org.chronos.chronodb.internal.impl.dump.binary.BinaryDumpWriter;
 import org.chronos.common.autolock.AutoLock;
 
 import java.io.File;
@@ -67,6 +70,10 @@ public abstract class AbstractBackupManager implements BackupManager {
         }
         DumpOptions options = new DumpOptions(dumpOptions);
         try (AutoLock lock = this.owningDB.lockNonExclusive()) {
+            if (options.isBinaryFormatEnabled()) {
+                BinaryDumpWriter.writeDump(this.owningDB, dumpFile, options);
+                return;
+            }
             try (ObjectOutput output = ChronoDBDumpFormat.createOutput(dumpFile, options)) {
                 ChronoDBDumpUtil.dumpDBContentsToOutput(this.owningDB, output, options);
             }
@@ -83,6 +90,10 @@ public abstract class AbstractBackupManager implements BackupManager {
         this.owningDB.getConfiguration().assertNotReadOnly();
         DumpOptions options = new DumpOptions(dumpOptions);
         try (AutoLock lock = this.owningDB.lockExclusive()) {
+            if (BinaryDumpFormat.isBinaryDump(dumpFile)) {
+                BinaryDumpReader.readDump(this.owningDB, dumpFile, options);
+                return;
+            }
             try (ObjectInput input = ChronoDBDumpFormat.createInput(dumpFile, options)) {
                 ChronoDBDumpUtil.readDumpContentsFromInput(this.owningDB, input, options);
             }
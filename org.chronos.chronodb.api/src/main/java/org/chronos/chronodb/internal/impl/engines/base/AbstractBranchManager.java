@@ -4,15 +4,23 @@ import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.Sets;
+import org.apache.commons.lang3.tuple.Pair;
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.BranchManager;
+import org.chronos.chronodb.api.BranchMergeResult;
 import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.conflict.AtomicConflict;
+import org.chronos.chronodb.api.conflict.ConflictResolutionStrategy;
 import org.chronos.chronodb.api.exceptions.ChronoDBBranchingException;
+import org.chronos.chronodb.api.key.ChronoIdentifier;
 import org.chronos.chronodb.internal.api.BranchEventListener;
 import org.chronos.chronodb.internal.api.BranchInternal;
 import org.chronos.chronodb.internal.api.BranchManagerInternal;
 import org.chronos.chronodb.internal.api.ChronoDBInternal;
 import org.chronos.chronodb.internal.impl.IBranchMetadata;
+import org.chronos.chronodb.internal.impl.conflict.AtomicConflictImpl;
+import org.chronos.chronodb.internal.util.ModificationUtils;
 import org.chronos.common.autolock.AutoLock;
 import org.jetbrains.annotations.NotNull;
 
@@ -139,14 +147,15 @@ public abstract class AbstractBranchManager implements BranchManager, BranchMana
     public List<String> deleteBranchRecursively(final String branchName) {
         checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
         checkArgument(!branchName.equals(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER), "Precondition violation - the master branch cannot be deleted!");
+        List<Branch> branchesToDelete;
+        List<String> deletedBranches = Lists.newArrayList();
         try (AutoLock lock = this.getOwningDB().lockExclusive()) {
             BranchInternal branchToDelete = this.getBranch(branchName);
             if (branchToDelete == null) {
                 // there is no branch to delete
                 return Collections.emptyList();
             }
-            List<Branch> branchesToDelete = this.getChildBranchesRecursively(branchToDelete, true);
-            List<String> deletedBranches = Lists.newArrayList();
+            branchesToDelete = Lists.reverse(this.getChildBranchesRecursively(branchToDelete, true));
             // first delete all indices
             for (Branch deletedBranch : branchesToDelete) {
                 for (BranchEventListener eventListener : this.eventListeners) {
@@ -154,11 +163,80 @@ public abstract class AbstractBranchManager implements BranchManager, BranchMana
                 }
             }
             // then start deleting in the child branch
-            for (Branch childBranchToDelete : Lists.reverse(branchesToDelete)) {
+            for (Branch childBranchToDelete : branchesToDelete) {
                 this.deleteSingleBranch(childBranchToDelete);
+                this.getOwningDB().getStatisticsManager().clearBranchHeadStatistics(childBranchToDelete.getName());
                 deletedBranches.add(childBranchToDelete.getName());
             }
-            return Collections.unmodifiableList(deletedBranches);
+        }
+        // the branches are unreachable now, so their contents can be removed without blocking other operations
+        this.deleteBranchContents(branchesToDelete);
+        return Collections.unmodifiableList(deletedBranches);
+    }
+
+    @Override
+    public BranchMergeResult mergeBranch(final String sourceBranchName, final String targetBranchName, final ConflictResolutionStrategy conflictResolution, final Object commitMetadata) {
+        checkNotNull(sourceBranchName, "Precondition violation - argument 'sourceBranchName' must not be NULL!");
+        checkNotNull(targetBranchName, "Precondition violation - argument 'targetBranchName' must not be NULL!");
+        checkNotNull(conflictResolution, "Precondition violation - argument 'conflictResolution' must not be NULL!");
+        this.assertBranchNameExists(sourceBranchName, true);
+        this.assertBranchNameExists(targetBranchName, true);
+        BranchInternal sourceBranch = this.getBranch(sourceBranchName);
+        if (sourceBranch.isMaster() || targetBranchName.equals(sourceBranch.getMetadata().getParentName()) == false) {
+            throw new ChronoDBBranchingException("Cannot merge branch '" + sourceBranchName + "' into branch '"
+                + targetBranchName + "': branches can only be merged into their direct parent branch!");
+        }
+        long branchingTimestamp = sourceBranch.getBranchingTimestamp();
+        try (AutoLock lock = this.getOwningDB().lockNonExclusive()) {
+            ChronoDBTransaction sourceTx = this.getOwningDB().tx(sourceBranchName);
+            ChronoDBTransaction ancestorTx = this.getOwningDB().tx(targetBranchName, branchingTimestamp);
+            // concurrent commits on the target are resolved with the same strategy as the merge itself
+            ChronoDBTransaction targetTx = this.getOwningDB().txBuilder()
+                .onBranch(targetBranchName)
+                .withConflictResolutionStrategy(conflictResolution)
+                .build();
+            int mergedKeys = 0;
+            int conflicts = 0;
+            for (String keyspace : sourceTx.keyspaces()) {
+                Set<String> sourceChanges = ModificationUtils.getKeysModifiedAfter(sourceTx, keyspace, branchingTimestamp);
+                if (sourceChanges.isEmpty()) {
+                    continue;
+                }
+                Set<String> targetChanges = ModificationUtils.getKeysModifiedAfter(targetTx, keyspace, branchingTimestamp);
+                for (String key : sourceChanges) {
+                    Object sourceValue = sourceTx.get(keyspace, key);
+                    Object targetValue = targetTx.get(keyspace, key);
+                    Object mergedValue = sourceValue;
+                    if (targetChanges.contains(key)) {
+                        if (Objects.equals(sourceValue, targetValue)) {
+                            // both branches performed the same change
+                            continue;
+                        }
+                        conflicts++;
+                        ChronoIdentifier sourceKey = ChronoIdentifier.create(sourceBranchName, sourceTx.getTimestamp(), keyspace, key);
+                        ChronoIdentifier targetKey = ChronoIdentifier.create(targetBranchName, targetTx.getTimestamp(), keyspace, key);
+                        AtomicConflict conflict = new AtomicConflictImpl(branchingTimestamp, sourceKey, sourceValue, targetKey, targetValue,
+                            (timestamp, source, target) -> this.findCommonAncestor(ancestorTx, keyspace, key));
+                        mergedValue = conflictResolution.resolve(conflict);
+                    }
+                    if (Objects.equals(mergedValue, targetValue)) {
+                        // the target already has the merged state
+                        continue;
+                    }
+                    if (mergedValue == null) {
+                        targetTx.remove(keyspace, key);
+                    } else {
+                        targetTx.put(keyspace, key, mergedValue);
+                    }
+                    mergedKeys++;
+                }
+            }
+            if (mergedKeys <= 0) {
+                targetTx.rollback();
+                return new BranchMergeResult(-1, 0, conflicts);
+            }
+            long commitTimestamp = targetTx.commit(commitMetadata);
+            return new BranchMergeResult(commitTimestamp, mergedKeys, conflicts);
         }
     }
 
@@ -238,8 +316,33 @@ public abstract class AbstractBranchManager implements BranchManager, BranchMana
         }
     }
 
+    /**
+     * Removes the given branch from the branch metadata.
+     *
+     * <p>
+     * This method is called while holding the exclusive lock on the database, so it should only perform quick, logical
+     * changes. Child branches are always deleted before their parents. Once all branches have been deleted, their
+     * contents are removed via {@link #deleteBranchContents(List)}.
+     * </p>
+     *
+     * @param branch The branch to delete. Never <code>null</code>.
+     */
     protected abstract void deleteSingleBranch(Branch branch);
 
+    /**
+     * Removes the data of the given branches, which have already been deleted via {@link #deleteSingleBranch(Branch)}.
+     *
+     * <p>
+     * This method is called without holding the database lock. Implementations may perform the deletion asynchronously.
+     * By default, this method does nothing.
+     * </p>
+     *
+     * @param deletedBranches The deleted branches, child branches first. Never <code>null</code>.
+     */
+    protected void deleteBranchContents(final List<Branch> deletedBranches) {
+        // by default, there is no data to remove besides the branch metadata
+    }
+
     // =====================================================================================================================
     // INTERNAL HELPER METHODS
     // =====================================================================================================================
@@ -250,6 +353,16 @@ public abstract class AbstractBranchManager implements BranchManager, BranchMana
         return this.getBranchInternal(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER);
     }
 
+    private Pair<ChronoIdentifier, Object> findCommonAncestor(final ChronoDBTransaction ancestorTx, final String keyspace, final String key) {
+        Object ancestorValue = ancestorTx.get(keyspace, key);
+        if (ancestorValue == null) {
+            // the key did not exist when the source branch was created
+            return null;
+        }
+        long ancestorTimestamp = ancestorTx.getLastModificationTimestamp(keyspace, key);
+        return Pair.of(ChronoIdentifier.create(ancestorTx.getBranchName(), ancestorTimestamp, keyspace, key), ancestorValue);
+    }
+
     protected void assertBranchNameExists(final String branchName, final boolean exists) {
         if (exists) {
             if (this.existsBranch(branchName) == false) {
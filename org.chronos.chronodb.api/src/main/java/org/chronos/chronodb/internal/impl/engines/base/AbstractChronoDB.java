@@ -144,6 +144,9 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
                     "Cannot open transaction at the given date or timestamp: it's after the latest commit! Latest commit: "
                         + now + ", transaction timestamp: " + configuration.getTimestamp() + ", branch: " + branchName);
             }
+            if (configuration.isTimestampNow() == false) {
+                this.assertNotBeforeRetentionHorizon(branchName, configuration.getTimestamp());
+            }
             TransactionConfigurationInternal txConfig = configuration;
             if (this.getConfiguration().isReadOnly()) {
                 // set the read-only flag on every transaction
@@ -259,6 +262,25 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
         return branch.getTemporalKeyValueStore();
     }
 
+    private void assertNotBeforeRetentionHorizon(final String branchName, final long timestamp) {
+        // a branch delegates requests before its branching timestamp to its origin, so
+        // we have to check the retention horizon of every branch the request may reach
+        Branch branch = this.getBranchManager().getBranch(branchName);
+        while (branch != null) {
+            long horizon = this.getTKVS(branch.getName()).getRetentionHorizon();
+            if (timestamp < horizon) {
+                throw new InvalidTransactionTimestampException(
+                    "Cannot open transaction at the given date or timestamp: the history of branch '" + branch.getName()
+                        + "' before its retention horizon has been purged! Retention horizon: " + horizon
+                        + ", transaction timestamp: " + timestamp + ", branch: " + branchName);
+            }
+            if (timestamp >= branch.getBranchingTimestamp()) {
+                break;
+            }
+            branch = branch.getOrigin();
+        }
+    }
+
     @Override
     public CommitMetadataFilter getCommitMetadataFilter() {
         return this.commitMetadataFilter;
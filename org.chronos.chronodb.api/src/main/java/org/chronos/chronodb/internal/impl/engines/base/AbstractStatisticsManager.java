@@ -1,44 +1,33 @@
 package org.chronos.chronodb.internal.impl.engines.base;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import org.chronos.chronodb.api.BranchHeadStatistics;
 import org.chronos.chronodb.api.ChronoDBStatistics;
-import org.chronos.chronodb.api.exceptions.ChronoDBException;
-import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
 import org.chronos.chronodb.internal.api.StatisticsManagerInternal;
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
 import org.chronos.chronodb.internal.impl.BranchHeadStatisticsImpl;
+import org.chronos.chronodb.internal.impl.KeyspaceStatisticsDelta;
 
-import java.io.IOException;
-import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Base class for {@link StatisticsManagerInternal} implementations.
+ *
+ * <p>
+ * The statistics of each branch are stamped with the "now" timestamp of the branch they have been calculated for.
+ * Cached or persisted statistics with an outdated stamp are never handed out; they are recalculated instead. This
+ * allows the statistics to be read and updated without holding any locks beyond the ones of the branch itself.
+ */
 public abstract class AbstractStatisticsManager implements StatisticsManagerInternal {
 
     // =================================================================================================================
     // FIELDS
     // =================================================================================================================
 
-    private final ReadWriteLock statisticsLock = new ReentrantReadWriteLock(true);
-    private final LoadingCache<String, BranchHeadStatistics> branchToHeadStatistics;
-
-    // =================================================================================================================
-    // CONSTRUCTOR
-    // =================================================================================================================
-
-    public AbstractStatisticsManager() {
-        this.branchToHeadStatistics = CacheBuilder.newBuilder().build(new CacheLoader<String, BranchHeadStatistics>() {
-            @Override
-            public BranchHeadStatistics load(final String key) throws Exception {
-                return AbstractStatisticsManager.this.loadBranchHeadStatistics(key);
-            }
-        });
-    }
+    private final ConcurrentMap<String, TimestampedStatistics> branchToHeadStatistics = Maps.newConcurrentMap();
 
     // =================================================================================================================
     // PUBLIC API
@@ -51,14 +40,20 @@ public abstract class AbstractStatisticsManager implements StatisticsManagerInte
 
     @Override
     public BranchHeadStatistics getBranchHeadStatistics(final String branchName) {
-        this.statisticsLock.readLock().lock();
-        try {
-            return this.branchToHeadStatistics.get(branchName);
-        } catch (ExecutionException e) {
-            throw new ChronoDBException("Failed to calculate head statistics!", e);
-        } finally {
-            this.statisticsLock.readLock().unlock();
+        checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+        TemporalKeyValueStore tkvs = this.getTemporalKeyValueStore(branchName);
+        long now = tkvs.getNow();
+        TimestampedStatistics cached = this.branchToHeadStatistics.get(branchName);
+        if (cached != null && cached.getTimestamp() == now) {
+            return cached.getStatistics();
         }
+        BranchHeadStatistics statistics = this.loadBranchHeadStatistics(branchName, now);
+        if (statistics == null) {
+            statistics = tkvs.calculateBranchHeadStatistics(now);
+            this.saveBranchHeadStatistics(branchName, now, statistics);
+        }
+        this.cache(branchName, new TimestampedStatistics(now, statistics));
+        return statistics;
     }
 
     // =================================================================================================================
@@ -66,71 +61,116 @@ public abstract class AbstractStatisticsManager implements StatisticsManagerInte
     // =================================================================================================================
 
     @Override
-    public void updateBranchHeadStatistics(String branchName, long inserts, long updates, long deletes) {
-        this.statisticsLock.writeLock().lock();
-        try {
-            Optional<BranchHeadStatistics> maybeHeadStats = Optional.ofNullable(this.branchToHeadStatistics.getIfPresent(branchName));
-            if(maybeHeadStats.isPresent()){
-                BranchHeadStatistics oldStatistics = maybeHeadStats.get();
-                long numberOfEntriesInHead = oldStatistics.getNumberOfEntriesInHead();
-                long totalNumberOfEntries = oldStatistics.getTotalNumberOfEntries();
-
-                //changes entries in head
-                numberOfEntriesInHead += inserts;
-                numberOfEntriesInHead -= deletes;
-
-                //changes total entries
-                totalNumberOfEntries += inserts;
-                totalNumberOfEntries += deletes;
-                totalNumberOfEntries += updates;
-
-                BranchHeadStatistics newStatistics = new BranchHeadStatisticsImpl(numberOfEntriesInHead, totalNumberOfEntries);
-                this.branchToHeadStatistics.put(branchName, newStatistics);
-                this.saveBranchHeadStatistics(branchName, newStatistics);
-            }else{
-                // calculate from scratch
-                BranchHeadStatistics newStatistics = this.loadBranchHeadStatistics(branchName);
-                this.branchToHeadStatistics.put(branchName, newStatistics);
-                this.saveBranchHeadStatistics(branchName, newStatistics);
+    public void updateBranchHeadStatistics(final String branchName, final long previousTimestamp, final long timestamp, final Map<String, KeyspaceStatisticsDelta> keyspaceToDelta) {
+        checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+        checkArgument(previousTimestamp >= 0, "Precondition violation - argument 'previousTimestamp' must not be negative!");
+        checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+        checkNotNull(keyspaceToDelta, "Precondition violation - argument 'keyspaceToDelta' must not be NULL!");
+        BranchHeadStatistics current = null;
+        TimestampedStatistics cached = this.branchToHeadStatistics.get(branchName);
+        boolean persisted = this.hasPersistedBranchHeadStatistics(branchName);
+        if (cached != null && cached.getTimestamp() == previousTimestamp) {
+            current = cached.getStatistics();
+        } else if (persisted) {
+            // the statistics may have been persisted by an earlier session
+            current = this.loadBranchHeadStatistics(branchName, previousTimestamp);
+        }
+        if (current instanceof BranchHeadStatisticsImpl == false) {
+            // we have no statistics to update; they will be calculated from scratch on the next access. If nobody
+            // asked for them so far, there is nothing to clear either.
+            if (cached != null || persisted) {
+                this.clearBranchHeadStatistics(branchName);
             }
-        } finally {
-            this.statisticsLock.writeLock().unlock();
+            return;
         }
+        BranchHeadStatisticsImpl newStatistics = ((BranchHeadStatisticsImpl) current).applyChanges(keyspaceToDelta);
+        this.cache(branchName, new TimestampedStatistics(timestamp, newStatistics));
+        this.saveBranchHeadStatistics(branchName, timestamp, newStatistics);
     }
 
     @Override
     public void clearBranchHeadStatistics() {
-        this.statisticsLock.writeLock().lock();
-        try{
-            this.branchToHeadStatistics.invalidateAll();
-            this.deleteBranchHeadStatistics();
-        }finally{
-            this.statisticsLock.writeLock().unlock();
-        }
+        this.branchToHeadStatistics.clear();
+        this.deleteBranchHeadStatistics();
     }
 
     @Override
     public void clearBranchHeadStatistics(final String branchName) {
-        this.statisticsLock.writeLock().lock();
-        try{
-            this.branchToHeadStatistics.invalidate(branchName);
+        checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+        this.branchToHeadStatistics.remove(branchName);
+        if (this.hasPersistedBranchHeadStatistics(branchName)) {
             this.deleteBranchHeadStatistics(branchName);
-        }finally{
-            this.statisticsLock.writeLock().unlock();
         }
     }
 
     // =================================================================================================================
-    // ABSTRACT METHODS
+    // INTERNAL HELPER METHODS
     // =================================================================================================================
 
-    protected abstract BranchHeadStatistics loadBranchHeadStatistics(String branch);
+    private void cache(final String branchName, final TimestampedStatistics statistics) {
+        // a concurrent reader may have calculated the statistics for an older timestamp, never replace newer ones
+        this.branchToHeadStatistics.merge(branchName, statistics, (oldValue, newValue) -> {
+            if (oldValue.getTimestamp() > newValue.getTimestamp()) {
+                return oldValue;
+            } else {
+                return newValue;
+            }
+        });
+    }
+
+    // =================================================================================================================
+    // ABSTRACT METHODS
+    // =================================================================================================================
 
-    protected abstract void saveBranchHeadStatistics(String branchName, BranchHeadStatistics statistics);
+    protected abstract TemporalKeyValueStore getTemporalKeyValueStore(String branchName);
+
+    /**
+     * Checks if there are persisted statistics for the given branch, regardless of their timestamp.
+     *
+     * <p>
+     * This method is called on every commit, implementations must not access the storage to answer it.
+     *
+     * @param branchName The name of the branch to check. Must not be <code>null</code>.
+     * @return <code>true</code> if there (potentially) are persisted statistics for the branch, otherwise <code>false</code>.
+     */
+    protected abstract boolean hasPersistedBranchHeadStatistics(String branchName);
+
+    /**
+     * Loads the persisted statistics of the given branch.
+     *
+     * @param branchName The name of the branch to load the statistics for. Must not be <code>null</code>.
+     * @param timestamp  The timestamp at which the statistics need to be valid. Must not be negative.
+     * @return The statistics, or <code>null</code> if there are no persisted statistics which are valid at the given timestamp.
+     */
+    protected abstract BranchHeadStatistics loadBranchHeadStatistics(String branchName, long timestamp);
+
+    protected abstract void saveBranchHeadStatistics(String branchName, long timestamp, BranchHeadStatistics statistics);
 
     protected abstract void deleteBranchHeadStatistics();
 
     protected abstract void deleteBranchHeadStatistics(String branchName);
 
+    // =================================================================================================================
+    // INNER CLASSES
+    // =================================================================================================================
+
+    private static class TimestampedStatistics {
+
+        private final long timestamp;
+        private final BranchHeadStatistics statistics;
+
+        private TimestampedStatistics(final long timestamp, final BranchHeadStatistics statistics) {
+            this.timestamp = timestamp;
+            this.statistics = statistics;
+        }
+
+        public long getTimestamp() {
+            return this.timestamp;
+        }
+
+        public BranchHeadStatistics getStatistics() {
+            return this.statistics;
+        }
+    }
 
 }
@@ -10,6 +10,7 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.lang3.tuple.Pair;
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.BranchHeadStatistics;
@@ -19,6 +20,7 @@ import org.chronos.chronodb.api.CommitMetadataFilter;
 import org.chronos.chronodb.api.Dateback;
 import org.chronos.chronodb.api.Dateback.KeyspaceValueTransformation;
 import org.chronos.chronodb.api.DuplicateVersionEliminationMode;
+import org.chronos.chronodb.api.KeyspaceStatistics;
 import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.PutOption;
 import org.chronos.chronodb.api.SerializationManager;
@@ -41,12 +43,15 @@ import org.chronos.chronodb.internal.api.TemporalDataMatrix;
 import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
 import org.chronos.chronodb.internal.api.cache.CacheGetResult;
 import org.chronos.chronodb.internal.api.cache.ChronoDBCache;
+import org.chronos.chronodb.internal.api.dateback.KeyspaceTransformationResult;
 import org.chronos.chronodb.internal.api.index.IndexManagerInternal;
 import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.BranchHeadStatisticsImpl;
+import org.chronos.chronodb.internal.impl.KeyspaceStatisticsImpl;
 import org.chronos.chronodb.internal.impl.DefaultTransactionConfiguration;
 import org.chronos.chronodb.internal.impl.conflict.AtomicConflictImpl;
+import org.chronos.chronodb.internal.impl.dateback.TransformedEntrySpill;
 import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
@@ -57,14 +62,20 @@ import org.chronos.common.serialization.KryoManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
@@ -77,6 +88,9 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 
     private static final Logger log = LoggerFactory.getLogger(AbstractTemporalKeyValueStore.class);
 
+    /** The number of entries which are read and transformed as one unit by {@link #datebackTransformValuesOfKeyspace}. */
+    private static final int DATEBACK_TRANSFORMATION_CHUNK_SIZE = 10_000;
+
     // =================================================================================================================
     // FIELDS
     // =================================================================================================================
@@ -287,6 +301,7 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
                         log.info(perfLogPrefix + " -> Commit Metadata Filter: " + (System.currentTimeMillis() - beforeCommitMetadataFilter) + "ms.");
                     }
 
+                    long previousNow = this.getNow();
                     long beforeChangeSetAnalysis = System.currentTimeMillis();
                     ChangeSet changeSet = this.analyzeChangeSet(tx, tx, time);
                     if (performanceLoggingActive) {
@@ -365,8 +380,13 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
                     if (performanceLoggingActive) {
                         log.info(perfLogPrefix + " -> Clear WAL token: " + (System.currentTimeMillis() - beforeClearWalToken) + "ms.");
                     }
-                    // clear the branch head statistics cache, forcing a recalculation on the next access
-                    this.owningDB.getStatisticsManager().clearBranchHeadStatistics(tx.getBranchName());
+                    if (this.isIncrementalCommitProcessOngoing()) {
+                        // the incremental commits have overwritten each other's versions, so we can't tell
+                        // how the statistics have changed. Clear them, forcing a recalculation on the next access.
+                        this.owningDB.getStatisticsManager().clearBranchHeadStatistics(tx.getBranchName());
+                    } else {
+                        this.owningDB.getStatisticsManager().updateBranchHeadStatistics(tx.getBranchName(), previousNow, time, changeSet.getStatisticsDeltas());
+                    }
                     return time;
                 } finally {
                     if (this.isIncrementalCommitProcessOngoing()) {
@@ -1354,43 +1374,56 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
     }
 
     @Override
-    public Collection<TemporalKey> datebackTransformValuesOfKeyspace(final String keyspace, final KeyspaceValueTransformation valueTransformation) {
+    public KeyspaceTransformationResult datebackTransformValuesOfKeyspace(final String keyspace, final KeyspaceValueTransformation valueTransformation) {
+        checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+        checkNotNull(valueTransformation, "Precondition violation - argument 'valueTransformation' must not be NULL!");
         TemporalDataMatrix matrix = this.getMatrix(keyspace);
         if (matrix == null) {
             // the keyspace doesn't exist...
-            return Collections.emptySet();
-        }
-        // TODO The code below is not very efficient if a lot of values change; the collection holding
-        // the new data could grow to considerable sizes. However, it is the easiest way to implement this for now.
-        Set<UnqualifiedTemporalEntry> newEntries = Sets.newHashSet();
-        CloseableIterator<UnqualifiedTemporalEntry> iterator = matrix.allEntriesIterator(this.owningBranch.getBranchingTimestamp(), Long.MAX_VALUE);
-        try {
-            while (iterator.hasNext()) {
-                UnqualifiedTemporalEntry entry = iterator.next();
-                UnqualifiedTemporalKey temporalKey = entry.getKey();
-                String key = temporalKey.getKey();
-                long timestamp = temporalKey.getTimestamp();
-                Object oldValue = this.deserialize(entry.getValue());
-                if (oldValue == null) {
-                    // do not alter deletion markers
-                    continue;
-                }
-                Object newValue = valueTransformation.transformValue(key, timestamp, oldValue);
-                if (newValue == null) {
-                    throw new IllegalStateException("KeyspaceValueTransform unexpectedly returned NULL! It is not allowed to delete values!");
-                }
-                if (newValue == Dateback.UNCHANGED) {
-                    // do not change this entry
-                    continue;
+            return KeyspaceTransformationResult.empty();
+        }
+        // the entries are read in chunks by this thread, and transformed either by this thread, or (if configured)
+        // by a worker pool. The matrix must not be modified while we iterate over it, so each transformed chunk is
+        // spilled to disk right away, and written back by this thread (which holds the locks) after the iterator has
+        // been closed. Either way, only a bounded number of chunks is held in memory at any point in time.
+        int parallelism = this.owningDB.getConfiguration().getDatebackTransformationParallelism();
+        long earliestModifiedTimestamp = Long.MAX_VALUE;
+        try (TransformedEntrySpill spill = new TransformedEntrySpill()) {
+            try (CloseableIterator<UnqualifiedTemporalEntry> iterator = matrix.allEntriesIterator(this.owningBranch.getBranchingTimestamp(), Long.MAX_VALUE)) {
+                if (parallelism <= 1) {
+                    while (iterator.hasNext()) {
+                        Set<UnqualifiedTemporalEntry> newEntries = this.transformChunk(readChunk(iterator), valueTransformation);
+                        earliestModifiedTimestamp = Math.min(earliestModifiedTimestamp, minTimestamp(newEntries));
+                        spill.write(newEntries);
+                    }
+                } else {
+                    // only a bounded number of chunks is waiting for a worker at any point in time
+                    int maxPendingChunks = parallelism * 2;
+                    Deque<Future<Set<UnqualifiedTemporalEntry>>> pendingChunks = new ArrayDeque<>();
+                    ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+                        .setNameFormat("chronodb-dateback-transform-%d")
+                        .setDaemon(true)
+                        .build()
+                    );
+                    try {
+                        while (iterator.hasNext() || pendingChunks.isEmpty() == false) {
+                            if (iterator.hasNext() && pendingChunks.size() < maxPendingChunks) {
+                                List<UnqualifiedTemporalEntry> chunk = readChunk(iterator);
+                                pendingChunks.addLast(executor.submit(() -> this.transformChunk(chunk, valueTransformation)));
+                                continue;
+                            }
+                            Set<UnqualifiedTemporalEntry> newEntries = this.awaitTransformedChunk(pendingChunks.removeFirst());
+                            earliestModifiedTimestamp = Math.min(earliestModifiedTimestamp, minTimestamp(newEntries));
+                            spill.write(newEntries);
+                        }
+                    } finally {
+                        executor.shutdownNow();
+                    }
                 }
-                UnqualifiedTemporalEntry newEntry = new UnqualifiedTemporalEntry(temporalKey, this.serialize(newValue));
-                newEntries.add(newEntry);
             }
-        } finally {
-            iterator.close();
+            spill.replay(DATEBACK_TRANSFORMATION_CHUNK_SIZE, newEntries -> matrix.insertEntries(newEntries, true));
+            return KeyspaceTransformationResult.create(spill.getEntryCount(), earliestModifiedTimestamp);
         }
-        matrix.insertEntries(newEntries, true);
-        return newEntries.stream().map(UnqualifiedTemporalEntry::getKey).map(k -> k.toTemporalKey(keyspace)).collect(Collectors.toSet());
     }
 
     @Override
@@ -1406,8 +1439,10 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 
     @Override
     public void datebackCleanup(final String branch, long earliestTouchedTimestamp) {
-        // in the basic implementation, we have nothing to do. Subclasses may override to perform backend-specific
-        // cleanups for the given keys.
+        // the dateback has modified the history, the statistics need to be recalculated. Apart from that, the basic
+        // implementation has nothing to do. Subclasses may override to perform backend-specific cleanups for the
+        // given keys.
+        this.owningDB.getStatisticsManager().clearBranchHeadStatistics(branch);
     }
 
     // =================================================================================================================
@@ -1420,10 +1455,20 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
         checkArgument(maxTimestamp >= 0, "Precondition violation - argument 'maxTimestamp' must not be negative!");
         checkArgument(minTimestamp <= maxTimestamp, "Precondition violation - argument 'minTimestamp' must be less than or equal to 'maxTimestamp'!");
         try (AutoLock lock = this.lockNonExclusive()) {
-            return new AllEntriesIterator(minTimestamp, maxTimestamp);
+            return new AllEntriesIterator(this.getKeyspaces(maxTimestamp), minTimestamp, maxTimestamp);
         }
     }
 
+    @Override
+    public CloseableIterator<ChronoDBEntry> allEntriesIterator(final String keyspace, final long minTimestamp, final long maxTimestamp) {
+        checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+        checkArgument(minTimestamp >= 0, "Precondition violation - argument 'minTimestamp' must not be negative!");
+        checkArgument(maxTimestamp >= 0, "Precondition violation - argument 'maxTimestamp' must not be negative!");
+        checkArgument(minTimestamp <= maxTimestamp, "Precondition violation - argument 'minTimestamp' must be less than or equal to 'maxTimestamp'!");
+        // no locking here: this is called from worker threads while the dumping thread holds the DB lock.
+        return new AllEntriesIterator(Collections.singleton(keyspace), minTimestamp, maxTimestamp);
+    }
+
     @Override
     public void insertEntries(final Set<ChronoDBEntry> entries, final boolean force) {
         try (AutoLock lock = this.lockBranchExclusive()) {
@@ -1824,24 +1869,47 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 
 
     @Override
-    public BranchHeadStatistics calculateBranchHeadStatistics() {
-        long now = this.getNow();
-        long totalHead = 0;
-        long totalHistory = 0;
-        for (String keyspace : this.getKeyspaces(now)) {
-            Set<String> keySet = this.performKeySet(this.getOwningBranch().getName(), now, keyspace);
+    public BranchHeadStatistics calculateBranchHeadStatistics(final long timestamp) {
+        checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+        long headPortionStart = Math.min(this.getHeadPortionStartTimestamp(), timestamp);
+        Map<String, KeyspaceStatistics> keyspaceStatistics = Maps.newHashMap();
+        for (String keyspace : this.getKeyspaces(timestamp)) {
+            Set<String> keySet = this.performKeySet(this.getOwningBranch().getName(), timestamp, keyspace);
             long headEntries = keySet.size();
             TemporalDataMatrix matrix = this.getMatrix(keyspace);
-            long historyEntries;
-            if (matrix == null) {
-                historyEntries = 0;
-            } else {
-                historyEntries = matrix.size();
+            long totalEntries = 0;
+            long valueCount = 0;
+            long totalValueSize = 0;
+            if (matrix != null) {
+                // note: we iterate over the entries rather than asking the matrix for its size, because
+                // the iteration respects the timestamp (concurrent commits may already have written newer entries)
+                try (CloseableIterator<UnqualifiedTemporalEntry> entries = matrix.allEntriesIterator(headPortionStart, timestamp)) {
+                    while (entries.hasNext()) {
+                        totalEntries++;
+                        byte[] value = entries.next().getValue();
+                        if (value != null && value.length > 0) {
+                            valueCount++;
+                            totalValueSize += value.length;
+                        }
+                    }
+                }
             }
-            totalHead += headEntries;
-            totalHistory += historyEntries;
+            keyspaceStatistics.put(keyspace, new KeyspaceStatisticsImpl(keyspace, headEntries, totalEntries, valueCount, totalValueSize));
         }
-        return new BranchHeadStatisticsImpl(totalHead, totalHistory);
+        return new BranchHeadStatisticsImpl(keyspaceStatistics);
+    }
+
+    /**
+     * Returns the timestamp at which the "head portion" of this store begins.
+     *
+     * <p>
+     * The default implementation considers the entire history to be the head portion. Backends which move older
+     * history out of the way (e.g. via rollover) should override this method accordingly.
+     *
+     * @return The start of the head portion. Never negative.
+     */
+    protected long getHeadPortionStartTimestamp() {
+        return 0;
     }
 
 
@@ -1869,6 +1937,8 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
             Object newValue = entry.getValue();
             Object oldValue = oldValueTx.get(keyspace, key);
             Set<PutOption> options = entry.getOptions();
+            // remembers if the old value is not the one the transaction has been working with
+            boolean mergedWithConcurrentChange = false;
 
             // conflict checking is not supported in incremental commit mode
             if (this.isIncrementalCommitProcessOngoing() == false) {
@@ -1891,22 +1961,35 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
                     // the "old value" is the previous value of our target now, because
                     // this is the timeline we merge into
                     oldValue = conflict.getTargetValue();
+                    mergedWithConcurrentChange = true;
                 }
             }
             if (entry.isRemove()) {
-                changeSet.addEntry(keyspace, key, null);
+                changeSet.addEntry(keyspace, key, null, oldValue != null);
             } else {
-                changeSet.addEntry(keyspace, key, newValue);
+                changeSet.addEntry(keyspace, key, newValue, oldValue != null);
             }
 
             ChronoIdentifier identifier = ChronoIdentifier.create(this.getOwningBranch(), time, keyspace, key);
-            if (options.contains(PutOption.NO_INDEX) == false) {
+            if (this.requiresIndexing(options, mergedWithConcurrentChange)) {
                 changeSet.addEntryToIndex(identifier, oldValue, newValue);
             }
         }
         return changeSet;
     }
 
+    private boolean requiresIndexing(final Set<PutOption> options, final boolean mergedWithConcurrentChange) {
+        if (options.contains(PutOption.NO_INDEX)) {
+            return false;
+        }
+        if (options.contains(PutOption.NO_INDEX_CHANGES)) {
+            // the caller guarantees that the indexed values did not change in the transaction. This
+            // no longer holds if the value had to be merged with a concurrent change.
+            return mergedWithConcurrentChange;
+        }
+        return true;
+    }
+
     private void updatePrimaryIndex(String perfLogPrefix, final long time, final ChangeSet changeSet) {
         boolean performanceLoggingActive = this.owningDB.getConfiguration().isCommitPerformanceLoggingActive();
         SerializationManager serializer = this.getOwningDB().getSerializationManager();
@@ -1918,7 +2001,15 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
         }
         for (Entry<String, Map<String, byte[]>> entry : serializedChangeSet) {
             String keyspace = entry.getKey();
-            Map<String, byte[]> contents = entry.getValue();
+            // materialize the view, such that every value is serialized exactly once
+            Map<String, byte[]> contents = Maps.newHashMap(entry.getValue());
+            long serializedValueBytes = 0;
+            for (byte[] serialForm : contents.values()) {
+                if (serialForm != null) {
+                    serializedValueBytes += serialForm.length;
+                }
+            }
+            changeSet.setSerializedValueBytes(keyspace, serializedValueBytes);
             long beforeGetMatrix = System.currentTimeMillis();
             TemporalDataMatrix matrix = this.getOrCreateMatrix(keyspace, time);
             if (performanceLoggingActive) {
@@ -2032,6 +2123,62 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
         }
     }
 
+    private Set<UnqualifiedTemporalEntry> transformChunk(final List<UnqualifiedTemporalEntry> chunk, final KeyspaceValueTransformation valueTransformation) {
+        Set<UnqualifiedTemporalEntry> newEntries = Sets.newHashSet();
+        for (UnqualifiedTemporalEntry entry : chunk) {
+            UnqualifiedTemporalKey temporalKey = entry.getKey();
+            Object oldValue = this.deserialize(entry.getValue());
+            if (oldValue == null) {
+                // do not alter deletion markers
+                continue;
+            }
+            Object newValue = valueTransformation.transformValue(temporalKey.getKey(), temporalKey.getTimestamp(), oldValue);
+            if (newValue == null) {
+                throw new IllegalStateException("KeyspaceValueTransform unexpectedly returned NULL! It is not allowed to delete values!");
+            }
+            if (newValue == Dateback.UNCHANGED) {
+                // do not change this entry
+                continue;
+            }
+            newEntries.add(new UnqualifiedTemporalEntry(temporalKey, this.serialize(newValue)));
+        }
+        return newEntries;
+    }
+
+    private Set<UnqualifiedTemporalEntry> awaitTransformedChunk(final Future<Set<UnqualifiedTemporalEntry>> pendingChunk) {
+        try {
+            return pendingChunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatebackException("Interrupted while transforming the values of a keyspace!", e);
+        } catch (ExecutionException e) {
+            // report errors of the transformation (e.g. illegal return values) as if they occurred on this thread
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DatebackException("Failed to transform the values of a keyspace!", cause);
+        }
+    }
+
+    private static List<UnqualifiedTemporalEntry> readChunk(final CloseableIterator<UnqualifiedTemporalEntry> iterator) {
+        List<UnqualifiedTemporalEntry> chunk = Lists.newArrayListWithCapacity(DATEBACK_TRANSFORMATION_CHUNK_SIZE);
+        while (iterator.hasNext() && chunk.size() < DATEBACK_TRANSFORMATION_CHUNK_SIZE) {
+            chunk.add(iterator.next());
+        }
+        return chunk;
+    }
+
+    private static long minTimestamp(final Set<UnqualifiedTemporalEntry> entries) {
+        long min = Long.MAX_VALUE;
+        for (UnqualifiedTemporalEntry entry : entries) {
+            min = Math.min(min, entry.getKey().getTimestamp());
+        }
+        return min;
+    }
+
     protected Object deserialize(final byte[] serialForm) {
         Object deserializedValue;
         if (serialForm == null || serialForm.length <= 0) {
@@ -2184,10 +2331,8 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 
         private CloseableIterator<UnqualifiedTemporalEntry> currentEntryIterator;
 
-        public AllEntriesIterator(final long minTimestamp, final long maxTimestamp) {
-            AbstractTemporalKeyValueStore self = AbstractTemporalKeyValueStore.this;
-            Set<String> keyspaces = Sets.newHashSet(self.getKeyspaces(maxTimestamp));
-            this.keyspaceIterator = keyspaces.iterator();
+        public AllEntriesIterator(final Set<String> keyspaces, final long minTimestamp, final long maxTimestamp) {
+            this.keyspaceIterator = Sets.newHashSet(keyspaces).iterator();
             this.minTimestamp = minTimestamp;
             this.maxTimestamp = maxTimestamp;
         }
@@ -12,14 +12,18 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.chronos.chronodb.api.key.ChronoIdentifier;
 import org.chronos.chronodb.api.key.QualifiedKey;
+import org.chronos.chronodb.internal.impl.KeyspaceStatisticsDelta;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 public class ChangeSet {
 
 	private final Map<String, Map<String, Object>> keyspaceToKeyToValue = Maps.newHashMap();
 	private final Map<ChronoIdentifier, Pair<Object, Object>> entriesToIndex = Maps.newHashMap();
+	private final Set<QualifiedKey> previouslyExistingKeys = Sets.newHashSet();
+	private final Map<String, Long> keyspaceToSerializedValueBytes = Maps.newHashMap();
 
 	public void addEntry(final String keyspace, final String key, final Object value) {
 		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
@@ -32,6 +36,16 @@ public class ChangeSet {
 		keyspaceMap.put(key, value);
 	}
 
+	public void addEntry(final String keyspace, final String key, final Object value, final boolean previouslyExisting) {
+		this.addEntry(keyspace, key, value);
+		QualifiedKey qKey = QualifiedKey.create(keyspace, key);
+		if (previouslyExisting) {
+			this.previouslyExistingKeys.add(qKey);
+		} else {
+			this.previouslyExistingKeys.remove(qKey);
+		}
+	}
+
 	public void addEntryToIndex(final ChronoIdentifier identifier, final Object oldValue, final Object newValue) {
 		checkNotNull(identifier, "Precondition violation - argument 'identifier' must not be NULL!");
 		this.entriesToIndex.put(identifier, Pair.of(oldValue, newValue));
@@ -54,6 +68,18 @@ public class ChangeSet {
 		});
 	}
 
+	/**
+	 * Records the total size of the serialized values which have been written to the given keyspace.
+	 *
+	 * @param keyspace             The keyspace in question. Must not be <code>null</code>.
+	 * @param serializedValueBytes The total size of the serialized values, in bytes. Must not be negative.
+	 */
+	public void setSerializedValueBytes(final String keyspace, final long serializedValueBytes) {
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkArgument(serializedValueBytes >= 0, "Precondition violation - argument 'serializedValueBytes' must not be negative!");
+		this.keyspaceToSerializedValueBytes.put(keyspace, serializedValueBytes);
+	}
+
 	public Set<QualifiedKey> getModifiedKeys() {
 		return this.entriesToIndex.keySet().stream().map(id -> QualifiedKey.create(id.getKeyspace(), id.getKey()))
 				.collect(Collectors.toSet());
@@ -74,4 +100,40 @@ public class ChangeSet {
 	public int size() {
 		return this.keyspaceToKeyToValue.values().stream().mapToInt(Map::size).sum();
 	}
+
+	/**
+	 * Summarizes the changes in this change set per keyspace, for the purpose of updating the statistics.
+	 *
+	 * <p>
+	 * Value sizes are only known for keyspaces which have been reported via {@link #setSerializedValueBytes(String, long)}.
+	 *
+	 * @return The map from keyspace name to statistics delta. Never <code>null</code>.
+	 */
+	public Map<String, KeyspaceStatisticsDelta> getStatisticsDeltas() {
+		Map<String, KeyspaceStatisticsDelta> result = Maps.newHashMap();
+		for (Entry<String, Map<String, Object>> keyspaceEntry : this.keyspaceToKeyToValue.entrySet()) {
+			String keyspace = keyspaceEntry.getKey();
+			long insertedKeys = 0;
+			long deletedKeys = 0;
+			long writtenValues = 0;
+			for (Entry<String, Object> entry : keyspaceEntry.getValue().entrySet()) {
+				QualifiedKey qKey = QualifiedKey.create(keyspace, entry.getKey());
+				boolean previouslyExisting = this.previouslyExistingKeys.contains(qKey);
+				if (entry.getValue() == null) {
+					if (previouslyExisting) {
+						deletedKeys++;
+					}
+				} else {
+					if (previouslyExisting == false) {
+						insertedKeys++;
+					}
+					writtenValues++;
+				}
+			}
+			long writtenVersions = keyspaceEntry.getValue().size();
+			long writtenValueBytes = this.keyspaceToSerializedValueBytes.getOrDefault(keyspace, 0L);
+			result.put(keyspace, new KeyspaceStatisticsDelta(writtenVersions, insertedKeys, deletedKeys, writtenValues, writtenValueBytes));
+		}
+		return result;
+	}
 }
@@ -35,6 +35,7 @@ import java.util.concurrent.Callable
 import java.util.concurrent.locks.ReadWriteLock
 import java.util.concurrent.locks.ReentrantReadWriteLock
 import kotlin.concurrent.withLock
+import kotlin.math.min
 
 abstract class AbstractIndexManager<C : ChronoDBInternal> : IndexManagerInternal {
 
@@ -142,6 +143,75 @@ abstract class AbstractIndexManager<C : ChronoDBInternal> : IndexManagerInternal
         }
     }
 
+    override fun evaluate(timestamp: Long, branch: Branch, query: ChronoDBQuery, sort: Sort?, offset: Int, limit: Int): Iterator<QualifiedKey> {
+        require(timestamp >= 0) { "Precondition violation - argument 'timestamp' (value: $timestamp) must be >= 0!" }
+        require(offset >= 0) { "Precondition violation - argument 'offset' (value: $offset) must not be negative!" }
+        require(limit >= 0) { "Precondition violation - argument 'limit' (value: $limit) must not be negative!" }
+        return this.withLocksForIndexRead {
+            val keyspace = query.keyspace
+            val resultSet: Set<String> = this.evaluateRecursive(query.rootElement, timestamp, branch, keyspace)
+            val page = if (limit == 0 || offset >= resultSet.size) {
+                emptyList()
+            } else if (sort == null) {
+                resultSet.asSequence().drop(offset).take(limit).toList()
+            } else {
+                this.sortKeysPage(timestamp, branch, keyspace, resultSet, sort, offset, limit)
+            }
+            page.asSequence()
+                .map { QualifiedKey.create(keyspace, it) }
+                .iterator()
+        }
+    }
+
+    override fun evaluateBetween(branch: Branch, query: ChronoDBQuery, from: Long, to: Long): Map<QualifiedKey, List<Period>> {
+        require(from >= 0) { "Precondition violation - argument 'from' (value: $from) must not be negative!" }
+        require(from <= to) { "Precondition violation - argument 'from' (value: $from) must not be greater than argument 'to' (value: $to)!" }
+        return this.withLocksForIndexRead {
+            val keyspace = query.keyspace
+            val upperBound = min(to, branch.now)
+            if (from > upperBound) {
+                return@withLocksForIndexRead emptyMap()
+            }
+            // resolve the atomic conditions of the query at the start of the range
+            val actualBranch = this.owningDB.branchManager.getActualBranchForQuerying(branch, from)
+            val conditions = IdentityHashMap<WhereElement<*, *>, TemporalCondition>()
+            this.collectWhereElements(query.rootElement).forEach { element ->
+                val index = this.resolveIndex(actualBranch, from, element.indexName)
+                val condition = TemporalCondition(index, element.toSearchSpecification(index))
+                // all keys which match at the start of the range
+                queryIndex(from, actualBranch, keyspace, condition.searchSpec).forEach { key -> condition.startMatching(key, from) }
+                conditions[element] = condition
+            }
+            if (upperBound > from) {
+                // the matches can only change when a key is modified, so we only re-evaluate
+                // the conditions on the modified keys, at the timestamps of their modification.
+                val modifiedKeysByTimestamp = this.owningDB.tx(branch.name, upperBound)
+                    .getModificationsInKeyspaceBetween(keyspace, from + 1, upperBound)
+                    .asSequence()
+                    .groupByTo(TreeMap<Long, MutableList<String>>(), { it.timestamp }, { it.key })
+                for ((timestamp, modifiedKeys) in modifiedKeysByTimestamp) {
+                    val tx = this.owningDB.tx(branch.name, timestamp)
+                    for (key in modifiedKeys.toSet()) {
+                        val value = tx.get<Any?>(keyspace, key)
+                        for (condition in conditions.values) {
+                            if (condition.matches(value)) {
+                                condition.startMatching(key, timestamp)
+                            } else {
+                                condition.stopMatching(key, timestamp)
+                            }
+                        }
+                    }
+                }
+            }
+            // the upper bound of the range is inclusive, the upper bound of a period is exclusive
+            conditions.values.forEach { it.stopAll(upperBound + 1) }
+            this.combinePeriodsRecursive(query.rootElement, conditions)
+                .asSequence()
+                .filter { it.value.isNotEmpty() }
+                .associate { QualifiedKey.create(keyspace, it.key) to it.value }
+        }
+    }
+
     override fun getIndices(): Set<SecondaryIndex> {
         return this.withLocksForIndexRead {
             this.indexTree.getAllIndices()
@@ -638,12 +708,50 @@ abstract class AbstractIndexManager<C : ChronoDBInternal> : IndexManagerInternal
         }
     }
 
+    /**
+     * Sorts the given keys and returns the requested page of the sorted list.
+     *
+     * Must be called while holding the index read lock.
+     */
+    private fun sortKeysPage(
+        timestamp: Long,
+        branch: Branch,
+        keyspace: String,
+        keys: Set<String>,
+        sort: Sort,
+        offset: Int,
+        limit: Int,
+    ): List<String> {
+        val actualBranch = this.owningDB.branchManager.getActualBranchForQuerying(branch, timestamp)
+        val indicesByName = this.indexTree.getIndices(actualBranch, timestamp).associateBy { it.name }
+        val indicesInOrder = sort.getIndexNamesInOrder().map {
+            indicesByName[it]
+                ?: throw IllegalArgumentException("The index '${it}' is unknown!")
+        }
+        if (indicesInOrder.size == 1) {
+            // stream the keys in index order and stop as soon as the page is complete
+            val index = indicesInOrder.single()
+            val sortOrder = sort.getSortOrderForIndex(index.name)
+            val textCompare = sort.getTextCompareForIndex(index.name)
+            val nullSortPosition = sort.getNullSortPositionForIndex(index.name)
+            return sortKeysWithSingleSecondaryIndex(timestamp, actualBranch, keyspace, index, sortOrder, textCompare, nullSortPosition, keys, offset, limit)
+        }
+        return sortKeysByMultipleSecondaryIndices(keys, indicesInOrder, sort, timestamp, actualBranch, keyspace)
+            .asSequence()
+            .drop(offset)
+            .take(limit)
+            .toList()
+    }
+
     /**
      * Sorts the given keys by using a single secondary index.
      *
      * This is an optimized version of [sortKeysByMultipleSecondaryIndices] for the
      * (common) special case that only a single sort criterion is given, and ties are
      * broken via primary keys.
+     *
+     * Only the keys up to the end of the requested page are sorted. With [NullSortPosition.NULLS_LAST],
+     * the index scan stops as soon as enough keys have been found.
      */
     private fun sortKeysWithSingleSecondaryIndex(
         timestamp: Long,
@@ -654,17 +762,27 @@ abstract class AbstractIndexManager<C : ChronoDBInternal> : IndexManagerInternal
         textCompare: TextCompare,
         nullSortPosition: NullSortPosition,
         keys: Set<String>,
+        offset: Int = 0,
+        limit: Int = Int.MAX_VALUE,
     ): List<String> {
+        // the number of keys we need to find, including the ones we skip
+        val requiredKeys = offset.toLong() + limit.toLong()
         this.createCursor<Comparable<Comparable<*>>>(timestamp, branch, keyspace, index.name, sortOrder, textCompare, keys).use { cursor ->
             val resultList = mutableListOf<String>()
             val unsortedKeys = keys.toMutableSet()
-            while (cursor.next()) {
+            // the keys without a value in the index can only be identified after a full scan, so
+            // with NULLS_FIRST we can't stop early.
+            val canStopEarly = nullSortPosition == NullSortPosition.NULLS_LAST
+            while (unsortedKeys.isNotEmpty() && (!canStopEarly || resultList.size < requiredKeys) && cursor.next()) {
                 val primaryKey = cursor.primaryKey
-                if (primaryKey in unsortedKeys) {
+                if (unsortedKeys.remove(primaryKey)) {
                     resultList.add(primaryKey)
-                    unsortedKeys.remove(primaryKey)
                 }
             }
+            if (canStopEarly && resultList.size >= requiredKeys) {
+                // the page is complete, we don't need the keys with NULL values.
+                return resultList.subList(offset, requiredKeys.toInt()).toList()
+            }
             // the remaining unsorted keys have NULL values. Check where
             // those values need to go in the ordering.
             val sortedNullKeys = unsortedKeys.sorted()
@@ -672,7 +790,10 @@ abstract class AbstractIndexManager<C : ChronoDBInternal> : IndexManagerInternal
                 NullSortPosition.NULLS_FIRST -> resultList.addAll(0, sortedNullKeys)
                 NullSortPosition.NULLS_LAST -> resultList.addAll(sortedNullKeys)
             }
-            return resultList
+            if (offset == 0 && requiredKeys >= resultList.size) {
+                return resultList
+            }
+            return resultList.asSequence().drop(offset).take(limit).toList()
         }
     }
 
@@ -730,6 +851,147 @@ abstract class AbstractIndexManager<C : ChronoDBInternal> : IndexManagerInternal
             .toList()
     }
 
+    // =================================================================================================================
+    // AGGREGATION METHODS
+    // =================================================================================================================
+
+    override fun getDistinctIndexedValues(timestamp: Long, branch: Branch, keyspace: String, indexName: String): List<Comparable<*>> {
+        return this.scanIndex(timestamp, branch, keyspace, indexName, Order.ASCENDING) { cursor ->
+            val distinctValues = mutableListOf<Comparable<*>>()
+            var previousValue: Comparable<*>? = null
+            while (cursor.next()) {
+                // the cursor delivers the values in order, so equal values are adjacent.
+                val value = cursor.indexValue
+                if (value != previousValue) {
+                    distinctValues.add(value)
+                    previousValue = value
+                }
+            }
+            distinctValues
+        }
+    }
+
+    override fun countKeysByIndexedValue(timestamp: Long, branch: Branch, keyspace: String, indexName: String): Map<Comparable<*>, Long> {
+        return this.scanIndex(timestamp, branch, keyspace, indexName, Order.ASCENDING) { cursor ->
+            val counts = LinkedHashMap<Comparable<*>, Long>()
+            var currentValue: Comparable<*>? = null
+            var currentCount = 0L
+            while (cursor.next()) {
+                val value = cursor.indexValue
+                if (value != currentValue) {
+                    if (currentValue != null) {
+                        counts[currentValue] = currentCount
+                    }
+                    currentValue = value
+                    currentCount = 0L
+                }
+                currentCount++
+            }
+            if (currentValue != null) {
+                counts[currentValue] = currentCount
+            }
+            counts
+        }
+    }
+
+    override fun getMinIndexedValue(timestamp: Long, branch: Branch, keyspace: String, indexName: String): Comparable<*>? {
+        return this.scanIndex(timestamp, branch, keyspace, indexName, Order.ASCENDING) { cursor ->
+            if (cursor.next()) cursor.indexValue else null
+        }
+    }
+
+    override fun getMaxIndexedValue(timestamp: Long, branch: Branch, keyspace: String, indexName: String): Comparable<*>? {
+        return this.scanIndex(timestamp, branch, keyspace, indexName, Order.DESCENDING) { cursor ->
+            if (cursor.next()) cursor.indexValue else null
+        }
+    }
+
+    override fun sumIndexedValues(timestamp: Long, branch: Branch, keyspace: String, indexName: String): Number {
+        return this.withLocksForIndexRead {
+            val index = this.getIndexForAggregation(timestamp, branch, indexName)
+            when (index.indexer) {
+                is LongIndexer -> this.scanIndex(timestamp, branch, keyspace, indexName, Order.ASCENDING) { cursor ->
+                    var sum = 0L
+                    while (cursor.next()) {
+                        sum += cursor.indexValue as Long
+                    }
+                    sum
+                }
+                is DoubleIndexer -> this.scanIndex(timestamp, branch, keyspace, indexName, Order.ASCENDING) { cursor ->
+                    var sum = 0.0
+                    while (cursor.next()) {
+                        sum += cursor.indexValue as Double
+                    }
+                    sum
+                }
+                else -> throw IllegalArgumentException("Cannot sum up the values of index '${indexName}', it is neither a Long nor a Double index!")
+            }
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun getIndexedValueHistogram(timestamp: Long, branch: Branch, keyspace: String, indexName: String, bucketBoundaries: List<Comparable<*>>): List<Long> {
+        return this.withLocksForIndexRead {
+            val index = this.getIndexForAggregation(timestamp, branch, indexName)
+            val valueType = index.valueType.kotlin.javaObjectType
+            val boundaries = bucketBoundaries.map { boundary ->
+                require(valueType.isInstance(boundary)) {
+                    "Precondition violation - bucket boundary '${boundary}' does not match the value type of index '${indexName}' (${valueType.simpleName})!"
+                }
+                boundary as Comparable<Any>
+            }
+            for (i in 1 until boundaries.size) {
+                require(boundaries[i - 1] < boundaries[i]) { "Precondition violation - the bucket boundaries must be in strictly ascending order!" }
+            }
+            val counts = LongArray(boundaries.size + 1)
+            this.scanIndex(timestamp, branch, keyspace, indexName, Order.ASCENDING) { cursor ->
+                var bucket = 0
+                while (cursor.next()) {
+                    val value = cursor.indexValue as Any
+                    // the values arrive in ascending order, so the bucket never moves backwards.
+                    while (bucket < boundaries.size && boundaries[bucket] <= value) {
+                        bucket++
+                    }
+                    counts[bucket]++
+                }
+            }
+            counts.toList()
+        }
+    }
+
+    private fun getIndexForAggregation(timestamp: Long, branch: Branch, indexName: String): SecondaryIndex {
+        val actualBranch = this.owningDB.branchManager.getActualBranchForQuerying(branch, timestamp)
+        return this.indexTree.getIndices(actualBranch, timestamp).firstOrNull { it.name == indexName }
+            ?: throw IllegalArgumentException("There is no index named '${indexName}' on branch '${actualBranch.name}' at timestamp ${timestamp}!")
+    }
+
+    /**
+     * Scans the given secondary index with a [cursor][IndexScanCursor], which resolves the branch deltas.
+     */
+    private inline fun <T> scanIndex(
+        timestamp: Long,
+        branch: Branch,
+        keyspace: String,
+        indexName: String,
+        order: Order,
+        crossinline action: (IndexScanCursor<Comparable<Comparable<*>>>) -> T,
+    ): T {
+        require(timestamp >= 0) { "Precondition violation - argument 'timestamp' (value: $timestamp) must not be negative!" }
+        return this.withLocksForIndexRead {
+            this.createCursor<Comparable<Comparable<*>>>(
+                timestamp = timestamp,
+                branch = branch,
+                keyspace = keyspace,
+                indexName = indexName,
+                sortOrder = order,
+                textCompare = TextCompare.DEFAULT,
+                keys = null
+            ).use { cursor ->
+                action(cursor)
+            }
+        }
+    }
+
     // =================================================================================================================
     // ROLLBACK METHODS
     // =================================================================================================================
@@ -943,6 +1205,45 @@ abstract class AbstractIndexManager<C : ChronoDBInternal> : IndexManagerInternal
         }
     }
 
+    private fun collectWhereElements(element: QueryElement): List<WhereElement<*, *>> {
+        return when (element) {
+            is BinaryOperatorElement -> collectWhereElements(element.leftChild) + collectWhereElements(element.rightChild)
+            is WhereElement<*, *> -> listOf(element)
+            else -> throw ChronoDBQuerySyntaxException(
+                "Query contains unsupported element of class '"
+                    + element.javaClass.name + "' - was the query optimized?"
+            )
+        }
+    }
+
+    private fun combinePeriodsRecursive(
+        element: QueryElement,
+        conditions: Map<WhereElement<*, *>, TemporalCondition>,
+    ): Map<String, List<Period>> {
+        return when (element) {
+            is BinaryOperatorElement -> {
+                val leftResult = combinePeriodsRecursive(element.leftChild, conditions)
+                val rightResult = combinePeriodsRecursive(element.rightChild, conditions)
+                when (element.operator) {
+                    BinaryQueryOperator.AND -> leftResult.keys.asSequence()
+                        .filter { it in rightResult }
+                        .associateWith { PeriodSetUtils.intersection(leftResult.getValue(it), rightResult.getValue(it)) }
+                    BinaryQueryOperator.OR -> (leftResult.keys + rightResult.keys)
+                        .associateWith { PeriodSetUtils.union(leftResult[it] ?: emptyList(), rightResult[it] ?: emptyList()) }
+                    // safeguard
+                    null -> throw IllegalArgumentException("Binary operator is null!")
+                }
+            }
+
+            is WhereElement<*, *> -> conditions.getValue(element).periodsByKey
+
+            else -> throw ChronoDBQuerySyntaxException(
+                "Query contains unsupported element of class '"
+                    + element.javaClass.name + "' - was the query optimized?"
+            )
+        }
+    }
+
     @Suppress("UNCHECKED_CAST")
     private fun applyIndexChangesToBackend(indexTreeChanges: IndexChanges) {
         this.saveIndicesInternal(indexTreeChanges.addedIndices as Set<SecondaryIndexImpl>)
@@ -1106,4 +1407,53 @@ abstract class AbstractIndexManager<C : ChronoDBInternal> : IndexManagerInternal
             return action()
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Tracks the periods in which the keys of a keyspace match a single atomic query condition.
+     */
+    private class TemporalCondition(
+        val index: SecondaryIndex,
+        val searchSpec: SearchSpecification<*, *>,
+    ) {
+
+        /** The timestamps since which the currently matching keys match the condition. */
+        private val matchingSince = mutableMapOf<String, Long>()
+
+        val periodsByKey = mutableMapOf<String, MutableList<Period>>()
+
+        fun startMatching(key: String, timestamp: Long) {
+            this.matchingSince.putIfAbsent(key, timestamp)
+        }
+
+        fun stopMatching(key: String, timestamp: Long) {
+            val since = this.matchingSince.remove(key)
+                ?: return
+            if (since < timestamp) {
+                this.periodsByKey.getOrPut(key, ::mutableListOf).add(Period.createRange(since, timestamp))
+            }
+        }
+
+        fun stopAll(timestamp: Long) {
+            this.matchingSince.keys.toList().forEach { this.stopMatching(it, timestamp) }
+        }
+
+        @Suppress("UNCHECKED_CAST")
+        fun matches(value: Any?): Boolean {
+            if (value == null) {
+                // the key has been deleted
+                return false
+            }
+            val indexedValues = this.index.getIndexedValuesForObject(value)
+            return if (this.searchSpec.condition.isNegated && this.searchSpec.condition.acceptsEmptyValue()) {
+                // negated conditions which accept the empty value match all keys which do not match the positive condition
+                val positiveSearchSpec = this.searchSpec.negate() as SearchSpecification<Any, *>
+                indexedValues.none { positiveSearchSpec.matches(it) }
+            } else {
+                val searchSpec = this.searchSpec as SearchSpecification<Any, *>
+                indexedValues.any { searchSpec.matches(it) }
+            }
+        }
+
+    }
+
+}
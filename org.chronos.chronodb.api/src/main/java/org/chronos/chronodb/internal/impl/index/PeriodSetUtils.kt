@@ -0,0 +1,69 @@
+package org.chronos.chronodb.internal.impl.index
+
+import org.chronos.chronodb.internal.api.Period
+
+/**
+ * Set operations on lists of [Period]s.
+ *
+ * All lists which are passed to or returned from these methods are normalized: they are sorted by lower bound, contain
+ * no empty periods, and no two periods in them overlap or are adjacent to each other.
+ */
+object PeriodSetUtils {
+
+    @JvmStatic
+    fun union(left: List<Period>, right: List<Period>): List<Period> {
+        if (left.isEmpty()) {
+            return right
+        }
+        if (right.isEmpty()) {
+            return left
+        }
+        val result = mutableListOf<Period>()
+        var leftIndex = 0
+        var rightIndex = 0
+        while (leftIndex < left.size || rightIndex < right.size) {
+            // always take the period with the smaller lower bound next
+            val next = if (rightIndex >= right.size || (leftIndex < left.size && left[leftIndex].lowerBound <= right[rightIndex].lowerBound)) {
+                left[leftIndex++]
+            } else {
+                right[rightIndex++]
+            }
+            val last = result.lastOrNull()
+            if (last != null && next.lowerBound <= last.upperBound) {
+                // the periods overlap or are adjacent, merge them
+                if (next.upperBound > last.upperBound) {
+                    result[result.size - 1] = Period.createRange(last.lowerBound, next.upperBound)
+                }
+            } else {
+                result.add(next)
+            }
+        }
+        return result
+    }
+
+    @JvmStatic
+    fun intersection(left: List<Period>, right: List<Period>): List<Period> {
+        if (left.isEmpty() || right.isEmpty()) {
+            return emptyList()
+        }
+        val result = mutableListOf<Period>()
+        var leftIndex = 0
+        var rightIndex = 0
+        while (leftIndex < left.size && rightIndex < right.size) {
+            val leftPeriod = left[leftIndex]
+            val rightPeriod = right[rightIndex]
+            val intersection = leftPeriod.intersection(rightPeriod)
+            if (!intersection.isEmpty) {
+                result.add(intersection)
+            }
+            // advance the period which ends first, it can't intersect with anything else
+            if (leftPeriod.upperBound <= rightPeriod.upperBound) {
+                leftIndex++
+            } else {
+                rightIndex++
+            }
+        }
+        return result
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.chronos.chronodb.internal.util;
+
+import com.google.common.collect.Sets;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.key.TemporalKey;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.*;
+
+public class ModificationUtils {
+
+    private ModificationUtils() {
+        throw new UnsupportedOperationException("Do not instantiate this class!");
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    /**
+     * Returns the keys in the given keyspace which have been modified after the given timestamp, up to (and including)
+     * the timestamp of the given transaction.
+     *
+     * <p>
+     * This is a single pass over the modifications of the keyspace, rather than one query per commit.
+     *
+     * @param tx        The transaction to read the modifications from. Must not be <code>null</code>.
+     * @param keyspace  The keyspace to look for modifications in. Must not be <code>null</code>.
+     * @param timestamp The (exclusive) lower bound of the modification timestamps. Must not be negative.
+     * @return The set of modified keys. May be empty, never <code>null</code>.
+     */
+    public static Set<String> getKeysModifiedAfter(final ChronoDBTransaction tx, final String keyspace, final long timestamp) {
+        checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+        checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+        checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+        if (timestamp >= tx.getTimestamp()) {
+            return Collections.emptySet();
+        }
+        Set<String> keys = Sets.newHashSet();
+        Iterator<TemporalKey> modifications = tx.getModificationsInKeyspaceBetween(keyspace, timestamp + 1, tx.getTimestamp());
+        while (modifications.hasNext()) {
+            TemporalKey modification = modifications.next();
+            // requests for keyspaces which only exist on the parent branch are clamped to the branching timestamp
+            if (modification.getTimestamp() > timestamp) {
+                keys.add(modification.getKey());
+            }
+        }
+        return keys;
+    }
+
+}
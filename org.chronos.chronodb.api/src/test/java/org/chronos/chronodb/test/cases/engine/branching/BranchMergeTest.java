@@ -0,0 +1,140 @@
+package org.chronos.chronodb.test.cases.engine.branching;
+
+import org.chronos.chronodb.api.BranchMergeResult;
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.conflict.ConflictResolutionStrategy;
+import org.chronos.chronodb.api.exceptions.ChronoDBBranchingException;
+import org.chronos.chronodb.api.exceptions.ChronoDBCommitConflictException;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.cases.util.model.person.FirstNameIndexer;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.chronos.common.test.utils.model.person.Person;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import static org.junit.Assert.*;
+
+@Category(IntegrationTest.class)
+public class BranchMergeTest extends AllChronoDBBackendsTest {
+
+    @Test
+    public void canMergeNonConflictingChanges() {
+        ChronoDB db = this.getChronoDB();
+        ChronoDBTransaction tx = db.tx();
+        tx.put("a", 1);
+        tx.put("b", 2);
+        tx.put("c", 3);
+        tx.commit();
+
+        db.getBranchManager().createBranch("feature");
+        ChronoDBTransaction branchTx = db.tx("feature");
+        branchTx.put("a", 10);
+        branchTx.remove("b");
+        branchTx.put("d", 4);
+        branchTx.commit();
+
+        tx = db.tx();
+        tx.put("c", 30);
+        tx.commit();
+
+        BranchMergeResult result = db.getBranchManager().mergeBranch("feature", "master");
+        assertTrue(result.hasMergeCommit());
+        assertEquals(3, result.getMergedKeyCount());
+        assertEquals(0, result.getConflictCount());
+
+        tx = db.tx();
+        assertEquals(result.getCommitTimestamp(), tx.getTimestamp());
+        assertEquals(10, (int) tx.get("a"));
+        assertFalse(tx.exists("b"));
+        assertEquals(30, (int) tx.get("c"));
+        assertEquals(4, (int) tx.get("d"));
+        // the source branch is unaffected
+        branchTx = db.tx("feature");
+        assertEquals(3, (int) branchTx.get("c"));
+    }
+
+    @Test
+    public void conflictsAreResolvedWithTheGivenStrategy() {
+        ChronoDB db = this.getChronoDB();
+        ChronoDBTransaction tx = db.tx();
+        tx.put("a", 1);
+        tx.commit();
+
+        db.getBranchManager().createBranch("feature");
+        ChronoDBTransaction branchTx = db.tx("feature");
+        branchTx.put("a", 2);
+        branchTx.commit();
+
+        tx = db.tx();
+        tx.put("a", 3);
+        long lastMasterCommit = tx.commit();
+
+        try {
+            db.getBranchManager().mergeBranch("feature", "master");
+            fail("Managed to merge conflicting changes with the DO_NOT_MERGE strategy!");
+        } catch (ChronoDBCommitConflictException expected) {
+            // pass
+        }
+        assertEquals(lastMasterCommit, db.getBranchManager().getMasterBranch().getNow());
+
+        // keeping the target value does not require a commit
+        BranchMergeResult result = db.getBranchManager().mergeBranch("feature", "master", ConflictResolutionStrategy.OVERWRITE_WITH_TARGET, null);
+        assertFalse(result.hasMergeCommit());
+        assertEquals(1, result.getConflictCount());
+        assertEquals(3, (int) db.tx().get("a"));
+
+        result = db.getBranchManager().mergeBranch("feature", "master", ConflictResolutionStrategy.OVERWRITE_WITH_SOURCE, "merge");
+        assertTrue(result.hasMergeCommit());
+        assertEquals(1, result.getConflictCount());
+        assertEquals(2, (int) db.tx().get("a"));
+        assertEquals("merge", db.tx().getCommitMetadata(result.getCommitTimestamp()));
+    }
+
+    @Test
+    public void mergeUpdatesSecondaryIndices() {
+        ChronoDB db = this.getChronoDB();
+        db.getIndexManager().createIndex().withName("firstName").withIndexer(new FirstNameIndexer()).onMaster().acrossAllTimestamps().build();
+        db.getIndexManager().reindexAll();
+        ChronoDBTransaction tx = db.tx();
+        tx.put("a", new Person("John", "Doe"));
+        tx.put("b", new Person("Jane", "Doe"));
+        tx.commit();
+
+        db.getBranchManager().createBranch("feature");
+        ChronoDBTransaction branchTx = db.tx("feature");
+        branchTx.put("a", new Person("Jack", "Doe"));
+        branchTx.remove("b");
+        branchTx.commit();
+
+        db.getBranchManager().mergeBranch("feature", "master");
+
+        tx = db.tx();
+        assertEquals(0, tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John").count());
+        assertEquals(1, tx.find().inDefaultKeyspace().where("firstName").isEqualTo("Jack").count());
+        assertEquals(0, tx.find().inDefaultKeyspace().where("firstName").isEqualTo("Jane").count());
+    }
+
+    @Test
+    public void canOnlyMergeIntoParentBranch() {
+        ChronoDB db = this.getChronoDB();
+        ChronoDBTransaction tx = db.tx();
+        tx.put("a", 1);
+        tx.commit();
+        db.getBranchManager().createBranch("feature");
+        db.getBranchManager().createBranch("feature", "subfeature");
+        try {
+            db.getBranchManager().mergeBranch("subfeature", "master");
+            fail("Managed to merge a branch into its grandparent!");
+        } catch (ChronoDBBranchingException expected) {
+            // pass
+        }
+        try {
+            db.getBranchManager().mergeBranch("master", "feature");
+            fail("Managed to merge the master branch!");
+        } catch (ChronoDBBranchingException expected) {
+            // pass
+        }
+    }
+
+}
@@ -233,6 +233,40 @@ public class GetCommitsBetweenPagedTest extends AllChronoDBBackendsTest {
         }
     }
 
+    @Test
+    public void paginationWorksAcrossMultipleChunks() {
+        ChronoDB db = this.getChronoDB();
+        // do 20 commits on the database, distributed over several chunks (if supported)
+        List<Long> commitTimestamps = Lists.newArrayList();
+        for (int i = 0; i < 20; i++) {
+            ChronoDBTransaction tx = db.tx();
+            tx.put("test", i);
+            tx.commit(i);
+            commitTimestamps.add(tx.getTimestamp());
+            if (i % 6 == 5 && db.getFeatures().isRolloverSupported()) {
+                db.getMaintenanceManager().performRolloverOnMaster();
+            }
+        }
+        long now = db.tx().getTimestamp();
+        assertEquals(20, db.tx().countCommitTimestamps());
+        assertEquals(15, db.tx().countCommitTimestampsBetween(commitTimestamps.get(3), commitTimestamps.get(17)));
+        // skip several chunks in ascending order
+        List<Entry<Long, Object>> entriesPage = toList(db.tx().getCommitMetadataPaged(0, now, 4, 3, Order.ASCENDING));
+        assertEquals(4, entriesPage.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(commitTimestamps.get(12 + i), entriesPage.get(i).getKey());
+            assertEquals(12 + i, entriesPage.get(i).getValue());
+        }
+        // skip several chunks in descending order, with a page that spans a chunk boundary
+        List<Long> timestampsPage = toList(db.tx().getCommitTimestampsPaged(commitTimestamps.get(1), commitTimestamps.get(18), 5, 2, Order.DESCENDING));
+        assertEquals(5, timestampsPage.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(commitTimestamps.get(8 - i), timestampsPage.get(i));
+        }
+        // a page beyond the last commit is empty
+        assertEquals(0, Iterators.size(db.tx().getCommitTimestampsPaged(0, now, 5, 4, Order.ASCENDING)));
+    }
+
     // =====================================================================================================================
     // HELPER METHODS
     // =====================================================================================================================
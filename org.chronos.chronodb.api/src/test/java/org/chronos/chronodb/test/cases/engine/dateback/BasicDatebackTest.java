@@ -12,14 +12,17 @@ import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronodb.api.Dateback;
 import org.chronos.chronodb.api.DatebackManager;
 import org.chronos.chronodb.api.key.QualifiedKey;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
 import org.chronos.chronodb.internal.api.dateback.log.DatebackOperation;
 import org.chronos.chronodb.internal.api.dateback.log.IPurgeKeyspaceOperation;
 import org.chronos.chronodb.internal.impl.dateback.log.InjectEntriesOperation;
 import org.chronos.chronodb.internal.impl.dateback.log.PurgeCommitsOperation;
 import org.chronos.chronodb.internal.impl.dateback.log.PurgeEntryOperation;
 import org.chronos.chronodb.internal.impl.dateback.log.PurgeKeyOperation;
+import org.chronos.chronodb.internal.impl.dateback.log.TransformValuesOfKeyspaceOperation;
 import org.chronos.chronodb.internal.impl.dateback.log.v2.TransformCommitOperation2;
 import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
 import org.chronos.common.test.junit.categories.IntegrationTest;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -803,10 +806,70 @@ public class BasicDatebackTest extends AllChronoDBBackendsTest {
         assertThat(Iterators.size(db.tx().history("mykeyspace", "d")), is(1));
     }
 
+    @Test
+    public void canTransformValuesOfLargeKeyspace() {
+        this.runLargeKeyspaceTransformation();
+    }
+
+    @Test
+    @InstantiateChronosWith(property = ChronoDBConfiguration.DATEBACK_TRANSFORMATION_PARALLELISM, value = "4")
+    public void canTransformValuesOfLargeKeyspaceInParallel() {
+        this.runLargeKeyspaceTransformation();
+    }
+
     // =================================================================================================================
     // HELPER METHODS
     // =================================================================================================================
 
+    private void runLargeKeyspaceTransformation() {
+        ChronoDB db = this.getChronoDB();
+        // use more entries than fit into a single transformation chunk
+        int keyCount = 25_000;
+        long commit1;
+        long commit2;
+        { // commit 1
+            ChronoDBTransaction tx = db.tx();
+            for (int i = 0; i < keyCount; i++) {
+                tx.put("mykeyspace", "k" + i, i);
+            }
+            tx.put("test", "x", 1);
+            commit1 = tx.commit();
+        }
+        { // commit 2
+            ChronoDBTransaction tx = db.tx();
+            tx.put("mykeyspace", "k0", -1);
+            tx.remove("mykeyspace", "k1");
+            commit2 = tx.commit();
+        }
+
+        // double all even values, leave the odd ones untouched
+        db.getDatebackManager().datebackOnMaster(dateback -> dateback.transformValuesOfKeyspace("mykeyspace", (key, timestamp, oldValue) -> {
+            int value = (Integer) oldValue;
+            if (value % 2 != 0) {
+                return Dateback.UNCHANGED;
+            }
+            return value * 2;
+        }));
+
+        this.assertSingleDatebackOperationWasLogged(TransformValuesOfKeyspaceOperation.class, op -> {
+            assertThat(op.getKeyspace(), is("mykeyspace"));
+            assertThat(op.getEarliestAffectedTimestamp(), is(commit1));
+        });
+
+        assertEquals(0, (int) db.tx(commit1).get("mykeyspace", "k0"));
+        assertEquals(1, (int) db.tx(commit1).get("mykeyspace", "k1"));
+        assertEquals(keyCount, db.tx(commit1).keySet("mykeyspace").size());
+        for (int i = 2; i < keyCount; i++) {
+            int expected = i % 2 == 0 ? i * 2 : i;
+            assertEquals(expected, (int) db.tx(commit2).get("mykeyspace", "k" + i));
+        }
+        // the odd value of commit 2 and the deletion remain as they were
+        assertEquals(-1, (int) db.tx(commit2).get("mykeyspace", "k0"));
+        assertNull(db.tx(commit2).get("mykeyspace", "k1"));
+        // other keyspaces are unaffected
+        assertEquals(1, (int) db.tx().get("test", "x"));
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends DatebackOperation> void assertSingleDatebackOperationWasLogged(Class<T> type, Consumer<T> check) {
         ChronoDB db = this.getChronoDB();
@@ -0,0 +1,64 @@
+package org.chronos.chronodb.test.cases.engine.dateback;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.chronos.chronodb.internal.impl.dateback.TransformedEntrySpill;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
+import org.chronos.chronodb.test.base.ChronoDBUnitTest;
+import org.chronos.common.test.junit.categories.UnitTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class TransformedEntrySpillTest extends ChronoDBUnitTest {
+
+    @Test
+    public void replayPassesAllEntriesInBoundedChunks() {
+        Map<UnqualifiedTemporalKey, String> written = Maps.newHashMap();
+        Map<UnqualifiedTemporalKey, String> replayed = Maps.newHashMap();
+        List<Integer> replayedChunkSizes = Lists.newArrayList();
+        try (TransformedEntrySpill spill = new TransformedEntrySpill()) {
+            for (int chunk = 0; chunk < 25; chunk++) {
+                Set<UnqualifiedTemporalEntry> entries = Sets.newHashSet();
+                for (int i = 0; i < 100; i++) {
+                    UnqualifiedTemporalKey key = UnqualifiedTemporalKey.create("key" + i, 1000L + chunk);
+                    String value = "value" + chunk + "_" + i;
+                    entries.add(new UnqualifiedTemporalEntry(key, value.getBytes(StandardCharsets.UTF_8)));
+                    written.put(key, value);
+                }
+                spill.write(entries);
+            }
+            assertEquals(2500L, spill.getEntryCount());
+            spill.replay(300, entries -> {
+                replayedChunkSizes.add(entries.size());
+                for (UnqualifiedTemporalEntry entry : entries) {
+                    replayed.put(entry.getKey(), new String(entry.getValue(), StandardCharsets.UTF_8));
+                }
+            });
+        }
+        // the consumer never receives more than one chunk's worth of entries at once
+        assertThat(replayedChunkSizes.size(), is(9));
+        assertThat(replayedChunkSizes, everyItem(lessThanOrEqualTo(300)));
+        assertEquals(written, replayed);
+    }
+
+    @Test
+    public void replayOfEmptySpillDoesNotInvokeConsumer() {
+        try (TransformedEntrySpill spill = new TransformedEntrySpill()) {
+            spill.write(Sets.newHashSet());
+            spill.replay(10, entries -> fail("Consumer was invoked on an empty spill!"));
+            assertEquals(0L, spill.getEntryCount());
+        }
+    }
+
+}
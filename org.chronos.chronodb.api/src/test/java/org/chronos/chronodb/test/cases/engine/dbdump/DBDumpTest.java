@@ -10,6 +10,7 @@ import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronodb.api.DumpOption;
 import org.chronos.chronodb.api.dump.ChronoConverter;
 import org.chronos.chronodb.api.dump.ChronoDBDumpFormat;
+import org.chronos.chronodb.api.dump.StandardDumpCompressor;
 import org.chronos.chronodb.api.dump.annotations.ChronosExternalizable;
 import org.chronos.chronodb.api.indexing.StringIndexer;
 import org.chronos.chronodb.api.key.QualifiedKey;
@@ -140,6 +141,52 @@ public class DBDumpTest extends AllChronoDBBackendsTest {
         assertEquals("MyBranch", db2.getBranchManager().getBranch("MySubBranch").getOrigin().getName());
     }
 
+    @Test
+    public void canWriteAndReadBinaryDump() {
+        ChronoDB db = this.getChronoDB();
+
+        ChronoDBTransaction tx = db.tx();
+        for (int i = 0; i < 1000; i++) {
+            tx.put("key" + i, i);
+            tx.put("MyKeyspace", "key" + i, "value" + i);
+        }
+        tx.commit("first commit");
+        long writeTimestamp1 = tx.getTimestamp();
+
+        sleep(5);
+
+        db.getBranchManager().createBranch("MyBranch");
+        tx = db.tx("MyBranch");
+        tx.put("Math", "Pi", 31415);
+        tx.remove("key0");
+        tx.commit();
+        long writeTimestamp2 = tx.getTimestamp();
+
+        File testDumpFile = this.createTestFile("Test.chronodump");
+        db.writeDump(testDumpFile,
+            DumpOption.BINARY_FORMAT,
+            DumpOption.compressor(StandardDumpCompressor.GZIP),
+            DumpOption.parallelism(3)
+        );
+
+        // the format is detected automatically
+        ChronoDB db2 = ChronoDB.FACTORY.create().database(InMemoryChronoDB.BUILDER).build();
+        db2.readDump(testDumpFile);
+
+        ChronoDBTransaction txAfter1 = db2.tx(writeTimestamp1);
+        assertEquals(Sets.newHashSet("default", "MyKeyspace"), txAfter1.keyspaces());
+        assertEquals(1000, txAfter1.keySet("default").size());
+        assertEquals(1000, txAfter1.keySet("MyKeyspace").size());
+        assertEquals(0, (int) txAfter1.get("key0"));
+        assertEquals("value999", txAfter1.get("MyKeyspace", "key999"));
+        assertEquals("first commit", txAfter1.getCommitMetadata(writeTimestamp1));
+
+        ChronoDBTransaction txAfter2 = db2.tx("MyBranch", writeTimestamp2);
+        assertNull(txAfter2.get("key0"));
+        assertEquals(1, (int) txAfter2.get("key1"));
+        assertEquals(31415, (int) txAfter2.get("Math", "Pi"));
+    }
+
     @Test
     public void canExportAndImportDumpOnSameDBType() {
         ChronoDB db = this.getChronoDB();
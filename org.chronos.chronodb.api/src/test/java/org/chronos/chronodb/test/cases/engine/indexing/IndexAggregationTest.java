@@ -0,0 +1,172 @@
+package org.chronos.chronodb.test.cases.engine.indexing;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.chronos.chronodb.api.Branch;
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.IndexManager;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.cases.util.ReflectiveDoubleIndexer;
+import org.chronos.chronodb.test.cases.util.ReflectiveLongIndexer;
+import org.chronos.chronodb.test.cases.util.ReflectiveStringIndexer;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+@Category(IntegrationTest.class)
+public class IndexAggregationTest extends AllChronoDBBackendsTest {
+
+    private static final String KEYSPACE = ChronoDBConstants.DEFAULT_KEYSPACE_NAME;
+
+    @Test
+    public void canAggregateStringIndex() {
+        ChronoDB db = this.getChronoDB();
+        long timestamp = this.createMeasurements(db);
+        IndexManager indexManager = db.getIndexManager();
+        Branch master = db.getBranchManager().getMasterBranch();
+
+        assertEquals(Lists.newArrayList("done", "failed", "open"), indexManager.getDistinctIndexedValues(timestamp, master, KEYSPACE, "status"));
+        assertEquals(ImmutableMap.of("done", 2L, "failed", 1L, "open", 2L), indexManager.countKeysByIndexedValue(timestamp, master, KEYSPACE, "status"));
+        assertEquals("done", indexManager.getMinIndexedValue(timestamp, master, KEYSPACE, "status"));
+        assertEquals("open", indexManager.getMaxIndexedValue(timestamp, master, KEYSPACE, "status"));
+    }
+
+    @Test
+    public void canAggregateNumericIndices() {
+        ChronoDB db = this.getChronoDB();
+        long timestamp = this.createMeasurements(db);
+        IndexManager indexManager = db.getIndexManager();
+        Branch master = db.getBranchManager().getMasterBranch();
+
+        assertEquals(5L, indexManager.getMinIndexedValue(timestamp, master, KEYSPACE, "duration"));
+        assertEquals(120L, indexManager.getMaxIndexedValue(timestamp, master, KEYSPACE, "duration"));
+        assertEquals(215L, indexManager.sumIndexedValues(timestamp, master, KEYSPACE, "duration"));
+        assertEquals(2.0, (Double) indexManager.sumIndexedValues(timestamp, master, KEYSPACE, "ratio"), 0.000001);
+        assertEquals(
+            Lists.newArrayList(1L, 3L, 0L, 1L),
+            indexManager.getIndexedValueHistogram(timestamp, master, KEYSPACE, "duration", Lists.newArrayList(10L, 50L, 100L))
+        );
+        assertEquals(
+            Lists.newArrayList(5L),
+            indexManager.getIndexedValueHistogram(timestamp, master, KEYSPACE, "duration", Collections.emptyList())
+        );
+    }
+
+    @Test
+    public void aggregationsRespectTimestamps() {
+        ChronoDB db = this.getChronoDB();
+        long timestamp = this.createMeasurements(db);
+        IndexManager indexManager = db.getIndexManager();
+        Branch master = db.getBranchManager().getMasterBranch();
+
+        ChronoDBTransaction tx = db.tx();
+        tx.put("f", new Measurement("failed", 1000, 0.5));
+        tx.remove("a");
+        long timestamp2 = tx.commit();
+
+        assertEquals(ImmutableMap.of("done", 2L, "failed", 1L, "open", 2L), indexManager.countKeysByIndexedValue(timestamp, master, KEYSPACE, "status"));
+        assertEquals(ImmutableMap.of("done", 2L, "failed", 2L, "open", 1L), indexManager.countKeysByIndexedValue(timestamp2, master, KEYSPACE, "status"));
+        assertEquals(120L, indexManager.getMaxIndexedValue(timestamp, master, KEYSPACE, "duration"));
+        assertEquals(1000L, indexManager.getMaxIndexedValue(timestamp2, master, KEYSPACE, "duration"));
+    }
+
+    @Test
+    public void aggregationsRespectBranches() {
+        ChronoDB db = this.getChronoDB();
+        this.createMeasurements(db);
+        IndexManager indexManager = db.getIndexManager();
+        Branch branch = db.getBranchManager().createBranch("test");
+
+        ChronoDBTransaction tx = db.tx("test");
+        tx.put("b", new Measurement("done", 1, 0.0));
+        tx.remove("e");
+        long timestamp = tx.commit();
+
+        assertEquals(ImmutableMap.of("done", 3L, "open", 1L), indexManager.countKeysByIndexedValue(timestamp, branch, KEYSPACE, "status"));
+        assertEquals(1L, indexManager.getMinIndexedValue(timestamp, branch, KEYSPACE, "duration"));
+        assertEquals(76L, indexManager.sumIndexedValues(timestamp, branch, KEYSPACE, "duration"));
+        // the master branch is unaffected
+        Branch master = db.getBranchManager().getMasterBranch();
+        assertEquals(5L, indexManager.getMinIndexedValue(timestamp, master, KEYSPACE, "duration"));
+    }
+
+    @Test
+    public void aggregatingAnEmptyIndexWorks() {
+        ChronoDB db = this.getChronoDB();
+        this.createIndices(db);
+        IndexManager indexManager = db.getIndexManager();
+        Branch master = db.getBranchManager().getMasterBranch();
+        long timestamp = db.tx().getTimestamp();
+
+        assertTrue(indexManager.getDistinctIndexedValues(timestamp, master, KEYSPACE, "status").isEmpty());
+        assertTrue(indexManager.countKeysByIndexedValue(timestamp, master, KEYSPACE, "status").isEmpty());
+        assertNull(indexManager.getMinIndexedValue(timestamp, master, KEYSPACE, "duration"));
+        assertNull(indexManager.getMaxIndexedValue(timestamp, master, KEYSPACE, "duration"));
+        assertEquals(0L, indexManager.sumIndexedValues(timestamp, master, KEYSPACE, "duration"));
+    }
+
+    @Test
+    public void cannotSumStringIndex() {
+        ChronoDB db = this.getChronoDB();
+        long timestamp = this.createMeasurements(db);
+        Branch master = db.getBranchManager().getMasterBranch();
+        try {
+            db.getIndexManager().sumIndexedValues(timestamp, master, KEYSPACE, "status");
+            fail("Managed to sum up the values of a String index!");
+        } catch (IllegalArgumentException expected) {
+            // pass
+        }
+    }
+
+    // =================================================================================================================
+    // HELPER METHODS
+    // =================================================================================================================
+
+    private void createIndices(final ChronoDB db) {
+        db.getIndexManager().createIndex().withName("status").withIndexer(new ReflectiveStringIndexer(Measurement.class, "status")).onMaster().acrossAllTimestamps().build();
+        db.getIndexManager().createIndex().withName("duration").withIndexer(new ReflectiveLongIndexer(Measurement.class, "duration")).onMaster().acrossAllTimestamps().build();
+        db.getIndexManager().createIndex().withName("ratio").withIndexer(new ReflectiveDoubleIndexer(Measurement.class, "ratio")).onMaster().acrossAllTimestamps().build();
+        db.getIndexManager().reindexAll();
+    }
+
+    private long createMeasurements(final ChronoDB db) {
+        this.createIndices(db);
+        ChronoDBTransaction tx = db.tx();
+        tx.put("a", new Measurement("open", 5, 0.25));
+        tx.put("b", new Measurement("open", 20, 0.25));
+        tx.put("c", new Measurement("done", 30, 0.5));
+        tx.put("d", new Measurement("done", 40, 0.5));
+        tx.put("e", new Measurement("failed", 120, 0.5));
+        return tx.commit();
+    }
+
+    // =================================================================================================================
+    // INNER CLASSES
+    // =================================================================================================================
+
+    @SuppressWarnings("unused")
+    private static class Measurement {
+
+        private String status;
+        private long duration;
+        private double ratio;
+
+        protected Measurement() {
+            // default constructor for serialization
+        }
+
+        public Measurement(final String status, final long duration, final double ratio) {
+            this.status = status;
+            this.duration = duration;
+            this.ratio = ratio;
+        }
+
+    }
+
+}
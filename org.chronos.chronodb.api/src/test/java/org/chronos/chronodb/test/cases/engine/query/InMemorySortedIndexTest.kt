@@ -0,0 +1,94 @@
+package org.chronos.chronodb.test.cases.engine.query
+
+import org.chronos.chronodb.api.ChronoDBConstants
+import org.chronos.chronodb.api.Order
+import org.chronos.chronodb.api.TextCompare
+import org.chronos.chronodb.api.query.Condition
+import org.chronos.chronodb.api.query.StringCondition
+import org.chronos.chronodb.inmemory.InMemorySortedIndex
+import org.chronos.chronodb.internal.api.Period
+import org.chronos.chronodb.internal.api.query.searchspec.StringSearchSpecification
+import org.chronos.chronodb.internal.impl.index.ChronoIndexDocumentImpl
+import org.chronos.chronodb.internal.impl.index.SecondaryIndexImpl
+import org.chronos.chronodb.internal.impl.query.TextMatchMode
+import org.chronos.chronodb.test.cases.util.model.payload.NamedPayloadNameIndexer
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import java.util.*
+import java.util.stream.Collectors
+
+class InMemorySortedIndexTest {
+
+    private val index = SecondaryIndexImpl(
+        id = UUID.randomUUID().toString(),
+        name = "name",
+        indexer = NamedPayloadNameIndexer(),
+        validPeriod = Period.eternal(),
+        branch = ChronoDBConstants.MASTER_BRANCH_IDENTIFIER,
+        parentIndexId = null,
+        dirty = false,
+        options = emptySet()
+    )
+
+    @Test
+    fun scanReturnsEntriesInSortOrder() {
+        val sortedIndex = InMemorySortedIndex()
+        sortedIndex.addDocument(this.createDocument("p1", "banana", 100))
+        sortedIndex.addDocument(this.createDocument("p2", "Cherry", 100))
+        sortedIndex.addDocument(this.createDocument("p3", "apple", 200))
+        sortedIndex.addDocument(this.createDocument("p1", "apple", 300))
+
+        val ascending = sortedIndex.scan(Order.ASCENDING, TextCompare.STRICT).asSequence()
+            .map { it.key.indexValue to it.key.key }.toList()
+        assertEquals(listOf("Cherry" to "p2", "apple" to "p1", "apple" to "p3", "banana" to "p1"), ascending)
+
+        val descending = sortedIndex.scan(Order.DESCENDING, TextCompare.STRICT).asSequence()
+            .map { it.key.indexValue to it.key.key }.toList()
+        assertEquals(ascending.reversed(), descending)
+
+        val caseInsensitive = sortedIndex.scan(Order.ASCENDING, TextCompare.CASE_INSENSITIVE).asSequence()
+            .map { it.key.indexValue to it.key.key }.toList()
+        assertEquals(listOf("apple" to "p1", "apple" to "p3", "banana" to "p1", "cherry" to "p2"), caseInsensitive)
+    }
+
+    @Test
+    fun validPeriodsReflectTerminationsAndAreSorted() {
+        val sortedIndex = InMemorySortedIndex()
+        val later = this.createDocument("p1", "apple", 500)
+        val earlier = this.createDocument("p1", "apple", 100)
+        sortedIndex.addDocument(later)
+        sortedIndex.addDocument(earlier)
+        earlier.validToTimestamp = 200
+
+        val entry = sortedIndex.scan(Order.ASCENDING, TextCompare.STRICT).next()
+        assertEquals(listOf(Period.createRange(100, 200), Period.createOpenEndedRange(500)), entry.validPeriods)
+
+        sortedIndex.removeDocument(earlier)
+        sortedIndex.removeDocument(later)
+        assertEquals(true, sortedIndex.isEmpty)
+        assertEquals(false, sortedIndex.scan(Order.ASCENDING, TextCompare.STRICT).hasNext())
+    }
+
+    @Test
+    fun candidateDocumentsAreRestrictedToTheSearchRange() {
+        val sortedIndex = InMemorySortedIndex()
+        for ((i, name) in listOf("apple", "apricot", "banana", "blueberry", "cherry", "app").withIndex()) {
+            sortedIndex.addDocument(this.createDocument("p${i}", name, 100))
+        }
+
+        val equalsSearch = StringSearchSpecification.create(this.index, Condition.EQUALS, TextMatchMode.STRICT, "banana")
+        assertEquals(listOf("banana"), sortedIndex.getCandidateDocuments(equalsSearch).map { it.indexedValue }.collect(Collectors.toList()))
+
+        val prefixSearch = StringSearchSpecification.create(this.index, StringCondition.STARTS_WITH, TextMatchMode.STRICT, "ap")
+        assertEquals(listOf("app", "apple", "apricot"), sortedIndex.getCandidateDocuments(prefixSearch).map { it.indexedValue }.collect(Collectors.toList()))
+
+        // case-insensitive searches can't be narrowed, the caller has to filter
+        val caseInsensitiveSearch = StringSearchSpecification.create(this.index, Condition.EQUALS, TextMatchMode.CASE_INSENSITIVE, "BANANA")
+        assertEquals(6L, sortedIndex.getCandidateDocuments(caseInsensitiveSearch).count())
+    }
+
+    private fun createDocument(key: String, value: String, validFrom: Long): ChronoIndexDocumentImpl {
+        return ChronoIndexDocumentImpl(this.index, ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, ChronoDBConstants.DEFAULT_KEYSPACE_NAME, key, value, validFrom)
+    }
+
+}
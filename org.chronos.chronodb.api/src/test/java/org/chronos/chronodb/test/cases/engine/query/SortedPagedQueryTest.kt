@@ -0,0 +1,113 @@
+package org.chronos.chronodb.test.cases.engine.query
+
+import org.chronos.chronodb.api.NullSortPosition.NULLS_FIRST
+import org.chronos.chronodb.api.NullSortPosition.NULLS_LAST
+import org.chronos.chronodb.api.Order.ASCENDING
+import org.chronos.chronodb.api.Order.DESCENDING
+import org.chronos.chronodb.api.builder.query.QueryBuilderFinalizer
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest
+import org.chronos.chronodb.test.cases.util.model.person.FirstNameIndexer
+import org.chronos.chronodb.test.cases.util.model.person.LastNameIndexer
+import org.chronos.chronodb.test.cases.util.model.person.PetsIndexer
+import org.chronos.common.test.utils.model.person.Person
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class SortedPagedQueryTest : AllChronoDBBackendsTest() {
+
+    @Test
+    fun canSortAndPageQueryResults() {
+        this.createPersons()
+        val tx = this.chronoDB.tx()
+
+        // the last names are assigned in reverse order of the keys
+        assertEquals(
+            listOf("p178", "p176", "p174", "p172", "p170"),
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John")
+                .orderBy("lastName", ASCENDING).offset(10).limit(5).keyList()
+        )
+        assertEquals(
+            listOf("p020", "p022", "p024", "p026", "p028"),
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John")
+                .orderBy("lastName", DESCENDING).offset(10).limit(5).keyList()
+        )
+        // values are delivered in the same order
+        assertEquals(
+            listOf("Name199", "Name197"),
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John")
+                .orderBy("lastName", DESCENDING).limit(2).values.asSequence().map { (it as Person).lastName }.toList()
+        )
+        // a page beyond the end of the result is empty
+        assertEquals(
+            emptyList<String>(),
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John")
+                .orderBy("lastName", ASCENDING).offset(100).limit(5).keyList()
+        )
+        // without a limit, the entire sorted result is returned
+        assertEquals(
+            (0 until 200 step 2).map { "p%03d".format(it) },
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John")
+                .orderBy("lastName", DESCENDING).keyList()
+        )
+    }
+
+    @Test
+    fun canSortAndPageQueryResultsWithNullValues() {
+        this.createPersons()
+        val tx = this.chronoDB.tx()
+
+        // every tenth person has no pet, those are sorted by primary key
+        assertEquals(
+            listOf("p000", "p010", "p020"),
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John")
+                .orderBy("pets", ASCENDING, NULLS_FIRST).limit(3).keyList()
+        )
+        assertEquals(
+            listOf("p002", "p004", "p006"),
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John")
+                .orderBy("pets", ASCENDING, NULLS_LAST).limit(3).keyList()
+        )
+        // 80 of the 100 Johns have a pet, so this page consists of the last Johns without a pet
+        assertEquals(
+            listOf("p150", "p160", "p170", "p180", "p190"),
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John")
+                .orderBy("pets", ASCENDING, NULLS_LAST).offset(95).limit(10).keyList()
+        )
+    }
+
+    @Test
+    fun canPageUnsortedQueryResults() {
+        this.createPersons()
+        val tx = this.chronoDB.tx()
+
+        val allKeys = tx.find().inDefaultKeyspace().where("firstName").isEqualTo("Jane").keyList().toSet()
+        assertEquals(100, allKeys.size)
+        val page = tx.find().inDefaultKeyspace().where("firstName").isEqualTo("Jane").offset(90).limit(20).keyList()
+        assertEquals(10, page.size)
+        assertEquals(true, allKeys.containsAll(page))
+    }
+
+    private fun createPersons() {
+        val db = this.chronoDB
+        val indexManager = db.indexManager
+        indexManager.createIndex().withName("firstName").withIndexer(FirstNameIndexer()).onMaster().acrossAllTimestamps().build()
+        indexManager.createIndex().withName("lastName").withIndexer(LastNameIndexer()).onMaster().acrossAllTimestamps().build()
+        indexManager.createIndex().withName("pets").withIndexer(PetsIndexer()).onMaster().acrossAllTimestamps().build()
+        indexManager.reindexAll()
+
+        val tx = db.tx()
+        for (i in 0 until 200) {
+            val person = Person(if (i % 2 == 0) "John" else "Jane", "Name%03d".format(199 - i))
+            if (i % 10 != 0) {
+                person.pets = setOf("Pet%03d".format(i))
+            }
+            tx.put("p%03d".format(i), person)
+        }
+        tx.commit()
+    }
+
+    private fun QueryBuilderFinalizer.keyList(): List<String> {
+        return this.keys.asSequence().map { it.key }.toList()
+    }
+
+}
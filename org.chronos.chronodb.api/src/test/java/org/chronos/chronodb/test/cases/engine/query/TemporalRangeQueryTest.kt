@@ -0,0 +1,130 @@
+package org.chronos.chronodb.test.cases.engine.query
+
+import org.chronos.chronodb.api.key.QualifiedKey
+import org.chronos.chronodb.internal.api.Period
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest
+import org.chronos.chronodb.test.cases.util.model.person.FirstNameIndexer
+import org.chronos.chronodb.test.cases.util.model.person.LastNameIndexer
+import org.chronos.common.test.utils.model.person.Person
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class TemporalRangeQueryTest : AllChronoDBBackendsTest() {
+
+    @Test
+    fun canFindKeysWhichMatchedAtAnyTimeInRange() {
+        val t = this.createHistory()
+        val tx = this.chronoDB.tx()
+
+        assertEquals(
+            mapOf(
+                "a" to listOf(Period.createRange(t[0], t[1]), Period.createRange(t[3], t[3] + 1)),
+                "c" to listOf(Period.createRange(t[2], t[3] + 1))
+            ),
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John").getMatchPeriodsBetween(t[0], t[3]).byKey()
+        )
+        // "a" is not called "John" at any point in this range
+        assertEquals(
+            mapOf("c" to listOf(Period.createRange(t[2], t[2] + 1))),
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John").getMatchPeriodsBetween(t[1], t[2]).byKey()
+        )
+        // a range before the first commit has no matches
+        assertEquals(
+            emptyMap<String, List<Period>>(),
+            tx.find().inDefaultKeyspace().where("firstName").isEqualTo("John").getMatchPeriodsBetween(0, t[0] - 1).byKey()
+        )
+    }
+
+    @Test
+    fun canCombineConditionsInRangeQueries() {
+        val t = this.createHistory()
+        val tx = this.chronoDB.tx()
+
+        assertEquals(
+            mapOf(
+                "a" to listOf(Period.createRange(t[1], t[3])),
+                "b" to listOf(Period.createRange(t[0], t[2]))
+            ),
+            tx.find().inDefaultKeyspace()
+                .where("firstName").isEqualTo("Jane")
+                .and().where("lastName").isEqualTo("Doe")
+                .getMatchPeriodsBetween(t[0], t[3]).byKey()
+        )
+        // the periods of both conditions are merged for the key "a"
+        assertEquals(
+            mapOf(
+                "a" to listOf(Period.createRange(t[0], t[3] + 1)),
+                "b" to listOf(Period.createRange(t[0], t[2])),
+                "c" to listOf(Period.createRange(t[0], t[2]))
+            ),
+            tx.find().inDefaultKeyspace()
+                .where("firstName").isEqualTo("Jack")
+                .or().where("lastName").isEqualTo("Doe")
+                .getMatchPeriodsBetween(t[0], t[3]).byKey()
+        )
+        assertEquals(
+            mapOf(
+                "a" to listOf(Period.createRange(t[1], t[3])),
+                "b" to listOf(Period.createRange(t[0], t[2])),
+                "c" to listOf(Period.createRange(t[0], t[2]))
+            ),
+            tx.find().inDefaultKeyspace().where("firstName").isNotEqualTo("John").getMatchPeriodsBetween(t[0], t[3]).byKey()
+        )
+    }
+
+    @Test
+    fun rangeQueriesRespectBranches() {
+        val t = this.createHistory()
+        val db = this.chronoDB
+        db.branchManager.createBranch("test")
+        val branchTx = db.tx("test")
+        branchTx.put("a", Person("Jack", "Doe"))
+        val t4 = branchTx.commit()
+
+        assertEquals(
+            mapOf(
+                "a" to listOf(Period.createRange(t[0], t[1]), Period.createRange(t[3], t4)),
+                "c" to listOf(Period.createRange(t[2], t4 + 1))
+            ),
+            db.tx("test").find().inDefaultKeyspace().where("firstName").isEqualTo("John").getMatchPeriodsBetween(t[0], t4).byKey()
+        )
+        // the master branch is unaffected
+        assertEquals(
+            mapOf(
+                "a" to listOf(Period.createRange(t[0], t[1]), Period.createRange(t[3], t[3] + 1)),
+                "c" to listOf(Period.createRange(t[2], t[3] + 1))
+            ),
+            db.tx().find().inDefaultKeyspace().where("firstName").isEqualTo("John").getMatchPeriodsBetween(t[0], t[3]).byKey()
+        )
+    }
+
+    /**
+     * Creates four commits and returns their timestamps.
+     */
+    private fun createHistory(): List<Long> {
+        val db = this.chronoDB
+        val indexManager = db.indexManager
+        indexManager.createIndex().withName("firstName").withIndexer(FirstNameIndexer()).onMaster().acrossAllTimestamps().build()
+        indexManager.createIndex().withName("lastName").withIndexer(LastNameIndexer()).onMaster().acrossAllTimestamps().build()
+        indexManager.reindexAll()
+
+        val tx = db.tx()
+        tx.put("a", Person("John", "Doe"))
+        tx.put("b", Person("Jane", "Doe"))
+        tx.put("c", Person("Jack", "Smith"))
+        val t0 = tx.commit()
+        tx.put("a", Person("Jane", "Doe"))
+        val t1 = tx.commit()
+        tx.remove("b")
+        tx.put("c", Person("John", "Smith"))
+        val t2 = tx.commit()
+        tx.put("a", Person("John", "Doe"))
+        val t3 = tx.commit()
+        return listOf(t0, t1, t2, t3)
+    }
+
+    private fun Map<QualifiedKey, List<Period>>.byKey(): Map<String, List<Period>> {
+        return this.mapKeys { it.key.key }
+    }
+
+}
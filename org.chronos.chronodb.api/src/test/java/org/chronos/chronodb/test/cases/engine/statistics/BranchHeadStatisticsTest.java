@@ -103,4 +103,41 @@ public class BranchHeadStatisticsTest extends AllChronoDBBackendsTest {
     }
 
 
+    @Test
+    public void keyspaceStatisticsAreMaintainedOnCommit(){
+        ChronoDB db = this.getChronoDB();
+        StatisticsManager statisticsManager = db.getStatisticsManager();
+
+        ChronoDBTransaction tx = db.tx();
+        tx.put("Hello", "World");
+        tx.put("math", "pi", 3.14);
+        tx.commit();
+
+        // load the statistics, so that the next commit updates them instead of recalculating them
+        assertThat(statisticsManager.getMasterBranchHeadStatistics().getKeyspaceStatistics().keySet(), hasItems(ChronoDBConstants.DEFAULT_KEYSPACE_NAME, "math"));
+
+        tx.put("Hello", "Chronos");
+        tx.put("Foo", "Bar");
+        tx.put("math", "e", 2.71);
+        tx.remove("math", "pi");
+        tx.commit();
+
+        KeyspaceStatistics defaultKeyspace = statisticsManager.getKeyspaceStatistics(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, ChronoDBConstants.DEFAULT_KEYSPACE_NAME);
+        assertThat(defaultKeyspace.getNumberOfEntriesInHead(), is(2L));
+        assertThat(defaultKeyspace.getTotalNumberOfEntries(), is(3L));
+        assertThat(defaultKeyspace.getNumberOfEntriesInHistory(), is(1L));
+        assertThat(defaultKeyspace.getAverageValueSize(), is(greaterThan(0.0)));
+
+        KeyspaceStatistics mathKeyspace = statisticsManager.getKeyspaceStatistics(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, "math");
+        assertThat(mathKeyspace.getNumberOfEntriesInHead(), is(1L));
+        assertThat(mathKeyspace.getTotalNumberOfEntries(), is(3L));
+        assertThat(statisticsManager.getKeyspaceStatistics(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, "unknown"), is(nullValue()));
+
+        // the incrementally maintained statistics must match a full recalculation
+        KeyspaceStatistics recalculated = this.getMasterTkvs(db).calculateBranchHeadStatistics().getKeyspaceStatistics().get("math");
+        assertThat(mathKeyspace.getNumberOfEntriesInHead(), is(recalculated.getNumberOfEntriesInHead()));
+        assertThat(mathKeyspace.getTotalNumberOfEntries(), is(recalculated.getTotalNumberOfEntries()));
+        assertThat(mathKeyspace.getAverageValueSize(), is(recalculated.getAverageValueSize()));
+    }
+
 }
@@ -4,6 +4,7 @@ import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.ChronoDBConstants;
 import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronodb.api.PutOption;
+import org.chronos.chronodb.api.conflict.ConflictResolutionStrategy;
 import org.chronos.chronodb.api.key.QualifiedKey;
 import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
 import org.chronos.common.test.utils.NamedPayload;
@@ -54,4 +55,55 @@ public class PutOptionsTest extends AllChronoDBBackendsTest {
         assertEquals("four", ((NamedPayload) tx.get("four")).getName());
     }
 
+    @Test
+    public void noIndexChangesOptionSkipsIndexing() {
+        ChronoDB db = this.getChronoDB();
+        db.getIndexManager().createIndex().withName("name").withIndexer(new NamedPayloadNameIndexer()).onMaster().acrossAllTimestamps().build();
+        db.getIndexManager().reindexAll();
+
+        ChronoDBTransaction tx = db.tx();
+        tx.put("one", NamedPayload.create1KB("one"));
+        tx.commit();
+
+        // we (wrongly) claim that the indexed value did not change, so the index must not be updated.
+        tx = db.tx();
+        tx.put("one", NamedPayload.create1KB("uno"), PutOption.NO_INDEX_CHANGES);
+        tx.commit();
+
+        assertEquals(Collections.singleton("one"), this.findKeysByName(tx, "one"));
+        assertEquals(Collections.emptySet(), this.findKeysByName(tx, "uno"));
+        assertEquals("uno", ((NamedPayload) tx.get("one")).getName());
+    }
+
+    @Test
+    public void noIndexChangesOptionIsIgnoredIfValueIsMergedWithConcurrentChange() {
+        ChronoDB db = this.getChronoDB();
+        db.getIndexManager().createIndex().withName("name").withIndexer(new NamedPayloadNameIndexer()).onMaster().acrossAllTimestamps().build();
+        db.getIndexManager().reindexAll();
+
+        ChronoDBTransaction setupTx = db.tx();
+        setupTx.put("one", NamedPayload.create1KB("one"));
+        setupTx.commit();
+
+        ChronoDBTransaction tx1 = db.txBuilder().withConflictResolutionStrategy(ConflictResolutionStrategy.OVERWRITE_WITH_SOURCE).build();
+        // a concurrent transaction changes the indexed value
+        ChronoDBTransaction tx2 = db.tx();
+        tx2.put("one", NamedPayload.create1KB("uno"));
+        tx2.commit();
+        // from the perspective of tx1, the indexed value does not change...
+        tx1.put("one", NamedPayload.create1KB("one"), PutOption.NO_INDEX_CHANGES);
+        // ... but after the merge, it does (compared to the state written by tx2)
+        tx1.commit();
+
+        ChronoDBTransaction tx = db.tx();
+        assertEquals("one", ((NamedPayload) tx.get("one")).getName());
+        assertEquals(Collections.singleton("one"), this.findKeysByName(tx, "one"));
+        assertEquals(Collections.emptySet(), this.findKeysByName(tx, "uno"));
+    }
+
+    private Set<String> findKeysByName(final ChronoDBTransaction tx, final String name) {
+        Set<QualifiedKey> keys = tx.find().inDefaultKeyspace().where("name").isEqualTo(name).getKeysAsSet();
+        return keys.stream().map(QualifiedKey::getKey).collect(Collectors.toSet());
+    }
+
 }
@@ -0,0 +1,126 @@
+package org.chronos.chronodb.test.cases.temporal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.chronos.chronodb.api.Order;
+import org.chronos.chronodb.api.key.TemporalKey;
+import org.chronos.chronodb.inmemory.CompactTemporalInMemoryMatrix;
+import org.chronos.chronodb.inmemory.TemporalInMemoryMatrix;
+import org.chronos.chronodb.internal.api.GetResult;
+import org.chronos.chronodb.internal.api.TemporalDataMatrix;
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
+import org.chronos.chronodb.internal.util.KeySetModifications;
+import org.chronos.chronodb.test.base.ChronoDBUnitTest;
+import org.chronos.common.test.junit.categories.UnitTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+@Category(UnitTest.class)
+public class CompactTemporalInMemoryMatrixTest extends ChronoDBUnitTest {
+
+    private static final List<String> KEYS = Lists.newArrayList("a", "b", "c", "d");
+
+    @Test
+    public void behavesLikeTheSkipListMatrix() {
+        TemporalDataMatrix expected = new TemporalInMemoryMatrix("default", 0);
+        TemporalDataMatrix actual = new CompactTemporalInMemoryMatrix("default", 0);
+        this.put(expected, actual, 10, "a", "a1", "b", "b1");
+        this.put(expected, actual, 20, "c", "c1");
+        this.put(expected, actual, 30, "a", "a2", "b", null);
+        this.put(expected, actual, 40, "d", "d1", "b", "b2");
+        this.put(expected, actual, 50, "a", null);
+        this.assertSameContents(expected, actual);
+
+        expected.rollback(40);
+        actual.rollback(40);
+        this.assertSameContents(expected, actual);
+
+        assertEquals(expected.purgeEntries(Sets.newHashSet(UnqualifiedTemporalKey.create("a", 30), UnqualifiedTemporalKey.create("x", 30))),
+            actual.purgeEntries(Sets.newHashSet(UnqualifiedTemporalKey.create("a", 30), UnqualifiedTemporalKey.create("x", 30))));
+        this.assertSameContents(expected, actual);
+
+        assertEquals(expected.purgeAllEntriesInTimeRange(15, 30), actual.purgeAllEntriesInTimeRange(15, 30));
+        this.assertSameContents(expected, actual);
+
+        this.put(expected, actual, 60, "c", "c2", "a", "a3");
+        this.assertSameContents(expected, actual);
+    }
+
+    @Test
+    public void canInsertEntriesIntoThePast() {
+        TemporalDataMatrix matrix = new CompactTemporalInMemoryMatrix("default", 1000);
+        Map<String, byte[]> contents = Maps.newHashMap();
+        contents.put("a", new byte[]{3});
+        matrix.put(1000, contents);
+        matrix.insertEntries(Sets.newHashSet(
+            new UnqualifiedTemporalEntry(UnqualifiedTemporalKey.create("a", 500), new byte[]{1}),
+            new UnqualifiedTemporalEntry(UnqualifiedTemporalKey.create("a", 700), new byte[]{2})
+        ), false);
+        assertEquals(500, matrix.getCreationTimestamp());
+        assertEquals(3, matrix.size());
+        assertArrayEquals(new byte[]{1}, matrix.get(600, "a").getValue());
+        assertArrayEquals(new byte[]{2}, matrix.get(999, "a").getValue());
+        assertArrayEquals(new byte[]{3}, matrix.get(1000, "a").getValue());
+        assertEquals(Lists.newArrayList(1000L, 700L, 500L), Lists.newArrayList(matrix.history("a", 0, 2000, Order.DESCENDING)));
+        assertEquals(Lists.newArrayList(500L, 700L), Lists.newArrayList(matrix.getCommitTimestampsBetween(0, 999)));
+    }
+
+    // =================================================================================================================
+    // HELPER METHODS
+    // =================================================================================================================
+
+    private void put(final TemporalDataMatrix expected, final TemporalDataMatrix actual, final long timestamp, final String... keysAndValues) {
+        Map<String, byte[]> contents = Maps.newHashMap();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            String value = keysAndValues[i + 1];
+            contents.put(keysAndValues[i], value == null ? null : value.getBytes());
+        }
+        expected.put(timestamp, contents);
+        actual.put(timestamp, contents);
+    }
+
+    private void assertSameContents(final TemporalDataMatrix expected, final TemporalDataMatrix actual) {
+        assertEquals(expected.size(), actual.size());
+        for (long timestamp = 0; timestamp <= 70; timestamp += 5) {
+            for (String key : KEYS) {
+                GetResult<byte[]> expectedResult = expected.get(timestamp, key);
+                GetResult<byte[]> actualResult = actual.get(timestamp, key);
+                assertArrayEquals(expectedResult.getValue(), actualResult.getValue());
+                assertEquals(expectedResult.getPeriod(), actualResult.getPeriod());
+                assertEquals(expected.lastCommitTimestamp(key, timestamp), actual.lastCommitTimestamp(key, timestamp));
+                assertEquals(Lists.newArrayList(expected.history(key, 0, timestamp, Order.ASCENDING)), Lists.newArrayList(actual.history(key, 0, timestamp, Order.ASCENDING)));
+                assertEquals(Lists.newArrayList(expected.history(key, timestamp, 70, Order.DESCENDING)), Lists.newArrayList(actual.history(key, timestamp, 70, Order.DESCENDING)));
+            }
+            KeySetModifications expectedModifications = expected.keySetModifications(timestamp);
+            KeySetModifications actualModifications = actual.keySetModifications(timestamp);
+            assertEquals(expectedModifications.getAdditions(), actualModifications.getAdditions());
+            assertEquals(expectedModifications.getRemovals(), actualModifications.getRemovals());
+            assertEquals(Lists.newArrayList(expected.getChangedKeysAtCommit(timestamp)), Lists.newArrayList(actual.getChangedKeysAtCommit(timestamp)));
+        }
+        List<TemporalKey> expectedModifications = Lists.newArrayList(expected.getModificationsBetween(0, 70));
+        assertEquals(expectedModifications, Lists.newArrayList(actual.getModificationsBetween(0, 70)));
+        assertEquals(Lists.newArrayList(expected.getCommitTimestampsBetween(0, 70)), Lists.newArrayList(actual.getCommitTimestampsBetween(0, 70)));
+        assertEquals(this.allEntries(expected), this.allEntries(actual));
+    }
+
+    private List<String> allEntries(final TemporalDataMatrix matrix) {
+        try (CloseableIterator<UnqualifiedTemporalEntry> iterator = matrix.allEntriesIterator(0, 70)) {
+            List<String> entries = Lists.newArrayList();
+            while (iterator.hasNext()) {
+                UnqualifiedTemporalEntry entry = iterator.next();
+                entries.add(entry.getKey() + "=" + Arrays.toString(entry.getValue()));
+            }
+            return entries;
+        }
+    }
+
+}
@@ -4,9 +4,11 @@ import com.google.common.collect.Lists
 import org.apache.commons.io.FileUtils
 import org.chronos.chronodb.api.ChronoDBConstants
 import org.chronos.chronodb.api.exceptions.ChronoDBBackupException
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration
 import org.chronos.chronodb.internal.impl.dump.incremental.CibFileReader
 import org.chronos.chronodb.internal.util.ChronosFileUtils
 import org.chronos.chronodb.test.base.AllChronoDBBackendsTest
+import org.chronos.chronodb.test.base.InstantiateChronosWith
 import org.chronos.common.testing.kotlin.ext.beNull
 import org.chronos.common.testing.kotlin.ext.should
 import org.chronos.common.testing.kotlin.ext.shouldBe
@@ -295,6 +297,45 @@ class IncrementalBackupTest : AllChronoDBBackendsTest() {
     }
 
 
+    @Test
+    @InstantiateChronosWith(property = ChronoDBConfiguration.BACKUP_PARALLELISM, value = "4")
+    fun canExportAndImportMultipleChunksInParallel(){
+        val db = this.chronoDB
+        assumeIncrementalBackupIsSupported(db)
+
+        // create a couple of chunks, each of which contains a commit
+        val commits = mutableListOf<Long>()
+        for(i in 0 until 5){
+            val tx = db.tx()
+            tx.put("key${i}", i)
+            tx.put("counter", i)
+            commits.add(tx.commit("commit ${i}"))
+            db.maintenanceManager.performRolloverOnAllBranches()
+        }
+
+        val backup = db.backupManager.createIncrementalBackup(0L, 0L)
+        try{
+            val statistics = backup.statistics
+            assertNotNull(statistics)
+            assertThat(statistics!!.parallelism, `is`(4))
+            assertThat(statistics.chunkCount, `is`(greaterThan(1)))
+            assertThat(statistics.byteCount, `is`(greaterThan(0L)))
+            val now = db.tx().timestamp
+
+            val newDB = this.reinstantiateDB()
+            newDB.backupManager.loadIncrementalBackups(listOf(backup.cibFile))
+
+            newDB.tx().timestamp shouldBe now
+            for(i in 0 until 5){
+                newDB.tx(commits[i]).get<Int>("counter") shouldBe i
+                newDB.tx().get<Int>("key${i}") shouldBe i
+            }
+            newDB.tx().getCommitTimestampsBetween(0, commits.last()).asSequence().toList() shouldBe commits.reversed()
+        }finally{
+            backup.cibFile.parentFile.deleteRecursively()
+        }
+    }
+
     @Test(expected = ChronoDBBackupException::class)
     fun canNotReadSimpleBackupOfCorruptedBackup() {
         val db = this.chronoDB
@@ -0,0 +1,83 @@
+package org.chronos.chronodb.exodus.manager;
+
+import com.google.common.collect.Maps;
+import org.chronos.chronodb.api.BranchHeadStatistics;
+import org.chronos.chronodb.api.KeyspaceStatistics;
+import org.chronos.chronodb.internal.impl.BranchHeadStatisticsImpl;
+import org.chronos.chronodb.internal.impl.KeyspaceStatisticsImpl;
+import org.chronos.common.annotation.PersistentClass;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * The persistent form of the {@link BranchHeadStatistics} of a single branch.
+ *
+ * <p>
+ * The statistics are stamped with the "now" timestamp of the branch they refer to. Statistics with a different stamp
+ * are outdated (e.g. because the commit which wrote them has been rolled back on startup) and must be recalculated.
+ */
+@PersistentClass("kryo")
+public class ExodusBranchStatistics {
+
+    private long timestamp;
+    private Map<String, ExodusKeyspaceStatistics> keyspaceStatistics;
+
+    private ExodusBranchStatistics() {
+        // default constructor for deserialization
+    }
+
+    public ExodusBranchStatistics(long timestamp, BranchHeadStatistics statistics) {
+        checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+        checkNotNull(statistics, "Precondition violation - argument 'statistics' must not be NULL!");
+        this.timestamp = timestamp;
+        this.keyspaceStatistics = Maps.newHashMap();
+        for (KeyspaceStatistics keyspaceStatistics : statistics.getKeyspaceStatistics().values()) {
+            this.keyspaceStatistics.put(keyspaceStatistics.getKeyspace(), new ExodusKeyspaceStatistics(keyspaceStatistics));
+        }
+    }
+
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    public BranchHeadStatistics toBranchHeadStatistics() {
+        Map<String, KeyspaceStatistics> keyspaceToStatistics = Maps.newHashMap();
+        for (Entry<String, ExodusKeyspaceStatistics> entry : this.keyspaceStatistics.entrySet()) {
+            keyspaceToStatistics.put(entry.getKey(), entry.getValue().toKeyspaceStatistics());
+        }
+        return new BranchHeadStatisticsImpl(keyspaceToStatistics);
+    }
+
+    @PersistentClass("kryo")
+    public static class ExodusKeyspaceStatistics {
+
+        private String keyspace;
+        private long entriesInHead;
+        private long totalEntries;
+        private long valueCount;
+        private long totalValueSize;
+
+        private ExodusKeyspaceStatistics() {
+            // default constructor for deserialization
+        }
+
+        public ExodusKeyspaceStatistics(KeyspaceStatistics statistics) {
+            checkNotNull(statistics, "Precondition violation - argument 'statistics' must not be NULL!");
+            this.keyspace = statistics.getKeyspace();
+            this.entriesInHead = statistics.getNumberOfEntriesInHead();
+            this.totalEntries = statistics.getTotalNumberOfEntries();
+            if (statistics instanceof KeyspaceStatisticsImpl) {
+                this.valueCount = ((KeyspaceStatisticsImpl) statistics).getValueCount();
+                this.totalValueSize = ((KeyspaceStatisticsImpl) statistics).getTotalValueSize();
+            }
+        }
+
+        public KeyspaceStatistics toKeyspaceStatistics() {
+            return new KeyspaceStatisticsImpl(this.keyspace, this.entriesInHead, this.totalEntries, this.valueCount, this.totalValueSize);
+        }
+    }
+
+}
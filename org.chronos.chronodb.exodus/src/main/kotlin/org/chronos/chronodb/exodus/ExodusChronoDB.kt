@@ -81,6 +81,7 @@ class ExodusChronoDB : AbstractChronoDB {
         this.backupManager = ExodusBackupManager(this)
         this.cache = ChronoDBCache.createCacheForConfiguration(configuration)
         this.addShutdownHook {
+            (this.branchManager as ExodusBranchManager).close()
             this.globalChunkManager.close()
         }
         if (isNewDatabaseInstance) {
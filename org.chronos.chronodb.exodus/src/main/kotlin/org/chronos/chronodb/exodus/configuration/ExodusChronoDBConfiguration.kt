@@ -70,6 +70,20 @@ class ExodusChronoDBConfiguration : ChronoDBBaseConfiguration() {
          */
         const val ROLLOVER_BATCH_SIZE = ChronoDBConfiguration.NS_DOT + "storage.rollover.batch_size"
 
+        /**
+         * Determines how long (in days) the history of a branch is retained.
+         *
+         * If set, the history which is older than the given number of days is purged after each rollover
+         * on the branch. The purge only removes entire rollover periods, and never the history required by
+         * child branches. If not set, the history is retained indefinitely.
+         *
+         * Type: integer
+         * Values: any positive integer >= 1
+         * Default value: none (history is retained indefinitely)
+         * Maps to: [.retentionPeriodDays]
+         */
+        const val RETENTION_PERIOD_DAYS = ChronoDBConfiguration.NS_DOT + "storage.retention.period_days"
+
         /**
          * @see [jetbrains.exodus.env.EnvironmentConfig.MEMORY_USAGE]
          */
@@ -386,6 +400,9 @@ class ExodusChronoDBConfiguration : ChronoDBBaseConfiguration() {
     @Parameter(key = ROLLOVER_BATCH_SIZE)
     var rolloverBatchSize: Int = 50_000
 
+    @Parameter(key = RETENTION_PERIOD_DAYS, optional = true)
+    var retentionPeriodDays: Int? = null
+
     @Suppress("unused") // used in 'extractExodusConfiguration()'.
     @Parameter(key = EXODUS_MEMORY_USAGE, optional = true)
     var exodusMemoryUsage: Long? = null
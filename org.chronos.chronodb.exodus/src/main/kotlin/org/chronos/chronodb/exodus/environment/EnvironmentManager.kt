@@ -93,6 +93,13 @@ class EnvironmentManager : Closeable{
         }
     }
 
+    fun releaseEnvironments(files: Collection<File>){
+        // the proxies are removed as well, the files are about to be deleted
+        files.forEach { file ->
+            this.environmentProxies.remove(file)?.releaseEnvironmentForce()
+        }
+    }
+
     private fun assertNotClosed(){
         if(this.isClosed){
             throw IllegalStateException("Environment manager has already been closed!")
@@ -18,5 +18,6 @@ object ChronoDBDirectoryLayout {
     const val CHUNK_INFO_PROPERTIES = "chunkinfo.properties"
     const val CHUNK_LOCK_FILE = "chunk.lck"
     const val BRANCH_INFO_PROPERTIES = "branchinfo.properties"
+    const val CHUNK_MANIFEST_PROPERTIES = "chunkmanifest.properties"
 
 }
\ No newline at end of file
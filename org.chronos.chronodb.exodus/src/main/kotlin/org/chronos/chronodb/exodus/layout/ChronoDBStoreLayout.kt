@@ -4,6 +4,7 @@ object ChronoDBStoreLayout {
 
     const val STORE_NAME__BRANCH_METADATA = "chronos.management.branches"
     const val STORE_NAME__COMMIT_METADATA = "chronos.management.commitMetadata"
+    const val STORE_NAME__USER_COMMIT_TIMESTAMPS = "chronos.management.userCommitTimestamps"
     const val STORE_NAME__NAVIGATION = "chronos.management.navigation"
     const val STORE_NAME__BRANCH_TO_NOW = "chronos.management.branchToNow"
     const val STORE_NAME__BRANCH_TO_WAL = "chronos.management.branchToWAL"
@@ -11,6 +12,8 @@ object ChronoDBStoreLayout {
     const val STORE_NAME__INDEXERS = "chronos.management.indexers"
     const val STORE_NAME__INDEXDIRTY = "chronos.management.indexdirty"
     const val STORE_NAME__DATEBACK_LOG = "chronos.management.datebacklog"
+    const val STORE_NAME__DELETED_BRANCHES = "chronos.management.deletedBranches"
+    const val STORE_NAME__BRANCH_STATISTICS = "chronos.management.branchStatistics"
 
     const val STORE_NAME_PREFIX__MATRIX = "matrix_"
     const val STORE_NAME_PREFIX__SECONDARY_INDEX_STRING = "secondaryIndex_String_"
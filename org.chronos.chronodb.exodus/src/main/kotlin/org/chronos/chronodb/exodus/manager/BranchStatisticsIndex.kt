@@ -0,0 +1,56 @@
+package org.chronos.chronodb.exodus.manager
+
+import org.chronos.chronodb.exodus.kotlin.ext.parseAsString
+import org.chronos.chronodb.exodus.kotlin.ext.toByteArray
+import org.chronos.chronodb.exodus.kotlin.ext.toByteIterable
+import org.chronos.chronodb.exodus.layout.ChronoDBStoreLayout
+import org.chronos.chronodb.exodus.transaction.ExodusTransaction
+import org.chronos.common.serialization.KryoManager
+
+/**
+ * Holds the persisted [statistics][ExodusBranchStatistics] of each branch, keyed by branch name.
+ */
+object BranchStatisticsIndex {
+
+    private const val STORE_NAME = ChronoDBStoreLayout.STORE_NAME__BRANCH_STATISTICS
+
+    fun get(tx: ExodusTransaction, branchName: String): ExodusBranchStatistics? {
+        if (!tx.storeExists(STORE_NAME)) {
+            return null
+        }
+        val binary = tx.get(STORE_NAME, branchName) ?: return null
+        return KryoManager.deserialize(binary.toByteArray())
+    }
+
+    fun getBranchNames(tx: ExodusTransaction): Set<String> {
+        if (!tx.storeExists(STORE_NAME)) {
+            return emptySet()
+        }
+        return tx.withCursorOn(STORE_NAME) { cursor ->
+            val branchNames = mutableSetOf<String>()
+            while (cursor.next) {
+                branchNames.add(cursor.key.parseAsString())
+            }
+            branchNames
+        }
+    }
+
+    fun put(tx: ExodusTransaction, branchName: String, statistics: ExodusBranchStatistics) {
+        tx.put(STORE_NAME, branchName, KryoManager.serialize(statistics).toByteIterable())
+    }
+
+    fun delete(tx: ExodusTransaction, branchName: String) {
+        if (!tx.storeExists(STORE_NAME)) {
+            return
+        }
+        tx.delete(STORE_NAME, branchName)
+    }
+
+    fun deleteAll(tx: ExodusTransaction) {
+        if (!tx.storeExists(STORE_NAME)) {
+            return
+        }
+        tx.truncateStore(STORE_NAME)
+    }
+
+}
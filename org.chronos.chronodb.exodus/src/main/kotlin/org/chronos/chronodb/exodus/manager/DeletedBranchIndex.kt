@@ -0,0 +1,45 @@
+package org.chronos.chronodb.exodus.manager
+
+import org.chronos.chronodb.exodus.kotlin.ext.parseAsString
+import org.chronos.chronodb.exodus.kotlin.ext.toByteIterable
+import org.chronos.chronodb.exodus.layout.ChronoDBStoreLayout
+import org.chronos.chronodb.exodus.transaction.ExodusTransaction
+
+/**
+ * Keeps track of the branches which have been deleted, but whose directories have not been removed from disk yet.
+ *
+ * The entries are keyed by branch directory name rather than by branch name, because a new branch with the same
+ * name may be created before the directory of the deleted one is gone.
+ */
+object DeletedBranchIndex {
+
+    private const val STORE_NAME = ChronoDBStoreLayout.STORE_NAME__DELETED_BRANCHES
+
+    fun insert(tx: ExodusTransaction, directoryName: String, branchName: String) {
+        tx.put(STORE_NAME, directoryName, branchName.toByteIterable())
+    }
+
+    fun remove(tx: ExodusTransaction, directoryName: String) {
+        tx.delete(STORE_NAME, directoryName)
+    }
+
+    /**
+     * Returns the pending deletions.
+     *
+     * @param tx The transaction to work on. Must not be `null`, must be open.
+     * @return The map from branch directory name to the name of the deleted branch. May be empty, but never `null`.
+     */
+    fun getPendingDeletions(tx: ExodusTransaction): Map<String, String> {
+        val result = mutableMapOf<String, String>()
+        if (!tx.storeExists(STORE_NAME)) {
+            return result
+        }
+        tx.openCursorOn(STORE_NAME).use { cursor ->
+            while (cursor.next) {
+                result[cursor.key.parseAsString()] = cursor.value.parseAsString()
+            }
+        }
+        return result
+    }
+
+}
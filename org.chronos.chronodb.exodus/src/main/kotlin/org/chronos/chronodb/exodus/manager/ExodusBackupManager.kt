@@ -1,5 +1,7 @@
 package org.chronos.chronodb.exodus.manager
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import io.github.oshai.kotlinlogging.KotlinLogging
 import org.apache.commons.io.FileUtils
 import org.chronos.chronodb.api.Branch
 import org.chronos.chronodb.api.ChronoDBConstants
@@ -7,12 +9,16 @@ import org.chronos.chronodb.api.DumpOption
 import org.chronos.chronodb.api.dump.ChronoDBDumpFormat
 import org.chronos.chronodb.api.dump.IncrementalBackupInfo
 import org.chronos.chronodb.api.dump.IncrementalBackupResult
+import org.chronos.chronodb.api.dump.IncrementalBackupStatistics
 import org.chronos.chronodb.api.exceptions.ChronoDBBackupException
 import org.chronos.chronodb.api.exceptions.ChronoDBException
 import org.chronos.chronodb.exodus.ExodusChronoDB
 import org.chronos.chronodb.exodus.manager.chunk.ChronoChunk
 import org.chronos.chronodb.internal.api.BranchInternal
 import org.chronos.chronodb.internal.api.Period
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore
+import org.chronos.chronodb.internal.api.stream.ChronoDBEntry
+import org.chronos.chronodb.internal.api.stream.CloseableIterator
 import org.chronos.chronodb.internal.impl.dump.ChronoDBDumpUtil
 import org.chronos.chronodb.internal.impl.dump.ConverterRegistry
 import org.chronos.chronodb.internal.impl.dump.DumpOptions
@@ -24,11 +30,23 @@ import org.chronos.chronodb.internal.impl.engines.base.AbstractBackupManager
 import org.chronos.chronodb.internal.util.ChronosFileUtils
 import org.chronos.common.version.ChronosVersion
 import java.io.File
+import java.nio.channels.FileChannel
 import java.nio.file.Files
+import java.nio.file.StandardOpenOption
 import java.util.*
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
 
 class ExodusBackupManager(owningDB: ExodusChronoDB) : AbstractBackupManager(owningDB) {
 
+    companion object {
+
+        private val log = KotlinLogging.logger {}
+
+    }
+
     private val owningDb: ExodusChronoDB
         get() = super.getOwningDb() as ExodusChronoDB
 
@@ -43,10 +61,13 @@ class ExodusBackupManager(owningDB: ExodusChronoDB) : AbstractBackupManager(owni
         Files.createDirectory(filesDir.toPath())
 
         // export the actual chunk data
-        this.owningDb.lockNonExclusive().use {
+        val parallelism = this.owningDb.configuration.backupParallelism
+        val exportStartTime = System.currentTimeMillis()
+        val exportedChunkFiles = this.owningDb.lockNonExclusive().use {
             // evaluate which chunks we need to export:
             // - chunks which have commits after "minTimestamp" OR
             // - chunks which are affected by dateback operations with a wall clock time after "lastRequestWallClockTime"
+            val chunkExports = mutableListOf<ChunkExport>()
             this.owningDb.branchManager.branches.forEach { branch ->
                 val datebackOperationsSinceLastRequest = this.owningDb.datebackManager.getDatebackOperationsPerformedBetween(
                         branch.name,
@@ -66,11 +87,23 @@ class ExodusBackupManager(owningDB: ExodusChronoDB) : AbstractBackupManager(owni
                     // branch has changed since the last backup -> export
                     val chunkManager = this.owningDb.globalChunkManager.getChunkManagerForBranch(branch.name)
                     chunkManager.getChunksForPeriod(Period.createOpenEndedRange(startTime)).forEach { chunk ->
-                        this.exportChunk(filesDir, branch, chunk)
+                        chunkExports.add(this.prepareChunkExport(filesDir, branch, chunk))
                     }
                 }
             }
+            // chunks are independent of each other, so they can be written concurrently. The worker threads
+            // only read the matrices of the chunks; everything which requires a lock has been prepared above.
+            this.runInParallel(parallelism, "chronodb-backup-export-%d", chunkExports.map { chunkExport ->
+                Callable { this.exportChunk(chunkExport) }
+            })
         }
+        val exportStatistics = IncrementalBackupStatistics(
+                exportedChunkFiles.size,
+                exportedChunkFiles.sumOf { it.length() },
+                System.currentTimeMillis() - exportStartTime,
+                parallelism
+        )
+        log.info { "Exported chunks for incremental backup: ${exportStatistics}" }
 
         // export the global data into an XML
         val globals = this.extractGlobalData()
@@ -98,7 +131,7 @@ class ExodusBackupManager(owningDB: ExodusChronoDB) : AbstractBackupManager(owni
         // delete the "files" directory
         FileUtils.deleteDirectory(filesDir)
 
-        return IncrementalBackupResult(cibFile, metadata)
+        return IncrementalBackupResult(cibFile, metadata, exportStatistics)
     }
 
     override fun loadIncrementalBackups(cibFiles: List<File>) {
@@ -113,10 +146,10 @@ class ExodusBackupManager(owningDB: ExodusChronoDB) : AbstractBackupManager(owni
             }
             val tmpDir = Files.createTempDirectory("ChronosBackupImport").toFile()
             try {
-                val metadataToDir = filteredList.asSequence()
-                        .mapIndexed { i, cibFile -> extractAndValidateCIBFile(tmpDir, i, cibFile) }
-                        .sortedBy { it.first.now }
-                        .toList()
+                val parallelism = this.owningDb.configuration.backupParallelism
+                val metadataToDir = this.runInParallel(parallelism, "chronodb-backup-extract-%d", filteredList.mapIndexed { i, cibFile ->
+                    Callable { extractAndValidateCIBFile(tmpDir, i, cibFile) }
+                }).sortedBy { it.first.now }
 
                 if(metadataToDir[0].first.requestStartTimestamp != 0L) {
                     throw ChronoDBException("The given set of incremental backup files is incomplete: The base file is missing!")
@@ -128,18 +161,17 @@ class ExodusBackupManager(owningDB: ExodusChronoDB) : AbstractBackupManager(owni
                 // we made sure the backup is complete until the request timestamp, copy the chunks
                 val mergedDir = File(tmpDir, "Merged")
                 Files.createDirectory(mergedDir.toPath())
-                metadataToDir.forEach { FileUtils.copyDirectory(it.second, mergedDir) }
+                this.mergeDirectories(metadataToDir.map { it.second }, mergedDir, parallelism)
 
                 // we have all the chunks in the Merge-Directory, load the data
                 val filesDir = File(mergedDir, "files")
                 val globalXML = File(filesDir, "global.xml")
-                val options = DumpOptions(DumpOption.FORCE_BINARY_ENCODING)
-                val converterRegistry = ConverterRegistry(options)
                 val metadata = ChronoDBDumpFormat.createInput(globalXML, DumpOptions()).use { input ->
                     input.next() as ChronoDBDumpMetadata
                 }
                 ChronoDBDumpUtil.createBranches(this.owningDb, metadata)
                 ChronoDBDumpUtil.loadDatebackLog(this.owningDb, metadata)
+                val chunkImports = mutableListOf<Pair<Branch, File>>()
                 this.owningDb.branchManager.branches.forEach { branch ->
                     val branchDir = File(filesDir, branch.directoryName)
                     // all chunks in a branch have sequence numbers starting at 0
@@ -149,25 +181,19 @@ class ExodusBackupManager(owningDB: ExodusChronoDB) : AbstractBackupManager(owni
                         if(!chunkXML.exists()){
                             break
                         }
-                        ChronoDBDumpFormat.createInput(chunkXML, DumpOptions()).use { chunkInput ->
-                            val chunkDumpMetadata = chunkInput.next() as ChunkDumpMetadata
-                            val branchChunkManager = this.owningDb.globalChunkManager.getChunkManagerForBranch(branch.name)
-                            branchChunkManager.createEmptyChunkFromBackup(chunkDumpMetadata)
-                            val entries = chunkInput.asIterator().asSequence()
-                                    .filterIsInstance<ChronoDBDumpEntry<*>>()
-                                    .map { ChronoDBDumpUtil.convertDumpEntryToDBEntry(
-                                            it,
-                                            this.owningDb.serializationManager,
-                                            converterRegistry
-                                    ) }.toList()
-
-                            this.owningDb.loadEntriesIntoChunks(entries)
-                            val tkvs = (branch as BranchInternal).temporalKeyValueStore
-                            chunkDumpMetadata.commitMetadata.forEach { commit -> tkvs.commitMetadataStore.put(commit.timestamp, commit.metadata) }
-                            sequenceNumber++
-                        }
+                        chunkImports.add(branch to chunkXML)
+                        sequenceNumber++
                     }
                 }
+                val importStartTime = System.currentTimeMillis()
+                this.importChunks(chunkImports, parallelism)
+                val importStatistics = IncrementalBackupStatistics(
+                        chunkImports.size,
+                        chunkImports.sumOf { it.second.length() },
+                        System.currentTimeMillis() - importStartTime,
+                        parallelism
+                )
+                log.info { "Imported chunks from incremental backup: ${importStatistics}" }
 
                 // create secondary indices
                 if (this.owningDb.requiresAutoReindexAfterDumpRead()) {
@@ -192,20 +218,35 @@ class ExodusBackupManager(owningDB: ExodusChronoDB) : AbstractBackupManager(owni
     // INTERNAL HELPER METHODS
     // =================================================================================================================
 
-    private fun exportChunk(dumpDirectory: File, branch: Branch, chunk: ChronoChunk): File {
+    private fun prepareChunkExport(dumpDirectory: File, branch: Branch, chunk: ChronoChunk): ChunkExport {
         val branchExportDir = File(dumpDirectory, branch.directoryName)
         if (!branchExportDir.exists()) {
             Files.createDirectory(branchExportDir.toPath())
         }
         val chunkExportFile = File(branchExportDir, "chunk${chunk.sequenceNumber}.xml")
+        val minTimestamp = chunk.validPeriod.lowerBound
+        // the chunk upper bound is exclusive; the search algorithm is inclusive so we subtract 1 here.
+        val maxTimestamp = chunk.validPeriod.upperBound - 1
+        val tkvs = (branch as BranchInternal).temporalKeyValueStore
+        return ChunkExport(
+                chunkExportFile,
+                extractChunkMetadata(chunk, branch),
+                tkvs,
+                tkvs.getKeyspaces(maxTimestamp),
+                minTimestamp,
+                maxTimestamp
+        )
+    }
+
+    private fun exportChunk(chunkExport: ChunkExport): File {
         val options = DumpOptions(DumpOption.FORCE_BINARY_ENCODING)
         val converterRegistry = ConverterRegistry(options)
-        ChronoDBDumpFormat.createOutput(chunkExportFile, DumpOptions()).use { output ->
-            output.write(extractChunkMetadata(chunk, branch))
-            val minTimestamp = chunk.validPeriod.lowerBound
-            // the chunk upper bound is exclusive; the search algorithm is inclusive so we subtract 1 here.
-            val maxTimestamp = chunk.validPeriod.upperBound - 1
-            this.owningDb.entryStream(branch.name, minTimestamp, maxTimestamp).use { iterator ->
+        ChronoDBDumpFormat.createOutput(chunkExport.file, DumpOptions()).use { output ->
+            output.write(chunkExport.metadata)
+            val keyspaceIterators = chunkExport.keyspaces.asSequence().map { keyspace ->
+                chunkExport.tkvs.allEntriesIterator(keyspace, chunkExport.minTimestamp, chunkExport.maxTimestamp)
+            }.iterator()
+            CloseableIterator.concat<ChronoDBEntry>(keyspaceIterators).use { iterator ->
                 ChronoDBDumpUtil.exportEntriesToDumpFormat(
                         output,
                         this.owningDb.serializationManager,
@@ -215,7 +256,113 @@ class ExodusBackupManager(owningDB: ExodusChronoDB) : AbstractBackupManager(owni
                 )
             }
         }
-        return chunkExportFile
+        return chunkExport.file
+    }
+
+    private fun importChunks(chunkImports: List<Pair<Branch, File>>, parallelism: Int) {
+        if (chunkImports.isEmpty()) {
+            return
+        }
+        // the chunk files are decoded concurrently, but loaded one after another (in sequence order) by this
+        // thread, as it holds the exclusive lock on the database. Only a bounded number of decoded chunks is
+        // held in memory at any point in time.
+        val executor = Executors.newFixedThreadPool(parallelism, ThreadFactoryBuilder()
+                .setNameFormat("chronodb-backup-import-%d")
+                .setDaemon(true)
+                .build()
+        )
+        try {
+            val pendingChunks = ArrayDeque<Pair<Branch, Future<DecodedChunk>>>()
+            for ((branch, chunkFile) in chunkImports) {
+                pendingChunks.addLast(branch to executor.submit(Callable { this.decodeChunk(chunkFile) }))
+                if (pendingChunks.size > parallelism) {
+                    val (pendingBranch, pendingChunk) = pendingChunks.removeFirst()
+                    this.loadChunk(pendingBranch, awaitResult(pendingChunk))
+                }
+            }
+            while (pendingChunks.isNotEmpty()) {
+                val (pendingBranch, pendingChunk) = pendingChunks.removeFirst()
+                this.loadChunk(pendingBranch, awaitResult(pendingChunk))
+            }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    private fun decodeChunk(chunkFile: File): DecodedChunk {
+        val options = DumpOptions(DumpOption.FORCE_BINARY_ENCODING)
+        val converterRegistry = ConverterRegistry(options)
+        return ChronoDBDumpFormat.createInput(chunkFile, DumpOptions()).use { chunkInput ->
+            val chunkDumpMetadata = chunkInput.next() as ChunkDumpMetadata
+            val entries = chunkInput.asIterator().asSequence()
+                    .filterIsInstance<ChronoDBDumpEntry<*>>()
+                    .map { ChronoDBDumpUtil.convertDumpEntryToDBEntry(
+                            it,
+                            this.owningDb.serializationManager,
+                            converterRegistry
+                    ) }.toList()
+            DecodedChunk(chunkDumpMetadata, entries)
+        }
+    }
+
+    private fun loadChunk(branch: Branch, chunk: DecodedChunk) {
+        val branchChunkManager = this.owningDb.globalChunkManager.getChunkManagerForBranch(branch.name)
+        branchChunkManager.createEmptyChunkFromBackup(chunk.metadata)
+        this.owningDb.loadEntriesIntoChunks(chunk.entries)
+        val tkvs = (branch as BranchInternal).temporalKeyValueStore
+        chunk.metadata.commitMetadata.forEach { commit -> tkvs.commitMetadataStore.put(commit.timestamp, commit.metadata) }
+    }
+
+    private fun mergeDirectories(sourceDirectories: List<File>, targetDirectory: File, parallelism: Int) {
+        // later backups override the files of earlier ones, so only the latest version of every file is copied.
+        val relativePathToSourceFile = mutableMapOf<String, File>()
+        sourceDirectories.forEach { sourceDirectory ->
+            sourceDirectory.walkTopDown().filter { it.isFile }.forEach { file ->
+                relativePathToSourceFile[file.relativeTo(sourceDirectory).path] = file
+            }
+        }
+        relativePathToSourceFile.keys.forEach { relativePath -> File(targetDirectory, relativePath).parentFile.mkdirs() }
+        this.runInParallel(parallelism, "chronodb-backup-merge-%d", relativePathToSourceFile.map { (relativePath, sourceFile) ->
+            Callable { copyFile(sourceFile, File(targetDirectory, relativePath)) }
+        })
+    }
+
+    private fun copyFile(source: File, target: File) {
+        FileChannel.open(source.toPath(), StandardOpenOption.READ).use { input ->
+            FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING).use { output ->
+                val size = input.size()
+                var position = 0L
+                while (position < size) {
+                    position += input.transferTo(position, size - position, output)
+                }
+            }
+        }
+    }
+
+    private fun <T> runInParallel(parallelism: Int, threadNameFormat: String, tasks: List<Callable<T>>): List<T> {
+        if (tasks.isEmpty()) {
+            return emptyList()
+        }
+        val executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size), ThreadFactoryBuilder()
+                .setNameFormat(threadNameFormat)
+                .setDaemon(true)
+                .build()
+        )
+        try {
+            val futures = tasks.map { executor.submit(it) }
+            return futures.map { awaitResult(it) }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    private fun <T> awaitResult(future: Future<T>): T {
+        try {
+            return future.get()
+        } catch (e: ExecutionException) {
+            // report the failure of the task as if it had occurred on this thread
+            throw e.cause ?: e
+        }
     }
 
     private fun extractChunkMetadata(chunk: ChronoChunk, branch: Branch): ChunkDumpMetadata {
@@ -303,4 +450,23 @@ class ExodusBackupManager(owningDB: ExodusChronoDB) : AbstractBackupManager(owni
             }
         }
     }
-}
\ No newline at end of file
+
+    // =================================================================================================================
+    // INNER CLASSES
+    // =================================================================================================================
+
+    private class ChunkExport(
+            val file: File,
+            val metadata: ChunkDumpMetadata,
+            val tkvs: TemporalKeyValueStore,
+            val keyspaces: Set<String>,
+            val minTimestamp: Long,
+            val maxTimestamp: Long
+    )
+
+    private class DecodedChunk(
+            val metadata: ChunkDumpMetadata,
+            val entries: List<ChronoDBEntry>
+    )
+
+}
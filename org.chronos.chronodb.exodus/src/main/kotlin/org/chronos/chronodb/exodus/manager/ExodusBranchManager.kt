@@ -1,6 +1,7 @@
 package org.chronos.chronodb.exodus.manager
 
 import com.google.common.collect.Maps
+import com.google.common.util.concurrent.ThreadFactoryBuilder
 import io.github.oshai.kotlinlogging.KotlinLogging
 import org.chronos.chronodb.api.Branch
 import org.chronos.chronodb.api.ChronoDBConstants
@@ -16,6 +17,8 @@ import org.chronos.chronodb.internal.impl.IBranchMetadata
 import org.chronos.chronodb.internal.impl.MatrixUtils
 import org.chronos.chronodb.internal.impl.engines.base.AbstractBranchManager
 import java.util.*
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
 
 class ExodusBranchManager : AbstractBranchManager {
 
@@ -32,6 +35,12 @@ class ExodusBranchManager : AbstractBranchManager {
     private val owningDB: ExodusChronoDB
     private val loadedBranches = Maps.newConcurrentMap<String, BranchInternal>()
     private val branchMetadata = Maps.newConcurrentMap<String, IBranchMetadata>()
+    private val directoryDeletionExecutor: ExecutorService = Executors.newSingleThreadExecutor(
+        ThreadFactoryBuilder()
+            .setNameFormat("chronodb-branch-deletion-%d")
+            .setDaemon(true)
+            .build()
+    )
 
     // =================================================================================================================
     // CONSTRUCTOR
@@ -41,6 +50,7 @@ class ExodusBranchManager : AbstractBranchManager {
         this.owningDB = owningDB
         this.loadBranchMetadata()
         this.ensureMasterBranchExists()
+        this.resumePendingBranchDirectoryDeletions()
     }
 
     // =================================================================================================================
@@ -78,15 +88,40 @@ class ExodusBranchManager : AbstractBranchManager {
     }
 
     override fun deleteSingleBranch(branch: Branch) {
+        val directoryName = this.owningDB.globalChunkManager.getChunkManagerForBranch(branch.name).branchDirectory.name
         this.loadedBranches.remove(branch.name)
         this.branchMetadata.remove(branch.name)
-        this.owningDB.globalChunkManager.openReadWriteTransactionOnGlobalEnvironment().use { tx ->
+        this.owningDB.globalChunkManager.detachBranch(branch.name)
+        this.openTxReadWrite().use { tx ->
             NavigationIndex.deleteBranch(tx, branch.name)
             BranchMetadataIndex.deleteBranch(tx, branch.name)
+            // remember the directory in the same transaction, so that it gets cleaned up even if we crash before that
+            DeletedBranchIndex.insert(tx, directoryName, branch.name)
             tx.commit()
         }
         this.owningDB.datebackManager.deleteLogsForBranch(branch.name)
-        this.owningDB.globalChunkManager.deleteBranch(branch)
+    }
+
+    override fun deleteBranchContents(deletedBranches: List<Branch>) {
+        val pendingDeletions = this.openTxReadonly().use { tx -> DeletedBranchIndex.getPendingDeletions(tx) }
+        for ((directoryName, branchName) in pendingDeletions) {
+            if (deletedBranches.any { it.name == branchName }) {
+                this.scheduleBranchDirectoryDeletion(directoryName, branchName)
+            }
+        }
+    }
+
+    /**
+     * Blocks until all branch directories which are currently scheduled for deletion have been removed.
+     */
+    fun awaitPendingBranchDirectoryDeletions() {
+        // the executor is single-threaded, so this task runs after all previously scheduled deletions
+        this.directoryDeletionExecutor.submit {}.get()
+    }
+
+    fun close() {
+        // a running deletion is finished before the chunk manager closes, the remaining ones are resumed on the next startup
+        this.directoryDeletionExecutor.shutdownNow()
     }
 
     override fun getOwningDB(): ChronoDBInternal {
@@ -127,6 +162,32 @@ class ExodusBranchManager : AbstractBranchManager {
         this.createBranchInternal(masterBranchMetadata)
     }
 
+    private fun resumePendingBranchDirectoryDeletions() {
+        if (this.owningDB.configuration.isReadOnly) {
+            return
+        }
+        val pendingDeletions = this.openTxReadonly().use { tx -> DeletedBranchIndex.getPendingDeletions(tx) }
+        for ((directoryName, branchName) in pendingDeletions) {
+            log.info { "Resuming the deletion of the directory '$directoryName' of deleted branch '$branchName'." }
+            this.scheduleBranchDirectoryDeletion(directoryName, branchName)
+        }
+    }
+
+    private fun scheduleBranchDirectoryDeletion(directoryName: String, branchName: String) {
+        this.directoryDeletionExecutor.submit {
+            try {
+                this.owningDB.globalChunkManager.deleteBranchDirectory(directoryName)
+                this.openTxReadWrite().use { tx ->
+                    DeletedBranchIndex.remove(tx, directoryName)
+                    tx.commit()
+                }
+                log.debug { "Deleted the directory '$directoryName' of branch '$branchName'." }
+            } catch (e: Exception) {
+                log.warn(e) { "Failed to delete the directory '$directoryName' of branch '$branchName'. The deletion will be retried on the next startup." }
+            }
+        }
+    }
+
     private fun openTxReadonly(): ExodusTransaction {
         return this.owningDB.globalChunkManager.openReadOnlyTransactionOnGlobalEnvironment()
     }
@@ -1,6 +1,5 @@
 package org.chronos.chronodb.exodus.manager
 
-import com.google.common.collect.Iterators
 import jetbrains.exodus.ByteIterable
 import org.apache.commons.lang3.tuple.Pair
 import org.chronos.chronodb.api.Branch
@@ -11,25 +10,36 @@ import org.chronos.chronodb.exodus.layout.ChronoDBStoreLayout
 import org.chronos.chronodb.exodus.manager.chunk.BranchChunkManager
 import org.chronos.chronodb.exodus.manager.chunk.ChronoChunk
 import org.chronos.chronodb.exodus.manager.chunk.GlobalChunkManager
+import org.chronos.chronodb.exodus.transaction.ExodusTransaction
 import org.chronos.chronodb.internal.api.CommitMetadataStore
 import org.chronos.chronodb.internal.api.Period
 import org.chronos.chronodb.internal.impl.engines.base.ChronosInternalCommitMetadata
 import org.chronos.chronodb.internal.util.NavigableMapUtils
 import java.util.*
+import java.util.concurrent.ConcurrentHashMap
 import kotlin.collections.MutableMap.MutableEntry
 
 class ExodusCommitMetadataStore : CommitMetadataStore {
 
+    companion object {
+
+        /** The value stored for every timestamp in the user commit index. Only the keys are of interest. */
+        private val USER_COMMIT_MARKER = true.toByteIterable()
+
+    }
+
     private val globalChunkManager: GlobalChunkManager
-    private val branchChunkManager: BranchChunkManager
+    /** Resolved on first access, the chunks of a branch should only be opened when they are actually needed. */
+    private val branchChunkManager: BranchChunkManager by lazy { this.globalChunkManager.getOrCreateChunkManagerForBranch(this.branch) }
     private val serializationManager: SerializationManager
     private val branch: Branch
+    /** Commit counts of the non-head chunks, by chunk sequence number. The head chunk changes too often to be cached. */
+    private val chunkCommitCounts = ConcurrentHashMap<Long, ChunkCommitCounts>()
 
     constructor(globalChunkManager: GlobalChunkManager, serializationManager: SerializationManager, branch: Branch) {
         this.globalChunkManager = globalChunkManager
         this.serializationManager = serializationManager
         this.branch = branch
-        this.branchChunkManager = globalChunkManager.getOrCreateChunkManagerForBranch(branch)
     }
 
 
@@ -72,12 +82,7 @@ class ExodusCommitMetadataStore : CommitMetadataStore {
         }
         requireNonNegative(pageSize, "pageSize")
         requireNonNegative(pageIndex, "pageIndex")
-        return this.getCommitTimestampsBetween(minTimestamp, maxTimestamp, order, includeSystemInternalCommits).asSequence()
-                // skip the first n pages (each has m entries)
-                .drop(pageSize * pageIndex)
-                // from the remaining elements, take only one page (of m entries)
-                .take(pageSize)
-                .iterator()
+        return this.getCommitTimestampsPage(minTimestamp, maxTimestamp, pageSize, pageIndex, order, includeSystemInternalCommits).iterator()
     }
 
     override fun getCommitMetadataPaged(minTimestamp: Long, maxTimestamp: Long, pageSize: Int, pageIndex: Int, order: Order, includeSystemInternalCommits: Boolean): Iterator<Map.Entry<Long, Any>> {
@@ -89,11 +94,9 @@ class ExodusCommitMetadataStore : CommitMetadataStore {
         }
         requireNonNegative(pageSize, "pageSize")
         requireNonNegative(pageIndex, "pageIndex")
-        return this.getCommitMetadataBetween(minTimestamp, maxTimestamp, order, includeSystemInternalCommits).asSequence()
-                // skip the first n pages (each has m entries)
-                .drop(pageSize * pageIndex)
-                // from the remaining elements, take only one page (of m entries)
-                .take(pageSize)
+        // determine the timestamps of the page first, so we only deserialize the metadata we actually return
+        return this.getCommitTimestampsPage(minTimestamp, maxTimestamp, pageSize, pageIndex, order, includeSystemInternalCommits).asSequence()
+                .map { timestamp -> Pair.of<Long, Any>(timestamp, this.get(timestamp)!!) }
                 .iterator()
     }
 
@@ -161,11 +164,22 @@ class ExodusCommitMetadataStore : CommitMetadataStore {
             // we return zero.
             return 0
         }
-        return Iterators.size(this.getCommitTimestampsBetween(from, to, Order.DESCENDING, includeSystemInternalCommits))
+        return this.getChunks(from, to, Order.ASCENDING).asSequence().map { chunk ->
+            if (this.isChunkWithinRange(chunk, from, to)) {
+                // the chunk lies entirely within the range, we can use its counters
+                this.countCommitsInChunk(chunk, includeSystemInternalCommits)
+            } else {
+                var count = 0
+                this.consumeCommitTimestamps(chunk, from, to, Order.ASCENDING, includeSystemInternalCommits) {
+                    count++
+                    true
+                }
+                count
+            }
+        }.sum()
     }
 
     override fun countCommitTimestamps(includeSystemInternalCommits: Boolean): Int {
-        // TODO: it's a bit unfortunate that we have to open ALL chunks just for this...
         val chunks = this.getChunks(0, Long.MAX_VALUE, Order.DESCENDING)
         return chunks.asSequence().map{ chunk -> this.countCommitsInChunk(chunk, includeSystemInternalCommits)}.sum()
     }
@@ -177,10 +191,20 @@ class ExodusCommitMetadataStore : CommitMetadataStore {
             throw IllegalStateException("Cannot insert commit at timestamp ${commitTimestamp} - the branch ${this.branch.name} has no chunk for this timestamp!")
         }
         val byteValue = this.serializationManager.serialize(commitMetadata).toByteIterable()
+        val key = commitTimestamp.toByteIterable()
         this.globalChunkManager.openReadWriteTransactionOn(chunk).use { tx ->
-            tx.put(ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA, commitTimestamp.toByteIterable(), byteValue)
+            if (!tx.storeExists(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS)) {
+                this.buildUserCommitIndex(tx)
+            }
+            tx.put(ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA, key, byteValue)
+            if (commitMetadata is ChronosInternalCommitMetadata) {
+                tx.delete(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS, key)
+            } else {
+                tx.put(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS, key, USER_COMMIT_MARKER)
+            }
             tx.commit()
         }
+        this.chunkCommitCounts.remove(chunk.sequenceNumber)
     }
 
     override fun get(commitTimestamp: Long): Any? {
@@ -221,9 +245,17 @@ class ExodusCommitMetadataStore : CommitMetadataStore {
                         }
                     }
                 }
-                keysToDelete.forEach { tx.delete(ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA, it) }
+                // don't create the user commit index here if it doesn't exist yet, it will be built on first access.
+                val hasUserCommitIndex = tx.storeExists(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS)
+                keysToDelete.forEach {
+                    tx.delete(ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA, it)
+                    if (hasUserCommitIndex) {
+                        tx.delete(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS, it)
+                    }
+                }
                 tx.commit()
             }
+            this.chunkCommitCounts.remove(chunk.sequenceNumber)
         }
     }
 
@@ -238,11 +270,16 @@ class ExodusCommitMetadataStore : CommitMetadataStore {
             // we have no chunk here, so we also can't have a commit to purge.
             return false
         }
-        return this.globalChunkManager.openReadWriteTransactionOn(chunk).use { tx ->
+        val deleted = this.globalChunkManager.openReadWriteTransactionOn(chunk).use { tx ->
             val deleted = tx.delete(ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA, commitTimestamp.toByteIterable())
+            if (tx.storeExists(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS)) {
+                tx.delete(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS, commitTimestamp.toByteIterable())
+            }
             tx.commit()
             return@use deleted
         }
+        this.chunkCommitCounts.remove(chunk.sequenceNumber)
+        return deleted
     }
 
     // =================================================================================================================
@@ -292,15 +329,84 @@ class ExodusCommitMetadataStore : CommitMetadataStore {
 
     private fun getCommitTimestampsBetweenInChunk(chunk: ChronoChunk, from: Long, to: Long, order: Order, includeSystemInternalCommits: Boolean): Iterator<Long> {
         val timestamps = mutableListOf<Long>()
-        this.consumeCommitsAscending(chunk, from, to) { key, value ->
-            if(includeSystemInternalCommits || this.isUserCommitMetadata(value)){
-                timestamps.add(key)
+        this.consumeCommitTimestamps(chunk, from, to, order, includeSystemInternalCommits) { timestamp ->
+            timestamps.add(timestamp)
+            true
+        }
+        return timestamps.iterator()
+    }
+
+    private fun getCommitTimestampsPage(minTimestamp: Long, maxTimestamp: Long, pageSize: Int, pageIndex: Int, order: Order, includeSystemInternalCommits: Boolean): List<Long> {
+        if (pageSize <= 0) {
+            return emptyList()
+        }
+        var toSkip = pageSize.toLong() * pageIndex
+        val page = mutableListOf<Long>()
+        for (chunk in this.getChunks(minTimestamp, maxTimestamp, order)) {
+            if (toSkip > 0 && this.isChunkWithinRange(chunk, minTimestamp, maxTimestamp)) {
+                // skip entire chunks based on their counters, without opening their stores
+                val commitsInChunk = this.countCommitsInChunk(chunk, includeSystemInternalCommits)
+                if (commitsInChunk <= toSkip) {
+                    toSkip -= commitsInChunk
+                    continue
+                }
+            }
+            this.consumeCommitTimestamps(chunk, minTimestamp, maxTimestamp, order, includeSystemInternalCommits) { timestamp ->
+                if (toSkip > 0) {
+                    toSkip--
+                } else {
+                    page.add(timestamp)
+                }
+                page.size < pageSize
+            }
+            if (page.size >= pageSize) {
+                break
             }
         }
-        if (order == Order.DESCENDING) {
-            timestamps.reverse()
+        return page
+    }
+
+    /**
+     * Passes the commit timestamps of the given chunk within the given (inclusive) range to the consumer, in the given order.
+     *
+     * User commits are read from the user commit index, so no commit metadata needs to be deserialized.
+     * The consumer returns `false` to stop the iteration.
+     */
+    private fun consumeCommitTimestamps(chunk: ChronoChunk, from: Long, to: Long, order: Order, includeSystemInternalCommits: Boolean, consumer: (Long) -> Boolean) {
+        val storeName = if (includeSystemInternalCommits) {
+            ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA
+        } else {
+            this.ensureUserCommitIndex(chunk)
+            ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS
+        }
+        this.globalChunkManager.openReadOnlyTransactionOn(chunk).use { tx ->
+            tx.openCursorOn(storeName).use { cursor ->
+                if (order == Order.ASCENDING) {
+                    if (cursor.ceilKey(from.toByteIterable()) != null) {
+                        do {
+                            val timestamp = cursor.key.parseAsLong()
+                            if (timestamp > to || !consumer(timestamp)) {
+                                break
+                            }
+                        } while (cursor.next)
+                    }
+                } else {
+                    if (cursor.floorKey(to.toByteIterable()) != null) {
+                        do {
+                            val timestamp = cursor.key.parseAsLong()
+                            if (timestamp < from || !consumer(timestamp)) {
+                                break
+                            }
+                        } while (cursor.prev)
+                    }
+                }
+            }
         }
-        return timestamps.iterator()
+    }
+
+    private fun isChunkWithinRange(chunk: ChronoChunk, from: Long, to: Long): Boolean {
+        // note: the upper bound of the chunk period is exclusive, the range is inclusive
+        return chunk.validPeriod.lowerBound >= from && chunk.validPeriod.upperBound - 1 <= to
     }
 
     private fun getCommitMetadataBetweenInChunk(chunk: ChronoChunk, from: Long, to: Long, order: Order, includeSystemInternalCommits: Boolean): Iterator<Map.Entry<Long, Any>> {
@@ -318,25 +424,84 @@ class ExodusCommitMetadataStore : CommitMetadataStore {
     }
 
     private fun countCommitsInChunk(chunk: ChronoChunk, includeSystemInternalCommits: Boolean): Int {
-        return this.globalChunkManager.openReadOnlyTransactionOn(chunk).use { tx ->
-            if(includeSystemInternalCommits){
-                tx.storeSize(ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA).toInt()
-            }else{
-                tx.openCursorOn(ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA).use { cursor ->
-                    var count = 0
-                    while(cursor.next){
-                        if(this.isUserCommitMetadata(cursor.value)){
-                            count++
-                        }
-                    }
-                    count
+        val counts = this.getCommitCounts(chunk)
+        return if (includeSystemInternalCommits) {
+            counts.allCommits
+        } else {
+            counts.userCommits
+        }
+    }
+
+    private fun getCommitCounts(chunk: ChronoChunk): ChunkCommitCounts {
+        val cachedCounts = this.chunkCommitCounts[chunk.sequenceNumber]
+        if (cachedCounts != null && cachedCounts.validPeriod == chunk.validPeriod) {
+            return cachedCounts
+        }
+        this.ensureUserCommitIndex(chunk)
+        val counts = this.globalChunkManager.openReadOnlyTransactionOn(chunk).use { tx ->
+            // the sizes of the stores are maintained by exodus, so this does not scan the stores
+            ChunkCommitCounts(
+                    chunk.validPeriod,
+                    tx.storeSize(ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA).toInt(),
+                    tx.storeSize(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS).toInt()
+            )
+        }
+        if (!chunk.validPeriod.isOpenEnded) {
+            this.chunkCommitCounts[chunk.sequenceNumber] = counts
+        }
+        return counts
+    }
+
+    /**
+     * Makes sure that the given chunk has an index of its user commit timestamps.
+     *
+     * Chunks written by older versions of Chronos do not have this index; it is built on first access.
+     */
+    private fun ensureUserCommitIndex(chunk: ChronoChunk) {
+        val hasIndex = this.globalChunkManager.openReadOnlyTransactionOn(chunk).use { tx ->
+            // a chunk without commits doesn't need an index (yet)
+            tx.storeExists(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS) || tx.storeSize(ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA) <= 0
+        }
+        if (hasIndex) {
+            return
+        }
+        this.globalChunkManager.openReadWriteTransactionOn(chunk).use { tx ->
+            if (!tx.storeExists(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS)) {
+                this.buildUserCommitIndex(tx)
+            }
+            tx.commit()
+        }
+    }
+
+    private fun buildUserCommitIndex(tx: ExodusTransaction) {
+        val userCommitTimestamps = mutableListOf<Long>()
+        tx.openCursorOn(ChronoDBStoreLayout.STORE_NAME__COMMIT_METADATA).use { cursor ->
+            while (cursor.next) {
+                if (this.isUserCommitMetadata(cursor.value)) {
+                    userCommitTimestamps.add(cursor.key.parseAsLong())
                 }
             }
         }
+        // opening a cursor within a read-write transaction creates the store, even if it remains empty.
+        tx.openCursorOn(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS).close()
+        userCommitTimestamps.forEach { timestamp ->
+            tx.put(ChronoDBStoreLayout.STORE_NAME__USER_COMMIT_TIMESTAMPS, timestamp.toByteIterable(), USER_COMMIT_MARKER)
+        }
     }
 
     private fun isUserCommitMetadata(value: ByteIterable): Boolean {
         val byteArray = value.toByteArray()
         return this.serializationManager.deserialize(byteArray) !is ChronosInternalCommitMetadata
     }
-}
\ No newline at end of file
+
+    // =================================================================================================================
+    // INNER CLASSES
+    // =================================================================================================================
+
+    private class ChunkCommitCounts(
+            val validPeriod: Period,
+            val allCommits: Int,
+            val userCommits: Int
+    )
+
+}
@@ -79,6 +79,24 @@ class ExodusDatebackManager(dbInstance: ExodusChronoDB) : AbstractDatebackManage
         }
     }
 
+    override fun deleteLogsForBranchBefore(branchName: String, wallClockTime: Long) {
+        this.owningDb.globalChunkManager.openReadWriteTransactionOnGlobalEnvironment().use { tx ->
+            val keysToRemove = mutableListOf<ByteIterable>()
+            tx.openCursorOn(ChronoDBStoreLayout.STORE_NAME__DATEBACK_LOG).use { cursor ->
+                if (cursor.ceilKey(LogKey(0, branchName, "").toByteIterable()) != null) {
+                    while (cursor.key.parseAsLogKey().let { it.branch == branchName && it.wallClockTime < wallClockTime }) {
+                        keysToRemove += cursor.key
+                        if (!cursor.next) {
+                            break
+                        }
+                    }
+                }
+            }
+            keysToRemove.forEach { key -> tx.delete(ChronoDBStoreLayout.STORE_NAME__DATEBACK_LOG, key) }
+            tx.commit()
+        }
+    }
+
     // =================================================================================================================
     // HELPER FUNCTIONS
     // =================================================================================================================
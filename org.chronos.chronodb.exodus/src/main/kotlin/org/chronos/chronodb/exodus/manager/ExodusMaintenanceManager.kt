@@ -2,7 +2,10 @@ package org.chronos.chronodb.exodus.manager
 
 import org.chronos.chronodb.api.MaintenanceManager
 import org.chronos.chronodb.exodus.ExodusChronoDB
+import java.util.concurrent.TimeUnit
 import java.util.function.Predicate
+import kotlin.math.max
+import kotlin.math.min
 
 class ExodusMaintenanceManager : MaintenanceManager {
 
@@ -34,6 +37,12 @@ class ExodusMaintenanceManager : MaintenanceManager {
             }
             val tkvs = branch.temporalKeyValueStore as ExodusTkvs
             tkvs.performRollover(updateIndices)
+            // the rollover has closed a chunk, which may now fall behind the configured retention period
+            val retentionPeriodDays = this.owningDB.configuration.retentionPeriodDays
+            if (retentionPeriodDays != null) {
+                val retentionHorizon = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionPeriodDays.toLong())
+                this.purgeHistoryOfBranch(branchName, max(retentionHorizon, 0))
+            }
         }
     }
 
@@ -65,4 +74,36 @@ class ExodusMaintenanceManager : MaintenanceManager {
         }
     }
 
+    @Synchronized
+    override fun purgeHistoryOfBranch(branchName: String, retentionHorizon: Long): Long {
+        require(retentionHorizon >= 0) { "Precondition violation - argument 'retentionHorizon' must not be negative!" }
+        this.owningDB.configuration.assertNotReadOnly()
+        this.owningDB.lockExclusive().use {
+            val branch = this.owningDB.branchManager.getBranch(branchName)
+            if (branch == null) {
+                throw IllegalArgumentException("There is no branch named '${branchName}', cannot purge its history!")
+            }
+            // child branches refer to the state of this branch at their branching timestamp, so we must keep it
+            val effectiveHorizon = this.owningDB.branchManager.branches.asSequence()
+                    .filter { it.origin?.name == branchName }
+                    .map { it.branchingTimestamp }
+                    .fold(retentionHorizon) { horizon, branchingTimestamp -> min(horizon, branchingTimestamp) }
+            val tkvs = branch.temporalKeyValueStore as ExodusTkvs
+            return tkvs.purgeHistoryBefore(effectiveHorizon)
+        }
+    }
+
+    @Synchronized
+    override fun purgeHistoryOfAllBranches(retentionHorizon: Long) {
+        require(retentionHorizon >= 0) { "Precondition violation - argument 'retentionHorizon' must not be negative!" }
+        this.owningDB.configuration.assertNotReadOnly()
+        this.owningDB.lockExclusive().use {
+            // note: JavaDoc states explicitly that this method does not require ACID safety,
+            // so it's ok to purge the branches one by one.
+            for (branchName in this.owningDB.branchManager.branchNames) {
+                this.purgeHistoryOfBranch(branchName, retentionHorizon)
+            }
+        }
+    }
+
 }
\ No newline at end of file
@@ -1,40 +1,84 @@
 package org.chronos.chronodb.exodus.manager
 
-import com.google.common.collect.Maps
 import org.chronos.chronodb.api.BranchHeadStatistics
 import org.chronos.chronodb.exodus.ExodusChronoDB
-import org.chronos.chronodb.exodus.kotlin.ext.orIfNull
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore
 import org.chronos.chronodb.internal.impl.engines.base.AbstractStatisticsManager
+import java.util.concurrent.ConcurrentHashMap
 
 class ExodusStatisticsManager : AbstractStatisticsManager {
 
     private val owningDB: ExodusChronoDB
-    private val branchHeadStatisticsCache: MutableMap<String, BranchHeadStatistics> = Maps.newConcurrentMap()
+
+    /** The names of the branches which have persisted statistics. Read once, and kept up to date afterwards. */
+    private val branchesWithPersistedStatistics: MutableSet<String> by lazy {
+        val branchNames = this.owningDB.globalChunkManager.openReadOnlyTransactionOnGlobalEnvironment().use { tx ->
+            BranchStatisticsIndex.getBranchNames(tx)
+        }
+        val set = ConcurrentHashMap.newKeySet<String>()
+        set.addAll(branchNames)
+        set
+    }
 
     constructor(owningDB: ExodusChronoDB): super() {
         this.owningDB = owningDB
     }
 
-    override fun loadBranchHeadStatistics(branch: String): BranchHeadStatistics {
-        return this.branchHeadStatisticsCache[branch].orIfNull {
-            val branchInternal = this.owningDB.branchManager.getBranch(branch)
-            val tkvs = branchInternal.temporalKeyValueStore
-            val statistics = tkvs.calculateBranchHeadStatistics()
-            this.saveBranchHeadStatistics(branch, statistics)
-            return@orIfNull statistics
+    override fun getTemporalKeyValueStore(branchName: String): TemporalKeyValueStore {
+        val branch = this.owningDB.branchManager.getBranch(branchName)
+            ?: throw IllegalArgumentException("There is no branch named '${branchName}'!")
+        return branch.temporalKeyValueStore
+    }
+
+    override fun hasPersistedBranchHeadStatistics(branchName: String): Boolean {
+        return branchName in this.branchesWithPersistedStatistics
+    }
+
+    override fun loadBranchHeadStatistics(branchName: String, timestamp: Long): BranchHeadStatistics? {
+        if (!this.hasPersistedBranchHeadStatistics(branchName)) {
+            return null
+        }
+        val persisted = this.owningDB.globalChunkManager.openReadOnlyTransactionOnGlobalEnvironment().use { tx ->
+            BranchStatisticsIndex.get(tx, branchName)
         }
+        if (persisted == null || persisted.timestamp != timestamp) {
+            // the persisted statistics (if any) are outdated
+            return null
+        }
+        return persisted.toBranchHeadStatistics()
     }
 
-    override fun saveBranchHeadStatistics(branchName: String, statistics: BranchHeadStatistics) {
-        this.branchHeadStatisticsCache[branchName] = statistics
+    override fun saveBranchHeadStatistics(branchName: String, timestamp: Long, statistics: BranchHeadStatistics) {
+        if (this.owningDB.configuration.isReadOnly) {
+            return
+        }
+        this.owningDB.globalChunkManager.openReadWriteTransactionOnGlobalEnvironment().use { tx ->
+            BranchStatisticsIndex.put(tx, branchName, ExodusBranchStatistics(timestamp, statistics))
+            tx.commit()
+        }
+        this.branchesWithPersistedStatistics.add(branchName)
     }
 
     override fun deleteBranchHeadStatistics() {
-        this.branchHeadStatisticsCache.clear()
+        if (this.owningDB.configuration.isReadOnly || this.branchesWithPersistedStatistics.isEmpty()) {
+            return
+        }
+        this.owningDB.globalChunkManager.openReadWriteTransactionOnGlobalEnvironment().use { tx ->
+            BranchStatisticsIndex.deleteAll(tx)
+            tx.commit()
+        }
+        this.branchesWithPersistedStatistics.clear()
     }
 
     override fun deleteBranchHeadStatistics(branchName: String) {
-        this.branchHeadStatisticsCache.remove(branchName)
+        if (this.owningDB.configuration.isReadOnly || !this.hasPersistedBranchHeadStatistics(branchName)) {
+            return
+        }
+        this.owningDB.globalChunkManager.openReadWriteTransactionOnGlobalEnvironment().use { tx ->
+            BranchStatisticsIndex.delete(tx, branchName)
+            tx.commit()
+        }
+        this.branchesWithPersistedStatistics.remove(branchName)
     }
 
-}
\ No newline at end of file
+}
@@ -32,6 +32,9 @@ class ExodusTkvs : AbstractTemporalKeyValueStore {
 
     private val commitMetadataStore: CommitMetadataStore
     private var cachedNowTimestamp: Long
+    /** The retention horizon of the branch; only changes on [purgeHistoryBefore]. Negative if unknown. */
+    @Volatile
+    private var cachedRetentionHorizon: Long = -1L
     private val owningDB: ExodusChronoDB
         get() = super.getOwningDB() as ExodusChronoDB
 
@@ -61,8 +64,8 @@ class ExodusTkvs : AbstractTemporalKeyValueStore {
                     val stored = tx.get(ChronoDBStoreLayout.STORE_NAME__BRANCH_TO_NOW, this.owningBranch.name)
                     stored?.parseAsLong().orIfNull(0L)
                 }
-                val bcm = this.owningDB.globalChunkManager.getOrCreateChunkManagerForBranch(this.owningBranch)
-                val lastChunkValidFrom = bcm.headChunk.validPeriod.lowerBound
+                // note: this does not open the branch chunk manager if it hasn't been accessed yet
+                val lastChunkValidFrom = this.owningDB.globalChunkManager.getHeadChunkStartTimestamp(this.owningBranch)
                 this.cachedNowTimestamp = Math.max(storedNowTimestamp, lastChunkValidFrom)
             }
         }
@@ -155,8 +158,47 @@ class ExodusTkvs : AbstractTemporalKeyValueStore {
                 // mark all indices as dirty
                 this.owningDB.indexManager.markAllIndicesAsDirty()
             }
-            // clear the branch head statistics for this branch
+            // the head portion has changed, recalculate (and persist) the branch head statistics for this branch
             this.owningDB.statisticsManager.clearBranchHeadStatistics(this.owningBranch.name)
+            this.owningDB.statisticsManager.getBranchHeadStatistics(this.owningBranch.name)
+        }
+    }
+
+    override fun getHeadPortionStartTimestamp(): Long {
+        return this.owningDB.globalChunkManager.getHeadChunkStartTimestamp(this.owningBranch)
+    }
+
+    override fun getRetentionHorizon(): Long {
+        var retentionHorizon = this.cachedRetentionHorizon
+        if (retentionHorizon < 0) {
+            retentionHorizon = this.owningDB.globalChunkManager.getRetentionHorizon(this.owningBranch)
+            this.cachedRetentionHorizon = retentionHorizon
+        }
+        return retentionHorizon
+    }
+
+    fun purgeHistoryBefore(timestamp: Long): Long {
+        require(timestamp >= 0) { "Precondition violation - argument 'timestamp' must not be negative!" }
+        this.owningDB.lockExclusive().use {
+            val branchName = this.owningBranch.name
+            // commit metadata and secondary index entries reside in the chunks, they are dropped together with the data
+            val droppedChunks = this.owningDB.globalChunkManager.dropChunksBefore(branchName, timestamp)
+            this.cachedRetentionHorizon = -1L
+            val retentionHorizon = this.retentionHorizon
+            if (droppedChunks.isEmpty()) {
+                return retentionHorizon
+            }
+            log.info { "Purged ${droppedChunks.size} chunk(s) of branch '${branchName}'. History is retained from timestamp ${retentionHorizon} onwards." }
+            // indices which have ended before the horizon have no remaining data to refer to
+            val expiredIndices = this.owningDB.indexManager.getIndices(this.owningBranch).asSequence()
+                    .filter { it.branch == branchName && it.validPeriod.upperBound <= retentionHorizon }
+                    .toSet()
+            if (expiredIndices.isNotEmpty()) {
+                this.owningDB.indexManager.deleteIndices(expiredIndices)
+            }
+            // dateback operations can only have modified timestamps before their own wall clock time
+            this.owningDB.datebackManager.deleteLogsForBranchBefore(branchName, retentionHorizon)
+            return retentionHorizon
         }
     }
 
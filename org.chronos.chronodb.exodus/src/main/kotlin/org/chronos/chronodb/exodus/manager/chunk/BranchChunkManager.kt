@@ -16,6 +16,7 @@ import java.io.IOException
 import java.nio.file.Files
 import java.util.*
 import java.util.concurrent.locks.ReentrantReadWriteLock
+import java.util.stream.Collectors
 import kotlin.concurrent.read
 import kotlin.concurrent.withLock
 
@@ -29,7 +30,11 @@ class BranchChunkManager {
         @JvmStatic
         fun create(branchDirectory: File, branchName: String): BranchChunkManager {
             requireExistingDirectory(branchDirectory, "branchDirectory")
-            val periodToChunk = scanDirectoryForChunks(branchDirectory)
+            val chunkDirectories = listChunkDirectories(branchDirectory)
+            // prefer the manifest, it spares us from opening the metadata environment of each chunk
+            val manifest = ChunkManifest.read(branchDirectory, branchName)
+            val periodToChunk = manifest?.let { openChunksFromManifest(branchDirectory, chunkDirectories, it) }
+                    ?: scanChunkDirectories(chunkDirectories)
             // check that chunk periods do not intersect...
             checkForPeriodIntersections(periodToChunk.keys, branchName, branchDirectory)
             // ... and that all chunks actually belong to this branch
@@ -37,23 +42,95 @@ class BranchChunkManager {
             // assert that a head chunk exists
             createHeadRevisionChunkIfNecessary(branchDirectory, branchName, periodToChunk)
             createBranchInfoPropertiesFile(branchDirectory, branchName)
+            // keep the manifest up-to-date for the next startup
+            val chunkMetadata = periodToChunk.values.map { chunk ->
+                ChunkMetadata(chunk.validPeriod.lowerBound, chunk.validPeriod.upperBound, branchName, chunk.sequenceNumber)
+            }
+            if (manifest?.toSet() != chunkMetadata.toSet()) {
+                ChunkManifest.write(branchDirectory, branchName, periodToChunk.values)
+            }
             // everything seems to be okay, open the manager
             return BranchChunkManager(branchDirectory, branchName, periodToChunk)
         }
 
+        /**
+         * Determines the start of the head chunk in the given branch directory, without opening the branch.
+         *
+         * @param branchDirectory The branch directory. Must be an existing directory.
+         * @param branchName The name of the branch. Must not be `null`.
+         * @return The lower bound of the valid period of the head chunk, or `null` if the branch directory has no up-to-date [ChunkManifest].
+         */
+        @JvmStatic
+        fun readHeadChunkStartTimestamp(branchDirectory: File, branchName: String): Long? {
+            return readUpToDateManifest(branchDirectory, branchName)?.maxByOrNull { it.validFrom }?.validFrom
+        }
 
-        private fun scanDirectoryForChunks(branchDirectory: File): NavigableMap<Period, ChronoChunk> {
-            val resultMap = Maps.newTreeMap<Period, ChronoChunk>()
-            branchDirectory.listFiles().asSequence()
+        /**
+         * Determines the [retention horizon][retentionHorizon] of the given branch directory, without opening the branch.
+         *
+         * @param branchDirectory The branch directory. Must be an existing directory.
+         * @param branchName The name of the branch. Must not be `null`.
+         * @return The lower bound of the valid period of the first chunk, or `null` if the branch directory has no up-to-date [ChunkManifest].
+         */
+        @JvmStatic
+        fun readRetentionHorizon(branchDirectory: File, branchName: String): Long? {
+            return readUpToDateManifest(branchDirectory, branchName)?.minByOrNull { it.validFrom }?.validFrom
+        }
+
+        private fun readUpToDateManifest(branchDirectory: File, branchName: String): List<ChunkMetadata>? {
+            requireExistingDirectory(branchDirectory, "branchDirectory")
+            val manifest = ChunkManifest.read(branchDirectory, branchName)
+                    ?: return null
+            if (!isManifestUpToDate(listChunkDirectories(branchDirectory), manifest)) {
+                return null
+            }
+            return manifest
+        }
+
+        private fun listChunkDirectories(branchDirectory: File): List<File> {
+            return branchDirectory.listFiles().asSequence()
                     .filter(File::isDirectory)
                     .filter { it.name.matches(ChronoDBDirectoryLayout.CHUNK_DIRECTORY_REGEX.toRegex()) }
                     .filter { it.containsChunkLockFile() }
-                    .map(ChronoChunk.Companion::tryReadExistingChunk)
-                    .filter(Objects::nonNull)
-                    .forEach { chunk -> resultMap[chunk!!.validPeriod] = chunk }
+                    .toList()
+        }
+
+        private fun scanChunkDirectories(chunkDirectories: List<File>): NavigableMap<Period, ChronoChunk> {
+            val resultMap = Maps.newTreeMap<Period, ChronoChunk>()
+            // reading the metadata requires opening an environment per chunk, so we read the chunks in parallel
+            chunkDirectories.parallelStream()
+                    .map { ChronoChunk.tryReadExistingChunk(it) }
+                    .collect(Collectors.toList())
+                    .filterNotNull()
+                    .forEach { chunk -> resultMap[chunk.validPeriod] = chunk }
             return resultMap
         }
 
+        private fun openChunksFromManifest(branchDirectory: File, chunkDirectories: List<File>, manifest: List<ChunkMetadata>): NavigableMap<Period, ChronoChunk>? {
+            if (!isManifestUpToDate(chunkDirectories, manifest)) {
+                return null
+            }
+            try {
+                val resultMap = Maps.newTreeMap<Period, ChronoChunk>()
+                for (metadata in manifest) {
+                    val chunkDirectory = File(branchDirectory, ChronoDBDirectoryLayout.CHUNK_DIRECTORY_PREFIX + metadata.sequenceNumber)
+                    val chunk = ChronoChunk.openExistingChunk(chunkDirectory, metadata)
+                    resultMap[chunk.validPeriod] = chunk
+                }
+                return resultMap
+            } catch (e: Exception) {
+                return null
+            }
+        }
+
+        private fun isManifestUpToDate(chunkDirectories: List<File>, manifest: List<ChunkMetadata>): Boolean {
+            // the manifest is only valid if it lists exactly the chunks which are present on disk
+            val sequenceNumbersOnDisk = chunkDirectories.asSequence()
+                    .map { it.name.removePrefix(ChronoDBDirectoryLayout.CHUNK_DIRECTORY_PREFIX).toLong() }
+                    .toSet()
+            return manifest.asSequence().map { it.sequenceNumber }.toSet() == sequenceNumbersOnDisk
+        }
+
         private fun checkForPeriodIntersections(periods: Iterable<Period>, branchName: String, branchDirectory: File) {
             val periodIterator = Iterators.peekingIterator(periods.iterator())
             var periodIndex = 0
@@ -281,10 +358,52 @@ class BranchChunkManager {
             // create the new head revision chunk
             val newHeadRevisionPeriod = Period.createOpenEndedRange(rolloverTimestamp)
             this.periodToChunk[newHeadRevisionPeriod] = newChunk
+            this.writeChunkManifest()
             return newChunk
         }
     }
 
+    /**
+     * The earliest timestamp for which this branch still holds its history.
+     *
+     * This is the lower bound of the first chunk. It is zero unless chunks have been [dropped][detachChunksBefore].
+     */
+    val retentionHorizon: Long
+        get() {
+            return this.accessLock.read {
+                this.periodToChunk.firstKey().lowerBound
+            }
+        }
+
+    /**
+     * Detaches all closed chunks which end at or before the given timestamp from this branch.
+     *
+     * As every chunk starts with a full copy of the head revision of its predecessor, the first remaining chunk is
+     * self-contained and the [retentionHorizon] moves to its lower bound. The head chunk is never detached.
+     *
+     * The lock files of the detached chunks are removed, so they are ignored on the next startup. Deleting their
+     * directories is the responsibility of the caller.
+     *
+     * @param timestamp The timestamp before which chunks should be detached. Must not be negative.
+     * @return The detached chunks in ascending order. May be empty, never `null`.
+     */
+    fun detachChunksBefore(timestamp: Long): List<ChronoChunk> {
+        requireNonNegative(timestamp, "timestamp")
+        this.accessLock.writeLock().withLock {
+            val detachedChunks = this.periodToChunk.values.asSequence()
+                    .filter { !it.isHeadChunk && it.validPeriod.upperBound <= timestamp }
+                    .toList()
+            for (chunk in detachedChunks) {
+                this.periodToChunk.remove(chunk.validPeriod)
+                Files.deleteIfExists(chunk.lockFile.toPath())
+            }
+            if (detachedChunks.isNotEmpty()) {
+                this.writeChunkManifest()
+            }
+            return detachedChunks
+        }
+    }
+
     fun createEmptyChunkFromBackup(chunkDumpMetadata: ChunkDumpMetadata): ChronoChunk {
         require(chunkDumpMetadata.branchName == this.branchName) { "Precondition violation - the given chunk does not belong to this branch!" }
         val chunkSequenceNumber = chunkDumpMetadata.chunkSequenceNumber
@@ -297,6 +416,7 @@ class BranchChunkManager {
             this.periodToChunk.clear()
         }
         this.periodToChunk[validPeriod] = chunk
+        this.writeChunkManifest()
         return chunk
     }
 
@@ -308,6 +428,10 @@ class BranchChunkManager {
     // HELPER METHODS
     // =================================================================================================================
 
+    private fun writeChunkManifest() {
+        ChunkManifest.write(this.branchDirectory, this.branchName, this.periodToChunk.values)
+    }
+
 
 }
 
@@ -102,6 +102,22 @@ class ChronoChunk {
             return ChronoChunk(chunkDirectory, metadata)
         }
 
+        /**
+         * Opens an existing chunk whose metadata is already known (e.g. from the [ChunkManifest] of the branch).
+         *
+         * In contrast to [readExistingChunk], this method does not open the metadata environment of the chunk.
+         *
+         * @param chunkDirectory The directory where the chunk is located. Must be a directory.
+         * @param metadata The metadata of the chunk. Must not be `null`.
+         *
+         * @return The opened chunk instance.
+         */
+        @JvmStatic
+        fun openExistingChunk(chunkDirectory: File, metadata: ChunkMetadata): ChronoChunk {
+            requireExistingDirectory(chunkDirectory, "chunkDirectory")
+            return ChronoChunk(chunkDirectory, metadata)
+        }
+
     }
 
     // =================================================================================================================
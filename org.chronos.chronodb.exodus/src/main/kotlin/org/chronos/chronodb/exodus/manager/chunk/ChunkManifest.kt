@@ -0,0 +1,92 @@
+package org.chronos.chronodb.exodus.manager.chunk
+
+import io.github.oshai.kotlinlogging.KotlinLogging
+import org.chronos.chronodb.exodus.layout.ChronoDBDirectoryLayout
+import org.chronos.common.version.ChronosVersion
+import java.io.File
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import java.util.*
+
+/**
+ * The chunk manifest lists the [metadata][ChunkMetadata] of all chunks in a branch directory.
+ *
+ * It allows to open a branch without opening the metadata environment of every single chunk. The manifest is
+ * merely a cache: if it doesn't match the chunk directories on disk, the chunks need to be scanned instead.
+ */
+object ChunkManifest {
+
+    private val log = KotlinLogging.logger {}
+
+    private const val PROPERTY_CHUNK_PREFIX = "chunk."
+
+    /**
+     * Reads the chunk manifest of the given branch directory.
+     *
+     * @param branchDirectory The branch directory to read the manifest from. Must not be `null`.
+     * @param branchName The name of the branch. Must not be `null`.
+     * @return The metadata of the chunks listed in the manifest, or `null` if there is no valid manifest for the branch.
+     */
+    fun read(branchDirectory: File, branchName: String): List<ChunkMetadata>? {
+        val manifestFile = File(branchDirectory, ChronoDBDirectoryLayout.CHUNK_MANIFEST_PROPERTIES)
+        if (!manifestFile.isFile) {
+            return null
+        }
+        try {
+            val properties = Properties()
+            manifestFile.bufferedReader().use { reader ->
+                properties.load(reader)
+            }
+            if (properties.getProperty(PROPERTY_BRANCH_NAME) != branchName) {
+                return null
+            }
+            return properties.stringPropertyNames().asSequence()
+                    .filter { it.startsWith(PROPERTY_CHUNK_PREFIX) && it.endsWith(".${PROPERTY_SEQUENCE_NUMBER}") }
+                    .map { key ->
+                        val prefix = key.removeSuffix(PROPERTY_SEQUENCE_NUMBER)
+                        ChunkMetadata(
+                                validFrom = properties.getProperty(prefix + PROPERTY_VALID_FROM).toLong(),
+                                validTo = properties.getProperty(prefix + PROPERTY_VALID_TO).toLong(),
+                                branchName = branchName,
+                                sequenceNumber = properties.getProperty(key).toLong()
+                        )
+                    }
+                    .toList()
+        } catch (e: Exception) {
+            log.warn(e) { "Failed to read the chunk manifest of branch '${branchName}', the chunks will be scanned instead." }
+            return null
+        }
+    }
+
+    /**
+     * Writes the chunk manifest for the given chunks into the given branch directory, replacing the previous manifest.
+     *
+     * @param branchDirectory The branch directory to write the manifest to. Must not be `null`.
+     * @param branchName The name of the branch. Must not be `null`.
+     * @param chunks The chunks to list in the manifest. Must not be `null`.
+     */
+    fun write(branchDirectory: File, branchName: String, chunks: Collection<ChronoChunk>) {
+        val properties = Properties()
+        properties.setProperty(PROPERTY_BRANCH_NAME, branchName)
+        for (chunk in chunks) {
+            val prefix = "${PROPERTY_CHUNK_PREFIX}${chunk.sequenceNumber}."
+            properties.setProperty(prefix + PROPERTY_SEQUENCE_NUMBER, chunk.sequenceNumber.toString())
+            properties.setProperty(prefix + PROPERTY_VALID_FROM, chunk.validPeriod.lowerBound.toString())
+            properties.setProperty(prefix + PROPERTY_VALID_TO, chunk.validPeriod.upperBound.toString())
+        }
+        // write to a temporary file first, readers must never see a partially written manifest
+        val manifestFile = File(branchDirectory, ChronoDBDirectoryLayout.CHUNK_MANIFEST_PROPERTIES)
+        val tempFile = File(branchDirectory, manifestFile.name + ".tmp")
+        tempFile.printWriter().use { writer ->
+            writer.write("# CHUNK MANIFEST written by Chronos ${ChronosVersion.getCurrentVersion()}\n")
+            writer.write("# This file caches the metadata of all chunks in this branch.\n")
+            writer.write("# It is rebuilt automatically when it is missing or outdated. DO NOT MODIFY IT.\n")
+            writer.write("# ============================================================================\n")
+            writer.write("\n")
+            properties.store(writer, null)
+            writer.flush()
+        }
+        Files.move(tempFile.toPath(), manifestFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+    }
+
+}
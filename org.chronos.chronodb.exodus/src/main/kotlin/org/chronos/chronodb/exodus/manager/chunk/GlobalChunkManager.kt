@@ -51,6 +51,9 @@ class GlobalChunkManager : AutoCloseable {
             val masterBranch = File(branchesDirectory, ChronoDBDirectoryLayout.MASTER_BRANCH_DIRECTORY)
             masterBranch.createDirectoryIfNotExists()
 
+            // note: the branch chunk managers are opened lazily on first access. Databases with many
+            // branches and long histories would otherwise spend a long time on startup reading chunks
+            // which may never be requested.
             val branchNameToChunkManager = branchesDirectory.listFiles().asSequence()
                 .filter { it.isDirectory }
                 .filter { it.name.startsWith(ChronoDBDirectoryLayout.BRANCH_DIRECTORY_PREFIX) }
@@ -59,11 +62,12 @@ class GlobalChunkManager : AutoCloseable {
                     if (branchName == null) {
                         null
                     } else {
-                        Pair(branchName, BranchChunkManager.create(branchDir, branchName))
+                        Pair(branchName, BranchChunkManagerHandle(branchDir, branchName))
                     }
                 }
                 .filterNotNull()
                 .toMap()
+            log.debug { "Discovered ${branchNameToChunkManager.size} branch directories in '${branchesDirectory.absolutePath}'." }
             return GlobalChunkManager(rootDirectory, branchNameToChunkManager, environmentManager)
         }
 
@@ -79,14 +83,14 @@ class GlobalChunkManager : AutoCloseable {
 
     private var closed: Boolean
     private val branchDirectoryLock: ReadWriteLock
-    private val branchNameToBranchChunkManager: MutableMap<String, BranchChunkManager>
+    private val branchNameToBranchChunkManager: MutableMap<String, BranchChunkManagerHandle>
     private val environmentManager: EnvironmentManager
 
     // =================================================================================================================
     // CONSTRUCTOR
     // =================================================================================================================
 
-    constructor(rootDirectory: File, branchNameToBranchChunkManager: Map<String, BranchChunkManager>, environmentManager: EnvironmentManager) {
+    private constructor(rootDirectory: File, branchNameToBranchChunkManager: Map<String, BranchChunkManagerHandle>, environmentManager: EnvironmentManager) {
         this.rootDirectory = requireDirectory(rootDirectory, "rootDirectory")
         this.globalDirectory = requireDirectory(File(rootDirectory, ChronoDBDirectoryLayout.GLOBAL_DIRECTORY), "globalDirectory")
         this.branchesDirectory = requireDirectory(File(rootDirectory, ChronoDBDirectoryLayout.BRANCHES_DIRECTORY), "branchesDirectory")
@@ -198,11 +202,77 @@ class GlobalChunkManager : AutoCloseable {
 
     fun getChunkManagerForBranch(branchName: String): BranchChunkManager {
         this.branchDirectoryLock.readLock().withLock {
-            return branchNameToBranchChunkManager[branchName]
+            val handle = branchNameToBranchChunkManager[branchName]
                 ?: throw IllegalStateException("There is no Branch Chunk Manager for branch '${branchName}'!")
+            // opens the manager if this is the first access
+            return handle.manager
         }
     }
 
+    /**
+     * Checks if the [BranchChunkManager] of the given branch has already been opened.
+     *
+     * @param branchName The name of the branch to check. Must not be `null`.
+     * @return `true` if the chunk manager of the branch is open, `false` if it has not been accessed yet or if there is no such branch.
+     */
+    fun isChunkManagerForBranchOpen(branchName: String): Boolean {
+        this.branchDirectoryLock.readLock().withLock {
+            return this.branchNameToBranchChunkManager[branchName]?.isOpen ?: false
+        }
+    }
+
+    /**
+     * Returns the timestamp at which the head chunk of the given branch starts.
+     *
+     * If the chunk manager of the branch has not been opened yet, the timestamp is taken from the [ChunkManifest] of the
+     * branch (if possible), i.e. the chunk manager remains closed.
+     *
+     * @param branch The branch. Must not be `null`.
+     * @return The lower bound of the valid period of the head chunk.
+     */
+    fun getHeadChunkStartTimestamp(branch: Branch): Long {
+        this.branchDirectoryLock.readLock().withLock {
+            val handle = branchNameToBranchChunkManager[branch.name]
+            if (handle != null) {
+                if (!handle.isOpen) {
+                    val headChunkStart = BranchChunkManager.readHeadChunkStartTimestamp(handle.branchDirectory, branch.name)
+                    if (headChunkStart != null) {
+                        return headChunkStart
+                    }
+                }
+                return handle.manager.headChunk.validPeriod.lowerBound
+            }
+        }
+        // there is no chunk manager for the branch yet
+        return this.getOrCreateChunkManagerForBranch(branch).headChunk.validPeriod.lowerBound
+    }
+
+    /**
+     * Returns the [retention horizon][BranchChunkManager.retentionHorizon] of the given branch.
+     *
+     * If the chunk manager of the branch has not been opened yet, the horizon is taken from the [ChunkManifest] of the
+     * branch (if possible), i.e. the chunk manager remains closed.
+     *
+     * @param branch The branch. Must not be `null`.
+     * @return The lower bound of the valid period of the first chunk of the branch.
+     */
+    fun getRetentionHorizon(branch: Branch): Long {
+        this.branchDirectoryLock.readLock().withLock {
+            val handle = branchNameToBranchChunkManager[branch.name]
+            if (handle != null) {
+                if (!handle.isOpen) {
+                    val retentionHorizon = BranchChunkManager.readRetentionHorizon(handle.branchDirectory, branch.name)
+                    if (retentionHorizon != null) {
+                        return retentionHorizon
+                    }
+                }
+                return handle.manager.retentionHorizon
+            }
+        }
+        // there is no chunk manager for the branch yet
+        return this.getOrCreateChunkManagerForBranch(branch).retentionHorizon
+    }
+
     fun getOrCreateChunkManagerForBranch(branchMetadata: IBranchMetadata): BranchChunkManager {
         this.branchDirectoryLock.writeLock().withLock {
             if (this.hasChunkManagerForBranch(branchMetadata.name)) {
@@ -217,7 +287,7 @@ class GlobalChunkManager : AutoCloseable {
             val branchDir = File(this.branchesDirectory, branchDirName)
             branchDir.createDirectoryIfNotExists()
             val bcm = BranchChunkManager.create(branchDir, branchMetadata.name)
-            this.branchNameToBranchChunkManager[branchMetadata.name] = bcm
+            this.branchNameToBranchChunkManager[branchMetadata.name] = BranchChunkManagerHandle(branchDir, branchMetadata.name, bcm)
             return bcm
         }
     }
@@ -360,7 +430,8 @@ class GlobalChunkManager : AutoCloseable {
 
     fun compactAllExodusEnvironments() {
         this.branchDirectoryLock.readLock().withLock {
-            this.branchNameToBranchChunkManager.values.forEach { bcm ->
+            this.branchNameToBranchChunkManager.values.forEach { handle ->
+                val bcm = handle.manager
                 bcm.withReadLock {
                     val allChunks = bcm.getChunksForPeriod(Period.eternal())
                     for (chunk in allChunks) {
@@ -391,18 +462,71 @@ class GlobalChunkManager : AutoCloseable {
     }
 
 
-    fun deleteBranch(branch: Branch) {
+    /**
+     * Forgets about the chunks of the given branch, without touching the branch directory.
+     *
+     * The directory has to be removed afterwards via [deleteBranchDirectory].
+     */
+    fun detachBranch(branchName: String) {
         this.branchDirectoryLock.writeLock().withLock {
-            val bcm = this.getChunkManagerForBranch(branch.name)
-            val branchDir = bcm.branchDirectory
-            this.branchNameToBranchChunkManager.remove(branch.name)
+            this.branchNameToBranchChunkManager.remove(branchName)
+        }
+    }
+
+    fun deleteBranchDirectory(directoryName: String) {
+        require(directoryName != ChronoDBDirectoryLayout.MASTER_BRANCH_DIRECTORY) { "Precondition violation - the master branch directory cannot be deleted!" }
+        // the branch is detached, so we only need to prevent a concurrent shutdown
+        this.branchDirectoryLock.readLock().withLock {
+            check(!this.closed) { "Cannot delete branch directory '${directoryName}': the chunk manager has already been closed!" }
+            val branchDir = File(this.branchesDirectory, directoryName)
+            if (!branchDir.exists()) {
+                return
+            }
             this.environmentManager.cleanupEnvironments(false)
             FileUtils.deleteDirectory(branchDir)
         }
     }
 
+    fun dropChunksBefore(branchName: String, timestamp: Long): List<ChronoChunk> {
+        requireNonNegative(timestamp, "timestamp")
+        this.branchDirectoryLock.readLock().withLock {
+            check(!this.closed) { "Cannot drop chunks of branch '${branchName}': the chunk manager has already been closed!" }
+            val droppedChunks = this.getChunkManagerForBranch(branchName).detachChunksBefore(timestamp)
+            if (droppedChunks.isEmpty()) {
+                return droppedChunks
+            }
+            // the environments of the chunks have to be closed before we can delete their files
+            this.environmentManager.releaseEnvironments(droppedChunks.flatMap { listOf(it.dataDirectory, it.indexDirectory) })
+            droppedChunks.forEach { FileUtils.deleteDirectory(it.chunkDirectory) }
+            return droppedChunks
+        }
+    }
+
     enum class ChunkBaseDataMode {
         ALL, START_OF_CHUNK
     }
 
+    // =================================================================================================================
+    // INNER CLASSES
+    // =================================================================================================================
+
+    /**
+     * Opens the [BranchChunkManager] of a branch directory on first access.
+     */
+    private class BranchChunkManagerHandle(val branchDirectory: File, val branchName: String, manager: BranchChunkManager? = null) {
+
+        private val lazyManager: Lazy<BranchChunkManager> = if (manager != null) {
+            lazyOf(manager)
+        } else {
+            lazy { BranchChunkManager.create(this.branchDirectory, this.branchName) }
+        }
+
+        val manager: BranchChunkManager
+            get() = this.lazyManager.value
+
+        val isOpen: Boolean
+            get() = this.lazyManager.isInitialized()
+
+    }
+
 }
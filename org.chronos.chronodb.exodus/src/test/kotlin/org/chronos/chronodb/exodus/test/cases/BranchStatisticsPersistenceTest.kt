@@ -0,0 +1,133 @@
+package org.chronos.chronodb.exodus.test.cases
+
+import org.chronos.chronodb.api.ChronoDB
+import org.chronos.chronodb.api.ChronoDBConstants
+import org.chronos.chronodb.exodus.ExodusChronoDB
+import org.chronos.chronodb.exodus.manager.BranchStatisticsIndex
+import org.chronos.common.test.ChronosUnitTest
+import org.chronos.common.test.junit.categories.IntegrationTest
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNull
+import org.junit.Test
+import org.junit.experimental.categories.Category
+
+@Category(IntegrationTest::class)
+class BranchStatisticsPersistenceTest : ChronosUnitTest() {
+
+    @Test
+    fun statisticsArePersistedAndUpdatedOnCommit() {
+        var lastCommit = -1L
+        this.openDB().use { db ->
+            db.tx().also { tx ->
+                tx.put("hello", "world")
+                tx.put("foo", "bar")
+                tx.commit()
+            }
+            assertEquals(2L, db.statisticsManager.masterBranchHeadStatistics.numberOfEntriesInHead)
+            db.tx().also { tx ->
+                tx.remove("hello")
+                tx.put("math", "pi", 3.14)
+                lastCommit = tx.commit()
+            }
+        }
+        this.openDB().use { db ->
+            // the commit has updated the persisted statistics, no recalculation is required
+            val persisted = db.globalChunkManager.openReadOnlyTransactionOnGlobalEnvironment().use { tx ->
+                BranchStatisticsIndex.get(tx, ChronoDBConstants.MASTER_BRANCH_IDENTIFIER)
+            }
+            assertNotNull(persisted)
+            assertEquals(lastCommit, persisted!!.timestamp)
+
+            val statistics = db.statisticsManager.masterBranchHeadStatistics
+            assertEquals(2L, statistics.numberOfEntriesInHead)
+            assertEquals(4L, statistics.totalNumberOfEntries)
+            val defaultKeyspace = statistics.keyspaceStatistics.getValue(ChronoDBConstants.DEFAULT_KEYSPACE_NAME)
+            assertEquals(1L, defaultKeyspace.numberOfEntriesInHead)
+            assertEquals(3L, defaultKeyspace.totalNumberOfEntries)
+            assertEquals(1L, statistics.keyspaceStatistics.getValue("math").numberOfEntriesInHead)
+        }
+    }
+
+    @Test
+    fun commitsDoNotPersistStatisticsUnlessRequested() {
+        this.openDB().use { db ->
+            db.tx().also { tx ->
+                tx.put("hello", "world")
+                tx.commit()
+            }
+            db.tx().also { tx ->
+                tx.put("hello", "chronos")
+                tx.commit()
+            }
+            val persisted = db.globalChunkManager.openReadOnlyTransactionOnGlobalEnvironment().use { tx ->
+                BranchStatisticsIndex.getBranchNames(tx)
+            }
+            assertEquals(emptySet<String>(), persisted)
+            // requesting the statistics calculates them, from then on they are maintained by the commits
+            assertEquals(2L, db.statisticsManager.masterBranchHeadStatistics.totalNumberOfEntries)
+            val lastCommit = db.tx().let { tx ->
+                tx.put("foo", "bar")
+                tx.commit()
+            }
+            val statistics = db.globalChunkManager.openReadOnlyTransactionOnGlobalEnvironment().use { tx ->
+                BranchStatisticsIndex.get(tx, ChronoDBConstants.MASTER_BRANCH_IDENTIFIER)
+            }
+            assertNotNull(statistics)
+            assertEquals(lastCommit, statistics!!.timestamp)
+            assertEquals(3L, statistics.toBranchHeadStatistics().totalNumberOfEntries)
+        }
+    }
+
+    @Test
+    fun statisticsAreRecalculatedOnRollover() {
+        this.openDB().use { db ->
+            db.tx().also { tx ->
+                tx.put("hello", "world")
+                tx.put("foo", "bar")
+                tx.commit()
+            }
+            db.tx().also { tx ->
+                tx.put("hello", "chronos")
+                tx.commit()
+            }
+            assertEquals(3L, db.statisticsManager.masterBranchHeadStatistics.totalNumberOfEntries)
+            db.maintenanceManager.performRolloverOnMaster()
+            val persisted = db.globalChunkManager.openReadOnlyTransactionOnGlobalEnvironment().use { tx ->
+                BranchStatisticsIndex.get(tx, ChronoDBConstants.MASTER_BRANCH_IDENTIFIER)
+            }
+            assertNotNull(persisted)
+            assertEquals(2L, persisted!!.toBranchHeadStatistics().totalNumberOfEntries)
+            assertEquals(2L, db.statisticsManager.masterBranchHeadStatistics.numberOfEntriesInHead)
+        }
+    }
+
+    @Test
+    fun statisticsOfDeletedBranchesAreRemoved() {
+        this.openDB().use { db ->
+            db.tx().also { tx ->
+                tx.put("hello", "world")
+                tx.commit()
+            }
+            db.branchManager.createBranch("sub")
+            db.tx("sub").also { tx ->
+                tx.put("foo", "bar")
+                tx.commit()
+            }
+            assertEquals(2L, db.statisticsManager.getBranchHeadStatistics("sub").numberOfEntriesInHead)
+            db.branchManager.deleteBranchRecursively("sub")
+            val persisted = db.globalChunkManager.openReadOnlyTransactionOnGlobalEnvironment().use { tx ->
+                BranchStatisticsIndex.get(tx, "sub")
+            }
+            assertNull(persisted)
+        }
+    }
+
+    private fun openDB(): ExodusChronoDB {
+        return ChronoDB.FACTORY.create()
+            .database(ExodusChronoDB.BUILDER)
+            .onFile(this.testDirectory)
+            .build() as ExodusChronoDB
+    }
+
+}
@@ -3,12 +3,17 @@ package org.chronos.chronodb.exodus.test.cases
 import org.apache.commons.io.FileUtils
 import org.chronos.chronodb.api.ChronoDB
 import org.chronos.chronodb.exodus.ExodusChronoDB
+import org.chronos.chronodb.exodus.layout.ChronoDBDirectoryLayout
+import org.chronos.chronodb.exodus.manager.DeletedBranchIndex
+import org.chronos.chronodb.exodus.manager.ExodusBranchManager
 import org.chronos.common.test.ChronosUnitTest
 import org.chronos.common.test.junit.categories.IntegrationTest
+import org.junit.Assert.assertEquals
 import org.junit.Assert.assertFalse
 import org.junit.Assert.assertTrue
 import org.junit.Test
 import org.junit.experimental.categories.Category
+import java.io.File
 
 @Category(IntegrationTest::class)
 class DeleteBranchTest : ChronosUnitTest() {
@@ -39,6 +44,7 @@ class DeleteBranchTest : ChronosUnitTest() {
 
                 db.branchManager.deleteBranchRecursively(branch.name)
                 assertFalse(db.branchManager.existsBranch("sub"))
+                (db.branchManager as ExodusBranchManager).awaitPendingBranchDirectoryDeletions()
                 assertFalse(subDir.exists())
             }
     }
@@ -78,6 +84,7 @@ class DeleteBranchTest : ChronosUnitTest() {
                 assertFalse(db.branchManager.existsBranch("sub"))
                 assertFalse(db.branchManager.existsBranch("sub2"))
 
+                (db.branchManager as ExodusBranchManager).awaitPendingBranchDirectoryDeletions()
                 assertFalse(subDir.exists())
                 assertFalse(sub2Dir.exists())
             }
@@ -119,9 +126,64 @@ class DeleteBranchTest : ChronosUnitTest() {
                 assertTrue(db.branchManager.existsBranch("sub"))
                 assertFalse(db.branchManager.existsBranch("sub2"))
 
+                (db.branchManager as ExodusBranchManager).awaitPendingBranchDirectoryDeletions()
                 assertTrue(subDir.exists())
                 assertTrue(subDir.isDirectory)
                 assertFalse(sub2Dir.exists())
             }
     }
-}
\ No newline at end of file
+
+    @Test
+    fun canCreateBranchWithNameOfDeletedBranch() {
+        ChronoDB.FACTORY.create()
+            .database(ExodusChronoDB.BUILDER)
+            .onFile(this.testDirectory)
+            .build()
+            .use { db ->
+                db as ExodusChronoDB
+                db.branchManager.createBranch("sub")
+                db.tx("sub").also { tx ->
+                    tx.put("foo", "bar")
+                    tx.commit()
+                }
+                db.branchManager.deleteBranchRecursively("sub")
+                // the old directory may still be around, but it must not be visible in the new branch
+                db.branchManager.createBranch("sub")
+                assertFalse(db.tx("sub").exists("foo"))
+                (db.branchManager as ExodusBranchManager).awaitPendingBranchDirectoryDeletions()
+                assertTrue(db.globalChunkManager.getChunkManagerForBranch("sub").branchDirectory.exists())
+            }
+    }
+
+    @Test
+    fun pendingBranchDirectoryDeletionsAreResumedOnStartup() {
+        val danglingDir = File(File(this.testDirectory, ChronoDBDirectoryLayout.BRANCHES_DIRECTORY), ChronoDBDirectoryLayout.BRANCH_DIRECTORY_PREFIX + "dangling")
+        ChronoDB.FACTORY.create()
+            .database(ExodusChronoDB.BUILDER)
+            .onFile(this.testDirectory)
+            .build()
+            .use { db ->
+                db as ExodusChronoDB
+                // simulate a crash after the branch has been marked as deleted, but before its directory was removed
+                assertTrue(danglingDir.mkdirs())
+                File(danglingDir, "data.xd").writeText("garbage")
+                db.globalChunkManager.openReadWriteTransactionOnGlobalEnvironment().use { tx ->
+                    DeletedBranchIndex.insert(tx, danglingDir.name, "dangling")
+                    tx.commit()
+                }
+            }
+        ChronoDB.FACTORY.create()
+            .database(ExodusChronoDB.BUILDER)
+            .onFile(this.testDirectory)
+            .build()
+            .use { db ->
+                db as ExodusChronoDB
+                (db.branchManager as ExodusBranchManager).awaitPendingBranchDirectoryDeletions()
+                assertFalse(danglingDir.exists())
+                db.globalChunkManager.openReadOnlyTransactionOnGlobalEnvironment().use { tx ->
+                    assertEquals(emptyMap<String, String>(), DeletedBranchIndex.getPendingDeletions(tx))
+                }
+            }
+    }
+
+}
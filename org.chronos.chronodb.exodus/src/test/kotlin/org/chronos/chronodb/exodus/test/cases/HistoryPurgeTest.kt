@@ -0,0 +1,112 @@
+package org.chronos.chronodb.exodus.test.cases
+
+import org.chronos.chronodb.api.ChronoDB
+import org.chronos.chronodb.api.ChronoDBConstants
+import org.chronos.chronodb.api.exceptions.InvalidTransactionTimestampException
+import org.chronos.chronodb.exodus.ExodusChronoDB
+import org.chronos.common.test.ChronosUnitTest
+import org.chronos.common.test.junit.categories.IntegrationTest
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Assert.fail
+import org.junit.Test
+import org.junit.experimental.categories.Category
+
+@Category(IntegrationTest::class)
+class HistoryPurgeTest : ChronosUnitTest() {
+
+    @Test
+    fun purgeDropsClosedChunksBeforeTheHorizon() {
+        var firstCommit = -1L
+        var secondCommit = -1L
+        var thirdCommit = -1L
+        this.openDB().use { db ->
+            firstCommit = db.tx().let { tx ->
+                tx.put("hello", "world")
+                tx.commit("first")
+            }
+            Thread.sleep(5)
+            db.maintenanceManager.performRolloverOnMaster()
+            secondCommit = db.tx().let { tx ->
+                tx.put("foo", "bar")
+                tx.commit("second")
+            }
+            Thread.sleep(5)
+            db.maintenanceManager.performRolloverOnMaster()
+            thirdCommit = db.tx().let { tx ->
+                tx.put("hello", "chronos")
+                tx.commit("third")
+            }
+            val chunkManager = db.globalChunkManager.getChunkManagerForBranch(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER)
+            assertEquals(3, chunkManager.getAllChunks().size)
+
+            val horizon = db.purgeHistoryOfMaster(System.currentTimeMillis())
+            // only the head chunk remains, and it contains the full head revision
+            assertEquals(1, chunkManager.getAllChunks().size)
+            assertTrue(horizon in (secondCommit + 1)..thirdCommit)
+            db.tx().also { tx ->
+                assertEquals("chronos", tx.get("hello"))
+                assertEquals("bar", tx.get("foo"))
+                assertEquals("third", tx.getCommitMetadata(thirdCommit))
+                assertNull(tx.getCommitMetadata(firstCommit))
+            }
+            assertTxFails(db, firstCommit)
+        }
+        this.openDB().use { db ->
+            // the purged chunks are gone for good
+            val chunkManager = db.globalChunkManager.getChunkManagerForBranch(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER)
+            assertEquals(1, chunkManager.getAllChunks().size)
+            assertTxFails(db, secondCommit)
+            assertEquals("chronos", db.tx(thirdCommit).get("hello"))
+        }
+    }
+
+    @Test
+    fun purgeKeepsTheOriginsOfChildBranches() {
+        this.openDB().use { db ->
+            db.tx().also { tx ->
+                tx.put("hello", "world")
+                tx.commit()
+            }
+            db.branchManager.createBranch("sub")
+            Thread.sleep(5)
+            db.maintenanceManager.performRolloverOnMaster()
+            db.tx().also { tx ->
+                tx.put("hello", "chronos")
+                tx.commit()
+            }
+            Thread.sleep(5)
+            db.maintenanceManager.performRolloverOnMaster()
+
+            // the child branch refers to the first chunk of master, it must not be dropped
+            assertEquals(0L, db.purgeHistoryOfMaster(System.currentTimeMillis()))
+            assertEquals("world", db.tx("sub").get("hello"))
+
+            db.branchManager.deleteBranchRecursively("sub")
+            assertTrue(db.purgeHistoryOfMaster(System.currentTimeMillis()) > 0L)
+            assertEquals("chronos", db.tx().get("hello"))
+        }
+    }
+
+    private fun assertTxFails(db: ChronoDB, timestamp: Long) {
+        try {
+            db.tx(timestamp)
+            fail("Managed to open a transaction before the retention horizon!")
+        } catch (expected: InvalidTransactionTimestampException) {
+            // pass
+        }
+    }
+
+    private fun ChronoDB.purgeHistoryOfMaster(retentionHorizon: Long): Long {
+        return this.maintenanceManager.purgeHistoryOfBranch(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, retentionHorizon)
+    }
+
+    private fun openDB(): ExodusChronoDB {
+        return ChronoDB.FACTORY.create()
+            .database(ExodusChronoDB.BUILDER)
+            .onFile(this.testDirectory)
+            .build() as ExodusChronoDB
+    }
+
+}
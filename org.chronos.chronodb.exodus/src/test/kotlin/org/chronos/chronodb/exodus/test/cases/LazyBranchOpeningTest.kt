@@ -0,0 +1,65 @@
+package org.chronos.chronodb.exodus.test.cases
+
+import org.chronos.chronodb.api.ChronoDB
+import org.chronos.chronodb.exodus.ExodusChronoDB
+import org.chronos.common.test.ChronosUnitTest
+import org.chronos.common.test.junit.categories.IntegrationTest
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.experimental.categories.Category
+
+@Category(IntegrationTest::class)
+class LazyBranchOpeningTest : ChronosUnitTest() {
+
+    @Test
+    fun branchChunksAreNotOpenedOnStartup() {
+        var firstCommit = -1L
+        var secondCommit = -1L
+        this.openDB().use { db ->
+            db.tx().also { tx ->
+                tx.put("hello", "world")
+                tx.commit()
+            }
+            db.branchManager.createBranch("first")
+            firstCommit = db.tx("first").let { tx ->
+                tx.put("foo", "bar")
+                tx.commit()
+            }
+            db.branchManager.createBranch("first", "second")
+            secondCommit = db.tx("second").let { tx ->
+                tx.put("foo", "baz")
+                tx.commit()
+            }
+            // make sure that "now" has to be taken from the head chunk of the second branch
+            Thread.sleep(5)
+            db.maintenanceManager.performRolloverOnBranch("second")
+        }
+        this.openDB().use { db ->
+            val gcm = db.globalChunkManager
+            assertFalse(gcm.isChunkManagerForBranchOpen("first"))
+            assertFalse(gcm.isChunkManagerForBranchOpen("second"))
+            // the "now" timestamps are known without opening the chunks
+            assertEquals(firstCommit, db.branchManager.getBranch("first").now)
+            assertTrue(db.branchManager.getBranch("second").now > secondCommit)
+            // ... and so are the retention horizons
+            assertEquals(0L, db.branchManager.getBranch("first").temporalKeyValueStore.retentionHorizon)
+            assertEquals(0L, db.branchManager.getBranch("second").temporalKeyValueStore.retentionHorizon)
+            assertFalse(gcm.isChunkManagerForBranchOpen("first"))
+            assertFalse(gcm.isChunkManagerForBranchOpen("second"))
+
+            // reading from a branch opens its chunks (and the ones of its origins it has to consult)
+            assertEquals("baz", db.tx("second").get("foo"))
+            assertTrue(gcm.isChunkManagerForBranchOpen("second"))
+        }
+    }
+
+    private fun openDB(): ExodusChronoDB {
+        return ChronoDB.FACTORY.create()
+            .database(ExodusChronoDB.BUILDER)
+            .onFile(this.testDirectory)
+            .build() as ExodusChronoDB
+    }
+
+}
@@ -1,9 +1,11 @@
 package org.chronos.chronodb.exodus.test.cases.chunk
 
+import org.apache.commons.io.FileUtils
 import org.chronos.chronodb.exodus.kotlin.ext.onlyElement
 import org.chronos.chronodb.exodus.manager.chunk.BranchChunkManager
 import org.chronos.chronodb.exodus.manager.chunk.ChronoChunk
 import org.chronos.chronodb.exodus.layout.ChronoDBDirectoryLayout
+import org.chronos.chronodb.exodus.manager.chunk.ChunkManifest
 import org.chronos.chronodb.exodus.manager.chunk.ChunkMetadata
 import org.chronos.chronodb.exodus.test.base.TestWithTempDir
 import org.chronos.common.testing.kotlin.ext.notBeNull
@@ -193,4 +195,57 @@ class BranchChunkManagerTest : TestWithTempDir() {
         bcm.headChunk.sequenceNumber shouldBe 1
         bcm.headChunk.validPeriod shouldBe Period.createOpenEndedRange(1000)
     }
+
+    @Test
+    fun managerMaintainsChunkManifest(){
+        val bcm = BranchChunkManager.create(this.testDir, "master")
+        ChunkManifest.read(this.testDir, "master")!!.size shouldBe 1
+        bcm.performRollover(1000){ }
+
+        val manifest = ChunkManifest.read(this.testDir, "master")!!.sortedBy { it.sequenceNumber }
+        manifest.size shouldBe 2
+        manifest[0].validPeriod shouldBe Period.createRange(0, 1000)
+        manifest[1].validPeriod shouldBe Period.createOpenEndedRange(1000)
+    }
+
+    @Test
+    fun reopeningManagerReadsChunksFromManifest(){
+        val chunk0Dir = File(this.testDir, ChronoDBDirectoryLayout.CHUNK_DIRECTORY_PREFIX + 0)
+        val chunk1Dir = File(this.testDir, ChronoDBDirectoryLayout.CHUNK_DIRECTORY_PREFIX + 1)
+        val chunk0Meta = ChunkMetadata(validFrom = 0, validTo = 1000, sequenceNumber = 0, branchName = "master")
+        val chunk1Meta = ChunkMetadata(validFrom = 1000, validTo = Long.MAX_VALUE, sequenceNumber = 1, branchName = "master")
+        ChronoChunk.createNewChunk(chunk0Dir, chunk0Meta).createChunkLockFile()
+        val chunk1MetaDir = ChronoChunk.createNewChunk(chunk1Dir, chunk1Meta).also { it.createChunkLockFile() }.metaDirectory
+        BranchChunkManager.create(this.testDir, "master")
+
+        // without the manifest, the chunk could not be read anymore
+        FileUtils.cleanDirectory(chunk1MetaDir)
+
+        val bcm = BranchChunkManager.create(this.testDir, "master")
+        bcm.getAllChunks().size shouldBe 2
+        bcm.headChunk.sequenceNumber shouldBe 1
+    }
+
+    @Test
+    fun outdatedManifestIsIgnored(){
+        val chunk0Dir = File(this.testDir, ChronoDBDirectoryLayout.CHUNK_DIRECTORY_PREFIX + 0)
+        val chunk1Dir = File(this.testDir, ChronoDBDirectoryLayout.CHUNK_DIRECTORY_PREFIX + 1)
+        val chunk2Dir = File(this.testDir, ChronoDBDirectoryLayout.CHUNK_DIRECTORY_PREFIX + 2)
+        val chunk0Meta = ChunkMetadata(validFrom = 0, validTo = 1000, sequenceNumber = 0, branchName = "master")
+        val chunk1Meta = ChunkMetadata(validFrom = 1000, validTo = 5000, sequenceNumber = 1, branchName = "master")
+        val chunk2Meta = ChunkMetadata(validFrom = 5000, validTo = Long.MAX_VALUE, sequenceNumber = 2, branchName = "master")
+        ChronoChunk.createNewChunk(chunk0Dir, chunk0Meta).createChunkLockFile()
+        ChronoChunk.createNewChunk(chunk1Dir, chunk1Meta).createChunkLockFile()
+        val chunk2 = ChronoChunk.createNewChunk(chunk2Dir, chunk2Meta)
+        chunk2.createChunkLockFile()
+        BranchChunkManager.create(this.testDir, "master").getAllChunks().size shouldBe 3
+
+        // the manifest still lists chunk 2, but the chunk is no longer valid
+        chunk2.lockFile.delete()
+
+        val bcm = BranchChunkManager.create(this.testDir, "master")
+        bcm.getAllChunks().size shouldBe 2
+        bcm.headChunk.validPeriod shouldBe Period.createOpenEndedRange(1000)
+        ChunkManifest.read(this.testDir, "master")!!.size shouldBe 2
+    }
 }
\ No newline at end of file
@@ -63,6 +63,21 @@ class GlobalChunkManagerTest : TestWithTempDir() {
         }
     }
 
+    @Test
+    fun branchChunkManagersAreOpenedOnFirstAccess() {
+        val branchDir = File(File(this.testDir, ChronoDBDirectoryLayout.BRANCHES_DIRECTORY), ChronoDBDirectoryLayout.BRANCH_DIRECTORY_PREFIX + "test")
+        branchDir.mkdirs()
+        withGlobalChunkManager { gcm ->
+            gcm.hasChunkManagerForBranch("test") shouldBe true
+            // the branch has not been opened yet, so its head chunk does not exist
+            File(branchDir, ChronoDBDirectoryLayout.CHUNK_DIRECTORY_PREFIX + 0).exists() shouldBe false
+
+            val bcm = gcm.getChunkManagerForBranch("test")
+            bcm.headChunk.chunkDirectory.exists() shouldBe true
+            gcm.getChunkManagerForBranch("test") shouldBe sameInstance(bcm)
+        }
+    }
+
     @Test
     fun canCreateTransactionOnGlobalEnvironment() {
         withGlobalChunkManager { gcm ->
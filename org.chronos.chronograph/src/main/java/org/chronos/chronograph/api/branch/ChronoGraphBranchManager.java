@@ -1,8 +1,10 @@
 package org.chronos.chronograph.api.branch;
 
 import org.chronos.chronodb.api.Branch;
+import org.chronos.chronodb.api.BranchMergeResult;
 import org.chronos.chronodb.api.ChronoDBConstants;
 import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.transaction.conflict.PropertyConflictResolutionStrategy;
 
 import java.util.List;
 import java.util.Set;
@@ -134,6 +136,52 @@ public interface ChronoGraphBranchManager {
      */
     public List<String> deleteBranchRecursively(String branchName);
 
+    /**
+     * Merges the changes of the given source branch into its parent branch.
+     *
+     * <p>
+     * This is the same as calling {@link #mergeBranch(String, String, PropertyConflictResolutionStrategy, Object)} with the
+     * {@linkplain PropertyConflictResolutionStrategy#DO_NOT_MERGE DO_NOT_MERGE} strategy and without commit metadata.
+     * </p>
+     *
+     * @param sourceBranchName The name of the branch to merge. Must not be <code>null</code>, must refer to an existing branch.
+     * @param targetBranchName The name of the branch to merge into. Must not be <code>null</code>, must be the parent of the source branch.
+     * @return The result of the merge. Never <code>null</code>.
+     */
+    public default BranchMergeResult mergeBranch(final String sourceBranchName, final String targetBranchName) {
+        return this.mergeBranch(sourceBranchName, targetBranchName, PropertyConflictResolutionStrategy.DO_NOT_MERGE, null);
+    }
+
+    /**
+     * Merges the changes of the given source branch into its parent branch.
+     *
+     * <p>
+     * The common ancestor of the merge is the target branch at the {@linkplain GraphBranch#getBranchingTimestamp() branching timestamp}
+     * of the source branch. Every vertex and edge which has been modified on the source branch after that timestamp is
+     * merged into the target branch:
+     * <ul>
+     * <li>Elements which have not been modified on the target branch take over the state of the source branch.</li>
+     * <li>Elements which have been modified on both branches are merged property by property. Property conflicts are
+     * passed to the given strategy, where the source branch takes the role of the transaction and the target branch
+     * takes the role of the store.</li>
+     * <li>If an element has been deleted on one branch and its properties have been modified on the other, the modification wins.</li>
+     * </ul>
+     * All changes are written in a single commit on the target branch, which runs the regular triggers, schema validation
+     * and index updates.
+     * </p>
+     *
+     * <p>
+     * The source branch is not modified by this operation and continues to exist.
+     * </p>
+     *
+     * @param sourceBranchName   The name of the branch to merge. Must not be <code>null</code>, must refer to an existing branch.
+     * @param targetBranchName   The name of the branch to merge into. Must not be <code>null</code>, must be the parent of the source branch.
+     * @param conflictResolution The strategy to apply to property conflicts. Must not be <code>null</code>.
+     * @param commitMetadata     The metadata for the merge commit. May be <code>null</code>.
+     * @return The result of the merge. Never <code>null</code>.
+     */
+    public BranchMergeResult mergeBranch(String sourceBranchName, String targetBranchName, PropertyConflictResolutionStrategy conflictResolution, Object commitMetadata);
+
     /**
      * Gets the actual branch which is referred to by the given coordinates.
      *
@@ -119,6 +119,54 @@ public interface ChronoGraphFinalizableBuilder extends ChronoBuilder<ChronoGraph
      */
     public ChronoGraphFinalizableBuilder withUsingSecondaryIndicesForGremlinValueMapStep(boolean useSecondaryIndexForGremlinValueMapStep);
 
+    /**
+     * Enables or disables parallel execution of Gremlin traversals.
+     *
+     * <p>
+     * For details, please refer to {@link ChronoGraphConfiguration#GREMLIN_PARALLEL_EXECUTION}.
+     * </p>
+     *
+     * <p>
+     * This is the global setting that will affect all traversals performed on this graph. The setting can be
+     * overwritten on a per-traversal basis by calling:
+     * </p>
+     *
+     * <pre>
+     * graph.traversal()
+     *      .with(ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION, false) // true to enable, false to disable
+     *      .V()
+     *      ...
+     * </pre>
+     *
+     * @param enableParallelExecution Use <code>true</code> to enable parallel traversal execution, or <code>false</code> (default) to disable it.
+     * @return <code>this</code>, for method chaining.
+     */
+    public ChronoGraphFinalizableBuilder withParallelGremlinExecution(boolean enableParallelExecution);
+
+    /**
+     * Enables or disables asynchronous prefetching of adjacent vertices in Gremlin traversals.
+     *
+     * <p>
+     * For details, please refer to {@link ChronoGraphConfiguration#GREMLIN_VERTEX_PREFETCH}.
+     * </p>
+     *
+     * <p>
+     * This is the global setting that will affect all traversals performed on this graph. The setting can be
+     * overwritten on a per-traversal basis by calling:
+     * </p>
+     *
+     * <pre>
+     * graph.traversal()
+     *      .with(ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH, false) // true to enable, false to disable
+     *      .V()
+     *      ...
+     * </pre>
+     *
+     * @param enableVertexPrefetch Use <code>true</code> to enable vertex prefetching, or <code>false</code> (default) to disable it.
+     * @return <code>this</code>, for method chaining.
+     */
+    public ChronoGraphFinalizableBuilder withGremlinVertexPrefetch(boolean enableVertexPrefetch);
+
     /**
      * Builds the {@link ChronoGraph} instance, using the properties specified by the fluent API.
      *
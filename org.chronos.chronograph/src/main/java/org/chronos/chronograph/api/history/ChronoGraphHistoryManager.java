@@ -117,4 +117,43 @@ public interface ChronoGraphHistoryManager {
      */
     public RestoreResult restoreGraphStateAsOf(long timestamp);
 
+    /**
+     * Restores the full graph state of the given branch as it has been at the given timestamp, and commits the result.
+     *
+     * <p>
+     * This is the bulk variant of {@link #restoreGraphStateAsOf(long)}, which is intended for reverting large numbers
+     * of commits. Instead of reconstructing every changed graph element, it determines the keys which have been
+     * modified since the given timestamp in a single pass over the history, and copies their stored records verbatim
+     * from the given timestamp into a single new commit. Since all elements are restored to the same point in time,
+     * the restored graph is always consistent and there are no {@linkplain RestoreResult#getFailedEdgeIds() failed edges}.
+     * </p>
+     *
+     * <p>
+     * This method does not use (or require) a graph transaction. It operates directly on the current state of the
+     * branch. Graph triggers and schema validators are <b>not</b> invoked for the restoring commit, because the restored
+     * state already passed them when it was originally committed.
+     * </p>
+     *
+     * @param branch         The branch to restore. Must not be <code>null</code>, must refer to an existing branch.
+     * @param timestamp      The timestamp to revert back to. Must not be negative, must not be greater than the current timestamp of the branch.
+     * @param commitMetadata The metadata for the restoring commit. May be <code>null</code>.
+     * @return The restore result, containing the IDs of all restored vertices and edges. Never <code>null</code>. If nothing has changed since the given timestamp, no commit will be performed.
+     */
+    public RestoreResult restoreGraphStateAsOfAndCommit(String branch, long timestamp, Object commitMetadata);
+
+    /**
+     * Restores the full graph state of the given branch as it has been at the given timestamp, and commits the result.
+     *
+     * <p>
+     * Please see {@link #restoreGraphStateAsOfAndCommit(String, long, Object)} for details.
+     * </p>
+     *
+     * @param branch    The branch to restore. Must not be <code>null</code>, must refer to an existing branch.
+     * @param timestamp The timestamp to revert back to. Must not be negative, must not be greater than the current timestamp of the branch.
+     * @return The restore result, containing the IDs of all restored vertices and edges. Never <code>null</code>. If nothing has changed since the given timestamp, no commit will be performed.
+     */
+    public default RestoreResult restoreGraphStateAsOfAndCommit(String branch, long timestamp) {
+        return this.restoreGraphStateAsOfAndCommit(branch, timestamp, null);
+    }
+
 }
@@ -0,0 +1,57 @@
+package org.chronos.chronograph.api.jmx;
+
+import org.chronos.chronodb.api.BranchHeadStatistics;
+import org.chronos.chronodb.api.KeyspaceStatistics;
+import org.chronos.chronograph.api.statistics.ChronoGraphStatisticsManager;
+
+public class ChronoGraphBranchStatistics implements ChronoGraphBranchStatisticsMBean {
+
+    private static final ChronoGraphBranchStatistics INSTANCE = new ChronoGraphBranchStatistics();
+
+    public static ChronoGraphBranchStatistics getInstance(){
+        return INSTANCE;
+    }
+
+    private ChronoGraphStatisticsManager statisticsManager;
+
+    public void setStatisticsManager(ChronoGraphStatisticsManager statisticsManager){
+        this.statisticsManager = statisticsManager;
+    }
+
+    public long getMasterNumberOfEntriesInHead(){
+        ChronoGraphStatisticsManager manager = this.statisticsManager;
+        if(manager == null){
+            return 0;
+        }
+        return manager.getMasterBranchHeadStatistics().getNumberOfEntriesInHead();
+    }
+
+    public long getMasterTotalNumberOfEntries(){
+        ChronoGraphStatisticsManager manager = this.statisticsManager;
+        if(manager == null){
+            return 0;
+        }
+        return manager.getMasterBranchHeadStatistics().getTotalNumberOfEntries();
+    }
+
+    public double getMasterHeadHistoryRatio(){
+        ChronoGraphStatisticsManager manager = this.statisticsManager;
+        if(manager == null){
+            return 0;
+        }
+        return manager.getMasterBranchHeadStatistics().getHeadHistoryRatio();
+    }
+
+    public String[] getKeyspaceStatistics(String branchName){
+        ChronoGraphStatisticsManager manager = this.statisticsManager;
+        if(manager == null || branchName == null){
+            return new String[0];
+        }
+        BranchHeadStatistics statistics = manager.getBranchHeadStatistics(branchName);
+        return statistics.getKeyspaceStatistics().values().stream()
+            .map(KeyspaceStatistics::toString)
+            .sorted()
+            .toArray(String[]::new);
+    }
+
+}
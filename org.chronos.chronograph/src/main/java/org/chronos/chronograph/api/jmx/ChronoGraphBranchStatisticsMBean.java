@@ -0,0 +1,13 @@
+package org.chronos.chronograph.api.jmx;
+
+public interface ChronoGraphBranchStatisticsMBean {
+
+    public long getMasterNumberOfEntriesInHead();
+
+    public long getMasterTotalNumberOfEntries();
+
+    public double getMasterHeadHistoryRatio();
+
+    public String[] getKeyspaceStatistics(String branchName);
+
+}
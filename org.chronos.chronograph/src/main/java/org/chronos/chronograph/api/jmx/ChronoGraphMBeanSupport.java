@@ -16,6 +16,8 @@ public class ChronoGraphMBeanSupport {
         try{
             // wire up the cache MBean
             ChronoGraphCacheStatistics.getInstance().setCache(standardChronoGraph.getBackingDB().getCache());
+            // wire up the branch statistics MBean
+            ChronoGraphBranchStatistics.getInstance().setStatisticsManager(standardChronoGraph.getStatisticsManager());
             // wire up the MBeans with the server
             MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
             // register the transaction statistics MBean
@@ -24,6 +26,9 @@ public class ChronoGraphMBeanSupport {
             // register the cache statistics MBean
             ObjectName objectNameCacheStatistics = new ObjectName("org.chronos.chronograph:type=ChronoGraph.CacheStatistics");
             mbs.registerMBean(ChronoGraphCacheStatistics.getInstance(), objectNameCacheStatistics);
+            // register the branch statistics MBean
+            ObjectName objectNameBranchStatistics = new ObjectName("org.chronos.chronograph:type=ChronoGraph.BranchStatistics");
+            mbs.registerMBean(ChronoGraphBranchStatistics.getInstance(), objectNameBranchStatistics);
         }catch(Exception e){
             log.warn("Failed to register ChronoGraph MBeans. JMX functionality will not be available for this instance. Exception is: " + e);
         }
@@ -43,6 +43,12 @@ import java.util.Set;
  * to perform any modifications on the graph. They will receive an unmodifiable version of the graph elements, and any attempt to modify them will result in an immediate exception.</li>
  * </ul>
  *
+ * <h2>Validator Scopes</h2>
+ * By default, every validator is invoked on every modified element. Most validators only apply to a few element labels
+ * though. A validator can therefore declare a {@link SchemaValidatorScope} when it is added. It will then only be invoked
+ * on the elements within its scope, which makes the validation of large commits considerably cheaper. If the graph
+ * transaction is a threaded transaction, the elements are validated in parallel.
+ *
  * <h2>Things to avoid when writing Validator Scripts</h2>
  * <ul>
  * <li><b>Do not perform excessive querying on the graph.</b> This will lead to poor performance. Checking the element and the immediate neighbors is fine.</li>
@@ -91,6 +97,37 @@ public interface ChronoGraphSchemaManager {
      */
     public boolean addOrOverrideValidator(String validatorName, String scriptContent, Object commitMetadata);
 
+    /**
+     * Adds the given validator class with the given scope and associates it with the given name.
+     *
+     * <p>
+     * In case that there is already a validator with the given name, the old validator (and its scope) will
+     * be replaced.
+     * </p>
+     *
+     * @param validatorName The unique name of the validator. Must not be <code>null</code> or empty.
+     * @param scope         The scope of the validator, i.e. the elements it should be invoked on. Must not be <code>null</code>.
+     * @param scriptContent The Groovy script which acts as the validator body. Please see the documentation of {@link ChronoGraphSchemaManager} for the scripting API details. The script content will be compiled immediately; in case that the compilation fails, an {@link IllegalArgumentException} will be thrown and the script will <b>not</b> be stored.
+     * @return <code>true</code> if a validator was overwritten, <code>false</code> if no validator was previously bound to the given name.
+     */
+    public boolean addOrOverrideValidator(String validatorName, SchemaValidatorScope scope, String scriptContent);
+
+    /**
+     * Adds the given validator class with the given scope and associates it with the given name.
+     *
+     * <p>
+     * In case that there is already a validator with the given name, the old validator (and its scope) will
+     * be replaced.
+     * </p>
+     *
+     * @param validatorName  The unique name of the validator. Must not be <code>null</code> or empty.
+     * @param scope          The scope of the validator, i.e. the elements it should be invoked on. Must not be <code>null</code>.
+     * @param scriptContent  The Groovy script which acts as the validator body. Please see the documentation of {@link ChronoGraphSchemaManager} for the scripting API details. The script content will be compiled immediately; in case that the compilation fails, an {@link IllegalArgumentException} will be thrown and the script will <b>not</b> be stored.
+     * @param commitMetadata The metadata for the commit of adding or overriding a validator. May be <code>null</code>.
+     * @return <code>true</code> if a validator was overwritten, <code>false</code> if no validator was previously bound to the given name.
+     */
+    public boolean addOrOverrideValidator(String validatorName, SchemaValidatorScope scope, String scriptContent, Object commitMetadata);
+
     /**
      * Removes the validator with the given name.
      *
@@ -116,6 +153,14 @@ public interface ChronoGraphSchemaManager {
      */
     public String getValidatorScript(String validatorName);
 
+    /**
+     * Returns the scope of the validator with the given name.
+     *
+     * @param validatorName The name of the validator to get the scope for. Must not be <code>null</code>.
+     * @return The validator scope, or <code>null</code> if there is no validator with the given name. Validators which have been added without a scope have the {@linkplain SchemaValidatorScope#all() unrestricted} scope.
+     */
+    public SchemaValidatorScope getValidatorScope(String validatorName);
+
     /**
      * Returns an immutable set containing all validator names that are currently in use (i.e. bound to a validator script).
      *
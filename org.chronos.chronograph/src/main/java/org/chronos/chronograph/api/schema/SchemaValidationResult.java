@@ -71,6 +71,24 @@ public interface SchemaValidationResult {
      */
     public Map<String, Throwable> getFailedValidatorExceptionsForElement(Element element);
 
+    /**
+     * Returns the time spent in each validator.
+     *
+     * <p>
+     * If the elements have been validated in parallel, the time is accumulated over all threads.
+     * </p>
+     *
+     * @return An immutable map from validator name to the time spent in the validator, in nanoseconds. Validators which have not been invoked on any element will not be contained in the keyset. Never <code>null</code>.
+     */
+    public Map<String, Long> getValidatorExecutionTimes();
+
+    /**
+     * Returns the number of elements each validator has been invoked on.
+     *
+     * @return An immutable map from validator name to the number of validated elements. Validators which have not been invoked on any element will not be contained in the keyset. Never <code>null</code>.
+     */
+    public Map<String, Integer> getValidatedElementCounts();
+
     /**
      * Compacts this validation result into an error message.
      *
@@ -0,0 +1,207 @@
+package org.chronos.chronograph.api.schema;
+
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Declares which graph elements a schema validator applies to.
+ *
+ * <p>
+ * Validators are only invoked on the elements which match their scope. An element matches the scope if all of the
+ * following conditions hold:
+ * </p>
+ *
+ * <ul>
+ * <li>The element is a {@link Vertex} and the scope {@linkplain #isApplicableToVertices() applies to vertices}, or the
+ * element is an {@link Edge} and the scope {@linkplain #isApplicableToEdges() applies to edges}.</li>
+ * <li>The {@linkplain #getLabels() labels} of the scope are empty, or contain the label of the element.</li>
+ * <li>The {@linkplain #getPropertyKeys() property keys} of the scope are empty, or the element has at least one
+ * property with one of the given keys.</li>
+ * </ul>
+ *
+ * <p>
+ * Usage example:
+ * </p>
+ *
+ * <pre>
+ * // only validate "Person" vertices which have an "age" property
+ * SchemaValidatorScope scope = SchemaValidatorScope.vertices("Person").withPropertyKeys("age");
+ * graph.getSchemaManager().addOrOverrideValidator("Person age is positive", scope, script);
+ * </pre>
+ *
+ * <p>
+ * Instances of this class are immutable.
+ * </p>
+ */
+public final class SchemaValidatorScope {
+
+    // =================================================================================================================
+    // STATIC
+    // =================================================================================================================
+
+    private static final SchemaValidatorScope ALL = new SchemaValidatorScope(true, true, Collections.emptySet(), Collections.emptySet());
+
+    /**
+     * Returns the scope which applies to all graph elements.
+     *
+     * @return The unrestricted scope. Never <code>null</code>.
+     */
+    public static SchemaValidatorScope all() {
+        return ALL;
+    }
+
+    /**
+     * Creates a scope which applies to vertices with any of the given labels.
+     *
+     * @param labels The vertex labels. If no labels are given, the scope applies to all vertices.
+     * @return The new scope. Never <code>null</code>.
+     */
+    public static SchemaValidatorScope vertices(final String... labels) {
+        checkNotNull(labels, "Precondition violation - argument 'labels' must not be NULL!");
+        return new SchemaValidatorScope(true, false, Sets.newHashSet(labels), Collections.emptySet());
+    }
+
+    /**
+     * Creates a scope which applies to edges with any of the given labels.
+     *
+     * @param labels The edge labels. If no labels are given, the scope applies to all edges.
+     * @return The new scope. Never <code>null</code>.
+     */
+    public static SchemaValidatorScope edges(final String... labels) {
+        checkNotNull(labels, "Precondition violation - argument 'labels' must not be NULL!");
+        return new SchemaValidatorScope(false, true, Sets.newHashSet(labels), Collections.emptySet());
+    }
+
+    // =================================================================================================================
+    // FIELDS
+    // =================================================================================================================
+
+    private boolean vertices;
+    private boolean edges;
+    private Set<String> labels;
+    private Set<String> propertyKeys;
+
+    // =================================================================================================================
+    // CONSTRUCTORS
+    // =================================================================================================================
+
+    private SchemaValidatorScope() {
+        // default constructor for (de-)serialization
+    }
+
+    private SchemaValidatorScope(final boolean vertices, final boolean edges, final Set<String> labels, final Set<String> propertyKeys) {
+        checkArgument(labels.stream().noneMatch(Objects::isNull), "Precondition violation - argument 'labels' must not contain NULL!");
+        checkArgument(propertyKeys.stream().noneMatch(Objects::isNull), "Precondition violation - argument 'propertyKeys' must not contain NULL!");
+        this.vertices = vertices;
+        this.edges = edges;
+        this.labels = Sets.newHashSet(labels);
+        this.propertyKeys = Sets.newHashSet(propertyKeys);
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    /**
+     * Creates a copy of this scope which only applies to elements that have at least one of the given properties.
+     *
+     * @param propertyKeys The property keys. If no keys are given, the property restriction is removed.
+     * @return The new scope. Never <code>null</code>.
+     */
+    public SchemaValidatorScope withPropertyKeys(final String... propertyKeys) {
+        checkNotNull(propertyKeys, "Precondition violation - argument 'propertyKeys' must not be NULL!");
+        return new SchemaValidatorScope(this.vertices, this.edges, this.labels, Sets.newHashSet(propertyKeys));
+    }
+
+    public boolean isApplicableToVertices() {
+        return this.vertices;
+    }
+
+    public boolean isApplicableToEdges() {
+        return this.edges;
+    }
+
+    /**
+     * Returns the element labels this scope is restricted to.
+     *
+     * @return An unmodifiable view on the labels. Empty if the scope applies to all labels. Never <code>null</code>.
+     */
+    public Set<String> getLabels() {
+        return Collections.unmodifiableSet(this.labels);
+    }
+
+    /**
+     * Returns the property keys this scope is restricted to.
+     *
+     * @return An unmodifiable view on the property keys. Empty if the scope applies regardless of the properties. Never <code>null</code>.
+     */
+    public Set<String> getPropertyKeys() {
+        return Collections.unmodifiableSet(this.propertyKeys);
+    }
+
+    /**
+     * Checks if this scope applies to all graph elements.
+     *
+     * @return <code>true</code> if this scope is unrestricted, otherwise <code>false</code>.
+     */
+    public boolean isUnrestricted() {
+        return this.vertices && this.edges && this.labels.isEmpty() && this.propertyKeys.isEmpty();
+    }
+
+    /**
+     * Checks if the given element is within this scope.
+     *
+     * @param element The element to check. Must not be <code>null</code>.
+     * @return <code>true</code> if a validator with this scope needs to be invoked on the given element, otherwise <code>false</code>.
+     */
+    public boolean contains(final Element element) {
+        checkNotNull(element, "Precondition violation - argument 'element' must not be NULL!");
+        if (element instanceof Vertex && this.vertices == false) {
+            return false;
+        }
+        if (element instanceof Edge && this.edges == false) {
+            return false;
+        }
+        if (this.labels.isEmpty() == false && this.labels.contains(element.label()) == false) {
+            return false;
+        }
+        if (this.propertyKeys.isEmpty()) {
+            return true;
+        }
+        return element.properties(this.propertyKeys.toArray(new String[0])).hasNext();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SchemaValidatorScope that = (SchemaValidatorScope) o;
+        return this.vertices == that.vertices
+            && this.edges == that.edges
+            && this.labels.equals(that.labels)
+            && this.propertyKeys.equals(that.propertyKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.vertices, this.edges, this.labels, this.propertyKeys);
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaValidatorScope[vertices=" + this.vertices + ", edges=" + this.edges + ", labels=" + this.labels + ", propertyKeys=" + this.propertyKeys + "]";
+    }
+
+}
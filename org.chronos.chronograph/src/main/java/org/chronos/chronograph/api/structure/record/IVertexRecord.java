@@ -5,6 +5,7 @@ import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecordWi
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public interface IVertexRecord extends IElementRecord {
 
@@ -26,6 +27,20 @@ public interface IVertexRecord extends IElementRecord {
     @Override
     public IVertexPropertyRecord getProperty(String propertyKey);
 
+    /**
+     * Returns the keys of all vertex properties in this record.
+     *
+     * <p>
+     * Depending on the record format, this method may be considerably cheaper than {@link #getProperties()}, because
+     * it does not require the property values to be decoded.
+     * </p>
+     *
+     * @return The set of property keys. Never <code>null</code>, may be empty.
+     */
+    public default Set<String> getPropertyKeys() {
+        return this.getProperties().stream().map(IPropertyRecord::getKey).collect(Collectors.toSet());
+    }
+
     public static IVertexRecordBuilder builder(){
         return new IVertexRecordBuilder();
     }
@@ -8,7 +8,7 @@ import org.chronos.chronograph.internal.impl.structure.record2.EdgeTargetRecord2
 import org.chronos.chronograph.internal.impl.structure.record2.PropertyRecord2
 import org.chronos.chronograph.internal.impl.structure.record3.SimpleVertexPropertyRecord
 import org.chronos.chronograph.internal.impl.structure.record3.VertexPropertyRecord3
-import org.chronos.chronograph.internal.impl.structure.record3.VertexRecord3
+import org.chronos.chronograph.internal.impl.structure.record4.VertexRecord4
 
 class IVertexRecordBuilder {
 
@@ -199,7 +199,7 @@ class IVertexRecordBuilder {
         }
         // convert the properties to the internal format
         val convertedProperties = this.properties.asSequence().map { e -> e.value.toVertexPropertyRecord() }.toSet()
-        return VertexRecord3(id, label, this.inEdgeTargetRecords, this.outEdgeTargetRecords, convertedProperties)
+        return VertexRecord4(id, label, this.inEdgeTargetRecords, this.outEdgeTargetRecords, convertedProperties)
     }
 
     // =================================================================================================================
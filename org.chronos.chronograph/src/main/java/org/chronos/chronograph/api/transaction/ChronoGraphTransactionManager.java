@@ -370,6 +370,35 @@ public interface ChronoGraphTransactionManager extends Transaction {
 	 */
 	public ChronoGraph createThreadedTx(String branchName, Date date);
 
+	// =================================================================================================================
+	// READ-ONLY SNAPSHOTS
+	// =================================================================================================================
+
+	/**
+	 * Returns a read-only snapshot of the graph on the given branch and timestamp.
+	 *
+	 * <p>
+	 * In contrast to {@linkplain #createThreadedTx(String, long) threaded transactions}, a snapshot is <b>shared</b>:
+	 * all callers which request a snapshot on the same branch and timestamp receive a view on the same snapshot (for
+	 * as long as any of them holds a reference to it). The graph elements loaded by the snapshot are cached (up to the
+	 * {@linkplain org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration#SNAPSHOT_ELEMENT_CACHE_SIZE
+	 * configured size}) and reused by all of them, which makes snapshots well suited for read-heavy workloads where
+	 * many short-lived readers query the same revision.
+	 *
+	 * <p>
+	 * The returned graph and its elements are <b>safe for concurrent read access</b>. Any attempt to modify them, or
+	 * to commit, roll back or close the snapshot, will result in an {@link UnsupportedOperationException}.
+	 *
+	 * @param branchName
+	 *            The name of the branch to read. Must not be <code>null</code>. Must refer to an existing branch.
+	 * @param timestamp
+	 *            The timestamp to read. Must not be negative. Must not be greater than the "now" timestamp of the
+	 *            branch.
+	 *
+	 * @return The read-only snapshot graph. Never <code>null</code>.
+	 */
+	public ChronoGraph getReadOnlySnapshot(String branchName, long timestamp);
+
 	// =================================================================================================================
 	// COMMITTING
 	// =================================================================================================================
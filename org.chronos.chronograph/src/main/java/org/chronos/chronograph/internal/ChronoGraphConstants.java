@@ -12,6 +12,7 @@ public final class ChronoGraphConstants {
     public static final String KEYSPACE_MANAGEMENT_INDICES = "indices";
     public static final String KEYSPACE_TRIGGERS = "triggers";
     public static final String KEYSPACE_SCHEMA_VALIDATORS = "schemavalidators";
+    public static final String KEYSPACE_SCHEMA_VALIDATOR_SCOPES = "schemavalidatorscopes";
     public static final String KEYSPACE_MANAGEMENT = "org.chronos.chronograph.management";
     public static final String KEYSPACE_MANAGEMENT_KEY__CHRONOGRAPH_VERSION = "chronograph.version";
 
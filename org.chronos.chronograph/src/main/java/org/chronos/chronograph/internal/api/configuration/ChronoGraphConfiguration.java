@@ -109,6 +109,162 @@ public interface ChronoGraphConfiguration extends ChronosConfiguration {
      */
     public static final String PREFETCH_INDEX_QUERY_MIN_ELEMENTS = NS_DOT + "gremlin.prefetchIndexQuery.minElements";
 
+    /**
+     * Enables or disables parallel execution of Gremlin traversals.
+     *
+     * <p>
+     * If enabled, the output of the initial <code>V()</code> / <code>E()</code> step of a traversal is partitioned, and
+     * the subsequent stateless steps (filters, maps, <code>local(...)</code>, property accesses) are evaluated on a
+     * fork-join pool. Each partition is evaluated on its own read-only snapshot at the timestamp of the current
+     * transaction. Barriers (e.g. <code>count()</code>, <code>group()</code>, <code>order()</code>) and all following
+     * steps are evaluated on the calling thread, after the partition results have been merged.
+     * </p>
+     *
+     * <p>
+     * Traversals which run on a transaction with uncommitted changes, or which have fewer input elements than
+     * {@link #GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS}, are always evaluated sequentially.
+     * </p>
+     *
+     * <p>
+     * The setting can be declared globally in the graph configuration (default: <code>false</code>), or overwritten on a per-traversal basis by calling:
+     * </p>
+     *
+     * <pre>
+     * graph.traversal()
+     *      .with(ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION, true) // true to enable, false to disable
+     *      .V()
+     *      ...
+     * </pre>
+     */
+    public static final String GREMLIN_PARALLEL_EXECUTION = NS_DOT + "gremlin.parallelExecution";
+
+    /**
+     * The minimum required number of input elements to evaluate a traversal in parallel.
+     *
+     * <p>
+     * Only relevant if {@link #GREMLIN_PARALLEL_EXECUTION} is enabled. If fewer elements are provided, the traversal is
+     * evaluated sequentially.
+     * </p>
+     *
+     * The setting can be declared globally in the graph configuration (default: <code>10000</code>), or overwritten on a per-traversal basis by calling:
+     *
+     * <pre>
+     * graph.traversal()
+     *      .with(ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS, 1000)
+     *      .V()
+     *      ...
+     * </pre>
+     */
+    public static final String GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS = NS_DOT + "gremlin.parallelExecution.minElements";
+
+    /**
+     * The maximum number of vertices (and, separately, edges) which are cached per read-only snapshot.
+     *
+     * <p>
+     * Read-only snapshots (see {@link org.chronos.chronograph.api.transaction.ChronoGraphTransactionManager#getReadOnlySnapshot(String, long)})
+     * share the graph elements they load among all of their readers. This setting limits the number of elements which
+     * are kept in memory per snapshot. Elements which have been evicted from the cache are reloaded on demand.
+     * </p>
+     *
+     * The setting can be declared globally in the graph configuration (default: <code>100000</code>).
+     */
+    public static final String SNAPSHOT_ELEMENT_CACHE_SIZE = NS_DOT + "snapshot.elementCacheSize";
+
+    /**
+     * Enables or disables asynchronous prefetching of adjacent vertices in Gremlin traversals.
+     *
+     * <p>
+     * If enabled, the vertices produced by navigation steps (e.g. <code>out()</code>, <code>in()</code>, <code>both()</code>)
+     * are buffered in a small lookahead window (see {@link #GREMLIN_VERTEX_PREFETCH_DEPTH}). The records of the buffered
+     * vertices are loaded into the cache of the underlying ChronoDB by a background thread pool, while the traversal is
+     * still processing the earlier vertices. This turns a chain of blocking reads into a pipeline. This setting has no
+     * effect if the ChronoDB cache is disabled.
+     * </p>
+     *
+     * <p>
+     * The setting can be declared globally in the graph configuration (default: <code>false</code>), or overwritten on a per-traversal basis by calling:
+     * </p>
+     *
+     * <pre>
+     * graph.traversal()
+     *      .with(ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH, true) // true to enable, false to disable
+     *      .V()
+     *      ...
+     * </pre>
+     */
+    public static final String GREMLIN_VERTEX_PREFETCH = NS_DOT + "gremlin.vertexPrefetch";
+
+    /**
+     * The number of vertices to look ahead when prefetching adjacent vertices.
+     *
+     * <p>
+     * Only relevant if {@link #GREMLIN_VERTEX_PREFETCH} is enabled. Larger values allow for more concurrent reads, but
+     * the vertices are pulled from the preceding steps earlier than strictly necessary.
+     * </p>
+     *
+     * The setting can be declared globally in the graph configuration (default: <code>64</code>), or overwritten on a per-traversal basis by calling:
+     *
+     * <pre>
+     * graph.traversal()
+     *      .with(ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH_DEPTH, 128)
+     *      .V()
+     *      ...
+     * </pre>
+     */
+    public static final String GREMLIN_VERTEX_PREFETCH_DEPTH = NS_DOT + "gremlin.vertexPrefetch.depth";
+
+    /**
+     * The maximum number of vertex records which may be scheduled for prefetching (but not loaded yet) per navigation step.
+     *
+     * <p>
+     * Only relevant if {@link #GREMLIN_VERTEX_PREFETCH} is enabled. This setting caps the amount of memory which is
+     * occupied by pending prefetch requests. If the limit is reached, further vertices are not prefetched and will be
+     * loaded on demand instead. The prefetched records themselves are subject to the size limit of the ChronoDB cache.
+     * </p>
+     *
+     * The setting can be declared globally in the graph configuration (default: <code>1000</code>), or overwritten on a per-traversal basis by calling:
+     *
+     * <pre>
+     * graph.traversal()
+     *      .with(ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH_MAX_PENDING, 500)
+     *      .V()
+     *      ...
+     * </pre>
+     */
+    public static final String GREMLIN_VERTEX_PREFETCH_MAX_PENDING = NS_DOT + "gremlin.vertexPrefetch.maxPending";
+
+    /**
+     * Enables or disables parallel execution of the graph schema validators.
+     *
+     * <p>
+     * If enabled, validators which have been added with a restricted {@link org.chronos.chronograph.api.schema.SchemaValidatorScope scope}
+     * are executed in parallel over partitions of the modified elements. Validators without a scope are always executed
+     * sequentially, as they might rely on the sequential validation of the elements. The elements of a commit can only be
+     * validated in parallel if the commit happens on a threaded transaction, because the elements of thread-bound
+     * transactions must not be accessed by other threads.
+     * </p>
+     *
+     * <p>
+     * Please note that validators which are executed in parallel must not modify the elements (or their neighbours) they
+     * are validating.
+     * </p>
+     *
+     * The setting can be declared globally in the graph configuration (default: <code>false</code>).
+     */
+    public static final String SCHEMA_VALIDATION_PARALLEL = NS_DOT + "schemaValidation.parallel";
+
+    /**
+     * The minimum required number of modified elements to run the graph schema validators in parallel.
+     *
+     * <p>
+     * Only relevant if {@link #SCHEMA_VALIDATION_PARALLEL} is enabled. If fewer elements are modified, or the
+     * transaction is thread-bound, the validators are executed sequentially.
+     * </p>
+     *
+     * The setting can be declared globally in the graph configuration (default: <code>1000</code>).
+     */
+    public static final String SCHEMA_VALIDATION_PARALLEL_MIN_ELEMENTS = NS_DOT + "schemaValidation.parallel.minElements";
+
     // =================================================================================================================
     // GENERAL CONFIGURATION
     // =================================================================================================================
@@ -192,4 +348,68 @@ public interface ChronoGraphConfiguration extends ChronosConfiguration {
 
     public int getMinimumNumberOfElementsForPrefetchIndexQuery();
 
+    /**
+     * Whether to evaluate Gremlin traversals in parallel (if possible).
+     *
+     * @return <code>true</code> if parallel traversal execution is enabled, otherwise <code>false</code>.
+     * @see #GREMLIN_PARALLEL_EXECUTION
+     */
+    public boolean isGremlinParallelExecutionEnabled();
+
+    /**
+     * The minimum number of input elements required to evaluate a Gremlin traversal in parallel.
+     *
+     * @return The minimum number of elements for parallel execution.
+     * @see #GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS
+     */
+    public int getMinimumNumberOfElementsForParallelExecution();
+
+    /**
+     * The maximum number of vertices (and, separately, edges) to cache per read-only snapshot.
+     *
+     * @return The maximum number of cached elements per snapshot.
+     * @see #SNAPSHOT_ELEMENT_CACHE_SIZE
+     */
+    public int getSnapshotElementCacheSize();
+
+    /**
+     * Whether to prefetch adjacent vertices asynchronously in Gremlin traversals.
+     *
+     * @return <code>true</code> if adjacent vertices should be prefetched, otherwise <code>false</code>.
+     * @see #GREMLIN_VERTEX_PREFETCH
+     */
+    public boolean isGremlinVertexPrefetchEnabled();
+
+    /**
+     * The number of vertices to look ahead when prefetching adjacent vertices.
+     *
+     * @return The lookahead depth.
+     * @see #GREMLIN_VERTEX_PREFETCH_DEPTH
+     */
+    public int getGremlinVertexPrefetchDepth();
+
+    /**
+     * The maximum number of pending vertex prefetch requests per navigation step.
+     *
+     * @return The maximum number of pending prefetch requests.
+     * @see #GREMLIN_VERTEX_PREFETCH_MAX_PENDING
+     */
+    public int getGremlinVertexPrefetchMaxPending();
+
+    /**
+     * Whether to execute scoped graph schema validators in parallel (if possible).
+     *
+     * @return <code>true</code> if parallel schema validation is enabled, otherwise <code>false</code>.
+     * @see #SCHEMA_VALIDATION_PARALLEL
+     */
+    public boolean isParallelSchemaValidationEnabled();
+
+    /**
+     * The minimum number of modified elements required to run the graph schema validators in parallel.
+     *
+     * @return The minimum number of elements for parallel schema validation.
+     * @see #SCHEMA_VALIDATION_PARALLEL_MIN_ELEMENTS
+     */
+    public int getMinimumNumberOfElementsForParallelSchemaValidation();
+
 }
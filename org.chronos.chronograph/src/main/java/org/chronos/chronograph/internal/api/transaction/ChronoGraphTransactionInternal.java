@@ -4,6 +4,7 @@ import org.chronos.chronograph.api.structure.ChronoEdge;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronograph.api.structure.record.IEdgeRecord;
 import org.chronos.chronograph.api.structure.record.IEdgeTargetRecord;
+import org.chronos.chronograph.api.structure.record.IVertexPropertyRecord;
 import org.chronos.chronograph.api.structure.record.IVertexRecord;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
@@ -19,6 +20,21 @@ public interface ChronoGraphTransactionInternal extends ChronoGraphTransaction {
 
     public IVertexRecord loadVertexRecord(String recordId);
 
+    /**
+     * Loads a single vertex property from the persistent vertex record with the given ID.
+     *
+     * <p>
+     * If the record format supports partial deserialization, only the requested property will be decoded; the other
+     * properties and the adjacent edges of the record remain untouched. Please note that this method operates purely on
+     * the persistent state; transient modifications in the transaction context are <b>not</b> taken into account.
+     * </p>
+     *
+     * @param recordId    The ID of the vertex record to read from. Must not be <code>null</code>.
+     * @param propertyKey The key of the property to load. Must not be <code>null</code>.
+     * @return The vertex property record, or <code>null</code> if the record has no property with the given key.
+     */
+    public IVertexPropertyRecord loadVertexPropertyRecord(String recordId, String propertyKey);
+
     public IEdgeRecord loadEdgeRecord(final String recordId);
 
     public default void assertIsOpen() {
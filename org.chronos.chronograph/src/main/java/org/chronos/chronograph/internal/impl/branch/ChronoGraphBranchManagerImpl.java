@@ -4,9 +4,16 @@ import com.google.common.base.Objects;
 import com.google.common.collect.Maps;
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.BranchManager;
+import org.chronos.chronodb.api.BranchMergeResult;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.internal.util.ModificationUtils;
 import org.chronos.chronograph.api.branch.ChronoGraphBranchManager;
 import org.chronos.chronograph.api.branch.GraphBranch;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.transaction.conflict.PropertyConflictResolutionStrategy;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.common.autolock.AutoLock;
 
 import java.util.List;
 import java.util.Map;
@@ -110,6 +117,54 @@ public class ChronoGraphBranchManagerImpl implements ChronoGraphBranchManager {
         return currentBranch;
     }
 
+    @Override
+    public BranchMergeResult mergeBranch(final String sourceBranchName, final String targetBranchName, final PropertyConflictResolutionStrategy conflictResolution, final Object commitMetadata) {
+        checkNotNull(sourceBranchName, "Precondition violation - argument 'sourceBranchName' must not be NULL!");
+        checkNotNull(targetBranchName, "Precondition violation - argument 'targetBranchName' must not be NULL!");
+        checkNotNull(conflictResolution, "Precondition violation - argument 'conflictResolution' must not be NULL!");
+        checkArgument(this.existsBranch(sourceBranchName), "Precondition violation - there is no branch with name '" + sourceBranchName + "'!");
+        checkArgument(this.existsBranch(targetBranchName), "Precondition violation - there is no branch with name '" + targetBranchName + "'!");
+        GraphBranch sourceBranch = this.getBranch(sourceBranchName);
+        if (sourceBranch.isMaster() || targetBranchName.equals(sourceBranch.getOrigin().getName()) == false) {
+            throw new IllegalArgumentException("Precondition violation - cannot merge branch '" + sourceBranchName
+                + "' into branch '" + targetBranchName + "': branches can only be merged into their direct parent branch!");
+        }
+        long branchingTimestamp = sourceBranch.getBranchingTimestamp();
+        try (AutoLock lock = this.graph.commitLock()) {
+            // we hold the commit lock, so the target branch cannot advance while we are merging into it
+            ChronoDBTransaction sourceTx = this.graph.getBackingDB().tx(sourceBranchName);
+            ChronoDBTransaction targetTx = this.graph.getBackingDB().tx(targetBranchName);
+            Set<String> sourceVertexIds = ModificationUtils.getKeysModifiedAfter(sourceTx, ChronoGraphConstants.KEYSPACE_VERTEX, branchingTimestamp);
+            Set<String> sourceEdgeIds = ModificationUtils.getKeysModifiedAfter(sourceTx, ChronoGraphConstants.KEYSPACE_EDGE, branchingTimestamp);
+            if (sourceVertexIds.isEmpty() && sourceEdgeIds.isEmpty()) {
+                // nothing to merge
+                return new BranchMergeResult(-1, 0, 0);
+            }
+            Set<String> targetVertexIds = ModificationUtils.getKeysModifiedAfter(targetTx, ChronoGraphConstants.KEYSPACE_VERTEX, branchingTimestamp);
+            Set<String> targetEdgeIds = ModificationUtils.getKeysModifiedAfter(targetTx, ChronoGraphConstants.KEYSPACE_EDGE, branchingTimestamp);
+            try (ChronoGraph sourceGraph = this.graph.tx().createThreadedTx(sourceBranchName, sourceTx.getTimestamp());
+                 ChronoGraph targetGraph = this.graph.tx().createThreadedTx(targetBranchName, targetTx.getTimestamp());
+                 ChronoGraph ancestorGraph = this.graph.tx().createThreadedTx(targetBranchName, branchingTimestamp);
+                 ChronoGraph mergeGraph = this.graph.tx().createThreadedTx(targetBranchName)) {
+                GraphBranchMerge merge = new GraphBranchMerge(sourceGraph, targetGraph, ancestorGraph, mergeGraph, conflictResolution);
+                // merge the vertices first, so that the merged edges can be attached to them
+                for (String vertexId : sourceVertexIds) {
+                    merge.mergeVertex(vertexId, targetVertexIds.contains(vertexId));
+                }
+                for (String edgeId : sourceEdgeIds) {
+                    merge.mergeEdge(edgeId, targetEdgeIds.contains(edgeId));
+                }
+                if (merge.getMergedElementCount() <= 0) {
+                    mergeGraph.tx().rollback();
+                    return new BranchMergeResult(-1, 0, merge.getConflictCount());
+                }
+                // a regular graph commit, which runs the triggers and the schema validation and updates the indices
+                long commitTimestamp = mergeGraph.tx().commitAndReturnTimestamp(commitMetadata);
+                return new BranchMergeResult(commitTimestamp, merge.getMergedElementCount(), merge.getConflictCount());
+            }
+        }
+    }
+
     // =====================================================================================================================
     // INTERNAL HELPER METHODS
     // =====================================================================================================================
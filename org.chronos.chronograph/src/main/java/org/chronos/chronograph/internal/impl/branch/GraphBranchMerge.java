@@ -0,0 +1,210 @@
+package org.chronos.chronograph.internal.impl.branch;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.transaction.conflict.PropertyConflictResolutionStrategy;
+import org.chronos.chronograph.internal.impl.transaction.merge.GraphConflictMergeUtils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Applies the changes of a source branch to a transaction on its parent branch, one graph element at a time.
+ *
+ * <p>
+ * For the purpose of conflict resolution, the source branch takes the role of the transaction, and the target branch
+ * takes the role of the store. The common ancestor is the state of the target branch at the branching timestamp of
+ * the source branch.
+ * </p>
+ */
+class GraphBranchMerge {
+
+    // =================================================================================================================
+    // FIELDS
+    // =================================================================================================================
+
+    private final ChronoGraph sourceGraph;
+    private final ChronoGraph targetGraph;
+    private final ChronoGraph ancestorGraph;
+    private final ChronoGraph mergeGraph;
+    private final PropertyConflictResolutionStrategy conflictResolution;
+
+    private int mergedElementCount = 0;
+    private int conflictCount = 0;
+
+    // =================================================================================================================
+    // CONSTRUCTOR
+    // =================================================================================================================
+
+    GraphBranchMerge(final ChronoGraph sourceGraph, final ChronoGraph targetGraph, final ChronoGraph ancestorGraph,
+                     final ChronoGraph mergeGraph, final PropertyConflictResolutionStrategy conflictResolution) {
+        checkNotNull(sourceGraph, "Precondition violation - argument 'sourceGraph' must not be NULL!");
+        checkNotNull(targetGraph, "Precondition violation - argument 'targetGraph' must not be NULL!");
+        checkNotNull(ancestorGraph, "Precondition violation - argument 'ancestorGraph' must not be NULL!");
+        checkNotNull(mergeGraph, "Precondition violation - argument 'mergeGraph' must not be NULL!");
+        checkNotNull(conflictResolution, "Precondition violation - argument 'conflictResolution' must not be NULL!");
+        this.sourceGraph = sourceGraph;
+        this.targetGraph = targetGraph;
+        this.ancestorGraph = ancestorGraph;
+        this.mergeGraph = mergeGraph;
+        this.conflictResolution = conflictResolution;
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    public void mergeVertex(final String vertexId, final boolean modifiedOnTarget) {
+        Vertex sourceVertex = getVertex(this.sourceGraph, vertexId);
+        Vertex mergeVertex = getVertex(this.mergeGraph, vertexId);
+        if (sourceVertex == null) {
+            // the vertex has been deleted on the source branch
+            if (mergeVertex != null && (modifiedOnTarget == false || this.isUnchangedOnTarget(mergeVertex, getVertex(this.ancestorGraph, vertexId)))) {
+                mergeVertex.remove();
+                this.mergedElementCount++;
+            }
+            return;
+        }
+        if (mergeVertex == null) {
+            // the vertex has been created on the source branch, or it has been deleted on the target branch
+            if (modifiedOnTarget == false || this.isModifiedOnSource(sourceVertex, getVertex(this.ancestorGraph, vertexId))) {
+                Vertex newVertex = this.mergeGraph.addVertex(T.id, vertexId, T.label, sourceVertex.label());
+                copyProperties(sourceVertex, newVertex);
+                this.mergedElementCount++;
+            }
+            return;
+        }
+        if (modifiedOnTarget == false) {
+            if (copyProperties(sourceVertex, mergeVertex)) {
+                this.mergedElementCount++;
+            }
+            return;
+        }
+        this.mergeModifiedOnBothSides(sourceVertex, mergeVertex, getVertex(this.targetGraph, vertexId), getVertex(this.ancestorGraph, vertexId));
+    }
+
+    public void mergeEdge(final String edgeId, final boolean modifiedOnTarget) {
+        Edge sourceEdge = getEdge(this.sourceGraph, edgeId);
+        Edge mergeEdge = getEdge(this.mergeGraph, edgeId);
+        if (sourceEdge == null) {
+            // the edge has been deleted on the source branch
+            if (mergeEdge != null && (modifiedOnTarget == false || this.isUnchangedOnTarget(mergeEdge, getEdge(this.ancestorGraph, edgeId)))) {
+                mergeEdge.remove();
+                this.mergedElementCount++;
+            }
+            return;
+        }
+        if (mergeEdge == null) {
+            // the edge has been created on the source branch, or it has been deleted on the target branch
+            if (modifiedOnTarget && this.isModifiedOnSource(sourceEdge, getEdge(this.ancestorGraph, edgeId)) == false) {
+                return;
+            }
+            Vertex outVertex = getVertex(this.mergeGraph, (String) sourceEdge.outVertex().id());
+            Vertex inVertex = getVertex(this.mergeGraph, (String) sourceEdge.inVertex().id());
+            if (outVertex == null || inVertex == null) {
+                // one of the adjacent vertices has been deleted by the merge, the edge can't exist anymore
+                return;
+            }
+            Edge newEdge = outVertex.addEdge(sourceEdge.label(), inVertex, T.id, edgeId);
+            copyProperties(sourceEdge, newEdge);
+            this.mergedElementCount++;
+            return;
+        }
+        if (modifiedOnTarget == false) {
+            if (copyProperties(sourceEdge, mergeEdge)) {
+                this.mergedElementCount++;
+            }
+            return;
+        }
+        this.mergeModifiedOnBothSides(sourceEdge, mergeEdge, getEdge(this.targetGraph, edgeId), getEdge(this.ancestorGraph, edgeId));
+    }
+
+    public int getMergedElementCount() {
+        return this.mergedElementCount;
+    }
+
+    public int getConflictCount() {
+        return this.conflictCount;
+    }
+
+    // =================================================================================================================
+    // INTERNAL HELPER METHODS
+    // =================================================================================================================
+
+    private void mergeModifiedOnBothSides(final Element sourceElement, final Element mergeElement, final Element targetElement, final Element ancestorElement) {
+        // the element may have been touched on both branches only because edges have been added to it; it is
+        // a conflict only if the strategy had to resolve one, and merged only if its properties actually change
+        copyProperties(sourceElement, mergeElement);
+        if (GraphConflictMergeUtils.mergeProperties(mergeElement, targetElement, ancestorElement, this.conflictResolution)) {
+            this.conflictCount++;
+        }
+        if (getPropertyValues(mergeElement).equals(getPropertyValues(targetElement)) == false) {
+            this.mergedElementCount++;
+        }
+    }
+
+    private boolean isUnchangedOnTarget(final Element targetElement, final Element ancestorElement) {
+        // a deletion on the source only wins if the target did not touch the properties of the element
+        return ancestorElement != null && getPropertyValues(targetElement).equals(getPropertyValues(ancestorElement));
+    }
+
+    private boolean isModifiedOnSource(final Element sourceElement, final Element ancestorElement) {
+        // a deletion on the target only wins if the source did not touch the properties of the element
+        return ancestorElement == null || getPropertyValues(sourceElement).equals(getPropertyValues(ancestorElement)) == false;
+    }
+
+    private static boolean copyProperties(final Element source, final Element target) {
+        boolean changed = false;
+        for (String key : Sets.difference(target.keys(), source.keys()).immutableCopy()) {
+            target.property(key).remove();
+            changed = true;
+        }
+        for (String key : source.keys()) {
+            Property<?> sourceProperty = source.property(key);
+            Property<?> targetProperty = target.property(key);
+            if (sourceProperty instanceof VertexProperty) {
+                if (targetProperty.isPresent()
+                    && Objects.equals(sourceProperty.value(), targetProperty.value())
+                    && getPropertyValues((VertexProperty<?>) sourceProperty).equals(getPropertyValues((VertexProperty<?>) targetProperty))) {
+                    continue;
+                }
+                VertexProperty<?> newProperty = ((Vertex) target).property(key, sourceProperty.value());
+                // transfer the meta-properties
+                ((VertexProperty<?>) sourceProperty).properties().forEachRemaining(metaProp -> newProperty.property(metaProp.key(), metaProp.value()));
+            } else {
+                if (targetProperty.isPresent() && Objects.equals(sourceProperty.value(), targetProperty.value())) {
+                    continue;
+                }
+                target.property(key, sourceProperty.value());
+            }
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static Map<String, Object> getPropertyValues(final Element element) {
+        Map<String, Object> values = Maps.newHashMap();
+        element.properties().forEachRemaining(property -> values.put(property.key(), property.value()));
+        return values;
+    }
+
+    private static Vertex getVertex(final ChronoGraph graph, final String vertexId) {
+        return Iterators.getOnlyElement(graph.vertices(vertexId), null);
+    }
+
+    private static Edge getEdge(final ChronoGraph graph, final String edgeId) {
+        return Iterators.getOnlyElement(graph.edges(edgeId), null);
+    }
+
+}
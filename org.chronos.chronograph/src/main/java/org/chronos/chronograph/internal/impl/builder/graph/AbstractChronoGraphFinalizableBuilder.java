@@ -44,6 +44,16 @@ public abstract class AbstractChronoGraphFinalizableBuilder
         return this.withProperty(ChronoGraphConfiguration.USE_SECONDARY_INDEX_FOR_VALUE_MAP_STEP, String.valueOf(useSecondaryIndexForGremlinValueMapStep));
     }
 
+    @Override
+    public ChronoGraphFinalizableBuilder withParallelGremlinExecution(final boolean enableParallelExecution) {
+        return this.withProperty(ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION, String.valueOf(enableParallelExecution));
+    }
+
+    @Override
+    public ChronoGraphFinalizableBuilder withGremlinVertexPrefetch(final boolean enableVertexPrefetch) {
+        return this.withProperty(ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH, String.valueOf(enableVertexPrefetch));
+    }
+
     @Override
     public ChronoGraph build() {
         Configuration config = this.getPropertiesAsConfiguration();
@@ -46,6 +46,30 @@ public class ChronoGraphConfigurationImpl extends AbstractConfiguration implemen
     @Parameter(key = ChronoGraphConfiguration.PREFETCH_INDEX_QUERY_MIN_ELEMENTS, optional = true)
     private int minimumNumberOfElementsForPrefetchIndexQuery = 100;
 
+    @Parameter(key = ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION, optional = true)
+    private boolean gremlinParallelExecutionEnabled = false;
+
+    @Parameter(key = ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS, optional = true)
+    private int minimumNumberOfElementsForParallelExecution = 10000;
+
+    @Parameter(key = ChronoGraphConfiguration.SNAPSHOT_ELEMENT_CACHE_SIZE, optional = true)
+    private int snapshotElementCacheSize = 100000;
+
+    @Parameter(key = ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH, optional = true)
+    private boolean gremlinVertexPrefetchEnabled = false;
+
+    @Parameter(key = ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH_DEPTH, optional = true)
+    private int gremlinVertexPrefetchDepth = 64;
+
+    @Parameter(key = ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH_MAX_PENDING, optional = true)
+    private int gremlinVertexPrefetchMaxPending = 1000;
+
+    @Parameter(key = ChronoGraphConfiguration.SCHEMA_VALIDATION_PARALLEL, optional = true)
+    private boolean parallelSchemaValidationEnabled = false;
+
+    @Parameter(key = ChronoGraphConfiguration.SCHEMA_VALIDATION_PARALLEL_MIN_ELEMENTS, optional = true)
+    private int minimumNumberOfElementsForParallelSchemaValidation = 1000;
+
     // =================================================================================================================
     // CACHE
     // =================================================================================================================
@@ -145,4 +169,44 @@ public class ChronoGraphConfigurationImpl extends AbstractConfiguration implemen
     public int getMinimumNumberOfElementsForPrefetchIndexQuery() {
         return minimumNumberOfElementsForPrefetchIndexQuery;
     }
+
+    @Override
+    public boolean isGremlinParallelExecutionEnabled() {
+        return this.gremlinParallelExecutionEnabled;
+    }
+
+    @Override
+    public int getMinimumNumberOfElementsForParallelExecution() {
+        return this.minimumNumberOfElementsForParallelExecution;
+    }
+
+    @Override
+    public int getSnapshotElementCacheSize() {
+        return this.snapshotElementCacheSize;
+    }
+
+    @Override
+    public boolean isGremlinVertexPrefetchEnabled() {
+        return this.gremlinVertexPrefetchEnabled;
+    }
+
+    @Override
+    public int getGremlinVertexPrefetchDepth() {
+        return this.gremlinVertexPrefetchDepth;
+    }
+
+    @Override
+    public int getGremlinVertexPrefetchMaxPending() {
+        return this.gremlinVertexPrefetchMaxPending;
+    }
+
+    @Override
+    public boolean isParallelSchemaValidationEnabled() {
+        return this.parallelSchemaValidationEnabled;
+    }
+
+    @Override
+    public int getMinimumNumberOfElementsForParallelSchemaValidation() {
+        return this.minimumNumberOfElementsForParallelSchemaValidation;
+    }
 }
@@ -26,7 +26,7 @@ import org.chronos.chronograph.internal.impl.structure.record2.VertexPropertyRec
 import org.chronos.chronograph.internal.impl.structure.record2.VertexRecord2;
 import org.chronos.chronograph.internal.impl.structure.record3.SimpleVertexPropertyRecord;
 import org.chronos.chronograph.internal.impl.structure.record3.VertexPropertyRecord3;
-import org.chronos.chronograph.internal.impl.structure.record3.VertexRecord3;
+import org.chronos.chronograph.internal.impl.structure.record4.VertexRecord4;
 
 public class VertexDump {
 
@@ -107,7 +107,7 @@ public class VertexDump {
 		return Collections.unmodifiableSet(this.properties);
 	}
 
-	public VertexRecord3 toRecord() {
+	public VertexRecord4 toRecord() {
 		// convert incoming edges
 		SetMultimap<String, EdgeTargetRecord2> inE = HashMultimap.create();
 		for (Entry<String, Set<EdgeTargetDump>> entry : this.incomingEdges.entrySet()) {
@@ -145,6 +145,6 @@ public class VertexDump {
 				props.add(new VertexPropertyRecord3(property.getKey(), property.getValue(), metaProps));
 			}
 		}
-		return new VertexRecord3(this.recordId, this.label, inE, outE, props);
+		return new VertexRecord4(this.recordId, this.label, inE, outE, props);
 	}
 }
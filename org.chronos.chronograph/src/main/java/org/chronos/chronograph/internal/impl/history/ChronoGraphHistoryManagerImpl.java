@@ -4,13 +4,16 @@ import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.structure.*;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.internal.util.ModificationUtils;
 import org.chronos.chronograph.api.history.ChronoGraphHistoryManager;
 import org.chronos.chronograph.api.history.RestoreResult;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.common.autolock.AutoLock;
 
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -88,23 +91,61 @@ public class ChronoGraphHistoryManagerImpl implements ChronoGraphHistoryManager
             throw new IllegalArgumentException("Precondition violation - argument 'timestamp' (value: "
                 + timestamp + ") must be less than or equal to the transaction timestamp (value: " + now + ")!");
         }
-        Set<String> vertexIds = Sets.newHashSet();
-        Set<String> edgeIds = Sets.newHashSet();
         // collect the differences between the current tx timestamp and the given timestamp
-        tx.getGraph().getCommitTimestampsBetween(tx.getBranchName(), timestamp, now).forEachRemaining(commit -> {
-            Iterator<String> changedVerticesAtCommit = tx.getGraph().getChangedVerticesAtCommit(tx.getBranchName(), commit);
-            Iterators.addAll(vertexIds, changedVerticesAtCommit);
-            Iterator<String> changedEdgesAtCommit = tx.getGraph().getChangedEdgesAtCommit(tx.getBranchName(), commit);
-            Iterators.addAll(edgeIds, changedEdgesAtCommit);
-        });
+        ChronoDBTransaction currentTx = this.graph.getBackingDB().tx(tx.getBranchName(), now);
+        Set<String> vertexIds = ModificationUtils.getKeysModifiedAfter(currentTx, ChronoGraphConstants.KEYSPACE_VERTEX, timestamp);
+        Set<String> edgeIds = ModificationUtils.getKeysModifiedAfter(currentTx, ChronoGraphConstants.KEYSPACE_EDGE, timestamp);
         // restore everything that has changed since the given timestamp
         return this.restoreGraphElementsAsOf(timestamp, vertexIds, edgeIds);
     }
 
+    @Override
+    public RestoreResult restoreGraphStateAsOfAndCommit(final String branch, final long timestamp, final Object commitMetadata) {
+        checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+        checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+        checkArgument(this.graph.getBackingDB().getBranchManager().existsBranch(branch), "Precondition violation - argument 'branch' refers to a non-existing branch: '" + branch + "'!");
+        try (AutoLock lock = this.graph.commitLock()) {
+            // we hold the commit lock, so the branch cannot advance while we are restoring it
+            ChronoDBTransaction tx = this.graph.getBackingDB().tx(branch);
+            long now = tx.getTimestamp();
+            if (timestamp > now) {
+                throw new IllegalArgumentException("Precondition violation - argument 'timestamp' (value: "
+                    + timestamp + ") must be less than or equal to the current timestamp of branch '" + branch + "' (value: " + now + ")!");
+            }
+            if (timestamp == now) {
+                // nothing to do
+                return MutableRestoreResult.empty();
+            }
+            MutableRestoreResult result = new MutableRestoreResult();
+            ChronoDBTransaction historyTx = this.graph.getBackingDB().tx(branch, timestamp);
+            for (String vertexId : ModificationUtils.getKeysModifiedAfter(tx, ChronoGraphConstants.KEYSPACE_VERTEX, timestamp)) {
+                this.copyRecord(historyTx, tx, ChronoGraphConstants.KEYSPACE_VERTEX, vertexId);
+                result.markVertexAsSuccessfullyRestored(vertexId);
+            }
+            for (String edgeId : ModificationUtils.getKeysModifiedAfter(tx, ChronoGraphConstants.KEYSPACE_EDGE, timestamp)) {
+                this.copyRecord(historyTx, tx, ChronoGraphConstants.KEYSPACE_EDGE, edgeId);
+                result.markEdgeAsSuccessfullyRestored(edgeId);
+            }
+            tx.commit(commitMetadata);
+            return result;
+        }
+    }
+
     // =================================================================================================================
     // INTERNAL HELPER METHODS
     // =================================================================================================================
 
+    private void copyRecord(final ChronoDBTransaction sourceTx, final ChronoDBTransaction targetTx, final String keyspace, final String key) {
+        Object historicalRecord = sourceTx.get(keyspace, key);
+        if (historicalRecord != null) {
+            // the records are immutable and self-contained, we can store them as they are
+            targetTx.put(keyspace, key, historicalRecord);
+        } else if (targetTx.exists(keyspace, key)) {
+            // the element did not exist at the restore timestamp
+            targetTx.remove(keyspace, key);
+        }
+    }
+
     private Set<String> restoreVertices(final Set<String> vertexIds, final ChronoGraphTransaction tx, final MutableRestoreResult result, final ChronoGraph historyGraph) {
         Set<String> additionalEdgeIds = Sets.newHashSet();
         Map<String, Vertex> historicalVerticesById = Maps.uniqueIndex(historyGraph.vertices(vertexIds.toArray()), v -> (String) v.id());
@@ -0,0 +1,338 @@
+package org.chronos.chronograph.internal.impl.optimizer.step
+
+import com.google.common.collect.Iterators
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException
+import org.apache.tinkerpop.gremlin.structure.Edge
+import org.apache.tinkerpop.gremlin.structure.Element
+import org.apache.tinkerpop.gremlin.structure.Property
+import org.apache.tinkerpop.gremlin.structure.Vertex
+import org.apache.tinkerpop.gremlin.structure.VertexProperty
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory
+import org.chronos.chronograph.api.exceptions.ChronoGraphException
+import org.chronos.chronograph.api.structure.ChronoGraph
+import org.chronos.chronograph.api.transaction.ChronoGraphTransaction
+import org.chronos.chronograph.internal.impl.structure.graph.StandardChronoGraph
+import org.chronos.chronograph.internal.impl.transaction.ElementLoadMode
+import org.chronos.chronograph.internal.impl.transaction.threaded.ChronoThreadedTransactionGraph
+import org.chronos.chronograph.internal.impl.util.ChronoGraphTraversalUtil
+import java.util.ArrayDeque
+import java.util.Collections
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.Future
+import kotlin.math.max
+
+/**
+ * Evaluates a chain of stateless steps (the [parallelTraversal]) for all incoming elements, potentially in parallel.
+ *
+ * This step partitions the incoming traversers (typically produced by a [ChronoGraphStep] or a plain `V()` / `E()`)
+ * into ranges while they are being consumed, and evaluates the [parallelTraversal] for every range on the common
+ * fork-join pool. Graph elements and transactions are not thread-safe, therefore each range operates on its own
+ * threaded transaction which reads the same branch and timestamp as the current transaction. The results of the ranges
+ * are merged in input order and mapped back to the elements of the current transaction as they are requested. All
+ * downstream steps (in particular barriers such as `count()`, `group()` or `order()`) are evaluated on the calling thread.
+ *
+ * If the current transaction contains uncommitted changes, or if there are fewer than [minElements] incoming elements,
+ * the [parallelTraversal] is evaluated sequentially on the calling thread.
+ *
+ * This step is inserted by the [org.chronos.chronograph.internal.impl.optimizer.strategy.ParallelExecutionStrategy].
+ */
+@Suppress("UNCHECKED_CAST")
+class ChronoGraphParallelStep<S : Element, E> : AbstractStep<S, E>, TraversalParent {
+
+    private var parallelTraversal: Traversal.Admin<S, E>
+
+    val minElements: Int
+
+    private var results: Iterator<Traverser.Admin<E>>? = null
+
+    constructor(traversal: Traversal.Admin<*, *>, parallelTraversal: Traversal.Admin<S, E>, minElements: Int) : super(traversal) {
+        this.parallelTraversal = this.integrateChild(parallelTraversal)
+        this.minElements = minElements
+    }
+
+    // =====================================================================================================================
+    // ITERATION
+    // =====================================================================================================================
+
+    override fun processNextStart(): Traverser.Admin<E> {
+        val resultIterator = this.results
+            ?: this.computeResults().also { this.results = it }
+        if (resultIterator.hasNext()) {
+            return resultIterator.next()
+        }
+        throw FastNoSuchElementException.instance()
+    }
+
+    private fun computeResults(): Iterator<Traverser.Admin<E>> {
+        if (!this.starts.hasNext()) {
+            return Collections.emptyIterator()
+        }
+        val graph = ChronoGraphTraversalUtil.getChronoGraph(this.traversal)
+        val tx = ChronoGraphTraversalUtil.getTransaction(this.traversal)
+        val parallelism = ForkJoinPool.getCommonPoolParallelism()
+        if (parallelism <= 1) {
+            return this.evaluateSequentially(this.starts)
+        }
+        if (tx.context.isDirty) {
+            // the snapshots can only see the committed state, so they would miss our local changes.
+            return this.evaluateSequentially(this.starts)
+        }
+        if (graph !is StandardChronoGraph && graph !is ChronoThreadedTransactionGraph) {
+            // we can't open snapshot transactions on this graph (e.g. read-only graphs in triggers)
+            return this.evaluateSequentially(this.starts)
+        }
+        // read ahead only as far as required to decide whether the parallel evaluation is worth the overhead
+        val head = mutableListOf<Traverser.Admin<S>>()
+        while (head.size < this.minElements && this.starts.hasNext()) {
+            head += this.starts.next()
+        }
+        val inputs = Iterators.concat(head.iterator(), this.starts)
+        if (head.size < this.minElements) {
+            // not worth the overhead
+            return this.evaluateSequentially(inputs)
+        }
+        return ParallelResultIterator(graph, tx, inputs, parallelism)
+    }
+
+    private fun evaluateSequentially(inputs: Iterator<Traverser.Admin<S>>): Iterator<Traverser.Admin<E>> {
+        return Iterators.concat<Traverser.Admin<E>>(Iterators.transform(inputs) { input ->
+            this.parallelTraversal.reset()
+            this.parallelTraversal.addStart(input.split())
+            val outputs = mutableListOf<Traverser.Admin<E>>()
+            while (this.parallelTraversal.hasNext()) {
+                val output = this.parallelTraversal.nextTraverser()
+                outputs += this.createOutputTraverser(input, output.get(), output.bulk())
+            }
+            outputs.iterator()
+        })
+    }
+
+    private fun evaluatePartition(graph: ChronoGraph, branchName: String, timestamp: Long, partition: List<Traverser.Admin<S>>): List<PartitionResult<S>> {
+        graph.tx().createThreadedTx(branchName, timestamp).use { snapshotGraph ->
+            val snapshotTx = snapshotGraph.tx().currentTransaction
+            // the cloned traversal must be a root traversal on the snapshot, otherwise
+            // the steps would resolve the transaction of the original graph (which is bound to another thread).
+            val localTraversal = this.parallelTraversal.clone()
+            localTraversal.setParent(EmptyStep.instance<Any, Any>())
+            localTraversal.setGraph(snapshotGraph)
+            val resultList = mutableListOf<PartitionResult<S>>()
+            for (input in partition) {
+                val element = toSnapshotElement(snapshotTx, input.get())
+                    ?: continue
+                localTraversal.reset()
+                localTraversal.addStart(input.split(element as S, EmptyStep.instance<S, S>()))
+                while (localTraversal.hasNext()) {
+                    val output = localTraversal.nextTraverser()
+                    val value = output.get()
+                    // determine here whether the value has to be mapped back to the calling transaction at all,
+                    // so that the calling thread can skip the (recursive) conversion of plain values.
+                    resultList += PartitionResult(input, value, output.bulk(), containsElements(value))
+                }
+            }
+            return resultList
+        }
+    }
+
+    private fun createOutputTraverser(input: Traverser.Admin<S>, value: E, bulk: Long): Traverser.Admin<E> {
+        val traverser = input.split(value, this)
+        traverser.setBulk(bulk)
+        return traverser
+    }
+
+    // =====================================================================================================================
+    // TRAVERSAL PARENT
+    // =====================================================================================================================
+
+    override fun <A, B> getLocalChildren(): List<Traversal.Admin<A, B>> {
+        return listOf(this.parallelTraversal as Traversal.Admin<A, B>)
+    }
+
+    override fun getRequirements(): Set<TraverserRequirement?>? {
+        return this.getSelfAndChildRequirements(TraverserRequirement.BULK, TraverserRequirement.OBJECT)
+    }
+
+    override fun setTraversal(parentTraversal: Traversal.Admin<*, *>) {
+        super.setTraversal(parentTraversal)
+        this.integrateChild(this.parallelTraversal)
+    }
+
+    override fun reset() {
+        super.reset()
+        this.parallelTraversal.reset()
+        (this.results as? ParallelResultIterator)?.cancel()
+        this.results = null
+    }
+
+    override fun clone(): ChronoGraphParallelStep<S, E> {
+        val clone = super.clone() as ChronoGraphParallelStep<S, E>
+        clone.parallelTraversal = this.parallelTraversal.clone()
+        clone.integrateChild<S, E>(clone.parallelTraversal)
+        clone.results = null
+        return clone
+    }
+
+    override fun toString(): String {
+        return StringFactory.stepString(this, this.parallelTraversal)
+    }
+
+    override fun hashCode(): Int {
+        return super.hashCode() xor this.parallelTraversal.hashCode()
+    }
+
+    override fun remove() {
+        throw UnsupportedOperationException("remove() is not supported!")
+    }
+
+    // =====================================================================================================================
+    // HELPER CLASSES & FUNCTIONS
+    // =====================================================================================================================
+
+    private class PartitionResult<S>(
+        val input: Traverser.Admin<S>,
+        val value: Any?,
+        val bulk: Long,
+        val containsElements: Boolean,
+    )
+
+    /**
+     * Partitions the incoming traversers while they are being consumed and merges the partition results in input order.
+     *
+     * At most `2 * parallelism` partitions are pulled from the inputs ahead of the consumer. The partition results are
+     * mapped back to the elements of the calling transaction only when they are requested.
+     */
+    private inner class ParallelResultIterator(
+        private val graph: ChronoGraph,
+        private val tx: ChronoGraphTransaction,
+        private val inputs: Iterator<Traverser.Admin<S>>,
+        private val parallelism: Int,
+    ) : Iterator<Traverser.Admin<E>> {
+
+        private val branchName = this.tx.branchName
+        private val timestamp = this.tx.timestamp
+        private val partitionSize = max(this@ChronoGraphParallelStep.minElements / this.parallelism, 1)
+        private val tasks = ArrayDeque<Future<List<PartitionResult<S>>>>()
+        private var currentPartition: Iterator<PartitionResult<S>> = Collections.emptyIterator()
+
+        init {
+            while (this.tasks.size < this.parallelism * 2 && this.submitNextPartition()) {
+                // keep submitting
+            }
+        }
+
+        override fun hasNext(): Boolean {
+            while (!this.currentPartition.hasNext()) {
+                val task = this.tasks.pollFirst()
+                    ?: return false
+                this.currentPartition = this.awaitPartition(task).iterator()
+                this.submitNextPartition()
+            }
+            return true
+        }
+
+        override fun next(): Traverser.Admin<E> {
+            if (!this.hasNext()) {
+                throw NoSuchElementException()
+            }
+            val partitionResult = this.currentPartition.next()
+            // the elements produced by the partition belong to its snapshot transaction,
+            // replace them by the elements of our own transaction.
+            val value = if (partitionResult.containsElements) {
+                toTransactionElement(this.tx, partitionResult.value)
+            } else {
+                partitionResult.value
+            }
+            return this@ChronoGraphParallelStep.createOutputTraverser(partitionResult.input, value as E, partitionResult.bulk)
+        }
+
+        fun cancel() {
+            this.tasks.forEach { it.cancel(true) }
+            this.tasks.clear()
+        }
+
+        private fun submitNextPartition(): Boolean {
+            if (!this.inputs.hasNext()) {
+                return false
+            }
+            // the inputs are always consumed on the calling thread, the upstream steps use our transaction.
+            val partition = ArrayList<Traverser.Admin<S>>(this.partitionSize)
+            while (partition.size < this.partitionSize && this.inputs.hasNext()) {
+                partition += this.inputs.next()
+            }
+            this.tasks.addLast(ForkJoinPool.commonPool().submit(Callable {
+                this@ChronoGraphParallelStep.evaluatePartition(this.graph, this.branchName, this.timestamp, partition)
+            }))
+            return true
+        }
+
+        private fun awaitPartition(task: Future<List<PartitionResult<S>>>): List<PartitionResult<S>> {
+            try {
+                return task.get()
+            } catch (e: ExecutionException) {
+                this.cancel()
+                throw ChronoGraphException("Failed to evaluate traversal partition in parallel. Reason: ${e.cause}", e.cause)
+            } catch (e: InterruptedException) {
+                this.cancel()
+                Thread.currentThread().interrupt()
+                throw ChronoGraphException("Interrupted while waiting for parallel traversal partitions!", e)
+            }
+        }
+
+    }
+
+    companion object {
+
+        private fun toSnapshotElement(snapshotTx: ChronoGraphTransaction, element: Element): Element? {
+            return when (element) {
+                is Vertex -> snapshotTx.getVertexOrNull(element.id() as String, ElementLoadMode.LAZY)
+                is Edge -> snapshotTx.getEdgeOrNull(element.id() as String, ElementLoadMode.LAZY)
+                else -> element
+            }
+        }
+
+        private fun containsElements(value: Any?): Boolean {
+            return when (value) {
+                is Element, is Property<*> -> true
+                is Collection<*> -> value.any { containsElements(it) }
+                is Map<*, *> -> value.entries.any { containsElements(it.key) || containsElements(it.value) }
+                else -> false
+            }
+        }
+
+        private fun toTransactionElement(tx: ChronoGraphTransaction, value: Any?): Any? {
+            return when (value) {
+                null -> null
+                is Vertex -> tx.getVertexOrNull(value.id() as String, ElementLoadMode.LAZY) ?: value
+                is Edge -> tx.getEdgeOrNull(value.id() as String, ElementLoadMode.LAZY) ?: value
+                is VertexProperty<*> -> (toTransactionElement(tx, value.element()) as Vertex).property<Any>(value.key())
+                is Property<*> -> (toTransactionElement(tx, value.element()) as Element).property<Any>(value.key())
+                is List<*> -> {
+                    val converted = value.map { toTransactionElement(tx, it) }
+                    if (converted.indices.all { converted[it] === value[it] }) value else converted.toMutableList()
+                }
+                is Set<*> -> {
+                    val converted = value.map { toTransactionElement(tx, it) }
+                    if (converted.zip(value).all { it.first === it.second }) value else converted.toMutableSet()
+                }
+                is Map<*, *> -> {
+                    val converted = value.entries.map { toTransactionElement(tx, it.key) to toTransactionElement(tx, it.value) }
+                    if (converted.zip(value.entries).all { it.first.first === it.second.key && it.first.second === it.second.value }) {
+                        value
+                    } else {
+                        converted.toMap(LinkedHashMap())
+                    }
+                }
+                else -> value
+            }
+        }
+
+    }
+
+}
@@ -61,7 +61,8 @@ class ChronoGraphPropertiesStep<E> : PropertiesStep<E>, Configuring, Prefetching
             PropertyType.VALUE -> {
                 val element = traverser.get()
                 propertyKeys.asSequence().flatMap {
-                    when (val value = element.property<Any>(it).orElse(null)) {
+                    // only decode the requested property; don't materialize the whole element
+                    when (val value = ChronoGraphStepUtil.projectPropertyValue(element, it)) {
                         null -> sequenceOf()
                         is Collection<*> -> value.asSequence().distinct()
                         else -> sequenceOf(value)
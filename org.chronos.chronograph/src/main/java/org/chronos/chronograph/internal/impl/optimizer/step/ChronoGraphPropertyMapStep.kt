@@ -126,10 +126,18 @@ class ChronoGraphPropertyMapStep<K, E> : ScalarMapStep<Element, MutableMap<K, E>
                 }
             }
         }
-        val properties = if (null == propTraversal) {
-            element.properties<Any>(*propertyKeys)
-        } else {
+        if (null == propTraversal && propertyType == PropertyType.VALUE && element is Vertex) {
+            // we only need the values, so we can decode them from the vertex record
+            // one by one without materializing the vertex properties.
+            this.collectProjectedPropertyValues(element, map)
+        }
+        val properties = if (null != propTraversal) {
             TraversalUtil.applyAll(traverser, propTraversal)
+        } else if (propertyType == PropertyType.VALUE && element is Vertex) {
+            // values have already been collected via projection
+            Collections.emptyIterator<Property<Any>>()
+        } else {
+            element.properties<Any>(*propertyKeys)
         }
         while (properties.hasNext()) {
             val property = properties.next()
@@ -180,6 +188,24 @@ class ChronoGraphPropertyMapStep<K, E> : ScalarMapStep<Element, MutableMap<K, E>
     }
 
 
+    @Suppress("UNCHECKED_CAST")
+    private fun collectProjectedPropertyValues(element: Vertex, map: MutableMap<Any, Any>) {
+        val keys = if (this.propertyKeys.isEmpty()) {
+            ChronoGraphStepUtil.projectPropertyKeys(element)
+        } else {
+            this.propertyKeys.toSet()
+        }
+        for (key in keys) {
+            val value = ChronoGraphStepUtil.projectPropertyValue(element, key)
+                ?: continue
+            val values = map.getOrPut(key) { mutableSetOf<Any>() } as MutableSet<Any>
+            when (value) {
+                is Collection<*> -> values.addAll(value as Collection<Any>)
+                else -> values.add(value)
+            }
+        }
+    }
+
     private fun convertTableRowToResultMap(row: Map<String, Set<Comparable<*>>>): MutableMap<Any, Any> {
         val result = mutableMapOf<Any /*T.id or property name */, Any /* index value */>()
         for ((key, value) in row.entries) {
@@ -0,0 +1,116 @@
+package org.chronos.chronograph.internal.impl.optimizer.step
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException
+import org.apache.tinkerpop.gremlin.structure.Vertex
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal
+import org.chronos.chronograph.internal.api.transaction.GraphTransactionContextInternal
+import org.chronos.chronograph.internal.impl.util.ChronoGraphTraversalUtil
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Looks ahead on the vertices produced by the previous step (typically a `VertexStep`, e.g. `out()`) and prefetches
+ * their records asynchronously.
+ *
+ * This step keeps a buffer of up to [depth] incoming traversers. Whenever the buffer drops to half of its capacity, it
+ * is refilled from the previous step, and the IDs of all newly buffered vertices which have not been loaded by the
+ * current transaction yet are handed to the [VertexRecordPrefetcher]. The prefetcher loads the vertex records into the
+ * ChronoDB cache while the downstream steps are still processing the earlier traversers, such that the (synchronous)
+ * resolution of the vertices later on is served from the cache rather than from disk.
+ *
+ * At most [maxPending] vertex IDs are scheduled for prefetching at any point in time. The traversers themselves are
+ * passed on unchanged and in the original order.
+ *
+ * This step is inserted by the [org.chronos.chronograph.internal.impl.optimizer.strategy.VertexPrefetchStrategy].
+ */
+class ChronoGraphVertexPrefetchStep<S : Vertex> : AbstractStep<S, S> {
+
+    val depth: Int
+
+    val maxPending: Int
+
+    private var lookahead = ArrayDeque<Traverser.Admin<S>>()
+
+    private var pendingPrefetches = AtomicInteger(0)
+
+    constructor(traversal: Traversal.Admin<*, *>, depth: Int, maxPending: Int) : super(traversal) {
+        require(depth > 0) { "Precondition violation - argument 'depth' must be greater than zero!" }
+        require(maxPending >= 0) { "Precondition violation - argument 'maxPending' must not be negative!" }
+        this.depth = depth
+        this.maxPending = maxPending
+    }
+
+    // =====================================================================================================================
+    // ITERATION
+    // =====================================================================================================================
+
+    override fun processNextStart(): Traverser.Admin<S> {
+        if (this.lookahead.size <= this.depth / 2) {
+            this.fillLookahead()
+        }
+        return this.lookahead.removeFirstOrNull()
+            ?: throw FastNoSuchElementException.instance()
+    }
+
+    private fun fillLookahead() {
+        val tx = ChronoGraphTraversalUtil.getTransaction(this.traversal)
+        val context = tx.context as? GraphTransactionContextInternal
+        val vertexIdsToPrefetch = mutableSetOf<String>()
+        while (this.lookahead.size < this.depth && this.starts.hasNext()) {
+            val traverser = this.starts.next()
+            this.lookahead.addLast(traverser)
+            val vertexId = traverser.get().id() as? String
+                ?: continue
+            if (context != null && context.getLoadedVertexForId(vertexId) != null) {
+                // the transaction has this vertex already, there's no point in fetching it again.
+                continue
+            }
+            vertexIdsToPrefetch += vertexId
+        }
+        if (vertexIdsToPrefetch.isEmpty()) {
+            return
+        }
+        val graph = ChronoGraphTraversalUtil.getChronoGraph(this.traversal) as? ChronoGraphInternal
+            ?: return
+        val capacity = this.maxPending - this.pendingPrefetches.get()
+        if (capacity <= 0) {
+            // too many prefetches in flight, the remaining vertices are loaded on demand.
+            return
+        }
+        val batch = vertexIdsToPrefetch.take(capacity)
+        val pendingPrefetches = this.pendingPrefetches
+        pendingPrefetches.addAndGet(batch.size)
+        VertexRecordPrefetcher.prefetch(graph.backingDB, tx.branchName, tx.timestamp, batch) {
+            pendingPrefetches.addAndGet(-batch.size)
+        }
+    }
+
+    // =====================================================================================================================
+    // STEP API
+    // =====================================================================================================================
+
+    override fun reset() {
+        super.reset()
+        this.lookahead.clear()
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun clone(): ChronoGraphVertexPrefetchStep<S> {
+        val clone = super.clone() as ChronoGraphVertexPrefetchStep<S>
+        clone.lookahead = ArrayDeque()
+        clone.pendingPrefetches = AtomicInteger(0)
+        return clone
+    }
+
+    override fun toString(): String {
+        return StringFactory.stepString(this, this.depth, this.maxPending)
+    }
+
+    override fun hashCode(): Int {
+        return super.hashCode() xor this.depth.hashCode() xor this.maxPending.hashCode()
+    }
+
+}
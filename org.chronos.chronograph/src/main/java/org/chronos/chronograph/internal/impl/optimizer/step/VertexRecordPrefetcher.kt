@@ -0,0 +1,79 @@
+package org.chronos.chronograph.internal.impl.optimizer.step
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import io.github.oshai.kotlinlogging.KotlinLogging
+import org.chronos.chronodb.api.ChronoDB
+import org.chronos.chronograph.internal.ChronoGraphConstants
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+/**
+ * A small, shared I/O thread pool which loads vertex records into the cache of a [ChronoDB].
+ *
+ * Prefetching is only a hint: if the pool is saturated, or if loading a record fails (e.g. because the database
+ * has been closed in the meantime), the request is silently dropped and the record will be loaded on demand.
+ */
+object VertexRecordPrefetcher {
+
+    private val log = KotlinLogging.logger {}
+
+    /** The number of threads which perform the prefetching. Prefetching is I/O bound, a few threads suffice. */
+    private const val THREAD_COUNT = 4
+
+    /** The maximum number of batches which may be waiting for a thread. Further batches are dropped. */
+    private const val MAX_QUEUED_BATCHES = 1000
+
+    private val executor: ThreadPoolExecutor by lazy {
+        val threadFactory = ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("chronograph-vertex-prefetch-%d")
+            .build()
+        val pool = ThreadPoolExecutor(
+            THREAD_COUNT, THREAD_COUNT,
+            30, TimeUnit.SECONDS,
+            ArrayBlockingQueue(MAX_QUEUED_BATCHES),
+            threadFactory
+        )
+        // don't keep idle threads around if nobody uses prefetching.
+        pool.allowCoreThreadTimeOut(true)
+        pool
+    }
+
+    /**
+     * Asynchronously loads the records of the given vertices into the cache of the given [ChronoDB].
+     *
+     * @param db The database to load the records from.
+     * @param branchName The branch to load the records from.
+     * @param timestamp The timestamp at which to load the records.
+     * @param vertexIds The IDs of the vertices to load.
+     * @param onCompletion Invoked exactly once, after the batch has been processed or dropped.
+     */
+    fun prefetch(db: ChronoDB, branchName: String, timestamp: Long, vertexIds: List<String>, onCompletion: () -> Unit) {
+        try {
+            this.executor.execute {
+                try {
+                    if (!db.isClosed) {
+                        val tx = db.tx(branchName, timestamp)
+                        for (vertexId in vertexIds) {
+                            if (db.isClosed) {
+                                break
+                            }
+                            // we're not interested in the result; the point is that the record ends up in the cache.
+                            tx.get<Any?>(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId)
+                        }
+                    }
+                } catch (e: Exception) {
+                    log.debug { "Failed to prefetch ${vertexIds.size} vertex records on branch '${branchName}' at timestamp ${timestamp}. Reason: ${e}" }
+                } finally {
+                    onCompletion()
+                }
+            }
+        } catch (e: RejectedExecutionException) {
+            // the pool is saturated; the vertices will be loaded on demand.
+            onCompletion()
+        }
+    }
+
+}
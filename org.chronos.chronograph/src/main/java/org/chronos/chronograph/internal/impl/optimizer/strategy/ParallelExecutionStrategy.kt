@@ -0,0 +1,207 @@
+package org.chronos.chronograph.internal.impl.optimizer.strategy
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating
+import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor
+import org.apache.tinkerpop.gremlin.process.traversal.step.Ranging
+import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping
+import org.apache.tinkerpop.gremlin.process.traversal.step.Seedable
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.LocalStep
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ScalarMapStep
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper
+import org.apache.tinkerpop.gremlin.structure.Element
+import org.chronos.chronograph.api.structure.ChronoGraph
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphParallelStep
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphPrefetchingBarrierStep
+import org.chronos.chronograph.internal.impl.optimizer.step.Prefetching
+import org.chronos.chronograph.internal.impl.optimizer.strategy.TraversalStrategyUtils.options
+
+/**
+ * Moves the stateless steps which directly follow the initial `V()` / `E()` step of a traversal into a [ChronoGraphParallelStep].
+ *
+ * For example, the traversal
+ *
+ * ```
+ * g.V().has("kind", "person").has("age", P.gt(30)).values("name").count()
+ * ```
+ *
+ * is transformed into (assuming that "kind" is indexed):
+ *
+ * ```
+ * ChronoGraphStep(kind = person).ChronoGraphParallelStep([has("age", P.gt(30)).values("name")]).count()
+ * ```
+ *
+ * Only the ROOT traversal is considered, and only if parallel execution is enabled (see [ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION]).
+ * Steps qualify for parallel execution if they operate on each traverser individually and without side effects:
+ * filters, maps, flat maps and `local(...)`. We stop at the first step which is a barrier, has a label, holds a lambda,
+ * is mutating, involves randomness or side effects, or performs prefetching. Traversals which require paths, sacks or
+ * loops are never transformed.
+ */
+object ParallelExecutionStrategy : ChronoGraphStrategy() {
+
+    /** The traverser requirements which prevent parallel execution. */
+    private val UNSUPPORTED_REQUIREMENTS = setOf(
+        TraverserRequirement.PATH,
+        TraverserRequirement.LABELED_PATH,
+        TraverserRequirement.SACK,
+        TraverserRequirement.SINGLE_LOOP,
+        TraverserRequirement.NESTED_LOOP,
+    )
+
+    override fun applyPrior(): Set<Class<out TraversalStrategy.ProviderOptimizationStrategy>> {
+        return setOf(
+            ChronoGraphStepStrategy::class.java,
+            FetchValuesFromSecondaryIndexStrategy::class.java,
+            UseSecondaryIndexForHasStepsStrategy::class.java,
+            OrderFiltersStrategy::class.java,
+        )
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun apply(traversal: Traversal.Admin<*, *>) {
+        if (traversal.parent !is EmptyStep<*, *>) {
+            // only consider the root traversal.
+            return
+        }
+        val graph = traversal.graph.orElse(null)
+        if (graph !is ChronoGraph) {
+            // cannot apply traversal strategy...
+            return
+        }
+        val options = traversal.options
+        if (!this.shouldUseParallelExecution(options, graph)) {
+            return
+        }
+        val graphStep = traversal.startStep as? GraphStep<*, *>
+            ?: return
+        if (!graphStep.isStartStep) {
+            return
+        }
+        val allSteps = TraversalHelper.getStepsOfAssignableClassRecursively(Step::class.java, traversal)
+        if (allSteps.any { step -> step.requirements.any { it in UNSUPPORTED_REQUIREMENTS } }) {
+            // the traversers carry state which we can't reproduce in the partitions.
+            return
+        }
+
+        val parallelSteps = mutableListOf<Step<*, *>>()
+        var currentStep: Step<*, *> = graphStep.nextStep
+        while (currentStep !is EmptyStep<*, *> && this.canEvaluateInParallel(currentStep, false)) {
+            parallelSteps += currentStep
+            currentStep = currentStep.nextStep
+        }
+        // trailing no-op barriers are of no use to us, leave them in the main traversal.
+        while (parallelSteps.isNotEmpty() && parallelSteps.last() is NoOpBarrierStep<*>) {
+            parallelSteps.removeAt(parallelSteps.size - 1)
+        }
+        if (parallelSteps.isEmpty()) {
+            // there's nothing we could evaluate in parallel.
+            return
+        }
+
+        // note: we deliberately do not use a GraphTraversal here, the steps have already been optimized.
+        val parallelTraversal = DefaultTraversal<Element, Any>()
+        for (step in parallelSteps) {
+            traversal.removeStep<Any, Any>(step as Step<Any, Any>)
+            parallelTraversal.addStep<Any>(step as Step<*, Any>)
+        }
+        val parallelStep = ChronoGraphParallelStep(
+            traversal,
+            parallelTraversal,
+            this.getMinimumNumberOfElements(options, graph)
+        )
+        TraversalHelper.insertAfterStep(parallelStep, graphStep as Step<*, Element>, traversal)
+    }
+
+    private fun canEvaluateInParallel(step: Step<*, *>, isNested: Boolean): Boolean {
+        if (!isNested && step.labels.isNotEmpty()) {
+            // labels are only useful for paths, and we don't support paths.
+            return false
+        }
+        val hasForbiddenTrait = when (step) {
+            // lambdas are user code; we can't know if they are thread-safe or stateless.
+            is LambdaHolder -> true
+            // mutations require the transaction of the calling thread.
+            is Mutating<*> -> true
+            // results involving randomness must not depend on the partitioning.
+            is Seedable -> true
+            // side effects are shared among all partitions.
+            is SideEffectCapable<*, *> -> true
+            is SideEffectStep<*> -> true
+            // labels & paths are not supported.
+            is Scoping -> true
+            is PathProcessor -> true
+            // the prefetchers are not thread-safe and are shared among step clones.
+            is Prefetching -> true
+            is ChronoGraphPrefetchingBarrierStep<*> -> true
+            else -> false
+        }
+        if (hasForbiddenTrait) {
+            return false
+        }
+        if (!isNested) {
+            // on the top level, we need to make sure that the step evaluates each traverser individually.
+            val isPerTraverserStep = when (step) {
+                // global ranges and deduplication depend on all traversers
+                is Ranging -> false
+                is DedupGlobalStep<*> -> false
+                // no-op barriers don't change the semantics, they're only used for bulking.
+                is NoOpBarrierStep<*> -> true
+                is Barrier<*> -> false
+                is FilterStep<*> -> true
+                is ScalarMapStep<*, *> -> true
+                is FlatMapStep<*, *> -> true
+                is LocalStep<*, *> -> true
+                else -> false
+            }
+            if (!isPerTraverserStep) {
+                return false
+            }
+        }
+        if (step is TraversalParent) {
+            // child traversals are executed per traverser, so they may contain
+            // barriers, but they must not contain any of the forbidden steps.
+            val children = step.getGlobalChildren<Any, Any>() + step.getLocalChildren<Any, Any>()
+            return children.all { child -> child.steps.all { this.canEvaluateInParallel(it, true) } }
+        }
+        return true
+    }
+
+    private fun shouldUseParallelExecution(options: Map<String, Any>?, graph: ChronoGraph): Boolean {
+        // try to find the setting locally in our traversal
+        val traversalSetting = options?.get(ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION) as? Boolean?
+        // try to find the (global) setting in the graph
+        val globalGraphSetting = graph.chronoGraphConfiguration?.isGremlinParallelExecutionEnabled
+        return traversalSetting
+            ?: globalGraphSetting
+            // if all else fails, use the gremlin standard behaviour.
+            ?: false
+    }
+
+    private fun getMinimumNumberOfElements(options: Map<String, Any>?, graph: ChronoGraph): Int {
+        val traversalSetting = options?.get(ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS) as? Int?
+        val globalGraphSetting = graph.chronoGraphConfiguration?.minimumNumberOfElementsForParallelExecution
+        return traversalSetting
+            ?: globalGraphSetting
+            ?: DEFAULT_PARALLEL_EXECUTION_MIN_ELEMENTS
+    }
+
+    /** The default for [ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS]. */
+    const val DEFAULT_PARALLEL_EXECUTION_MIN_ELEMENTS = 10000
+
+}
@@ -0,0 +1,113 @@
+package org.chronos.chronograph.internal.impl.optimizer.strategy
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper
+import org.apache.tinkerpop.gremlin.structure.Vertex
+import org.chronos.chronograph.api.structure.ChronoGraph
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphVertexPrefetchStep
+import org.chronos.chronograph.internal.impl.optimizer.strategy.TraversalStrategyUtils.options
+import kotlin.math.max
+
+/**
+ * Inserts a [ChronoGraphVertexPrefetchStep] after every `VertexStep` which produces vertices (e.g. `out()`, `in()`, `both()`).
+ *
+ * For example, the traversal
+ *
+ * ```
+ * g.V("a").out("knows").out("knows").values("name")
+ * ```
+ *
+ * is transformed into:
+ *
+ * ```
+ * g.V("a").out("knows").ChronoGraphVertexPrefetchStep().out("knows").ChronoGraphVertexPrefetchStep().values("name")
+ * ```
+ *
+ * This strategy is only applied if vertex prefetching is enabled (see [ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH])
+ * and the ChronoDB cache is enabled (otherwise the prefetched records would be discarded right away). Traversals which
+ * contain mutating steps are never transformed, because the lookahead pulls elements from the previous steps earlier
+ * than the downstream steps would.
+ */
+object VertexPrefetchStrategy : ChronoGraphStrategy() {
+
+    override fun applyPrior(): Set<Class<out TraversalStrategy.ProviderOptimizationStrategy>> {
+        return setOf(
+            ChronoGraphStepStrategy::class.java,
+            FetchValuesFromSecondaryIndexStrategy::class.java,
+            UseSecondaryIndexForHasStepsStrategy::class.java,
+            OrderFiltersStrategy::class.java,
+            ParallelExecutionStrategy::class.java,
+        )
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun apply(traversal: Traversal.Admin<*, *>) {
+        val rootTraversal = TraversalHelper.getRootTraversal(traversal)
+        val graph = rootTraversal.graph.orElse(null)
+        if (graph !is ChronoGraphInternal) {
+            // cannot apply traversal strategy...
+            return
+        }
+        val options = rootTraversal.options
+        if (!this.shouldPrefetchVertices(options, graph)) {
+            return
+        }
+        if (!graph.backingDB.configuration.isCachingEnabled) {
+            // without a cache, there's nowhere to put the prefetched records.
+            return
+        }
+        if (TraversalHelper.hasStepOfAssignableClassRecursively(Mutating::class.java, rootTraversal)) {
+            return
+        }
+        val depth = this.getDepth(options, graph)
+        val maxPending = this.getMaxPending(options, graph)
+        val vertexSteps = TraversalHelper.getStepsOfAssignableClass(VertexStep::class.java, traversal)
+        for (vertexStep in vertexSteps) {
+            if (!vertexStep.returnsVertex()) {
+                continue
+            }
+            if (vertexStep.nextStep is ChronoGraphVertexPrefetchStep<*>) {
+                // already prefetched
+                continue
+            }
+            val prefetchStep = ChronoGraphVertexPrefetchStep<Vertex>(traversal, depth, maxPending)
+            TraversalHelper.insertAfterStep(prefetchStep, vertexStep as Step<*, Vertex>, traversal)
+        }
+    }
+
+    private fun shouldPrefetchVertices(options: Map<String, Any>?, graph: ChronoGraph): Boolean {
+        // try to find the setting locally in our traversal
+        val traversalSetting = options?.get(ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH) as? Boolean?
+        // try to find the (global) setting in the graph
+        val globalGraphSetting = graph.chronoGraphConfiguration?.isGremlinVertexPrefetchEnabled
+        return traversalSetting
+            ?: globalGraphSetting
+            // if all else fails, use the gremlin standard behaviour.
+            ?: false
+    }
+
+    private fun getDepth(options: Map<String, Any>?, graph: ChronoGraph): Int {
+        val traversalSetting = options?.get(ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH_DEPTH) as? Int?
+        val globalGraphSetting = graph.chronoGraphConfiguration?.gremlinVertexPrefetchDepth
+        return max(1, traversalSetting ?: globalGraphSetting ?: DEFAULT_VERTEX_PREFETCH_DEPTH)
+    }
+
+    private fun getMaxPending(options: Map<String, Any>?, graph: ChronoGraph): Int {
+        val traversalSetting = options?.get(ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH_MAX_PENDING) as? Int?
+        val globalGraphSetting = graph.chronoGraphConfiguration?.gremlinVertexPrefetchMaxPending
+        return max(0, traversalSetting ?: globalGraphSetting ?: DEFAULT_VERTEX_PREFETCH_MAX_PENDING)
+    }
+
+    /** The default for [ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH_DEPTH]. */
+    const val DEFAULT_VERTEX_PREFETCH_DEPTH = 64
+
+    /** The default for [ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH_MAX_PENDING]. */
+    const val DEFAULT_VERTEX_PREFETCH_MAX_PENDING = 1000
+
+}
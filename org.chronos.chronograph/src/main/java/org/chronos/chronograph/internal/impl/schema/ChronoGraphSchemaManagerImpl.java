@@ -1,5 +1,6 @@
 package org.chronos.chronograph.internal.impl.schema;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import groovy.lang.Binding;
@@ -8,15 +9,18 @@ import groovy.lang.Script;
 import groovy.transform.CompileStatic;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronograph.api.exceptions.ChronoGraphException;
 import org.chronos.chronograph.api.exceptions.ChronoGraphSchemaViolationException;
 import org.chronos.chronograph.api.schema.ChronoGraphSchemaManager;
 import org.chronos.chronograph.api.schema.SchemaValidationResult;
+import org.chronos.chronograph.api.schema.SchemaValidatorScope;
 import org.chronos.chronograph.api.structure.ChronoElement;
 import org.chronos.chronograph.internal.ChronoGraphConstants;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
 import org.chronos.chronograph.internal.impl.groovy.GroovyCompilationCache;
 import org.chronos.chronograph.internal.impl.groovy.LocalGroovyCompilationCache;
 import org.chronos.chronograph.internal.impl.groovy.StaticGroovyCompilationCache;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
 import org.slf4j.Logger;
@@ -24,9 +28,13 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -36,11 +44,16 @@ public class ChronoGraphSchemaManagerImpl implements ChronoGraphSchemaManager {
 
     private static final Logger log = LoggerFactory.getLogger(ChronoGraphSchemaManagerImpl.class);
 
+    /** The minimum number of elements a single validator task processes when validating in parallel. */
+    private static final int PARALLEL_VALIDATION_MIN_PARTITION_SIZE = 100;
+
     private final ChronoGraphInternal owningGraph;
     private final ReadWriteLock validatorsLock;
 
     private final Map<String, String> validatorScriptContentCache = Maps.newHashMap();
     private final Map<String, Script> compiledValidatorScriptCache = Maps.newHashMap();
+    private final Map<String, Class<? extends Script>> validatorScriptClassCache = Maps.newHashMap();
+    private final Map<String, SchemaValidatorScope> validatorScopeCache = Maps.newHashMap();
 
     private final GroovyCompilationCache compilationCache;
 
@@ -63,8 +76,19 @@ public class ChronoGraphSchemaManagerImpl implements ChronoGraphSchemaManager {
 
     @Override
     public boolean addOrOverrideValidator(final String validatorName, final String scriptContent, final Object commitMetadata) {
+        return this.addOrOverrideValidator(validatorName, SchemaValidatorScope.all(), scriptContent, commitMetadata);
+    }
+
+    @Override
+    public boolean addOrOverrideValidator(final String validatorName, final SchemaValidatorScope scope, final String scriptContent) {
+        return this.addOrOverrideValidator(validatorName, scope, scriptContent, null);
+    }
+
+    @Override
+    public boolean addOrOverrideValidator(final String validatorName, final SchemaValidatorScope scope, final String scriptContent, final Object commitMetadata) {
         checkNotNull(validatorName, "Precondition violation - argument 'validatorName' must not be NULL!");
         checkArgument(!validatorName.isEmpty(), "Precondition violation - argument 'validatorName' must not be empty!");
+        checkNotNull(scope, "Precondition violation - argument 'scope' must not be NULL!");
         checkNotNull(scriptContent, "Precondition violation - argument 'scriptContent' must not be NULL!");
         checkArgument(!scriptContent.isEmpty(), "Precondition violation - argument 'scriptContent' must not be empty!");
         Class<? extends Script> scriptClass;
@@ -78,8 +102,14 @@ public class ChronoGraphSchemaManagerImpl implements ChronoGraphSchemaManager {
             ChronoDBTransaction tx = this.owningGraph.getBackingDB().tx();
             boolean exists = tx.exists(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATORS, validatorName);
             tx.put(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATORS, validatorName, scriptContent);
+            if (scope.isUnrestricted() == false) {
+                tx.put(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATOR_SCOPES, validatorName, scope);
+            } else if (tx.exists(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATOR_SCOPES, validatorName)) {
+                // validators without a scope entry apply to all elements
+                tx.remove(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATOR_SCOPES, validatorName);
+            }
             tx.commit(commitMetadata);
-            this.addValidatorToCache(validatorName, scriptContent, scriptClass);
+            this.addValidatorToCache(validatorName, scope, scriptContent, scriptClass);
             return exists;
         } finally {
             this.validatorsLock.writeLock().unlock();
@@ -100,6 +130,9 @@ public class ChronoGraphSchemaManagerImpl implements ChronoGraphSchemaManager {
             ChronoDBTransaction tx = this.owningGraph.getBackingDB().tx();
             boolean exists = tx.exists(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATORS, validatorName);
             tx.remove(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATORS, validatorName);
+            if (tx.exists(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATOR_SCOPES, validatorName)) {
+                tx.remove(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATOR_SCOPES, validatorName);
+            }
             tx.commit(commitMetadata);
             this.removeValidatorFromCache(validatorName);
             return exists;
@@ -120,6 +153,18 @@ public class ChronoGraphSchemaManagerImpl implements ChronoGraphSchemaManager {
         }
     }
 
+    @Override
+    public SchemaValidatorScope getValidatorScope(final String validatorName) {
+        checkNotNull(validatorName, "Precondition violation - argument 'validatorName' must not be NULL!");
+        checkArgument(!validatorName.isEmpty(), "Precondition violation - argument 'validatorName' must not be empty!");
+        this.validatorsLock.readLock().lock();
+        try {
+            return this.validatorScopeCache.get(validatorName);
+        } finally {
+            this.validatorsLock.readLock().unlock();
+        }
+    }
+
     @Override
     public Set<String> getAllValidatorNames() {
         this.validatorsLock.readLock().lock();
@@ -142,22 +187,26 @@ public class ChronoGraphSchemaManagerImpl implements ChronoGraphSchemaManager {
                 // no validators given; short-circuit the process
                 return result;
             }
-            for (Entry<String, Script> entry : this.compiledValidatorScriptCache.entrySet()) {
+            List<ChronoElement> elementList = Lists.newArrayList(elements);
+            if (elementList.isEmpty()) {
+                return result;
+            }
+            Map<String, List<ChronoElement>> elementsByValidator = this.dispatchElementsToValidators(elementList);
+            if (this.isParallelValidationPossible(elementList)) {
+                // only validators with a restricted scope are executed in parallel, all others run sequentially
+                Map<String, List<ChronoElement>> elementsByScopedValidator = Maps.filterKeys(elementsByValidator,
+                    validatorName -> this.validatorScopeCache.get(validatorName).isUnrestricted() == false);
+                this.validateInParallel(branch, elementsByScopedValidator, result);
+                elementsByValidator = Maps.filterKeys(elementsByValidator, validatorName -> elementsByScopedValidator.containsKey(validatorName) == false);
+            }
+            for (Entry<String, List<ChronoElement>> entry : elementsByValidator.entrySet()) {
                 String validatorName = entry.getKey();
-                Script script = entry.getValue();
-                for (ChronoElement element : elements) {
-                    try {
-                        this.executeValidator(script, branch, element);
-                    } catch (Throwable t) {
-                        if (t instanceof ChronoGraphSchemaViolationException == false) {
-                            log.warn("The validator '" + validatorName + "' produced an unexpected exception. " +
-                                "This will be treated as validation failure. The exception is of type '" + t.getClass().getName() +
-                                "' and its message is: " + t.getMessage());
-                        }
-                        // record the issue
-                        result.addIssue(element, validatorName, t);
-                    }
-                }
+                Script script = this.compiledValidatorScriptCache.get(validatorName);
+                this.executeValidatorOnElements(validatorName, script, branch, entry.getValue(), result);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Validated " + elementList.size() + " elements on branch '" + branch + "'. Validator execution times (ms): "
+                    + Maps.transformValues(result.getValidatorExecutionTimes(), nanos -> nanos / 1_000_000));
             }
             return result;
         } finally {
@@ -199,28 +248,32 @@ public class ChronoGraphSchemaManagerImpl implements ChronoGraphSchemaManager {
         Set<String> validatorNames = tx.keySet(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATORS);
         for (String validatorName : validatorNames) {
             String validatorScript = tx.get(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATORS, validatorName);
+            SchemaValidatorScope scope = tx.get(ChronoGraphConstants.KEYSPACE_SCHEMA_VALIDATOR_SCOPES, validatorName);
+            if (scope == null) {
+                // the validator has been created without a scope
+                scope = SchemaValidatorScope.all();
+            }
             try {
                 Class<? extends Script> compiledScript = this.compile(validatorScript);
-                this.addValidatorToCache(validatorName, validatorScript, compiledScript);
+                this.addValidatorToCache(validatorName, scope, validatorScript, compiledScript);
             } catch (Exception e) {
                 log.warn("The Graph Schema Validator '" + validatorName + "' failed to compile and will be ignored. Root cause: " + e);
             }
         }
     }
 
-    private void addValidatorToCache(String validatorName, String validatorScript, Class<? extends Script> scriptClass) {
+    private void addValidatorToCache(String validatorName, SchemaValidatorScope scope, String validatorScript, Class<? extends Script> scriptClass) {
         checkNotNull(validatorName, "Precondition violation - argument 'validatorName' must not be NULL!");
         checkArgument(!validatorName.isEmpty(), "Precondition violation - argument 'validatorName' must not be empty!");
+        checkNotNull(scope, "Precondition violation - argument 'scope' must not be NULL!");
         checkNotNull(validatorScript, "Precondition violation - argument 'validatorScript' must not be NULL!");
         checkArgument(!validatorScript.isEmpty(), "Precondition violation - argument 'validatorScript' must not be empty!");
         checkNotNull(scriptClass, "Precondition violation - argument 'scriptClass' must not be NULL!");
+        Script validatorInstance = this.instantiate(scriptClass);
         this.validatorScriptContentCache.put(validatorName, validatorScript);
-        try {
-            Script validatorInstance = scriptClass.getConstructor().newInstance();
-            this.compiledValidatorScriptCache.put(validatorName, validatorInstance);
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException | NoSuchMethodException e) {
-            throw new IllegalArgumentException("Could not create an instance of the given validator script. See root cause for details.", e);
-        }
+        this.compiledValidatorScriptCache.put(validatorName, validatorInstance);
+        this.validatorScriptClassCache.put(validatorName, scriptClass);
+        this.validatorScopeCache.put(validatorName, scope);
     }
 
     private void removeValidatorFromCache(String validatorName) {
@@ -228,6 +281,117 @@ public class ChronoGraphSchemaManagerImpl implements ChronoGraphSchemaManager {
         checkArgument(!validatorName.isEmpty(), "Precondition violation - argument 'validatorName' must not be empty!");
         this.validatorScriptContentCache.remove(validatorName);
         this.compiledValidatorScriptCache.remove(validatorName);
+        this.validatorScriptClassCache.remove(validatorName);
+        this.validatorScopeCache.remove(validatorName);
+    }
+
+    private Script instantiate(Class<? extends Script> scriptClass) {
+        try {
+            return scriptClass.getConstructor().newInstance();
+        } catch (InvocationTargetException | InstantiationException | IllegalAccessException | NoSuchMethodException e) {
+            throw new IllegalArgumentException("Could not create an instance of the given validator script. See root cause for details.", e);
+        }
+    }
+
+    private Map<String, List<ChronoElement>> dispatchElementsToValidators(List<ChronoElement> elements) {
+        // many validators share the same scope, so we evaluate each distinct scope only once
+        Map<SchemaValidatorScope, List<ChronoElement>> elementsByScope = Maps.newHashMap();
+        Map<String, List<ChronoElement>> elementsByValidator = Maps.newHashMap();
+        for (Entry<String, SchemaValidatorScope> entry : this.validatorScopeCache.entrySet()) {
+            SchemaValidatorScope scope = entry.getValue();
+            List<ChronoElement> elementsInScope = elementsByScope.computeIfAbsent(scope, s -> {
+                if (s.isUnrestricted()) {
+                    return elements;
+                }
+                List<ChronoElement> matchingElements = Lists.newArrayList();
+                for (ChronoElement element : elements) {
+                    if (s.contains(element)) {
+                        matchingElements.add(element);
+                    }
+                }
+                return matchingElements;
+            });
+            if (elementsInScope.isEmpty() == false) {
+                elementsByValidator.put(entry.getKey(), elementsInScope);
+            }
+        }
+        return elementsByValidator;
+    }
+
+    private boolean isParallelValidationPossible(List<ChronoElement> elements) {
+        if (this.owningGraph.getChronoGraphConfiguration().isParallelSchemaValidationEnabled() == false) {
+            return false;
+        }
+        if (elements.size() < this.owningGraph.getChronoGraphConfiguration().getMinimumNumberOfElementsForParallelSchemaValidation()) {
+            // not worth the overhead
+            return false;
+        }
+        if (ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            return false;
+        }
+        // the elements of thread-bound transactions must not be accessed by other threads
+        return elements.stream().allMatch(element -> element.getOwningTransaction().isThreadedTx());
+    }
+
+    private void validateInParallel(String branch, Map<String, List<ChronoElement>> elementsByValidator, SchemaValidationResultImpl result) {
+        if (elementsByValidator.isEmpty()) {
+            return;
+        }
+        // load the lazy vertices up front, the validator tasks share the element instances
+        for (List<ChronoElement> elements : elementsByValidator.values()) {
+            for (ChronoElement element : elements) {
+                if (element instanceof ChronoVertexImpl) {
+                    ((ChronoVertexImpl) element).ensureVertexRecordIsLoaded();
+                }
+            }
+        }
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        List<Future<SchemaValidationResultImpl>> tasks = Lists.newArrayList();
+        for (Entry<String, List<ChronoElement>> entry : elementsByValidator.entrySet()) {
+            String validatorName = entry.getKey();
+            Class<? extends Script> scriptClass = this.validatorScriptClassCache.get(validatorName);
+            List<ChronoElement> elements = entry.getValue();
+            int partitionSize = Math.max(PARALLEL_VALIDATION_MIN_PARTITION_SIZE, (elements.size() + parallelism - 1) / parallelism);
+            for (List<ChronoElement> partition : Lists.partition(elements, partitionSize)) {
+                tasks.add(pool.submit(() -> {
+                    // script instances carry their bindings, so every task needs its own instance
+                    SchemaValidationResultImpl partitionResult = new SchemaValidationResultImpl();
+                    this.executeValidatorOnElements(validatorName, this.instantiate(scriptClass), branch, partition, partitionResult);
+                    return partitionResult;
+                }));
+            }
+        }
+        try {
+            for (Future<SchemaValidationResultImpl> task : tasks) {
+                result.addAll(task.get());
+            }
+        } catch (ExecutionException e) {
+            tasks.forEach(task -> task.cancel(true));
+            throw new ChronoGraphException("Failed to execute graph schema validators in parallel. Reason: " + e.getCause(), e.getCause());
+        } catch (InterruptedException e) {
+            tasks.forEach(task -> task.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ChronoGraphException("Interrupted while waiting for graph schema validators!", e);
+        }
+    }
+
+    private void executeValidatorOnElements(String validatorName, Script script, String branch, List<ChronoElement> elements, SchemaValidationResultImpl result) {
+        long startTime = System.nanoTime();
+        for (ChronoElement element : elements) {
+            try {
+                this.executeValidator(script, branch, element);
+            } catch (Throwable t) {
+                if (t instanceof ChronoGraphSchemaViolationException == false) {
+                    log.warn("The validator '" + validatorName + "' produced an unexpected exception. " +
+                        "This will be treated as validation failure. The exception is of type '" + t.getClass().getName() +
+                        "' and its message is: " + t.getMessage());
+                }
+                // record the issue
+                result.addIssue(element, validatorName, t);
+            }
+        }
+        result.addExecutionTime(validatorName, elements.size(), System.nanoTime() - startTime);
     }
 
     private void executeValidator(Script script, String branch, ChronoElement element) throws Exception {
@@ -19,6 +19,8 @@ public class SchemaValidationResultImpl implements SchemaValidationResult {
     // =================================================================================================================
 
     private final Table<Element, String, Throwable> table = HashBasedTable.create();
+    private final Map<String, Long> validatorExecutionTimes = Maps.newHashMap();
+    private final Map<String, Integer> validatedElementCounts = Maps.newHashMap();
 
     // =================================================================================================================
     // CONSTRUCTOR
@@ -57,6 +59,16 @@ public class SchemaValidationResultImpl implements SchemaValidationResult {
         return Collections.unmodifiableMap(this.table.row(element));
     }
 
+    @Override
+    public Map<String, Long> getValidatorExecutionTimes() {
+        return Collections.unmodifiableMap(this.validatorExecutionTimes);
+    }
+
+    @Override
+    public Map<String, Integer> getValidatedElementCounts() {
+        return Collections.unmodifiableMap(this.validatedElementCounts);
+    }
+
     @Override
     public String generateErrorMessage() {
         if(this.getFailureCount() <= 0){
@@ -124,5 +136,16 @@ public class SchemaValidationResultImpl implements SchemaValidationResult {
         this.table.put(graphElement, validatorName, issue);
     }
 
+    public void addExecutionTime(String validatorName, int elementCount, long nanos) {
+        this.validatorExecutionTimes.merge(validatorName, nanos, Long::sum);
+        this.validatedElementCounts.merge(validatorName, elementCount, Integer::sum);
+    }
+
+    public void addAll(SchemaValidationResultImpl other) {
+        this.table.putAll(other.table);
+        other.validatorExecutionTimes.forEach((validatorName, nanos) -> this.validatorExecutionTimes.merge(validatorName, nanos, Long::sum));
+        other.validatedElementCounts.forEach((validatorName, count) -> this.validatedElementCounts.merge(validatorName, count, Integer::sum));
+    }
+
 
 }
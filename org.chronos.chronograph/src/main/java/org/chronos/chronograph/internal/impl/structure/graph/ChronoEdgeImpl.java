@@ -112,7 +112,7 @@ public class ChronoEdgeImpl extends AbstractChronoElement implements Edge, Chron
 
     private transient WeakReference<ChronoVertex> outVcache;
     private transient WeakReference<ChronoVertex> inVcache;
-    private transient boolean lazyLoadProperties;
+    private transient volatile boolean lazyLoadProperties;
 
     // =================================================================================================================
     // CONSTRUCTOR
@@ -465,12 +465,23 @@ public class ChronoEdgeImpl extends AbstractChronoElement implements Edge, Chron
     // UTILITY
     // =====================================================================================================================
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void loadLazyPropertiesIfRequired() {
         if (this.lazyLoadProperties == false) {
             // lazy loading of properties is not required
             return;
         }
+        // edges of read-only snapshots are shared among threads, make sure that only one of them loads the properties
+        synchronized (this) {
+            if (this.lazyLoadProperties == false) {
+                // another thread has loaded the properties in the meantime
+                return;
+            }
+            this.loadLazyProperties();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void loadLazyProperties() {
         ChronoGraphTransaction graphTx = this.getGraphTransaction();
         IEdgeRecord edgeRecord = graphTx.getBackingDBTransaction().get(ChronoGraphConstants.KEYSPACE_EDGE, this.id());
         if (edgeRecord == null) {
@@ -31,7 +31,7 @@ import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
 import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
 import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecordWithLabel;
 import org.chronos.chronograph.internal.impl.structure.record2.EdgeTargetRecord2;
-import org.chronos.chronograph.internal.impl.structure.record3.VertexRecord3;
+import org.chronos.chronograph.internal.impl.structure.record4.VertexRecord4;
 import org.chronos.chronograph.internal.impl.util.ChronoGraphElementUtil;
 import org.chronos.chronograph.internal.impl.util.ChronoGraphLoggingUtil;
 import org.chronos.chronograph.internal.impl.util.ChronoId;
@@ -68,7 +68,7 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
     private SetMultimap<String, ChronoEdge> labelToOutgoingEdges = null;
     private Map<String, ChronoVertexProperty<?>> properties = null;
 
-    protected Reference<IVertexRecord> recordReference;
+    protected volatile Reference<IVertexRecord> recordReference;
 
     // =================================================================================================================
     // CONSTRUCTOR
@@ -365,7 +365,7 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
                 // we are lazily loaded; use all the properties prescribed by our record,
                 // and resolve them one by one as needed
                 IVertexRecord vertexRecord = this.getRecord();
-                return (Iterator) vertexRecord.getProperties().stream().map(IPropertyRecord::getKey).map(this::getSingleProperty).iterator();
+                return (Iterator) vertexRecord.getPropertyKeys().stream().map(this::getSingleProperty).iterator();
             }
         }
         if (propertyKeys.length == 1) {
@@ -390,6 +390,59 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
         return matchingProperties.iterator();
     }
 
+    /**
+     * Returns the value of the property with the given key, without creating a {@link VertexProperty} object for it.
+     *
+     * <p>
+     * If this vertex is lazy, only the requested property will be decoded from the backing record. Neither the other
+     * properties nor the adjacent edges of the record will be materialized. Meta-properties are not taken into account.
+     * </p>
+     *
+     * @param propertyKey The key of the property to get the value for. Must not be <code>null</code>.
+     * @return The value of the property, or <code>null</code> if there is no property with the given key on this vertex.
+     */
+    public Object projectPropertyValue(final String propertyKey) {
+        checkNotNull(propertyKey, "Precondition violation - argument 'propertyKey' must not be NULL!");
+        this.checkAccess();
+        if (this.recordReference == null || ChronoGraphElementUtil.asSpecialProperty(propertyKey) != null) {
+            // we're not lazy (or the property is predefined) -> use the regular property access
+            VertexProperty<?> property = this.getSingleProperty(propertyKey);
+            return property == null ? null : property.value();
+        }
+        if (this.properties != null) {
+            ChronoVertexProperty<?> loadedProperty = this.properties.get(propertyKey);
+            if (loadedProperty != null) {
+                return loadedProperty.value();
+            }
+        }
+        IVertexPropertyRecord record = this.getRecord().getProperty(propertyKey);
+        if (record == null) {
+            return null;
+        }
+        return record.getValue();
+    }
+
+    /**
+     * Returns the keys of all properties on this vertex.
+     *
+     * <p>
+     * If this vertex is lazy, the keys are read from the property offset table of the backing record (if the record
+     * format supports it), i.e. no property value will be decoded.
+     * </p>
+     *
+     * @return The set of property keys. Never <code>null</code>, may be empty.
+     */
+    public Set<String> projectPropertyKeys() {
+        this.checkAccess();
+        if (this.recordReference == null) {
+            if (this.properties == null) {
+                return Collections.emptySet();
+            }
+            return Collections.unmodifiableSet(Sets.newHashSet(this.properties.keySet()));
+        }
+        return this.getRecord().getPropertyKeys();
+    }
+
     @Override
     public void remove() {
         this.checkAccess();
@@ -518,7 +571,7 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
         this.checkAccess();
         String id = this.id();
         String label = this.label();
-        return new VertexRecord3(
+        return new VertexRecord4(
             id, label,
             this.labelToIncomingEdges, this.labelToOutgoingEdges,
             this.properties);
@@ -652,36 +705,44 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
             // we're not lazy -> use the regular property access
             return (VertexProperty<V>) this.properties.get(propertyKey);
         } else {
-            // we're lazy -> use the record if necessary
-            ChronoVertexProperty<?> chronoVertexProperty = null;
-            if (this.properties != null) {
-                chronoVertexProperty = this.properties.get(propertyKey);
-            }
-            if (chronoVertexProperty == null) {
-                // fall back to creating it from the record
-                IVertexRecord vertexRecord = this.getRecord();
-                IVertexPropertyRecord record = vertexRecord.getProperty(propertyKey);
-                if (record == null) {
-                    // not found
-                    return null;
+            // we're lazy -> use the record if necessary. Lazy vertices may be shared among threads,
+            // so we need to guard the property cache against concurrent loading.
+            synchronized (this) {
+                if (this.recordReference == null) {
+                    // another thread has loaded the record in the meantime
+                    return (VertexProperty<V>) this.properties.get(propertyKey);
                 }
-                // load this record
-                chronoVertexProperty = this.loadPropertyRecord(record);
-                // cache it
-                if (this.properties == null) {
-                    this.properties = Maps.newHashMap();
+                ChronoVertexProperty<?> chronoVertexProperty = null;
+                if (this.properties != null) {
+                    chronoVertexProperty = this.properties.get(propertyKey);
                 }
-                this.properties.put(propertyKey, chronoVertexProperty);
+                if (chronoVertexProperty == null) {
+                    // fall back to creating it from the record
+                    IVertexRecord vertexRecord = this.getRecord();
+                    IVertexPropertyRecord record = vertexRecord.getProperty(propertyKey);
+                    if (record == null) {
+                        // not found
+                        return null;
+                    }
+                    // load this record
+                    chronoVertexProperty = this.loadPropertyRecord(record);
+                    // cache it
+                    if (this.properties == null) {
+                        this.properties = Maps.newHashMap();
+                    }
+                    this.properties.put(propertyKey, chronoVertexProperty);
+                }
+                return (ChronoVertexProperty<V>) chronoVertexProperty;
             }
-            return (ChronoVertexProperty<V>) chronoVertexProperty;
         }
     }
 
-    protected IVertexRecord getRecord() {
-        if (this.recordReference == null) {
+    protected synchronized IVertexRecord getRecord() {
+        Reference<IVertexRecord> recordReference = this.recordReference;
+        if (recordReference == null) {
             return null;
         }
-        IVertexRecord record = this.recordReference.get();
+        IVertexRecord record = recordReference.get();
         if (record == null) {
             // reload
             ChronoGraphTransactionStatistics.getInstance().incrementNumberOfVertexRecordRefetches();
@@ -803,14 +864,29 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
     // HELPER METHODS
     // =================================================================================================================
 
-    protected void ensureVertexRecordIsLoaded() {
+    /**
+     * Loads all properties and adjacent edges of this vertex from its backing record (if it has not happened yet).
+     *
+     * <p>
+     * After this method returns, this vertex is no longer {@linkplain #isLazy() lazy}, i.e. read accesses no longer
+     * modify its internal state. Read-only snapshots rely on this to share vertex instances among threads.
+     * </p>
+     */
+    public void ensureVertexRecordIsLoaded() {
         if (this.recordReference == null) {
             // the record is NULL, therefore it has been loaded.
             return;
         }
-        // the record isn't NULL, we need to load it
-        this.loadRecordContents();
-        this.recordReference = null;
+        // vertices of read-only snapshots and parallel schema validation are shared among threads,
+        // make sure that only one of them loads the record
+        synchronized (this) {
+            if (this.recordReference == null) {
+                // another thread has loaded the record in the meantime
+                return;
+            }
+            this.loadRecordContents();
+            this.recordReference = null;
+        }
     }
 
     // =================================================================================================================
@@ -83,7 +83,9 @@ public class StandardChronoGraph implements ChronoGraphInternal {
             ReplaceGremlinPredicateWithChronosPredicateStrategy.INSTANCE,
             FetchValuesFromSecondaryIndexStrategy.INSTANCE,
             UseSecondaryIndexForHasStepsStrategy.INSTANCE,
-            OrderFiltersStrategy.INSTANCE
+            OrderFiltersStrategy.INSTANCE,
+            ParallelExecutionStrategy.INSTANCE,
+            VertexPrefetchStrategy.INSTANCE
         );
 
         // Register with cache
@@ -11,6 +11,7 @@ import org.chronos.chronograph.api.structure.ChronoEdge;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronograph.api.structure.ChronoVertex;
 import org.chronos.chronograph.api.structure.record.IEdgeRecord;
+import org.chronos.chronograph.api.structure.record.IVertexPropertyRecord;
 import org.chronos.chronograph.api.structure.record.IVertexRecord;
 import org.chronos.chronograph.api.transaction.GraphTransactionContext;
 import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
@@ -49,6 +50,11 @@ public class NoTransactionControlChronoGraphTransaction implements ChronoGraphTr
         return this.tx.loadVertexRecord(recordId);
     }
 
+    @Override
+    public IVertexPropertyRecord loadVertexPropertyRecord(final String recordId, final String propertyKey) {
+        return this.tx.loadVertexPropertyRecord(recordId, propertyKey);
+    }
+
     @Override
     public IEdgeRecord loadEdgeRecord(final String recordId) {
         return this.tx.loadEdgeRecord(recordId);
@@ -103,6 +103,11 @@ public class NoTransactionControlTransactionManager implements ChronoGraphTransa
         return this.unsupportedOperation();
     }
 
+    @Override
+    public ChronoGraph getReadOnlySnapshot(final String branchName, final long timestamp) {
+        return this.unsupportedOperation();
+    }
+
     @Override
     public void commitIncremental() {
         this.unsupportedOperation();
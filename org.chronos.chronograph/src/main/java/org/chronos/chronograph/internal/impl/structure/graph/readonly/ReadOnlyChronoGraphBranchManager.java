@@ -1,7 +1,9 @@
 package org.chronos.chronograph.internal.impl.structure.graph.readonly;
 
+import org.chronos.chronodb.api.BranchMergeResult;
 import org.chronos.chronograph.api.branch.ChronoGraphBranchManager;
 import org.chronos.chronograph.api.branch.GraphBranch;
+import org.chronos.chronograph.api.transaction.conflict.PropertyConflictResolutionStrategy;
 
 import java.util.Collections;
 import java.util.List;
@@ -63,6 +65,11 @@ public class ReadOnlyChronoGraphBranchManager implements ChronoGraphBranchManage
         return this.unsupportedOperation();
     }
 
+    @Override
+    public BranchMergeResult mergeBranch(final String sourceBranchName, final String targetBranchName, final PropertyConflictResolutionStrategy conflictResolution, final Object commitMetadata) {
+        return this.unsupportedOperation();
+    }
+
     @Override
     public GraphBranch getActualBranchForQuerying(final String branchName, final long timestamp) {
         return this.manager.getActualBranchForQuerying(branchName, timestamp);
@@ -2,6 +2,7 @@ package org.chronos.chronograph.internal.impl.structure.graph.readonly;
 
 import org.chronos.chronograph.api.schema.ChronoGraphSchemaManager;
 import org.chronos.chronograph.api.schema.SchemaValidationResult;
+import org.chronos.chronograph.api.schema.SchemaValidatorScope;
 import org.chronos.chronograph.api.structure.ChronoElement;
 
 import java.util.Set;
@@ -28,6 +29,16 @@ public class ReadOnlyChronoGraphSchemaManager implements ChronoGraphSchemaManage
         return this.unsupportedOperation();
     }
 
+    @Override
+    public boolean addOrOverrideValidator(final String validatorName, final SchemaValidatorScope scope, final String scriptContent) {
+        return this.unsupportedOperation();
+    }
+
+    @Override
+    public boolean addOrOverrideValidator(final String validatorName, final SchemaValidatorScope scope, final String scriptContent, final Object commitMetadata) {
+        return this.unsupportedOperation();
+    }
+
     @Override
     public boolean removeValidator(final String validatorName) {
         return this.unsupportedOperation();
@@ -43,6 +54,11 @@ public class ReadOnlyChronoGraphSchemaManager implements ChronoGraphSchemaManage
         return this.manager.getValidatorScript(validatorName);
     }
 
+    @Override
+    public SchemaValidatorScope getValidatorScope(final String validatorName) {
+        return this.manager.getValidatorScope(validatorName);
+    }
+
     @Override
     public Set<String> getAllValidatorNames() {
         return this.manager.getAllValidatorNames();
@@ -101,6 +101,12 @@ public class ReadOnlyChronoGraphTransactionManager implements ChronoGraphTransac
         return this.unsupportedOperation();
     }
 
+    @Override
+    public ChronoGraph getReadOnlySnapshot(final String branchName, final long timestamp) {
+        // snapshots are read-only anyway
+        return this.manager.getReadOnlySnapshot(branchName, timestamp);
+    }
+
     @Override
     public void commitIncremental() {
         this.unsupportedOperation();
@@ -26,4 +26,9 @@ public class ReadOnlyHistoryManager implements ChronoGraphHistoryManager {
     public RestoreResult restoreGraphStateAsOf(final long timestamp) {
         throw new UnsupportedOperationException("This operation is not supported in a read-only graph!");
     }
+
+    @Override
+    public RestoreResult restoreGraphStateAsOfAndCommit(final String branch, final long timestamp, final Object commitMetadata) {
+        throw new UnsupportedOperationException("This operation is not supported in a read-only graph!");
+    }
 }
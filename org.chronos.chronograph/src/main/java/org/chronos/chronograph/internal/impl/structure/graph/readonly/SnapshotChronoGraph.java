@@ -0,0 +1,26 @@
+package org.chronos.chronograph.internal.impl.structure.graph.readonly;
+
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.internal.impl.transaction.threaded.ChronoThreadedTransactionGraph;
+
+/**
+ * A read-only snapshot of a {@link ChronoGraphInternal graph} on a fixed branch and timestamp.
+ *
+ * <p>
+ * A snapshot is a threaded transaction which is shared among all threads (and all callers) which request the same
+ * branch and timestamp via {@link org.chronos.chronograph.api.transaction.ChronoGraphTransactionManager#getReadOnlySnapshot(String, long)}.
+ * The loaded graph elements are cached in a size-bounded {@link SnapshotGraphTransactionContext}, such that they are
+ * loaded only once, rather than once per transaction. Since the elements are shared, the snapshot itself is never
+ * handed out directly; clients only get to see it through a {@link ReadOnlyChronoGraph}.
+ * </p>
+ */
+public class SnapshotChronoGraph extends ChronoThreadedTransactionGraph {
+
+    public SnapshotChronoGraph(final ChronoGraphInternal originalGraph, final String branchName, final long timestamp,
+                               final long maxCachedElements) {
+        super(originalGraph, branchName, timestamp, (graph, backendTransaction) ->
+            new SnapshotChronoGraphTransaction(graph, backendTransaction, new SnapshotGraphTransactionContext(maxCachedElements))
+        );
+    }
+
+}
@@ -0,0 +1,97 @@
+package org.chronos.chronograph.internal.impl.structure.graph.readonly;
+
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronograph.api.structure.ChronoVertex;
+import org.chronos.chronograph.api.structure.record.IVertexRecord;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
+import org.chronos.chronograph.internal.impl.transaction.ElementLoadMode;
+import org.chronos.chronograph.internal.impl.transaction.threaded.ThreadedChronoGraphTransaction;
+import org.chronos.common.exceptions.UnknownEnumLiteralException;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * The graph transaction of a {@link SnapshotChronoGraph}.
+ *
+ * <p>
+ * This transaction is shared among all threads which read from the snapshot. All loaded elements are kept in a
+ * {@link SnapshotGraphTransactionContext} which is shared as well. In contrast to a regular transaction, vertices are
+ * always loaded completely (i.e. non-lazily) before they are published in the cache, because lazy vertices modify
+ * their internal state upon read access, which is not safe if multiple threads access them concurrently.
+ * </p>
+ *
+ * <p>
+ * Snapshot transactions can neither be committed nor rolled back.
+ * </p>
+ */
+public class SnapshotChronoGraphTransaction extends ThreadedChronoGraphTransaction {
+
+    private final ChronoGraphInternal snapshotGraph;
+    private final SnapshotGraphTransactionContext snapshotContext;
+
+    public SnapshotChronoGraphTransaction(final ChronoGraphInternal graph, final ChronoDBTransaction backendTransaction,
+                                          final SnapshotGraphTransactionContext context) {
+        super(graph, backendTransaction, context);
+        this.snapshotGraph = graph;
+        this.snapshotContext = context;
+    }
+
+    // =====================================================================================================================
+    // LOADING METHODS
+    // =====================================================================================================================
+
+    @Override
+    public ChronoVertex loadVertex(final String id, final ElementLoadMode loadMode) {
+        checkNotNull(id, "Precondition violation - argument 'id' must not be NULL!");
+        checkNotNull(loadMode, "Precondition violation - argument 'loadMode' must not be NULL!");
+        ChronoVertexImpl loadedVertex = this.snapshotContext.getLoadedVertexForId(id);
+        if (loadedVertex != null) {
+            // another thread has loaded this vertex already
+            return loadedVertex;
+        }
+        switch (loadMode) {
+            case EAGER:
+                IVertexRecord record = this.getBackingDBTransaction().get(ChronoGraphConstants.KEYSPACE_VERTEX, id);
+                if (record == null) {
+                    return null;
+                }
+                ChronoVertexImpl vertex = new ChronoVertexImpl(this.snapshotGraph, this, record);
+                // load the vertex completely BEFORE publishing it to other threads
+                vertex.ensureVertexRecordIsLoaded();
+                return this.snapshotContext.registerLoadedVertexIfAbsent(vertex);
+            case LAZY:
+                // the proxy will load the vertex via this method (in EAGER mode) when it's accessed
+                return super.loadVertex(id, loadMode);
+            default:
+                throw new UnknownEnumLiteralException(loadMode);
+        }
+    }
+
+    // =====================================================================================================================
+    // COMMIT & ROLLBACK
+    // =====================================================================================================================
+
+    @Override
+    public long commit() {
+        throw new UnsupportedOperationException("Read-only snapshots cannot be committed!");
+    }
+
+    @Override
+    public long commit(final Object metadata) {
+        throw new UnsupportedOperationException("Read-only snapshots cannot be committed!");
+    }
+
+    @Override
+    public void commitIncremental() {
+        throw new UnsupportedOperationException("Read-only snapshots cannot be committed!");
+    }
+
+    @Override
+    public void rollback() {
+        // a snapshot doesn't contain any changes, so there's nothing to roll back. Furthermore,
+        // rolling back would invalidate the elements which are shared with other threads.
+    }
+
+}
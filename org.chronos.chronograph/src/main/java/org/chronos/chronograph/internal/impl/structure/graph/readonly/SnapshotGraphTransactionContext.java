@@ -0,0 +1,274 @@
+package org.chronos.chronograph.internal.impl.structure.graph.readonly;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoEdge;
+import org.chronos.chronograph.api.structure.ChronoElement;
+import org.chronos.chronograph.api.structure.ChronoVertex;
+import org.chronos.chronograph.internal.api.transaction.GraphTransactionContextInternal;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoEdgeImpl;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoProperty;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
+import org.chronos.chronograph.internal.impl.structure.graph.proxy.ChronoEdgeProxy;
+import org.chronos.chronograph.internal.impl.structure.graph.proxy.ChronoVertexProxy;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * The transaction context of a {@link SnapshotChronoGraphTransaction}.
+ *
+ * <p>
+ * As snapshots never contain any modifications, this context does not need to keep track of any changes. Its only
+ * purpose is to act as a thread-safe, size-bounded cache for the elements which have been loaded by the snapshot. The
+ * cached elements are shared among all threads which read from the snapshot. All modification methods throw an
+ * {@link UnsupportedOperationException}.
+ * </p>
+ *
+ * <p>
+ * Element proxies are not cached at all. They are cheap to create, and they resolve their target element via the
+ * (cached) element loading methods of the snapshot transaction.
+ * </p>
+ */
+public class SnapshotGraphTransactionContext implements GraphTransactionContextInternal {
+
+    private final Cache<String, ChronoVertexImpl> loadedVertices;
+    private final Cache<String, ChronoEdgeImpl> loadedEdges;
+
+    public SnapshotGraphTransactionContext(final long maxCachedElements) {
+        checkArgument(maxCachedElements >= 0, "Precondition violation - argument 'maxCachedElements' must not be negative!");
+        this.loadedVertices = CacheBuilder.newBuilder().maximumSize(maxCachedElements).build();
+        this.loadedEdges = CacheBuilder.newBuilder().maximumSize(maxCachedElements).build();
+    }
+
+    // =====================================================================================================================
+    // LOADED ELEMENT CACHE API
+    // =====================================================================================================================
+
+    @Override
+    public Set<String> getLoadedVertexIds() {
+        return Collections.unmodifiableSet(this.loadedVertices.asMap().keySet());
+    }
+
+    @Override
+    public ChronoVertexImpl getLoadedVertexForId(final String id) {
+        checkNotNull(id, "Precondition violation - argument 'id' must not be NULL!");
+        return this.loadedVertices.getIfPresent(id);
+    }
+
+    @Override
+    public void registerLoadedVertex(final ChronoVertexImpl vertex) {
+        this.registerLoadedVertexIfAbsent(vertex);
+    }
+
+    /**
+     * Registers the given vertex in the cache, unless another thread has registered a vertex with the same ID before.
+     *
+     * @param vertex The vertex to register. Must not be <code>null</code>. Must be fully loaded.
+     * @return The vertex instance which is contained in the cache (which is either the given vertex, or the one which has been registered before).
+     */
+    public ChronoVertexImpl registerLoadedVertexIfAbsent(final ChronoVertexImpl vertex) {
+        checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+        checkArgument(!vertex.isLazy(), "Precondition violation - argument 'vertex' must not be lazy!");
+        ChronoVertexImpl existing = this.loadedVertices.asMap().putIfAbsent(vertex.id(), vertex);
+        return existing != null ? existing : vertex;
+    }
+
+    @Override
+    public Set<String> getLoadedEdgeIds() {
+        return Collections.unmodifiableSet(this.loadedEdges.asMap().keySet());
+    }
+
+    @Override
+    public ChronoEdgeImpl getLoadedEdgeForId(final String id) {
+        checkNotNull(id, "Precondition violation - argument 'id' must not be NULL!");
+        return this.loadedEdges.getIfPresent(id);
+    }
+
+    @Override
+    public void registerLoadedEdge(final ChronoEdgeImpl edge) {
+        checkNotNull(edge, "Precondition violation - argument 'edge' must not be NULL!");
+        // if two threads load the same edge concurrently, keep the instance which came first.
+        this.loadedEdges.asMap().putIfAbsent(edge.id(), edge);
+    }
+
+    @Override
+    public void registerVertexProxyInCache(final ChronoVertexProxy proxy) {
+        checkNotNull(proxy, "Precondition violation - argument 'proxy' must not be NULL!");
+        // proxies are not cached in snapshots
+    }
+
+    @Override
+    public void registerEdgeProxyInCache(final ChronoEdgeProxy proxy) {
+        checkNotNull(proxy, "Precondition violation - argument 'proxy' must not be NULL!");
+        // proxies are not cached in snapshots
+    }
+
+    @Override
+    public ChronoVertexProxy getOrCreateVertexProxy(final Vertex vertex) {
+        if (vertex == null) {
+            return null;
+        }
+        if (vertex instanceof ChronoVertexProxy) {
+            return (ChronoVertexProxy) vertex;
+        }
+        return new ChronoVertexProxy((ChronoVertexImpl) vertex);
+    }
+
+    @Override
+    public ChronoEdgeProxy getOrCreateEdgeProxy(final Edge edge) {
+        if (edge == null) {
+            return null;
+        }
+        if (edge instanceof ChronoEdgeProxy) {
+            return (ChronoEdgeProxy) edge;
+        }
+        return new ChronoEdgeProxy((ChronoEdgeImpl) edge);
+    }
+
+    // =====================================================================================================================
+    // MODIFICATION API
+    // =====================================================================================================================
+
+    @Override
+    public void markVertexAsModified(final ChronoVertexImpl vertex) {
+        this.unsupportedOperation();
+    }
+
+    @Override
+    public void markEdgeAsModified(final ChronoEdgeImpl edge) {
+        this.unsupportedOperation();
+    }
+
+    @Override
+    public void markPropertyAsModified(final ChronoProperty<?> property) {
+        this.unsupportedOperation();
+    }
+
+    @Override
+    public void markPropertyAsDeleted(final ChronoProperty<?> property) {
+        this.unsupportedOperation();
+    }
+
+    @Override
+    public void removeVariable(final String keyspace, final String variableName) {
+        this.unsupportedOperation();
+    }
+
+    @Override
+    public void setVariableValue(final String keyspace, final String variableName, final Object value) {
+        this.unsupportedOperation();
+    }
+
+    @Override
+    public void clear() {
+        // there's nothing to clear; the loaded elements remain valid for the entire lifetime of the snapshot.
+    }
+
+    // =====================================================================================================================
+    // MODIFICATION QUERIES
+    // =====================================================================================================================
+
+    @Override
+    public Set<ChronoVertex> getModifiedVertices() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Set<ChronoEdge> getModifiedEdges() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Set<String> getModifiedVariables(final String keyspace) {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Set<ChronoElement> getModifiedElements() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public boolean isDirty() {
+        return false;
+    }
+
+    @Override
+    public boolean isVertexModified(final Vertex vertex) {
+        return false;
+    }
+
+    @Override
+    public boolean isVertexModified(final String vertexId) {
+        return false;
+    }
+
+    @Override
+    public boolean isEdgeModified(final Edge edge) {
+        return false;
+    }
+
+    @Override
+    public boolean isEdgeModified(final String edgeId) {
+        return false;
+    }
+
+    @Override
+    public boolean isVariableModified(final String keyspace, final String variableName) {
+        return false;
+    }
+
+    @Override
+    public boolean isVariableRemoved(final String keyspace, final String variableName) {
+        return false;
+    }
+
+    @Override
+    public Object getModifiedVariableValue(final String keyspace, final String variableName) {
+        return null;
+    }
+
+    @Override
+    public Set<String> getModifiedVariableKeyspaces() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Set<String> getRemovedVariables(final String keyspace) {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public ChronoVertex getModifiedVertex(final String id) {
+        return null;
+    }
+
+    @Override
+    public ChronoEdge getModifiedEdge(final String id) {
+        return null;
+    }
+
+    @Override
+    public Set<Vertex> getVerticesWithModificationsOnProperty(final String property) {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Set<Edge> getEdgesWithModificationsOnProperty(final String property) {
+        return Collections.emptySet();
+    }
+
+    // =====================================================================================================================
+    // HELPER METHODS
+    // =====================================================================================================================
+
+    private void unsupportedOperation() {
+        throw new UnsupportedOperationException("This operation is not supported in a read-only snapshot!");
+    }
+
+}
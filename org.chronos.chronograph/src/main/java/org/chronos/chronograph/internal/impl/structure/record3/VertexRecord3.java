@@ -14,6 +14,7 @@ import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexProperty;
 import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecordWithLabel;
 import org.chronos.chronograph.internal.impl.structure.record2.EdgeTargetRecord2;
+import org.chronos.chronograph.internal.impl.structure.record4.VertexRecord4;
 import org.chronos.chronograph.internal.impl.util.ChronoProxyUtil;
 import org.chronos.common.annotation.PersistentClass;
 
@@ -34,9 +35,14 @@ import static com.google.common.base.Preconditions.*;
  * <p>
  * The {@link ChronoVertexImpl} implementation which typically wraps a {@link VertexRecord3} is mutable and contains the transient (i.e. not yet persisted) state of the vertex that is specific for the transaction at hand. Upon calling {@link ChronoGraphTransaction#commit()}, the transient state in {@link ChronoVertexImpl} will be written into a new {@link VertexRecord3} and persisted to the database with a new timestamp (but the same vertex id), provided that the vertex has indeed been modified by the user.
  *
+ * <p>
+ * This class has been deprecated in favour of {@link VertexRecord4}, which allows to decode individual properties and adjacency sections without deserializing the entire record.
+ * </p>
+ *
  * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
  *
  */
+@Deprecated
 @PersistentClass("kryo")
 @ChronosExternalizable(converterClass = VertexRecordConverter.class)
 public final class VertexRecord3 implements IVertexRecord {
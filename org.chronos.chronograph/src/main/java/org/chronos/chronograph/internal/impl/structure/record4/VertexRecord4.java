@@ -0,0 +1,384 @@
+package org.chronos.chronograph.internal.impl.structure.record4;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.dump.annotations.ChronosExternalizable;
+import org.chronos.chronograph.api.structure.ChronoEdge;
+import org.chronos.chronograph.api.structure.record.IEdgeTargetRecord;
+import org.chronos.chronograph.api.structure.record.IVertexPropertyRecord;
+import org.chronos.chronograph.api.structure.record.IVertexRecord;
+import org.chronos.chronograph.internal.impl.dumpformat.converter.VertexRecordConverter;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoEdgeImpl;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexProperty;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecordWithLabel;
+import org.chronos.chronograph.internal.impl.structure.record2.EdgeTargetRecord2;
+import org.chronos.chronograph.internal.impl.structure.record3.VertexRecord3;
+import org.chronos.chronograph.internal.impl.util.ChronoProxyUtil;
+import org.chronos.common.annotation.PersistentClass;
+import org.chronos.common.serialization.KryoManager;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * A {@link VertexRecord4} is the immutable data core of a vertex that has been persisted to the database.
+ *
+ * <p>
+ * This is the class that will actually get serialized as the <code>value</code> in {@link ChronoDBTransaction#put(String, Object)}.
+ *
+ * <p>
+ * In contrast to {@link VertexRecord3}, this record does not store its vertex properties and adjacent edges as object
+ * graphs. Instead, every vertex property is serialized into its own slice of a shared byte array, and a property offset
+ * table (sorted property keys plus start offsets) allows to locate the slice for any given key. The incoming and outgoing
+ * edges are stored in two separate binary sections. Deserializing a {@link VertexRecord4} therefore only copies a few
+ * arrays; individual properties and adjacency sections are decoded on demand, i.e. a query such as
+ * <code>values('name')</code> will only ever decode the <code>name</code> property.
+ *
+ * <p>
+ * Decoded slices are cached in transient fields of the record. As the record itself is shared among transactions via
+ * the ChronoDB cache, the decoded slices are shared as well. All caches in this class are safe for concurrent access.
+ *
+ * <p>
+ * It is crucial that all instances of this class are to be treated as immutable after their creation, as these instances are potentially shared among threads due to caching mechanisms.
+ *
+ * @author martin.haeusler@txture.io -- Initial contribution and API
+ */
+@PersistentClass("kryo")
+@ChronosExternalizable(converterClass = VertexRecordConverter.class)
+public final class VertexRecord4 implements IVertexRecord {
+
+    // =====================================================================================================================
+    // FIELDS
+    // =====================================================================================================================
+
+    // note: the only reason why the fields in this class are not declared as "final" is because
+    // serialization mechanisms struggle with final fields. All fields are effectively final, and
+    // all of their contents are effectively immutable.
+
+    /** The id of this record. */
+    private String recordId;
+    /** The label of the vertex stored in this record. */
+    private String label;
+    /** The (sorted) keys of the vertex properties in this record. <code>null</code> if there are no properties. */
+    private String[] propertyKeys;
+    /** The property offset table. Property <code>i</code> occupies bytes <code>[offsets[i], offsets[i+1])</code>. */
+    private int[] propertyOffsets;
+    /** The concatenated serial forms of all vertex properties, in the order of {@link #propertyKeys}. */
+    private byte[] propertyData;
+    /** The serial form of the incoming edges map (label to edge targets). <code>null</code> if there are none. */
+    private byte[] incomingEdgeData;
+    /** The serial form of the outgoing edges map (label to edge targets). <code>null</code> if there are none. */
+    private byte[] outgoingEdgeData;
+
+    // transient caches for decoded slices; they are NOT serialized.
+    private transient volatile AtomicReferenceArray<IVertexPropertyRecord> decodedProperties;
+    private transient volatile Map<String, Set<EdgeTargetRecord2>> decodedIncomingEdges;
+    private transient volatile Map<String, Set<EdgeTargetRecord2>> decodedOutgoingEdges;
+
+    // =====================================================================================================================
+    // CONSTRUCTORS
+    // =====================================================================================================================
+
+    protected VertexRecord4() {
+        // default constructor for serialization mechanism
+    }
+
+    public VertexRecord4(final String recordId, final String label, final SetMultimap<String, ChronoEdge> inE,
+                         final SetMultimap<String, ChronoEdge> outE, final Map<String, ChronoVertexProperty<?>> properties) {
+        checkNotNull(recordId, "Precondition violation - argument 'recordId' must not be NULL!");
+        checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+        checkNotNull(properties, "Precondition violation - argument 'properties' must not be NULL!");
+        this.recordId = recordId;
+        this.label = label;
+        if (inE != null && inE.isEmpty() == false) {
+            Map<String, Set<EdgeTargetRecord2>> incomingEdges = Maps.newHashMap();
+            for (ChronoEdge inEdge : Sets.newHashSet(inE.values())) {
+                ChronoEdgeImpl edge = ChronoProxyUtil.resolveEdgeProxy(inEdge);
+                // create the minimal "edge target" representation for this edge to store in this vertex
+                EdgeTargetRecord2 edgeTargetRecord = new EdgeTargetRecord2(edge.id(), edge.outVertex().id());
+                incomingEdges.computeIfAbsent(edge.label(), l -> Sets.newHashSet()).add(edgeTargetRecord);
+            }
+            this.incomingEdgeData = encodeEdges(incomingEdges);
+        }
+        if (outE != null && outE.isEmpty() == false) {
+            Map<String, Set<EdgeTargetRecord2>> outgoingEdges = Maps.newHashMap();
+            for (ChronoEdge outEdge : Sets.newHashSet(outE.values())) {
+                ChronoEdgeImpl edge = ChronoProxyUtil.resolveEdgeProxy(outEdge);
+                // create the minimal "edge target" representation for this edge to store in this vertex
+                EdgeTargetRecord2 edgeTargetRecord = new EdgeTargetRecord2(edge.id(), edge.inVertex().id());
+                outgoingEdges.computeIfAbsent(edge.label(), l -> Sets.newHashSet()).add(edgeTargetRecord);
+            }
+            this.outgoingEdgeData = encodeEdges(outgoingEdges);
+        }
+        if (properties.isEmpty() == false) {
+            List<IVertexPropertyRecord> propertyRecords = Lists.newArrayListWithCapacity(properties.size());
+            for (ChronoVertexProperty<?> property : properties.values()) {
+                propertyRecords.add(property.toRecord());
+            }
+            this.encodeProperties(propertyRecords);
+        }
+    }
+
+    public VertexRecord4(final String recordId, final String label, final SetMultimap<String, EdgeTargetRecord2> inE,
+                         final SetMultimap<String, EdgeTargetRecord2> outE, final Set<IVertexPropertyRecord> properties) {
+        checkNotNull(recordId, "Precondition violation - argument 'recordId' must not be NULL!");
+        checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+        checkNotNull(inE, "Precondition violation - argument 'inE' must not be NULL!");
+        checkNotNull(outE, "Precondition violation - argument 'outE' must not be NULL!");
+        checkNotNull(properties, "Precondition violation - argument 'properties' must not be NULL!");
+        this.recordId = recordId;
+        this.label = label;
+        if (inE.isEmpty() == false) {
+            this.incomingEdgeData = encodeEdges(toEdgeMap(inE));
+        }
+        if (outE.isEmpty() == false) {
+            this.outgoingEdgeData = encodeEdges(toEdgeMap(outE));
+        }
+        if (properties.isEmpty() == false) {
+            this.encodeProperties(properties);
+        }
+    }
+
+    // =====================================================================================================================
+    // PUBLIC API
+    // =====================================================================================================================
+
+    @Override
+    public String getId() {
+        return this.recordId;
+    }
+
+    @Override
+    public String getLabel() {
+        return this.label;
+    }
+
+    @Override
+    public List<EdgeTargetRecordWithLabel> getIncomingEdges() {
+        return flattenEdges(this.getIncomingEdgeMap());
+    }
+
+    @Override
+    public List<EdgeTargetRecordWithLabel> getIncomingEdges(final String... labels) {
+        if (labels == null || labels.length <= 0) {
+            return this.getIncomingEdges();
+        }
+        return flattenEdges(this.getIncomingEdgeMap(), labels);
+    }
+
+    @Override
+    public SetMultimap<String, IEdgeTargetRecord> getIncomingEdgesByLabel() {
+        return toMultimap(this.getIncomingEdgeMap());
+    }
+
+    @Override
+    public List<EdgeTargetRecordWithLabel> getOutgoingEdges() {
+        return flattenEdges(this.getOutgoingEdgeMap());
+    }
+
+    @Override
+    public List<EdgeTargetRecordWithLabel> getOutgoingEdges(final String... labels) {
+        if (labels == null || labels.length <= 0) {
+            return this.getOutgoingEdges();
+        }
+        return flattenEdges(this.getOutgoingEdgeMap(), labels);
+    }
+
+    @Override
+    public SetMultimap<String, IEdgeTargetRecord> getOutgoingEdgesByLabel() {
+        return toMultimap(this.getOutgoingEdgeMap());
+    }
+
+    @Override
+    public Set<IVertexPropertyRecord> getProperties() {
+        if (this.propertyKeys == null || this.propertyKeys.length <= 0) {
+            return Collections.emptySet();
+        }
+        Set<IVertexPropertyRecord> resultSet = Sets.newHashSetWithExpectedSize(this.propertyKeys.length);
+        for (int i = 0; i < this.propertyKeys.length; i++) {
+            resultSet.add(this.getPropertyAt(i));
+        }
+        return Collections.unmodifiableSet(resultSet);
+    }
+
+    @Override
+    public Set<String> getPropertyKeys() {
+        if (this.propertyKeys == null || this.propertyKeys.length <= 0) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(Sets.newHashSet(this.propertyKeys));
+    }
+
+    @Override
+    public IVertexPropertyRecord getProperty(final String propertyKey) {
+        if (propertyKey == null || this.propertyKeys == null || this.propertyKeys.length <= 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(this.propertyKeys, propertyKey);
+        if (index < 0) {
+            return null;
+        }
+        return this.getPropertyAt(index);
+    }
+
+    // =====================================================================================================================
+    // DECODING
+    // =====================================================================================================================
+
+    private IVertexPropertyRecord getPropertyAt(final int index) {
+        AtomicReferenceArray<IVertexPropertyRecord> cache = this.decodedProperties;
+        if (cache == null) {
+            // note: concurrent initialization is harmless here, the worst case is that a slice is decoded twice.
+            cache = new AtomicReferenceArray<>(this.propertyKeys.length);
+            this.decodedProperties = cache;
+        }
+        IVertexPropertyRecord record = cache.get(index);
+        if (record == null) {
+            int offset = this.propertyOffsets[index];
+            int length = this.propertyOffsets[index + 1] - offset;
+            record = KryoManager.deserialize(this.propertyData, offset, length);
+            cache.compareAndSet(index, null, record);
+        }
+        return record;
+    }
+
+    private Map<String, Set<EdgeTargetRecord2>> getIncomingEdgeMap() {
+        if (this.incomingEdgeData == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Set<EdgeTargetRecord2>> edges = this.decodedIncomingEdges;
+        if (edges == null) {
+            edges = decodeEdges(this.incomingEdgeData);
+            this.decodedIncomingEdges = edges;
+        }
+        return edges;
+    }
+
+    private Map<String, Set<EdgeTargetRecord2>> getOutgoingEdgeMap() {
+        if (this.outgoingEdgeData == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Set<EdgeTargetRecord2>> edges = this.decodedOutgoingEdges;
+        if (edges == null) {
+            edges = decodeEdges(this.outgoingEdgeData);
+            this.decodedOutgoingEdges = edges;
+        }
+        return edges;
+    }
+
+    // =====================================================================================================================
+    // ENCODING
+    // =====================================================================================================================
+
+    private void encodeProperties(final Collection<IVertexPropertyRecord> properties) {
+        // sort the properties by key, this allows for binary search on the offset table
+        List<IVertexPropertyRecord> sortedProperties = new ArrayList<>(properties);
+        sortedProperties.sort((left, right) -> left.getKey().compareTo(right.getKey()));
+        int size = sortedProperties.size();
+        this.propertyKeys = new String[size];
+        this.propertyOffsets = new int[size + 1];
+        ByteArrayOutputStream dataStream = new ByteArrayOutputStream();
+        for (int i = 0; i < size; i++) {
+            IVertexPropertyRecord property = sortedProperties.get(i);
+            if (i > 0 && property.getKey().equals(this.propertyKeys[i - 1])) {
+                throw new IllegalArgumentException("Cannot use the same VertexProperty key multiple times! Key: '" + property.getKey() + "'");
+            }
+            this.propertyKeys[i] = property.getKey();
+            this.propertyOffsets[i] = dataStream.size();
+            byte[] serialForm = KryoManager.serialize(property);
+            dataStream.write(serialForm, 0, serialForm.length);
+        }
+        this.propertyOffsets[size] = dataStream.size();
+        this.propertyData = dataStream.toByteArray();
+    }
+
+    private static Map<String, Set<EdgeTargetRecord2>> toEdgeMap(final SetMultimap<String, EdgeTargetRecord2> edges) {
+        Map<String, Set<EdgeTargetRecord2>> resultMap = Maps.newHashMap();
+        for (Entry<String, Collection<EdgeTargetRecord2>> entry : edges.asMap().entrySet()) {
+            Collection<EdgeTargetRecord2> edgeRecords = entry.getValue();
+            if (edgeRecords.isEmpty()) {
+                continue;
+            }
+            resultMap.computeIfAbsent(entry.getKey(), l -> Sets.newHashSet()).addAll(edgeRecords);
+        }
+        return resultMap;
+    }
+
+    private static byte[] encodeEdges(final Map<String, Set<EdgeTargetRecord2>> edges) {
+        if (edges.isEmpty()) {
+            return null;
+        }
+        // make sure we only serialize plain java collections
+        HashMap<String, HashSet<EdgeTargetRecord2>> serialForm = new HashMap<>();
+        for (Entry<String, Set<EdgeTargetRecord2>> entry : edges.entrySet()) {
+            serialForm.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
+        return KryoManager.serialize(serialForm);
+    }
+
+    private static Map<String, Set<EdgeTargetRecord2>> decodeEdges(final byte[] serialForm) {
+        Map<String, Set<EdgeTargetRecord2>> edges = KryoManager.deserialize(serialForm);
+        Map<String, Set<EdgeTargetRecord2>> resultMap = Maps.newHashMapWithExpectedSize(edges.size());
+        for (Entry<String, Set<EdgeTargetRecord2>> entry : edges.entrySet()) {
+            resultMap.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(resultMap);
+    }
+
+    private static List<EdgeTargetRecordWithLabel> flattenEdges(final Map<String, Set<EdgeTargetRecord2>> edges) {
+        if (edges.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<EdgeTargetRecordWithLabel> resultList = new ArrayList<>();
+        for (Entry<String, Set<EdgeTargetRecord2>> entry : edges.entrySet()) {
+            String label = entry.getKey();
+            for (EdgeTargetRecord2 record : entry.getValue()) {
+                resultList.add(new EdgeTargetRecordWithLabel(record, label));
+            }
+        }
+        return resultList;
+    }
+
+    private static List<EdgeTargetRecordWithLabel> flattenEdges(final Map<String, Set<EdgeTargetRecord2>> edges, final String... labels) {
+        if (edges.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<EdgeTargetRecordWithLabel> resultList = new ArrayList<>();
+        for (String label : labels) {
+            Set<EdgeTargetRecord2> labelRecords = edges.get(label);
+            if (labelRecords == null) {
+                continue;
+            }
+            for (EdgeTargetRecord2 record : labelRecords) {
+                resultList.add(new EdgeTargetRecordWithLabel(record, label));
+            }
+        }
+        return resultList;
+    }
+
+    private static SetMultimap<String, IEdgeTargetRecord> toMultimap(final Map<String, Set<EdgeTargetRecord2>> edges) {
+        SetMultimap<String, IEdgeTargetRecord> multimap = HashMultimap.create();
+        for (Entry<String, Set<EdgeTargetRecord2>> entry : edges.entrySet()) {
+            multimap.putAll(entry.getKey(), entry.getValue());
+        }
+        return Multimaps.unmodifiableSetMultimap(multimap);
+    }
+
+}
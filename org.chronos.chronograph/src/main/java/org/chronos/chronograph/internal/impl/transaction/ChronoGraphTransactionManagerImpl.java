@@ -1,6 +1,8 @@
 package org.chronos.chronograph.internal.impl.transaction;
 
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.apache.tinkerpop.gremlin.structure.util.AbstractThreadLocalTransaction;
 import org.apache.tinkerpop.gremlin.structure.util.TransactionException;
@@ -13,6 +15,8 @@ import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransactionManager;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.internal.impl.structure.graph.readonly.ReadOnlyChronoGraph;
+import org.chronos.chronograph.internal.impl.structure.graph.readonly.SnapshotChronoGraph;
 import org.chronos.chronograph.internal.impl.transaction.threaded.ChronoThreadedTransactionGraph;
 
 import java.util.Date;
@@ -29,6 +33,8 @@ public class ChronoGraphTransactionManagerImpl extends AbstractThreadLocalTransa
 
     private final boolean allowAutoTx;
 
+    private final Map<Pair<String, Long>, SnapshotChronoGraph> snapshots = new MapMaker().weakValues().makeMap();
+
     // =====================================================================================================================
     // CONSTRUCTOR
     // =====================================================================================================================
@@ -212,6 +218,28 @@ public class ChronoGraphTransactionManagerImpl extends AbstractThreadLocalTransa
         return this.createThreadedTx(branchName, date.getTime());
     }
 
+    // =====================================================================================================================
+    // READ-ONLY SNAPSHOTS
+    // =====================================================================================================================
+
+    @Override
+    public ChronoGraph getReadOnlySnapshot(final String branchName, final long timestamp) {
+        checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+        checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+        if (this.chronoGraph.getBackingDB().getBranchManager().existsBranch(branchName) == false) {
+            throw new IllegalArgumentException("There is no branch named '" + branchName + "'!");
+        }
+        checkArgument(timestamp <= this.chronoGraph.getNow(branchName),
+            "Precondition violation - argument 'timestamp' must not be greater than the 'now' timestamp of branch '" + branchName + "'!");
+        long maxCachedElements = this.chronoGraph.getChronoGraphConfiguration().getSnapshotElementCacheSize();
+        SnapshotChronoGraph snapshot = this.snapshots.computeIfAbsent(
+            Pair.of(branchName, timestamp),
+            key -> new SnapshotChronoGraph(this.chronoGraph, branchName, timestamp, maxCachedElements)
+        );
+        // note: the read-only wrapper keeps the (weakly referenced) snapshot alive.
+        return new ReadOnlyChronoGraph(snapshot);
+    }
+
     // =====================================================================================================================
     // COMMIT & ROLLBACK
     // =====================================================================================================================
@@ -34,6 +34,7 @@ import org.chronos.chronograph.api.structure.ElementLifecycleStatus;
 import org.chronos.chronograph.api.structure.PropertyStatus;
 import org.chronos.chronograph.api.structure.record.IEdgeRecord;
 import org.chronos.chronograph.api.structure.record.IEdgeTargetRecord;
+import org.chronos.chronograph.api.structure.record.IVertexPropertyRecord;
 import org.chronos.chronograph.api.structure.record.IVertexRecord;
 import org.chronos.chronograph.api.transaction.AllEdgesIterationHandler;
 import org.chronos.chronograph.api.transaction.AllVerticesIterationHandler;
@@ -97,12 +98,19 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
 
     public StandardChronoGraphTransaction(final ChronoGraphInternal graph,
                                           final ChronoDBTransaction backendTransaction) {
+        this(graph, backendTransaction, new GraphTransactionContextImpl());
+    }
+
+    protected StandardChronoGraphTransaction(final ChronoGraphInternal graph,
+                                             final ChronoDBTransaction backendTransaction,
+                                             final GraphTransactionContextInternal context) {
         checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
         checkNotNull(backendTransaction, "Precondition violation - argument 'backendTransaction' must not be NULL!");
+        checkNotNull(context, "Precondition violation - argument 'context' must not be NULL!");
         this.transactionId = UUID.randomUUID().toString();
         this.graph = graph;
         this.backendTransaction = backendTransaction;
-        this.context = new GraphTransactionContextImpl();
+        this.context = context;
         this.rollbackCount = 0L;
         this.queryProcessor = new ChronoGraphQueryProcessor(this);
     }
@@ -827,6 +835,15 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
         }
     }
 
+    @Override
+    public IVertexPropertyRecord loadVertexPropertyRecord(final String recordId, final String propertyKey) {
+        checkNotNull(recordId, "Precondition violation - argument 'recordId' must not be NULL!");
+        checkNotNull(propertyKey, "Precondition violation - argument 'propertyKey' must not be NULL!");
+        // note: the record itself is cheap to deserialize (depending on the format); the
+        // requested property is decoded on-demand and cached within the (shared) record.
+        return this.loadVertexRecord(recordId).getProperty(propertyKey);
+    }
+
     @Override
     public IEdgeRecord loadEdgeRecord(final String recordId) {
         checkNotNull(recordId, "Precondition violation - argument 'recordId' must not be NULL!");
@@ -1237,6 +1254,13 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
         ChronoDBTransaction tx = this.getBackingDBTransaction();
         // read the set of modified vertices
         Set<ChronoVertex> modifiedVertices = this.context.getModifiedVertices();
+        if (modifiedVertices.isEmpty()) {
+            return;
+        }
+        // we use all property names which are indexed at ANY point in time here, because the commit
+        // timestamp is not known yet. This is a (cheap) over-approximation of the required indices.
+        Set<String> indexedPropertyNames = this.getGraph().getIndexManagerOnBranch(this.getBranchName())
+            .getIndexedVertexPropertyNamesAtAnyPointInTime();
         // write each vertex into a key-value pair in the transaction
         for (ChronoVertex vertex : modifiedVertices) {
             String vertexId = vertex.id();
@@ -1250,14 +1274,14 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
                     // they have been created AND removed in the same transaction
                     break;
                 case EDGE_CHANGED:
-                    tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, ((ChronoVertexImpl) vertex).toRecord(), PutOption.NO_INDEX);
+                    tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, ((ChronoVertexImpl) vertex).toRecord(), getIndexingPutOptions((ChronoVertexImpl) vertex, indexedPropertyNames));
                     break;
                 case PERSISTED:
                     // this case should actually be unreachable because persisted elements are clean and not dirty
                     throw new IllegalStateException(
                         "Unreachable code reached: PERSISTED vertex '" + vertexId + "' is listed as dirty!");
                 case PROPERTY_CHANGED:
-                    tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, ((ChronoVertexImpl) vertex).toRecord());
+                    tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, ((ChronoVertexImpl) vertex).toRecord(), getIndexingPutOptions((ChronoVertexImpl) vertex, indexedPropertyNames));
                     break;
                 case REMOVED:
                     tx.remove(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId);
@@ -1273,6 +1297,11 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
         ChronoDBTransaction tx = this.getBackingDBTransaction();
         // read the set of modified edges
         Set<ChronoEdge> modifiedEdges = this.context.getModifiedEdges();
+        if (modifiedEdges.isEmpty()) {
+            return;
+        }
+        Set<String> indexedPropertyNames = this.getGraph().getIndexManagerOnBranch(this.getBranchName())
+            .getIndexedEdgePropertyNamesAtAnyPointInTime();
         // write each edge into a key-value pair in the transaction
         for (ChronoEdge edge : modifiedEdges) {
             String edgeId = edge.id();
@@ -1301,7 +1330,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
                     if (log.isTraceEnabled()) {
                         log.trace("[COMMIT]: Committing Edge '" + edgeId + "' in status PROPERTY_CHANGED");
                     }
-                    tx.put(ChronoGraphConstants.KEYSPACE_EDGE, edgeId, ((ChronoEdgeImpl) edge).toRecord());
+                    tx.put(ChronoGraphConstants.KEYSPACE_EDGE, edgeId, ((ChronoEdgeImpl) edge).toRecord(), getIndexingPutOptions((ChronoEdgeImpl) edge, indexedPropertyNames));
                     break;
                 case REMOVED:
                     if (log.isTraceEnabled()) {
@@ -1315,6 +1344,33 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
         }
     }
 
+    /**
+     * Determines the {@link PutOption}s for writing the given (modified, but not new) element to the backing store.
+     *
+     * <p>
+     * The secondary indexer of ChronoDB computes its index diff by extracting all indexed values from both the old and
+     * the new record. We know which properties have been changed on the element, so if none of them is indexed, the
+     * indexer would find no difference anyway, and we tell ChronoDB to skip this step.
+     *
+     * @param element              The element to check. Must not be <code>null</code>.
+     * @param indexedPropertyNames The names of the indexed properties for the element type. Must not be <code>null</code>.
+     * @return The put options to use. Never <code>null</code>.
+     */
+    private static PutOption[] getIndexingPutOptions(final ChronoElementInternal element, final Set<String> indexedPropertyNames) {
+        for (String propertyName : indexedPropertyNames) {
+            switch (element.getPropertyStatus(propertyName)) {
+                case NEW:
+                case MODIFIED:
+                case REMOVED:
+                    // an indexed property has changed
+                    return PutOption.NONE;
+                default:
+                    break;
+            }
+        }
+        return new PutOption[]{PutOption.NO_INDEX_CHANGES};
+    }
+
     private void mapModifiedGraphVariablesToChronoDB() {
         // get the backing transaction
         ChronoDBTransaction tx = this.getBackingDBTransaction();
@@ -15,7 +15,13 @@ import com.google.common.collect.Sets;
 
 public class GraphConflictMergeUtils {
 
-	public static void mergeProperties(final Element element, final Element storeElement, final Element ancestorElement,
+	/**
+	 * Merges the properties of the given store element into the given element.
+	 *
+	 * @return <code>true</code> if at least one property conflict had to be resolved via the given strategy, otherwise
+	 *         <code>false</code>.
+	 */
+	public static boolean mergeProperties(final Element element, final Element storeElement, final Element ancestorElement,
 			final PropertyConflictResolutionStrategy strategy) {
 		checkNotNull(element, "Precondition violation - argument 'element' must not be NULL!");
 		checkNotNull(storeElement, "Precondition violation - argument 'storeElement' must not be NULL!");
@@ -24,12 +30,16 @@ public class GraphConflictMergeUtils {
 		Set<String> elementKeys = Sets.newHashSet(element.keys());
 		Set<String> storeElementKeys = Sets.newHashSet(storeElement.keys());
 		Set<String> allKeys = Sets.union(elementKeys, storeElementKeys);
+		boolean resolvedConflict = false;
 		for (String propertyKey : allKeys) {
-			mergeSingleProperty(propertyKey, element, storeElement, ancestorElement, strategy);
+			if (mergeSingleProperty(propertyKey, element, storeElement, ancestorElement, strategy)) {
+				resolvedConflict = true;
+			}
 		}
+		return resolvedConflict;
 	}
 
-	private static void mergeSingleProperty(final String propertyKey, final Element element, final Element storeElement,
+	private static boolean mergeSingleProperty(final String propertyKey, final Element element, final Element storeElement,
 			final Element ancestorElement, final PropertyConflictResolutionStrategy strategy) {
 		Property<?> elementProperty = element.property(propertyKey);
 		Property<?> storeProperty = storeElement.property(propertyKey);
@@ -43,10 +53,10 @@ public class GraphConflictMergeUtils {
 			if (ancestorProperty.isPresent() && Objects.equals(ancestorProperty.value(), elementProperty.value())) {
 				// property was deleted in the store and is unchanged in our transaction, remove it
 				elementProperty.remove();
-				return;
+				return false;
 			} else if (ancestorProperty.isPresent() == false) {
 				// property was newly added in the current transaction, keep it
-				return;
+				return false;
 			}
 		}
 		if (!elementProperty.isPresent() && storeProperty.isPresent()) {
@@ -54,11 +64,11 @@ public class GraphConflictMergeUtils {
 			// check the common ancestor.
 			if (ancestorProperty.isPresent() && Objects.equals(ancestorProperty.value(), storeProperty.value())) {
 				// the property has been removed in this transaction, keep it that way.
-				return;
+				return false;
 			} else if (ancestorProperty.isPresent() == false) {
 				// the property has been added in the store, add it to the transaction
 				element.property(propertyKey, storeProperty.value());
-				return;
+				return false;
 			}
 		}
 		if (elementProperty.isPresent() && storeProperty.isPresent()) {
@@ -66,7 +76,7 @@ public class GraphConflictMergeUtils {
 			Object value = elementProperty.value();
 			Object storeValue = storeProperty.value();
 			if (Objects.equals(value, storeValue)) {
-				return;
+				return false;
 			} else {
 				// values are conflicting, check if any side is unchanged w.r.t. ancestor
 				if (ancestorProperty.isPresent()) {
@@ -76,10 +86,10 @@ public class GraphConflictMergeUtils {
 						// transaction property is unchanged, we missed an update in the store.
 						// use the value from the stored property.
 						element.property(propertyKey, storeValue);
-						return;
+						return false;
 					} else if (Objects.equals(storeValue, ancestorValue)) {
 						// transaction property has been modified, store is unmodified, keep the change
-						return;
+						return false;
 					}
 				}
 			}
@@ -88,7 +98,7 @@ public class GraphConflictMergeUtils {
 		PropertyConflict conflict = new PropertyConflictImpl(propertyKey, element, elementProperty, storeElement,
 				storeProperty, ancestorElement, ancestorProperty);
 		resolveConflict(conflict, strategy);
-		return;
+		return true;
 	}
 
 	private static void resolveConflict(final PropertyConflict conflict,
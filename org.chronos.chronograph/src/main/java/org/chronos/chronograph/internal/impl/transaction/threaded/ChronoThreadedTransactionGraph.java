@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 import static com.google.common.base.Preconditions.*;
 
@@ -69,8 +70,15 @@ public class ChronoThreadedTransactionGraph implements ChronoGraphInternal {
 
     public ChronoThreadedTransactionGraph(final ChronoGraphInternal originalGraph, final String branchName,
                                           final Long timestamp) {
+        this(originalGraph, branchName, timestamp, ThreadedChronoGraphTransaction::new);
+    }
+
+    protected ChronoThreadedTransactionGraph(final ChronoGraphInternal originalGraph, final String branchName,
+                                             final Long timestamp,
+                                             final BiFunction<ChronoThreadedTransactionGraph, ChronoDBTransaction, ThreadedChronoGraphTransaction> txFactory) {
         checkNotNull(originalGraph, "Precondition violation - argument 'originalGraph' must not be NULL!");
         checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+        checkNotNull(txFactory, "Precondition violation - argument 'txFactory' must not be NULL!");
         if (timestamp != null) {
             checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
         }
@@ -86,7 +94,7 @@ public class ChronoThreadedTransactionGraph implements ChronoGraphInternal {
             // timestamp given, use the given revision
             backendTransaction = db.tx(branchName, timestamp);
         }
-        ThreadedChronoGraphTransaction graphTx = new ThreadedChronoGraphTransaction(this, backendTransaction);
+        ThreadedChronoGraphTransaction graphTx = txFactory.apply(this, backendTransaction);
         // build the "pseudo transaction manager" that only returns the just created graph transaction
         this.txManager = new ThreadedChronoGraphTransactionManager(this, graphTx);
         this.branchNameToIndexManager = Maps.newHashMap();
@@ -2,6 +2,7 @@ package org.chronos.chronograph.internal.impl.transaction.threaded;
 
 import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.internal.api.transaction.GraphTransactionContextInternal;
 import org.chronos.chronograph.internal.impl.transaction.StandardChronoGraphTransaction;
 
 public class ThreadedChronoGraphTransaction extends StandardChronoGraphTransaction {
@@ -11,6 +12,11 @@ public class ThreadedChronoGraphTransaction extends StandardChronoGraphTransacti
 		super(graph, backendTransaction);
 	}
 
+	protected ThreadedChronoGraphTransaction(final ChronoGraphInternal graph,
+			final ChronoDBTransaction backendTransaction, final GraphTransactionContextInternal context) {
+		super(graph, backendTransaction, context);
+	}
+
 	// =====================================================================================================================
 	// METADATA
 	// =====================================================================================================================
@@ -124,6 +124,11 @@ public class ThreadedChronoGraphTransactionManager extends AbstractThreadedTrans
         return this.owningGraph.getOriginalGraph().tx().createThreadedTx(branchName, date);
     }
 
+    @Override
+    public ChronoGraph getReadOnlySnapshot(final String branchName, final long timestamp) {
+        return this.owningGraph.getOriginalGraph().tx().getReadOnlySnapshot(branchName, timestamp);
+    }
+
     // =====================================================================================================================
     // CURRENT TRANSACTION
     // =====================================================================================================================
@@ -15,7 +15,11 @@ import org.chronos.chronograph.api.builder.query.DoubleWithoutCP
 import org.chronos.chronograph.api.builder.query.LongWithoutCP
 import org.chronos.chronograph.api.builder.query.StringWithoutCP
 import org.chronos.chronograph.api.index.ChronoGraphIndex
+import org.chronos.chronograph.api.structure.ChronoVertex
 import org.chronos.chronograph.api.transaction.ChronoGraphTransaction
+import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl
+import org.chronos.chronograph.internal.impl.structure.graph.proxy.ChronoVertexProxy
 import org.chronos.chronograph.internal.impl.query.ChronoCompare
 import org.chronos.chronograph.internal.impl.query.ChronoStringCompare
 import java.util.*
@@ -292,4 +296,58 @@ object ChronoGraphStepUtil {
         }
         return false
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the value of the property with the given key from the given element.
+     *
+     * For clean (i.e. unmodified) vertices, only the requested property is decoded from the persistent vertex record,
+     * and no [org.apache.tinkerpop.gremlin.structure.VertexProperty] object is created. Meta-properties are ignored.
+     * All other elements use the standard property access.
+     *
+     * @param element The element to get the property value from.
+     * @param propertyKey The key of the property to get.
+     *
+     * @return The property value, or `null` if the element has no property with the given key.
+     */
+    @JvmStatic
+    fun projectPropertyValue(element: Element, propertyKey: String): Any? {
+        if (element is ChronoVertexProxy && !element.isLoaded && ChronoGraphElementUtil.asSpecialProperty(propertyKey) == null) {
+            // the vertex has not been resolved yet; if the transaction didn't modify it,
+            // we can read the property directly from the record without resolving it.
+            element.graph().tx().readWrite()
+            val tx = element.graph().tx().currentTransaction
+            if (tx is ChronoGraphTransactionInternal && tx.context.getModifiedVertex(element.id()) == null) {
+                return tx.loadVertexPropertyRecord(element.id(), propertyKey)?.value
+            }
+        }
+        if (element is ChronoVertex) {
+            val vertex = ChronoProxyUtil.resolveProxy(element)
+            if (vertex is ChronoVertexImpl) {
+                return vertex.projectPropertyValue(propertyKey)
+            }
+        }
+        return element.property<Any>(propertyKey).orElse(null)
+    }
+
+    /**
+     * Gets the keys of all properties of the given element.
+     *
+     * For clean vertices, the keys are taken from the property offset table of the persistent record (if the record format
+     * supports it), without decoding any property values.
+     *
+     * @param element The element to get the property keys for.
+     *
+     * @return The set of property keys.
+     */
+    @JvmStatic
+    fun projectPropertyKeys(element: Element): Set<String> {
+        if (element is ChronoVertex) {
+            val vertex = ChronoProxyUtil.resolveProxy(element)
+            if (vertex is ChronoVertexImpl) {
+                return vertex.projectPropertyKeys()
+            }
+        }
+        return element.keys()
+    }
+
+}
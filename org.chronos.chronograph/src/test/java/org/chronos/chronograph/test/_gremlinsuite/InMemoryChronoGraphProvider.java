@@ -24,6 +24,7 @@ import org.chronos.chronograph.internal.impl.structure.record2.PropertyRecord2;
 import org.chronos.chronograph.internal.impl.structure.record3.SimpleVertexPropertyRecord;
 import org.chronos.chronograph.internal.impl.structure.record3.VertexPropertyRecord3;
 import org.chronos.chronograph.internal.impl.structure.record3.VertexRecord3;
+import org.chronos.chronograph.internal.impl.structure.record4.VertexRecord4;
 
 import java.util.Map;
 import java.util.Set;
@@ -60,6 +61,7 @@ public class InMemoryChronoGraphProvider extends AbstractGraphProvider implement
         implementations.add(ChronoVertexProperty.class);
         implementations.add(ChronoGraphVariablesImpl.class);
         implementations.add(VertexRecord3.class);
+        implementations.add(VertexRecord4.class);
         implementations.add(EdgeRecord2.class);
         implementations.add(VertexPropertyRecord3.class);
         implementations.add(SimpleVertexPropertyRecord.class);
@@ -0,0 +1,149 @@
+package org.chronos.chronograph.test.cases.branch;
+
+import com.google.common.collect.Iterators;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.BranchMergeResult;
+import org.chronos.chronograph.api.exceptions.ChronoGraphCommitConflictException;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.transaction.conflict.PropertyConflictResolutionStrategy;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+@Category(IntegrationTest.class)
+public class GraphBranchMergeTest extends AllChronoGraphBackendsTest {
+
+    @Test
+    public void canMergeBranchIntoMaster() {
+        ChronoGraph graph = this.getGraph();
+        graph.addVertex("name", "John", "age", 30);
+        Vertex jane = graph.addVertex("name", "Jane");
+        graph.addVertex("name", "Jack");
+        graph.tx().commit();
+        String janeId = (String) jane.id();
+
+        graph.getBranchManager().createBranch("feature");
+        graph.tx().open("feature");
+        Vertex john = graph.traversal().V().has("name", "John").next();
+        john.property("age", 31);
+        Vertex sarah = graph.addVertex("name", "Sarah");
+        john.addEdge("knows", sarah);
+        graph.traversal().V().has("name", "Jack").next().remove();
+        graph.tx().commit();
+
+        graph.tx().open();
+        graph.traversal().V(janeId).next().property("age", 25);
+        graph.tx().commit();
+
+        BranchMergeResult result = graph.getBranchManager().mergeBranch("feature", "master");
+        assertThat(result.hasMergeCommit(), is(true));
+        assertThat(result.getConflictCount(), is(0));
+
+        graph.tx().open();
+        john = graph.traversal().V().has("name", "John").next();
+        assertThat(john.value("age"), is(31));
+        assertThat(Iterators.getOnlyElement(john.vertices(Direction.OUT, "knows")).value("name"), is("Sarah"));
+        assertThat(graph.traversal().V().has("name", "Jack").hasNext(), is(false));
+        // the change on master is retained
+        assertThat(graph.traversal().V(janeId).next().value("age"), is(25));
+        graph.tx().close();
+    }
+
+    @Test
+    public void canMergeConcurrentPropertyChanges() {
+        ChronoGraph graph = this.getGraph();
+        graph.addVertex("name", "John", "age", 30, "city", "Innsbruck");
+        graph.tx().commit();
+
+        graph.getBranchManager().createBranch("feature");
+        graph.tx().open("feature");
+        Vertex john = graph.traversal().V().has("name", "John").next();
+        john.property("age", 31);
+        john.property("city", "Vienna");
+        graph.tx().commit();
+
+        graph.tx().open();
+        john = graph.traversal().V().has("name", "John").next();
+        john.property("city", "Munich");
+        john.property("email", "john@example.com");
+        graph.tx().commit();
+
+        try {
+            graph.getBranchManager().mergeBranch("feature", "master");
+            fail("Managed to merge a property conflict with the DO_NOT_MERGE strategy!");
+        } catch (ChronoGraphCommitConflictException expected) {
+            // pass
+        }
+
+        BranchMergeResult result = graph.getBranchManager().mergeBranch("feature", "master", PropertyConflictResolutionStrategy.OVERWRITE_WITH_TRANSACTION_VALUE, null);
+        assertThat(result.getConflictCount(), is(1));
+
+        graph.tx().open();
+        john = graph.traversal().V().has("name", "John").next();
+        // non-conflicting changes of both branches are combined
+        assertThat(john.value("age"), is(31));
+        assertThat(john.value("email"), is("john@example.com"));
+        // the conflict has been resolved in favour of the source branch
+        assertThat(john.value("city"), is("Vienna"));
+        graph.tx().close();
+    }
+
+    @Test
+    public void addingEdgesOnBothBranchesIsNoConflict() {
+        ChronoGraph graph = this.getGraph();
+        Vertex john = graph.addVertex("name", "John");
+        graph.addVertex("name", "Jane");
+        graph.tx().commit();
+        String johnId = (String) john.id();
+
+        graph.getBranchManager().createBranch("feature");
+        graph.tx().open("feature");
+        john = graph.traversal().V(johnId).next();
+        john.addEdge("knows", graph.addVertex("name", "Sarah"));
+        graph.tx().commit();
+
+        graph.tx().open();
+        john = graph.traversal().V(johnId).next();
+        john.addEdge("knows", graph.traversal().V().has("name", "Jane").next());
+        graph.tx().commit();
+
+        BranchMergeResult result = graph.getBranchManager().mergeBranch("feature", "master");
+        assertThat(result.hasMergeCommit(), is(true));
+        // john is touched on both branches, but only his adjacency has changed
+        assertThat(result.getConflictCount(), is(0));
+        // the vertex "Sarah" and the edge to her
+        assertThat(result.getMergedKeyCount(), is(2));
+
+        graph.tx().open();
+        john = graph.traversal().V(johnId).next();
+        assertThat(Iterators.size(john.edges(Direction.OUT, "knows")), is(2));
+        graph.tx().close();
+    }
+
+    @Test
+    public void mergeUpdatesGraphIndices() {
+        ChronoGraph graph = this.getGraph();
+        graph.getIndexManagerOnMaster().create().stringIndex().onVertexProperty("name").acrossAllTimestamps().build();
+        graph.getIndexManagerOnMaster().reindexAll();
+        graph.addVertex("name", "John");
+        graph.tx().commit();
+
+        graph.getBranchManager().createBranch("feature");
+        graph.tx().open("feature");
+        graph.traversal().V().has("name", "John").next().property("name", "Jack");
+        graph.tx().commit();
+
+        graph.getBranchManager().mergeBranch("feature", "master");
+
+        graph.tx().open();
+        assertThat(graph.traversal().V().has("name", "John").toSet(), is(empty()));
+        assertThat(graph.traversal().V().has("name", "Jack").toSet().size(), is(1));
+        graph.tx().close();
+    }
+
+}
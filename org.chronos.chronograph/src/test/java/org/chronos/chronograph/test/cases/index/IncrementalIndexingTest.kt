@@ -0,0 +1,61 @@
+package org.chronos.chronograph.test.cases.index
+
+import org.apache.tinkerpop.gremlin.structure.T
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest
+import org.chronos.common.test.junit.categories.IntegrationTest
+import org.junit.Test
+import org.junit.experimental.categories.Category
+import strikt.api.expectThat
+import strikt.assertions.containsExactlyInAnyOrder
+import strikt.assertions.isEmpty
+import strikt.assertions.isEqualTo
+
+@Category(IntegrationTest::class)
+class IncrementalIndexingTest : AllChronoGraphBackendsTest() {
+
+    @Test
+    fun indexRemainsConsistentIfOnlyNonIndexedPropertiesOrEdgesChange() {
+        val g = this.graph
+        g.indexManagerOnMaster.create().stringIndex().onVertexProperty("name").acrossAllTimestamps().build()
+        g.indexManagerOnMaster.create().stringIndex().onEdgeProperty("since").acrossAllTimestamps().build()
+        g.indexManagerOnMaster.reindexAll()
+
+        g.tx().createThreadedTx().use { txGraph ->
+            txGraph.addVertex(T.id, "v1", "name", "john", "age", 30)
+            txGraph.addVertex(T.id, "v2", "name", "jane", "age", 31)
+            txGraph.tx().commit()
+        }
+
+        // change only non-indexed properties and edges
+        g.tx().createThreadedTx().use { txGraph ->
+            val v1 = txGraph.vertex("v1")
+            val v2 = txGraph.vertex("v2")
+            v1.property("age", 40)
+            v1.addEdge("knows", v2, "since", "2020")
+            txGraph.tx().commit()
+        }
+
+        g.tx().createThreadedTx().use { txGraph ->
+            expectThat(txGraph.traversal().V().has("name", "john").id().toSet()).containsExactlyInAnyOrder("v1")
+            expectThat(txGraph.traversal().V().has("name", "jane").id().toSet()).containsExactlyInAnyOrder("v2")
+            expectThat(txGraph.traversal().E().has("since", "2020").count().next()).isEqualTo(1L)
+        }
+
+        // change the indexed properties
+        g.tx().createThreadedTx().use { txGraph ->
+            txGraph.vertex("v1").property("name", "jack")
+            txGraph.vertex("v2").property("name").remove()
+            txGraph.traversal().E().has("since", "2020").next().property("since", "2021")
+            txGraph.tx().commit()
+        }
+
+        g.tx().createThreadedTx().use { txGraph ->
+            expectThat(txGraph.traversal().V().has("name", "john").id().toSet()).isEmpty()
+            expectThat(txGraph.traversal().V().has("name", "jane").id().toSet()).isEmpty()
+            expectThat(txGraph.traversal().V().has("name", "jack").id().toSet()).containsExactlyInAnyOrder("v1")
+            expectThat(txGraph.traversal().E().has("since", "2020").count().next()).isEqualTo(0L)
+            expectThat(txGraph.traversal().E().has("since", "2021").count().next()).isEqualTo(1L)
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.chronos.chronograph.test.cases.query.strategies
+
+import org.apache.tinkerpop.gremlin.process.traversal.P
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper
+import org.apache.tinkerpop.gremlin.structure.T
+import org.apache.tinkerpop.gremlin.structure.Vertex
+import org.chronos.chronodb.test.base.InstantiateChronosWith
+import org.chronos.chronograph.api.structure.ChronoGraph
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration.GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphParallelStep
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest
+import org.chronos.common.test.junit.categories.IntegrationTest
+import org.junit.Test
+import org.junit.experimental.categories.Category
+import strikt.api.expectThat
+import strikt.assertions.*
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.`__` as AnonymousTraversal
+
+@Category(IntegrationTest::class)
+class ParallelExecutionStrategyTest : AllChronoGraphBackendsTest() {
+
+    @Test
+    @InstantiateChronosWith(property = GREMLIN_PARALLEL_EXECUTION, value = "true")
+    @InstantiateChronosWith(property = GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS, value = "10")
+    fun parallelStepIsInsertedAfterGraphStep() {
+        val traversal = this.graph.traversal().V().has("age", P.gt(30)).values<Any>("name").count()
+        traversal.hasNext()
+
+        val parallelSteps = TraversalHelper.getStepsOfAssignableClass(ChronoGraphParallelStep::class.java, traversal.asAdmin())
+        expectThat(parallelSteps).hasSize(1)
+        // the "count()" barrier must remain in the main traversal
+        expectThat(traversal.asAdmin().steps.last()).not().isA<ChronoGraphParallelStep<*, *>>()
+    }
+
+    @Test
+    @InstantiateChronosWith(property = GREMLIN_PARALLEL_EXECUTION, value = "true")
+    @InstantiateChronosWith(property = GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS, value = "10")
+    fun parallelStepIsNotInsertedForTraversalsWithPaths() {
+        val traversal = this.graph.traversal().V().has("age", P.gt(30)).out().path()
+        traversal.hasNext()
+
+        val parallelSteps = TraversalHelper.getStepsOfAssignableClass(ChronoGraphParallelStep::class.java, traversal.asAdmin())
+        expectThat(parallelSteps).isEmpty()
+    }
+
+    @Test
+    fun parallelStepIsNotInsertedByDefault() {
+        val traversal = this.graph.traversal().V().has("age", P.gt(30)).values<Any>("name")
+        traversal.hasNext()
+
+        val parallelSteps = TraversalHelper.getStepsOfAssignableClass(ChronoGraphParallelStep::class.java, traversal.asAdmin())
+        expectThat(parallelSteps).isEmpty()
+    }
+
+    @Test
+    @InstantiateChronosWith(property = GREMLIN_PARALLEL_EXECUTION, value = "true")
+    @InstantiateChronosWith(property = GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS, value = "10")
+    fun parallelExecutionProducesSameResultsAsSequentialExecution() {
+        this.createTestData(this.graph)
+
+        this.graph.tx().createThreadedTx().use { txGraph ->
+            val g = txGraph.traversal()
+            val sequential = g.with(GREMLIN_PARALLEL_EXECUTION, false)
+            expectThat(g.V().has("age", P.gt(30)).count().next())
+                .isEqualTo(sequential.V().has("age", P.gt(30)).count().next())
+            expectThat(g.V().has("age", P.gt(30)).values<String>("name").toList().sorted())
+                .isEqualTo(sequential.V().has("age", P.gt(30)).values<String>("name").toList().sorted())
+            expectThat(g.V().out("knows").has("age", P.lt(50)).id().toSet())
+                .isEqualTo(sequential.V().out("knows").has("age", P.lt(50)).id().toSet())
+            expectThat(g.V().local(AnonymousTraversal.out<Vertex>("knows").count()).toList().sorted())
+                .isEqualTo(sequential.V().local(AnonymousTraversal.out<Vertex>("knows").count()).toList().sorted())
+            expectThat(g.V().has("age", P.gt(30)).groupCount<Any>().by("age").next())
+                .isEqualTo(sequential.V().has("age", P.gt(30)).groupCount<Any>().by("age").next())
+
+            // the partitions are evaluated while the results are consumed
+            expectThat(g.V().has("age", P.gt(30)).limit(5).toList()).hasSize(5)
+
+            // vertices returned from the parallel partitions must belong to our transaction
+            val vertices = g.V().has("age", P.gt(30)).toList()
+            expectThat(vertices).isNotEmpty().all {
+                get { this.graph() }.isSameInstanceAs(txGraph)
+            }
+        }
+    }
+
+    @Test
+    @InstantiateChronosWith(property = GREMLIN_PARALLEL_EXECUTION, value = "true")
+    @InstantiateChronosWith(property = GREMLIN_PARALLEL_EXECUTION_MIN_ELEMENTS, value = "10")
+    fun parallelExecutionConsidersTransactionLocalChanges() {
+        this.createTestData(this.graph)
+
+        this.graph.tx().createThreadedTx().use { txGraph ->
+            val countBefore = txGraph.traversal().V().has("age", P.gt(30)).count().next()
+            txGraph.addVertex(T.id, "new", "name", "new", "age", 100)
+            val countAfter = txGraph.traversal().V().has("age", P.gt(30)).count().next()
+            expectThat(countAfter).isEqualTo(countBefore + 1)
+        }
+    }
+
+    private fun createTestData(graph: ChronoGraph) {
+        graph.tx().createThreadedTx().use { txGraph ->
+            var previous: Vertex? = null
+            for (i in 0 until 500) {
+                val vertex = txGraph.addVertex(T.id, "v${i}", "name", "name${i}", "age", i % 80)
+                if (previous != null) {
+                    previous.addEdge("knows", vertex)
+                }
+                previous = vertex
+            }
+            txGraph.tx().commit()
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package org.chronos.chronograph.test.cases.query.strategies
+
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper
+import org.apache.tinkerpop.gremlin.structure.T
+import org.apache.tinkerpop.gremlin.structure.Vertex
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration
+import org.chronos.chronodb.test.base.InstantiateChronosWith
+import org.chronos.chronograph.api.structure.ChronoGraph
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration.GREMLIN_VERTEX_PREFETCH_DEPTH
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphVertexPrefetchStep
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest
+import org.chronos.common.test.junit.categories.IntegrationTest
+import org.junit.Test
+import org.junit.experimental.categories.Category
+import strikt.api.expectThat
+import strikt.assertions.*
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.`__` as AnonymousTraversal
+
+@Category(IntegrationTest::class)
+class VertexPrefetchStrategyTest : AllChronoGraphBackendsTest() {
+
+    @Test
+    @InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+    @InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "10000")
+    @InstantiateChronosWith(property = GREMLIN_VERTEX_PREFETCH, value = "true")
+    fun prefetchStepIsInsertedAfterVertexSteps() {
+        val traversal = this.graph.traversal().V().out("knows").outE("knows").inV().both().values<Any>("name")
+        traversal.hasNext()
+
+        val prefetchSteps = TraversalHelper.getStepsOfAssignableClass(ChronoGraphVertexPrefetchStep::class.java, traversal.asAdmin())
+        // "outE" produces edges, "inV" is not a VertexStep
+        expectThat(prefetchSteps).hasSize(2)
+    }
+
+    @Test
+    @InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+    @InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "10000")
+    fun prefetchStepIsNotInsertedByDefault() {
+        val traversal = this.graph.traversal().V().out("knows").values<Any>("name")
+        traversal.hasNext()
+
+        val prefetchSteps = TraversalHelper.getStepsOfAssignableClass(ChronoGraphVertexPrefetchStep::class.java, traversal.asAdmin())
+        expectThat(prefetchSteps).isEmpty()
+    }
+
+    @Test
+    @InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "false")
+    @InstantiateChronosWith(property = GREMLIN_VERTEX_PREFETCH, value = "true")
+    fun prefetchStepIsNotInsertedWithoutCache() {
+        val traversal = this.graph.traversal().V().out("knows").values<Any>("name")
+        traversal.hasNext()
+
+        val prefetchSteps = TraversalHelper.getStepsOfAssignableClass(ChronoGraphVertexPrefetchStep::class.java, traversal.asAdmin())
+        expectThat(prefetchSteps).isEmpty()
+    }
+
+    @Test
+    @InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+    @InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "10000")
+    @InstantiateChronosWith(property = GREMLIN_VERTEX_PREFETCH, value = "true")
+    @InstantiateChronosWith(property = GREMLIN_VERTEX_PREFETCH_DEPTH, value = "8")
+    fun prefetchingProducesSameResultsAsRegularExecution() {
+        this.createTestData(this.graph)
+
+        this.graph.tx().createThreadedTx().use { txGraph ->
+            val g = txGraph.traversal()
+            val regular = g.with(GREMLIN_VERTEX_PREFETCH, false)
+            expectThat(g.V("v0").out("knows").out("knows").out("knows").id().toList())
+                .isEqualTo(regular.V("v0").out("knows").out("knows").out("knows").id().toList())
+            expectThat(g.V().out("knows").values<String>("name").toList())
+                .isEqualTo(regular.V().out("knows").values<String>("name").toList())
+            expectThat(g.V().both().both().count().next())
+                .isEqualTo(regular.V().both().both().count().next())
+            expectThat(g.V("v0").repeat(AnonymousTraversal.out<Vertex>("knows")).times(10).id().toList())
+                .containsExactly("v10")
+            expectThat(g.V("v0").out("knows").out("knows").limit(1).id().toList())
+                .containsExactly("v2")
+        }
+    }
+
+    @Test
+    @InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+    @InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "10000")
+    @InstantiateChronosWith(property = GREMLIN_VERTEX_PREFETCH, value = "true")
+    fun prefetchingConsidersTransactionLocalChanges() {
+        this.createTestData(this.graph)
+
+        this.graph.tx().createThreadedTx().use { txGraph ->
+            txGraph.vertices("v1").next().property("name", "changed")
+            expectThat(txGraph.traversal().V("v0").out("knows").values<String>("name").toList()).containsExactly("changed")
+        }
+    }
+
+    private fun createTestData(graph: ChronoGraph) {
+        graph.tx().createThreadedTx().use { txGraph ->
+            var previous: Vertex? = null
+            for (i in 0 until 200) {
+                val vertex = txGraph.addVertex(T.id, "v${i}", "name", "name${i}")
+                if (previous != null) {
+                    previous.addEdge("knows", vertex)
+                }
+                previous = vertex
+            }
+            txGraph.tx().commit()
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package org.chronos.chronograph.test.cases.record
+
+import org.apache.tinkerpop.gremlin.structure.Direction
+import org.chronos.chronograph.api.structure.record.IVertexRecord
+import org.chronos.chronograph.internal.impl.structure.record4.VertexRecord4
+import org.chronos.common.serialization.KryoManager
+import org.chronos.common.test.junit.categories.UnitTest
+import org.junit.Assert.*
+import org.junit.Test
+import org.junit.experimental.categories.Category
+
+@Category(UnitTest::class)
+class VertexRecord4Test {
+
+    @Test
+    fun builderProducesVertexRecord4() {
+        val record = IVertexRecord.builder().withId("v1").withLabel("person").build()
+        assertTrue(record is VertexRecord4)
+    }
+
+    @Test
+    fun canAccessPropertyKeysAndSinglePropertiesAfterSerialization() {
+        val record = createRecord()
+        val bytes = KryoManager.serialize(record)
+        val deserialized = KryoManager.deserialize<IVertexRecord>(bytes)
+
+        assertEquals(setOf("age", "firstName", "lastName", "tags"), deserialized.propertyKeys)
+        assertEquals("John", deserialized.getProperty("firstName").value)
+        assertEquals(42, deserialized.getProperty("age").value)
+        assertEquals(listOf("a", "b"), deserialized.getProperty("tags").value)
+        assertEquals("Smith", deserialized.getProperty("lastName").properties.getValue("was").value)
+        assertNull(deserialized.getProperty("unknown"))
+        assertEquals(4, deserialized.properties.size)
+    }
+
+    @Test
+    fun canAccessEdgesAfterSerialization() {
+        val record = createRecord()
+        val deserialized = KryoManager.deserialize<IVertexRecord>(KryoManager.serialize(record))
+
+        assertEquals("v2", deserialized.getOutgoingEdges("knows").single().record.otherEndVertexId)
+        assertEquals("e2", deserialized.getIncomingEdges("knows").single().record.edgeId)
+        assertEquals(2, deserialized.outgoingEdges.size)
+        assertEquals(1, deserialized.incomingEdges.size)
+        assertTrue(deserialized.getIncomingEdges("self").isEmpty())
+        assertEquals(setOf("knows", "self"), deserialized.outgoingEdgesByLabel.keySet())
+    }
+
+    @Test
+    fun recordWithoutPropertiesAndEdgesWorks() {
+        val record = IVertexRecord.builder().withId("v1").withLabel("empty").build()
+        val deserialized = KryoManager.deserialize<IVertexRecord>(KryoManager.serialize(record))
+        assertEquals("v1", deserialized.id)
+        assertEquals("empty", deserialized.label)
+        assertTrue(deserialized.propertyKeys.isEmpty())
+        assertTrue(deserialized.properties.isEmpty())
+        assertTrue(deserialized.incomingEdges.isEmpty())
+        assertTrue(deserialized.outgoingEdges.isEmpty())
+    }
+
+    private fun createRecord(): IVertexRecord {
+        return IVertexRecord.builder()
+            .withId("v1")
+            .withLabel("person")
+            .withProperty("firstName", "John")
+            .withProperty("lastName", "Doe")
+            .withMetaProperty("lastName", "was", "Smith")
+            .withProperty("age", 42)
+            .withProperty("tags", listOf("a", "b"))
+            .withEdge(Direction.OUT, "knows", "e1", "v2")
+            .withEdge(Direction.IN, "knows", "e2", "v3")
+            .withEdge(Direction.OUT, "self", "e100", "v1")
+            .build()
+    }
+
+}
@@ -1,14 +1,21 @@
 package org.chronos.chronograph.test.cases.schemavalidation;
 
+import com.google.common.collect.Lists;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
 import org.chronos.chronograph.api.exceptions.ChronoGraphSchemaViolationException;
 import org.chronos.chronograph.api.schema.ChronoGraphSchemaManager;
+import org.chronos.chronograph.api.schema.SchemaValidationResult;
+import org.chronos.chronograph.api.schema.SchemaValidatorScope;
+import org.chronos.chronograph.api.structure.ChronoElement;
 import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
 import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
 import org.chronos.common.test.junit.categories.IntegrationTest;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.Matchers.*;
@@ -137,4 +144,104 @@ public class SchemaValidationTest extends AllChronoGraphBackendsTest {
 
     }
 
+    @Test
+    public void canDefineScopedSchemaValidator() {
+        ChronoGraph graph = this.getGraph();
+        ChronoGraphSchemaManager schemaManager = graph.getSchemaManager();
+        SchemaValidatorScope scope = SchemaValidatorScope.vertices("Person").withPropertyKeys("name");
+        schemaManager.addOrOverrideValidator("scoped", scope, "return;");
+        schemaManager.addOrOverrideValidator("unscoped", "return;");
+        assertThat(schemaManager.getValidatorScope("scoped"), is(scope));
+        assertThat(schemaManager.getValidatorScope("unscoped"), is(SchemaValidatorScope.all()));
+        assertThat(schemaManager.getValidatorScope("nonExisting"), is(nullValue()));
+
+        // the scopes must survive a restart
+        ChronoGraph graph2 = this.reinstantiateGraph();
+        assertThat(graph2.getSchemaManager().getValidatorScope("scoped"), is(scope));
+        assertThat(graph2.getSchemaManager().getValidatorScope("unscoped"), is(SchemaValidatorScope.all()));
+
+        // overriding a scoped validator without a scope removes the scope
+        graph2.getSchemaManager().addOrOverrideValidator("scoped", "return;");
+        assertThat(graph2.getSchemaManager().getValidatorScope("scoped"), is(SchemaValidatorScope.all()));
+    }
+
+    @Test
+    public void scopedValidatorsAreOnlyInvokedOnMatchingElements() {
+        ChronoGraph graph = this.getGraph();
+        ChronoGraphSchemaManager schemaManager = graph.getSchemaManager();
+        schemaManager.addOrOverrideValidator("Persons must not have an age", SchemaValidatorScope.vertices("Person").withPropertyKeys("age"), "" +
+            "throw new ChronoGraphSchemaViolationException('Vertex ' + element.id() + ' has an age!');"
+        );
+        schemaManager.addOrOverrideValidator("Edges must not be created", SchemaValidatorScope.edges(), "" +
+            "throw new ChronoGraphSchemaViolationException('Edge ' + element.id() + ' is not allowed!');"
+        );
+
+        // vertices which are not within the scopes pass
+        graph.tx().open();
+        Vertex company = graph.addVertex("Company");
+        company.property("age", 42);
+        Vertex person = graph.addVertex("Person");
+        person.property("name", "John");
+        graph.tx().commit();
+
+        // a vertex within the scope fails
+        graph.tx().open();
+        graph.addVertex("Person").property("age", 30);
+        try {
+            graph.tx().commit();
+            fail("Managed to bypass a scoped graph validator!");
+        } catch (ChronoGraphSchemaViolationException expected) {
+            // pass
+        }
+
+        // an edge fails
+        graph.tx().open();
+        Vertex v1 = graph.addVertex("Company");
+        Vertex v2 = graph.addVertex("Company");
+        v1.addEdge("partner", v2);
+        try {
+            graph.tx().commit();
+            fail("Managed to bypass a scoped graph validator!");
+        } catch (ChronoGraphSchemaViolationException expected) {
+            // pass
+        }
+    }
+
+    @Test
+    @InstantiateChronosWith(property = ChronoGraphConfiguration.SCHEMA_VALIDATION_PARALLEL, value = "true")
+    @InstantiateChronosWith(property = ChronoGraphConfiguration.SCHEMA_VALIDATION_PARALLEL_MIN_ELEMENTS, value = "10")
+    public void canValidateElementsOfThreadedTransactionInParallel() {
+        ChronoGraph graph = this.getGraph();
+        ChronoGraphSchemaManager schemaManager = graph.getSchemaManager();
+        schemaManager.addOrOverrideValidator("Persons must have a name", SchemaValidatorScope.vertices("Person"), "" +
+            "if(!element.property('name').isPresent()){ " +
+            "    throw new ChronoGraphSchemaViolationException('The Vertex ' + element.id() + ' has no \"name\" property!');" +
+            "}"
+        );
+        schemaManager.addOrOverrideValidator("Nothing", "return;");
+        try (ChronoGraph txGraph = graph.tx().createThreadedTx()) {
+            for (int i = 0; i < 500; i++) {
+                Vertex person = txGraph.addVertex("Person");
+                if (i % 100 != 0) {
+                    person.property("name", "Person" + i);
+                }
+                txGraph.addVertex("Company");
+            }
+            List<ChronoElement> elements = Lists.newArrayList();
+            txGraph.vertices().forEachRemaining(v -> elements.add((ChronoElement) v));
+            SchemaValidationResult result = schemaManager.validate(txGraph.tx().getCurrentTransaction().getBranchName(), elements);
+            assertThat(result.getFailureCount(), is(5));
+            assertThat(result.getFailedValidators(), contains("Persons must have a name"));
+            assertThat(result.getValidatedElementCounts().get("Persons must have a name"), is(500));
+            assertThat(result.getValidatedElementCounts().get("Nothing"), is(1000));
+            assertThat(result.getValidatorExecutionTimes().keySet(), containsInAnyOrder("Persons must have a name", "Nothing"));
+            try {
+                txGraph.tx().commit();
+                fail("Managed to perform a commit with graph schema validation errors!");
+            } catch (ChronoGraphSchemaViolationException expected) {
+                // pass
+            }
+        }
+    }
+
 }
@@ -4,6 +4,7 @@ import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.ChronoDBConstants;
 import org.chronos.chronograph.api.history.RestoreResult;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronograph.api.structure.ChronoVertex;
@@ -215,4 +216,64 @@ public class HistoryManagerTest extends AllChronoGraphBackendsTest {
         assertThat(vJohn.value("lastName"), is("Doe"));
         assertThat(vJack.isRemoved(), is(false));
     }
+
+    @Test
+    public void canRestoreGraphStateAsOfTimestampInBulk() {
+        ChronoGraph g = this.getGraph();
+
+        g.tx().open();
+        ChronoVertex vJohn = (ChronoVertex) g.addVertex("firstName", "John", "lastName", "Doe");
+        ChronoVertex vJane = (ChronoVertex) g.addVertex("firstName", "Jane", "lastName", "Doe");
+        ChronoVertex vJack = (ChronoVertex) g.addVertex("firstName", "Jack", "lastName", "Smith");
+        vJohn.addEdge("marriedTo", vJane);
+        vJack.addEdge("friend", vJohn);
+        g.tx().commit();
+
+        long afterFirstCommit = g.getNow();
+
+        g.tx().open();
+        vJohn.property("lastName", "Smith");
+        vJack.remove();
+        ChronoVertex vSarah = (ChronoVertex) g.addVertex("firstName", "Sarah", "lastName", "Johnson");
+        vJane.addEdge("friend", vSarah);
+        g.tx().commit();
+
+        long afterSecondCommit = g.getNow();
+
+        String master = ChronoDBConstants.MASTER_BRANCH_IDENTIFIER;
+        // restoring the current state is a no-op
+        RestoreResult emptyResult = g.getHistoryManager().restoreGraphStateAsOfAndCommit(master, afterSecondCommit);
+        assertThat(emptyResult.getSuccessfullyRestoredVertexIds().isEmpty(), is(true));
+        assertThat(g.getNow(), is(afterSecondCommit));
+
+        RestoreResult restoreResult = g.getHistoryManager().restoreGraphStateAsOfAndCommit(master, afterFirstCommit, "restore");
+        // all vertices have been modified by the second commit, but only two edges
+        assertThat(restoreResult.getSuccessfullyRestoredVertexIds(), containsInAnyOrder(vJohn.id(), vJane.id(), vJack.id(), vSarah.id()));
+        assertThat(restoreResult.getSuccessfullyRestoredEdgeIds().size(), is(2));
+        assertThat(restoreResult.getFailedEdgeIds().size(), is(0));
+        assertThat(g.getNow(), is(greaterThan(afterSecondCommit)));
+        assertThat(g.getCommitMetadata(master, g.getNow()), is("restore"));
+
+        g.tx().open();
+        assertThat(Iterators.size(g.vertices()), is(3));
+        assertThat(Iterators.size(g.edges()), is(2));
+        assertThat(g.vertices(vSarah.id()).hasNext(), is(false));
+        Vertex john = g.vertices(vJohn.id()).next();
+        assertThat(john.value("lastName"), is("Doe"));
+        assertThat(john.vertices(Direction.IN, "friend").next().id(), is(vJack.id()));
+        Vertex jane = g.vertices(vJane.id()).next();
+        assertThat(jane.edges(Direction.OUT, "friend").hasNext(), is(false));
+        assertThat(jane.vertices(Direction.IN, "marriedTo").next().id(), is(vJohn.id()));
+        g.tx().rollback();
+
+        // restoring the initial (empty) state removes everything
+        RestoreResult restoreResult2 = g.getHistoryManager().restoreGraphStateAsOfAndCommit(master, 0);
+        assertThat(restoreResult2.getSuccessfullyRestoredVertexIds().size(), is(4));
+        assertThat(restoreResult2.getSuccessfullyRestoredEdgeIds().size(), is(3));
+        g.tx().open();
+        assertThat(Iterators.size(g.vertices()), is(0));
+        assertThat(Iterators.size(g.edges()), is(0));
+        g.tx().rollback();
+    }
+
 }
@@ -0,0 +1,94 @@
+package org.chronos.chronograph.test.cases.transaction
+
+import org.apache.tinkerpop.gremlin.structure.Direction
+import org.apache.tinkerpop.gremlin.structure.T
+import org.chronos.chronodb.api.ChronoDBConstants
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest
+import org.chronos.common.test.junit.categories.IntegrationTest
+import org.junit.Test
+import org.junit.experimental.categories.Category
+import strikt.api.expectThat
+import strikt.api.expectThrows
+import strikt.assertions.*
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+@Category(IntegrationTest::class)
+class ReadOnlySnapshotTest : AllChronoGraphBackendsTest() {
+
+    @Test
+    fun snapshotShowsTheStateAtTheRequestedTimestamp() {
+        val timestamp = this.createTestData()
+        this.graph.tx().createThreadedTx().use { txGraph ->
+            txGraph.vertices("v0").next().property("name", "changed")
+            txGraph.tx().commit()
+        }
+
+        val snapshot = this.graph.tx().getReadOnlySnapshot(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, timestamp)
+        expectThat(snapshot.vertices("v0").next().value<String>("name")).isEqualTo("name0")
+        expectThat(snapshot.traversal().V().count().next()).isEqualTo(100L)
+        expectThat(snapshot.traversal().V("v0").out("knows").id().toList()).containsExactly("v1")
+    }
+
+    @Test
+    fun snapshotsOnTheSameCoordinatesShareTheirTransaction() {
+        val timestamp = this.createTestData()
+        val snapshot1 = this.graph.tx().getReadOnlySnapshot(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, timestamp)
+        val snapshot2 = this.graph.tx().getReadOnlySnapshot(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, timestamp)
+        val snapshot3 = this.graph.tx().getReadOnlySnapshot(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, timestamp - 1)
+
+        expectThat(snapshot1.tx().currentTransaction.transactionId).isEqualTo(snapshot2.tx().currentTransaction.transactionId)
+        expectThat(snapshot1.tx().currentTransaction.transactionId).isNotEqualTo(snapshot3.tx().currentTransaction.transactionId)
+        expectThat(snapshot1.tx().currentTransaction.context.isDirty).isFalse()
+    }
+
+    @Test
+    fun snapshotsCannotBeModified() {
+        val timestamp = this.createTestData()
+        val snapshot = this.graph.tx().getReadOnlySnapshot(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, timestamp)
+        expectThrows<UnsupportedOperationException> { snapshot.addVertex("name", "foo") }
+        expectThrows<UnsupportedOperationException> { snapshot.vertices("v0").next().property("name", "foo") }
+        expectThrows<UnsupportedOperationException> { snapshot.tx().commit() }
+        expectThrows<UnsupportedOperationException> { snapshot.close() }
+    }
+
+    @Test
+    fun snapshotCanBeReadConcurrently() {
+        val timestamp = this.createTestData()
+        val executor = Executors.newFixedThreadPool(8)
+        try {
+            val tasks = (0 until 32).map {
+                executor.submit(Callable {
+                    val snapshot = this.graph.tx().getReadOnlySnapshot(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, timestamp)
+                    (0 until 100).map { i ->
+                        val vertex = snapshot.vertices("v${i}").next()
+                        val neighbours = vertex.vertices(Direction.BOTH, "knows").asSequence().map { it.id() }.toSet()
+                        val edgeWeights = vertex.edges(Direction.OUT, "knows").asSequence().map { it.value<Int>("weight") }.toList()
+                        Triple(vertex.value<String>("name"), neighbours, edgeWeights)
+                    }
+                })
+            }
+            val expected = (0 until 100).map { i ->
+                val neighbours = setOf("v${i - 1}", "v${i + 1}").filter { it != "v-1" && it != "v100" }.toSet()
+                val edgeWeights = if (i < 99) listOf(i) else emptyList()
+                Triple("name${i}", neighbours, edgeWeights)
+            }
+            for (task in tasks) {
+                expectThat(task.get()).isEqualTo(expected)
+            }
+        } finally {
+            executor.shutdown()
+            executor.awaitTermination(1, TimeUnit.MINUTES)
+        }
+    }
+
+    private fun createTestData(): Long {
+        this.graph.tx().createThreadedTx().use { txGraph ->
+            val vertices = (0 until 100).map { i -> txGraph.addVertex(T.id, "v${i}", "name", "name${i}") }
+            vertices.zipWithNext().forEachIndexed { i, (v1, v2) -> v1.addEdge("knows", v2, "weight", i) }
+            return txGraph.tx().commitAndReturnTimestamp()
+        }
+    }
+
+}
@@ -14,6 +14,10 @@ public interface QueryStepBuilderStarter {
 
 	public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(EClass eClass);
 
+	public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(String eClassName, boolean allowSubclasses);
+
+	public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(EClass eClass, boolean allowSubclasses);
+
 	public EObjectQueryStepBuilder<EObject> startingFromEObjectsWith(EAttribute attribute, Object value);
 
 	public EObjectQueryStepBuilder<EObject> startingFromEObject(EObject eObject);
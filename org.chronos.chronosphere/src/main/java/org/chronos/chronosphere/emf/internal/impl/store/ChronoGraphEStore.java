@@ -1,8 +1,11 @@
 package org.chronos.chronosphere.emf.internal.impl.store;
 
+import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.collect.Table;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronograph.api.structure.ChronoGraph;
@@ -41,6 +44,15 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 
     private final ChronoSphereTransactionInternal owningTransaction;
 
+    /**
+     * Caches the (sorted) edges of many-valued {@link EReference}s, per EObject vertex ID and EReference.
+     *
+     * <p>
+     * Single-element list operations (e.g. {@link #add(InternalEObject, EStructuralFeature, int, Object)}) work directly
+     * on the cached list, and keep it up-to-date. Operations which replace the entire list invalidate the entry.
+     */
+    private final Table<String, EReference, List<Edge>> eReferenceEdgeCache = HashBasedTable.create();
+
     // =================================================================================================================
     // CONSTRUCTOR
     // =================================================================================================================
@@ -61,6 +73,11 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         Vertex vertex = this.getEObjectVertex(eObject);
         ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
         if (feature.isMany()) {
+            if (index != NO_INDEX && feature instanceof EReference) {
+                // only resolve the requested target
+                List<Edge> edges = this.getEReferenceEdges(ePackage, vertex, (EReference) feature);
+                return this.createEObjectForVertex(ePackage, edges.get(index).inVertex());
+            }
             EList<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
             if (index == NO_INDEX) {
                 return list;
@@ -91,6 +108,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
                         ChronoSphereGraphFormat.setEAttributeValues(ePackage, vertex, eAttribute, null);
                     } else if (feature instanceof EReference) {
                         EReference eReference = (EReference) feature;
+                        this.invalidateEReferenceEdges(vertex, eReference);
                         ChronoSphereGraphFormat.setEReferenceTargets(ePackage, vertex, eReference, null);
                     } else {
                         throw unknownFeatureTypeException(feature);
@@ -107,6 +125,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
                         for (EObject targetEObject : targetEObjects) {
                             targetVertices.add(this.getEObjectVertex((ChronoEObject) targetEObject));
                         }
+                        this.invalidateEReferenceEdges(vertex, eReference);
                         ChronoSphereGraphFormat.setEReferenceTargets(ePackage, vertex, eReference, targetVertices);
                     } else {
                         throw unknownFeatureTypeException(feature);
@@ -138,6 +157,13 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
                 }
             }
 
+        } else if (feature instanceof EReference) {
+            // we are always dealing with a multiplicity-many feature here; replace only the affected edge.
+            EReference eReference = (EReference) feature;
+            List<Edge> edges = this.getEReferenceEdges(ePackage, vertex, eReference);
+            Vertex targetVertex = this.getEObjectVertex((ChronoEObject) value);
+            Vertex oldTargetVertex = ChronoSphereGraphFormat.replaceEReferenceTarget(ePackage, vertex, eReference, edges, index, targetVertex);
+            result = this.createEObjectForVertex(ePackage, oldTargetVertex);
         } else {
             // we are always dealing with a multiplicity-many feature here.
             List<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
@@ -165,6 +191,9 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         }
         if (feature.isMany()) {
             // for many-valued features, "being set" is defined as "not being empty"
+            if (feature instanceof EReference) {
+                return this.getEReferenceEdges(ePackage, vertex, (EReference) feature).isEmpty() == false;
+            }
             return this.getListOfValuesFor(ePackage, vertex, feature).isEmpty() == false;
         }
         if (feature instanceof EAttribute) {
@@ -213,6 +242,9 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
         Vertex vertex = this.getEObjectVertex(eObject);
         ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
+        if (feature instanceof EReference) {
+            return this.getEReferenceEdges(ePackage, vertex, (EReference) feature).isEmpty();
+        }
         return this.getListOfValuesFor(ePackage, vertex, feature).isEmpty();
     }
 
@@ -223,6 +255,9 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
         Vertex vertex = this.getEObjectVertex(eObject);
         ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
+        if (feature instanceof EReference) {
+            return this.getEReferenceEdges(ePackage, vertex, (EReference) feature).size();
+        }
         return this.getListOfValuesFor(ePackage, vertex, feature).size();
     }
 
@@ -233,6 +268,9 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
         Vertex vertex = this.getEObjectVertex(eObject);
         ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
+        if (feature instanceof EReference) {
+            return this.indexOfEReferenceTarget(ePackage, vertex, (EReference) feature, value, false) >= 0;
+        }
         return this.getListOfValuesFor(ePackage, vertex, feature).contains(value);
     }
 
@@ -243,6 +281,9 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
         Vertex vertex = this.getEObjectVertex(eObject);
         ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
+        if (feature instanceof EReference) {
+            return this.indexOfEReferenceTarget(ePackage, vertex, (EReference) feature, value, false);
+        }
         return this.getListOfValuesFor(ePackage, vertex, feature).indexOf(value);
     }
 
@@ -253,6 +294,9 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
         Vertex vertex = this.getEObjectVertex(eObject);
         ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
+        if (feature instanceof EReference) {
+            return this.indexOfEReferenceTarget(ePackage, vertex, (EReference) feature, value, true);
+        }
         return this.getListOfValuesFor(ePackage, vertex, feature).lastIndexOf(value);
     }
 
@@ -263,6 +307,14 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
         Vertex vertex = this.getEObjectVertex(eObject);
         ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
+        if (feature instanceof EReference) {
+            // add a single edge, the other edges remain untouched
+            EReference eReference = (EReference) feature;
+            List<Edge> edges = this.getEReferenceEdges(ePackage, vertex, eReference);
+            Vertex targetVertex = this.getEObjectVertex((ChronoEObject) value);
+            ChronoSphereGraphFormat.insertEReferenceTarget(ePackage, vertex, eReference, edges, index, targetVertex);
+            return;
+        }
         List<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
         list.add(index, value);
         // write to graph
@@ -275,14 +327,16 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
         Vertex vertex = this.getEObjectVertex(eObject);
         ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-        // special case: if we are removing a contained EObject, we need to unset it's eContainer
-        if (feature instanceof EReference && ((EReference) feature).isContainment()) {
-            Object child = this.get(object, feature, index);
-            this.unsetEContainerReferenceIfNecessary(eObject, feature, index);
-            List<Object> values = this.getListOfValuesFor(ePackage, vertex, feature);
-            values.remove(child);
-            this.writeListOfValuesToGraph(ePackage, vertex, feature, values);
-            return child;
+        if (feature instanceof EReference) {
+            EReference eReference = (EReference) feature;
+            // special case: if we are removing a contained EObject, we need to unset it's eContainer
+            if (eReference.isContainment()) {
+                this.unsetEContainerReferenceIfNecessary(eObject, feature, index);
+            }
+            // remove a single edge, the other edges remain untouched
+            List<Edge> edges = this.getEReferenceEdges(ePackage, vertex, eReference);
+            Vertex targetVertex = ChronoSphereGraphFormat.removeEReferenceTarget(edges, index);
+            return this.createEObjectForVertex(ePackage, targetVertex);
         }
         List<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
         Object result = list.remove(index);
@@ -298,6 +352,12 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
         Vertex vertex = this.getEObjectVertex(eObject);
         ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
+        if (feature instanceof EReference) {
+            // only the moved edge receives a new order
+            List<Edge> edges = this.getEReferenceEdges(ePackage, vertex, (EReference) feature);
+            Vertex targetVertex = ChronoSphereGraphFormat.moveEReferenceTarget(edges, targetIndex, sourceIndex);
+            return this.createEObjectForVertex(ePackage, targetVertex);
+        }
         EList<Object> values = this.getListOfValuesFor(ePackage, vertex, feature);
         Object result = values.move(targetIndex, sourceIndex);
         this.writeListOfValuesToGraph(ePackage, vertex, feature, values);
@@ -498,6 +558,16 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         this.deepDelete(eObjectsToDelete, tx, true, batchSize, cascadeDeletionToEContents);
     }
 
+    /**
+     * Clears the cached {@link EReference} edges of this store.
+     *
+     * <p>
+     * Must be called whenever the graph may have changed without going through this store, e.g. after a commit or a rollback.
+     */
+    public void clearEReferenceEdgeCache() {
+        this.eReferenceEdgeCache.clear();
+    }
+
     // =================================================================================================================
     // INTERNAL HELPER METHODS
     // =================================================================================================================
@@ -604,6 +674,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
                 List<ChronoEObjectInternal> targets = (List<ChronoEObjectInternal>) value;
                 List<Vertex> targetVertices = targets.stream().map(obj -> this.getEObjectVertex(obj))
                     .filter(obj -> obj != null).collect(Collectors.toList());
+                this.invalidateEReferenceEdges(vertex, eReference);
                 ChronoSphereGraphFormat.setEReferenceTargets(ePackage, vertex, eReference, targetVertices);
             } else {
                 ChronoEObjectInternal target = (ChronoEObjectInternal) value;
@@ -675,9 +746,9 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
             return eList;
         } else if (feature instanceof EReference) {
             EReference eReference = (EReference) feature;
-            List<Vertex> vertices = ChronoSphereGraphFormat.getEReferenceTargets(cep, vertex, eReference);
-            for (Vertex eObjectVertex : vertices) {
-                ChronoEObjectInternal eObjectForVertex = this.createEObjectForVertex(cep, eObjectVertex);
+            List<Edge> edges = this.getEReferenceEdges(cep, vertex, eReference);
+            for (Edge edge : edges) {
+                ChronoEObjectInternal eObjectForVertex = this.createEObjectForVertex(cep, edge.inVertex());
                 eList.add(eObjectForVertex);
             }
             return eList;
@@ -686,6 +757,41 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         }
     }
 
+    private List<Edge> getEReferenceEdges(final ChronoEPackageRegistry cep, final Vertex vertex,
+                                          final EReference eReference) {
+        String vertexId = (String) vertex.id();
+        List<Edge> edges = this.eReferenceEdgeCache.get(vertexId, eReference);
+        if (edges == null) {
+            edges = ChronoSphereGraphFormat.getEReferenceEdges(cep, vertex, eReference);
+            this.eReferenceEdgeCache.put(vertexId, eReference, edges);
+        }
+        return edges;
+    }
+
+    private void invalidateEReferenceEdges(final Vertex vertex, final EReference eReference) {
+        this.eReferenceEdgeCache.remove(vertex.id(), eReference);
+    }
+
+    private int indexOfEReferenceTarget(final ChronoEPackageRegistry cep, final Vertex vertex,
+                                        final EReference eReference, final Object value, final boolean last) {
+        if (value instanceof ChronoEObject == false) {
+            return -1;
+        }
+        // compare the IDs only; there is no need to resolve the targets
+        String targetId = ((ChronoEObject) value).getId();
+        List<Edge> edges = this.getEReferenceEdges(cep, vertex, eReference);
+        int result = -1;
+        for (int i = 0; i < edges.size(); i++) {
+            if (targetId.equals(edges.get(i).inVertex().id())) {
+                result = i;
+                if (!last) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
     private Object getSingleValueFor(final ChronoEPackageRegistry ePackage, final Vertex vertex,
                                      final EStructuralFeature feature) {
         if (feature instanceof EAttribute) {
@@ -716,6 +822,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
             ChronoSphereGraphFormat.setEAttributeValues(ePackage, vertex, eAttribute, Lists.newArrayList(list));
         } else if (feature instanceof EReference) {
             EReference eReference = (EReference) feature;
+            this.invalidateEReferenceEdges(vertex, eReference);
             if (list == null || list.isEmpty()) {
                 // "unset" the reference, clear it in the graph
                 ChronoSphereGraphFormat.setEReferenceTargets(ePackage, vertex, eReference, null);
@@ -748,6 +855,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
         } else {
             allEObjectsToDelete.addAll(eObjectsToDelete);
         }
+        // removing the vertices also removes the edges of all references pointing to them
+        this.clearEReferenceEdgeCache();
         int currentBatchSize = 0;
         // in the first iteration, create the EObject vertices in the graph and merge the EAttributes
         for (ChronoEObjectInternal currentEObject : allEObjectsToDelete) {
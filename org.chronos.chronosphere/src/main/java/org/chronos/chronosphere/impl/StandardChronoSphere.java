@@ -10,20 +10,30 @@ import org.chronos.chronograph.api.index.ChronoGraphIndexManager;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronosphere.api.*;
 import org.chronos.chronosphere.api.exceptions.ChronoSphereConfigurationException;
+import org.chronos.chronosphere.api.exceptions.emf.XMIConversionFailedException;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
 import org.chronos.chronosphere.impl.transaction.ChronoSphereTransactionImpl;
 import org.chronos.chronosphere.internal.api.ChronoSphereInternal;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
 import org.chronos.chronosphere.internal.configuration.impl.ChronoSphereConfigurationImpl;
+import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.chronos.chronosphere.internal.ogm.api.EObjectToGraphMapper;
 import org.chronos.chronosphere.internal.ogm.api.EPackageToGraphMapper;
 import org.chronos.chronosphere.internal.ogm.impl.EObjectToGraphMapperImpl;
 import org.chronos.chronosphere.internal.ogm.impl.EPackageToGraphMapperImpl;
+import org.chronos.chronosphere.internal.ogm.impl.XMIStreamingImporter;
 import org.chronos.common.configuration.ChronosConfigurationUtil;
 import org.chronos.common.version.ChronosVersion;
 import org.eclipse.emf.ecore.EObject;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
@@ -193,6 +203,39 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
         }
     }
 
+    @Override
+    public void batchInsertModelData(final String branch, final String xmiContent) {
+        checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+        checkArgument(this.getBranchManager().existsBranch(branch),
+            "Precondition violation - argument 'branch' must refer to an existing branch!");
+        checkNotNull(xmiContent, "Precondition violation - argument 'xmiContent' must not be NULL!");
+        try (ChronoSphereTransactionInternal tx = (ChronoSphereTransactionInternal) this.tx(branch)) {
+            tx.commitIncremental();
+            XMIStreamingImporter importer = new XMIStreamingImporter(tx, this.getConfiguration().getBatchInsertBatchSize());
+            importer.importXMI(new StringReader(xmiContent));
+            tx.commit();
+        }
+    }
+
+    @Override
+    public void batchInsertModelData(final String branch, final File xmiFile) {
+        checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+        checkArgument(this.getBranchManager().existsBranch(branch),
+            "Precondition violation - argument 'branch' must refer to an existing branch!");
+        checkNotNull(xmiFile, "Precondition violation - argument 'xmiFile' must not be NULL!");
+        EMFUtils.assertIsXMIFile(xmiFile);
+        try (ChronoSphereTransactionInternal tx = (ChronoSphereTransactionInternal) this.tx(branch)) {
+            tx.commitIncremental();
+            XMIStreamingImporter importer = new XMIStreamingImporter(tx, this.getConfiguration().getBatchInsertBatchSize());
+            try (InputStream input = new BufferedInputStream(new FileInputStream(xmiFile))) {
+                importer.importXMI(input);
+            } catch (IOException e) {
+                throw new XMIConversionFailedException("Could not read XMI file '" + xmiFile.getAbsolutePath() + "'!", e);
+            }
+            tx.commit();
+        }
+    }
+
     // =================================================================================================================
     // [PUBLIC API] HISTORY ANALYSIS
     // =================================================================================================================
@@ -303,6 +346,30 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
         if (classIndices.isEmpty()) {
             indexManager.create().stringIndex().onVertexProperty(ChronoSphereGraphFormat.V_PROP__ECLASS_ID).acrossAllTimestamps().build();
         }
+        Set<ChronoGraphIndex> hierarchyIndices = indexManager.getVertexIndicesAtAnyPointInTime(ChronoSphereGraphFormat.V_PROP__ECLASS_HIERARCHY);
+        if (hierarchyIndices.isEmpty()) {
+            indexManager.create().stringIndex().onVertexProperty(ChronoSphereGraphFormat.V_PROP__ECLASS_HIERARCHY).acrossAllTimestamps().build();
+        }
+        // EObjects which have been created before the index existed don't have a hierarchy yet
+        this.updateEClassHierarchiesOnAllBranches();
+    }
+
+    private void updateEClassHierarchiesOnAllBranches() {
+        int batchSize = this.getConfiguration().getBatchInsertBatchSize();
+        for (String branchName : this.graph.getBranchManager().getBranchNames()) {
+            try (ChronoGraph txGraph = this.graph.tx().createThreadedTx(branchName)) {
+                if (ChronoSphereGraphFormat.isEClassHierarchyIndexed(txGraph)) {
+                    // nothing to do on this branch
+                    continue;
+                }
+                ChronoEPackageRegistry registry = this.getEPackageToGraphMapper().readChronoEPackageRegistryFromGraph(txGraph);
+                // the history of the branch remains untouched, transactions before this commit will check
+                // the EClass of each EObject instead of using the EClass hierarchy
+                ChronoSphereGraphFormat.updateEClassHierarchies(registry, txGraph, batchSize);
+                ChronoSphereGraphFormat.markEClassHierarchyAsIndexed(txGraph);
+                txGraph.tx().commit("ChronoSphere EClass hierarchy index update");
+            }
+        }
     }
 
     private void ensureGraphFormatIsCompatible() {
@@ -315,6 +382,8 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
                 if (isEmpty && this.graph.getBranchManager().getBranchNames().equals(Collections.singleton(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER))) {
                     // the graph is empty, write the current format into the graph
                     txGraph.variables().set(ChronoSphereGraphFormat.VARIABLES__GRAPH_FORMAT_VERSION, currentVersion.toString());
+                    // there are no EObjects yet, so the EClass hierarchy is trivially complete
+                    ChronoSphereGraphFormat.markEClassHierarchyAsIndexed(txGraph);
                     txGraph.tx().commit("ChronoSphere Graph Format version update to " + currentVersion);
                     return;
                 } else {
@@ -49,14 +49,32 @@ public class QueryStepBuilderStarterImpl implements QueryStepBuilderStarter {
     @Override
     public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(final EClass eClass) {
         checkNotNull(eClass, "Precondition violation - argument 'eClass' must not be NULL!");
+        return this.startingFromInstancesOf(eClass, false);
+    }
+
+    @Override
+    public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(final String eClassName) {
+        checkNotNull(eClassName, "Precondition violation - argument 'eClassName' must not be NULL!");
+        return this.startingFromInstancesOf(eClassName, false);
+    }
+
+    @Override
+    public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(final EClass eClass, final boolean allowSubclasses) {
+        checkNotNull(eClass, "Precondition violation - argument 'eClass' must not be NULL!");
+        if (allowSubclasses && ChronoSphereGraphFormat.isEClassHierarchyIndexed(this.owningTransaction.getGraph()) == false) {
+            // the EObjects at this timestamp may not carry an EClass hierarchy yet, check their EClasses instead
+            return this.startingFromAllEObjects().isInstanceOf(eClass, true);
+        }
         String id = this.owningTransaction.getEPackageRegistry().getEClassID(eClass);
+        // the EClass hierarchy of an EObject contains its own EClass as well as all supertypes
+        String key = allowSubclasses ? ChronoSphereGraphFormat.V_PROP__ECLASS_HIERARCHY : ChronoSphereGraphFormat.V_PROP__ECLASS_ID;
         TraversalBaseSource<Vertex, Vertex> source = new TraversalBaseSource<>
             (this.owningTransaction,
                 g -> g.traversal()
                     // start with all vertices
                     .V()
                     // restrict to the instances of the given eclass
-                    .has(ChronoSphereGraphFormat.V_PROP__ECLASS_ID, id)
+                    .has(key, id)
                     // restrict to EObjects only
                     .has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString())
             );
@@ -64,7 +82,7 @@ public class QueryStepBuilderStarterImpl implements QueryStepBuilderStarter {
     }
 
     @Override
-    public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(final String eClassName) {
+    public EObjectQueryStepBuilder<EObject> startingFromInstancesOf(final String eClassName, final boolean allowSubclasses) {
         checkNotNull(eClassName, "Precondition violation - argument 'eClassName' must not be NULL!");
         // try to get the EClass via qualified name
         EClass eClass = this.owningTransaction.getEClassByQualifiedName(eClassName);
@@ -72,7 +90,7 @@ public class QueryStepBuilderStarterImpl implements QueryStepBuilderStarter {
             // try to get it via simple name
             eClass = this.owningTransaction.getEClassBySimpleName(eClassName);
         }
-        return this.startingFromInstancesOf(eClass);
+        return this.startingFromInstancesOf(eClass, allowSubclasses);
     }
 
     @Override
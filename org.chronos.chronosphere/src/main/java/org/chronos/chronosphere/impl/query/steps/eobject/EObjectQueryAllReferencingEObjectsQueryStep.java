@@ -1,8 +1,10 @@
 package org.chronos.chronosphere.impl.query.steps.eobject;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.traversal.BreadthFirstClosureStep;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
@@ -15,7 +17,12 @@ public class EObjectQueryAllReferencingEObjectsQueryStep<S> extends EObjectQuery
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
-        return traversal.in().has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString());
+        // a single level of the closure over all incoming edges; this loads the referencing
+        // vertices in one batch, and returns every referencing vertex only once.
+        BreadthFirstClosureStep closureStep = new BreadthFirstClosureStep(traversal.asAdmin(), Direction.IN, 1);
+        GraphTraversal<S, Vertex> referencing = (GraphTraversal<S, Vertex>) traversal.asAdmin().addStep(closureStep);
+        return referencing.has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString());
     }
 }
@@ -4,6 +4,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.api.query.Direction;
 import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.traversal.BreadthFirstClosureStep;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
@@ -12,7 +13,6 @@ import org.chronos.common.exceptions.UnknownEnumLiteralException;
 import org.eclipse.emf.ecore.EReference;
 
 import static com.google.common.base.Preconditions.*;
-import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.*;
 
 public class EObjectQueryClosureStepBuilder<S> extends EObjectQueryStepBuilderImpl<S, Vertex> {
 
@@ -28,23 +28,27 @@ public class EObjectQueryClosureStepBuilder<S> extends EObjectQueryStepBuilderIm
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
         ChronoEPackageRegistry registry = tx.getEPackageRegistry();
         String label = ChronoSphereGraphFormat.createReferenceEdgeLabel(registry, this.eReference);
-        GraphTraversal<Vertex, Vertex> closureTraversal;
+        org.apache.tinkerpop.gremlin.structure.Direction gremlinDirection;
         switch (this.direction) {
             case INCOMING:
-                closureTraversal = in(label);
+                gremlinDirection = org.apache.tinkerpop.gremlin.structure.Direction.IN;
                 break;
             case OUTGOING:
-                closureTraversal = out(label);
+                gremlinDirection = org.apache.tinkerpop.gremlin.structure.Direction.OUT;
                 break;
             case BOTH:
-                closureTraversal = both(label);
+                gremlinDirection = org.apache.tinkerpop.gremlin.structure.Direction.BOTH;
                 break;
             default:
                 throw new UnknownEnumLiteralException(this.direction);
         }
-        return traversal.repeat(closureTraversal.simplePath()).emit().until(t -> false).dedup();
+        // note: the closure step visits every vertex only once per start vertex, but the
+        // closures of different start vertices may overlap, therefore we still need to deduplicate.
+        BreadthFirstClosureStep closureStep = new BreadthFirstClosureStep(traversal.asAdmin(), gremlinDirection, BreadthFirstClosureStep.UNLIMITED_DEPTH, label);
+        return ((GraphTraversal<S, Vertex>) traversal.asAdmin().addStep(closureStep)).dedup();
     }
 }
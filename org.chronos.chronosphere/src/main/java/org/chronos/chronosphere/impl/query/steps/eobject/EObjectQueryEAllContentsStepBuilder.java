@@ -1,9 +1,10 @@
 package org.chronos.chronosphere.impl.query.steps.eobject;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.traversal.BreadthFirstClosureStep;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
@@ -15,15 +16,16 @@ public class EObjectQueryEAllContentsStepBuilder<S> extends EObjectQueryStepBuil
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
-        return traversal
-            .repeat(
-                // walk the incoming EContainer edges
-                __.in(ChronoSphereGraphFormat.E_LABEL__ECONTAINER))
-            // emit every step
-            .emit()
-            // don't quit until the last possible vertex was reached in the loop
-            .until(t -> false);
+        // walk the incoming EContainer edges until the last possible vertex was reached
+        BreadthFirstClosureStep closureStep = new BreadthFirstClosureStep(
+            traversal.asAdmin(),
+            Direction.IN,
+            BreadthFirstClosureStep.UNLIMITED_DEPTH,
+            ChronoSphereGraphFormat.E_LABEL__ECONTAINER
+        );
+        return (GraphTraversal<S, Vertex>) traversal.asAdmin().addStep(closureStep);
     }
 
 }
@@ -35,14 +35,16 @@ public class EObjectQueryInstanceOfEClassNameStepBuilder<S> extends EObjectQuery
         if (eClass == null) {
             throw new IllegalArgumentException("Could not find EClass with name '" + this.eClassName + "'!");
         }
-        EClass finalClass = eClass;
+        String eClassID = tx.getEPackageRegistry().getEClassID(eClass);
         if (this.allowSubclasses == false) {
-            String eClassID = tx.getEPackageRegistry().getEClassID(finalClass);
-            String key = ChronoSphereGraphFormat.V_PROP__ECLASS_ID;
-            return traversal.has(key, eClassID);
+            return traversal.has(ChronoSphereGraphFormat.V_PROP__ECLASS_ID, eClassID);
+        } else if (ChronoSphereGraphFormat.isEClassHierarchyIndexed(tx.getGraph())) {
+            // the hierarchy contains the EClass itself as well as all of its supertypes
+            return traversal.has(ChronoSphereGraphFormat.V_PROP__ECLASS_HIERARCHY, eClassID);
         } else {
-            // we want to include subclasses, we don't have much choice other
-            // than resolving the EObjects and using the Ecore API. Optimization?
+            // the EObjects at this timestamp may not carry an EClass hierarchy yet. We don't have
+            // much choice other than resolving the EObjects and using the Ecore API.
+            EClass finalClass = eClass;
             return traversal
                 // we need to reify the EObject...
                 .map(t -> QueryUtils.mapVertexToEObject(tx, t))
@@ -27,13 +27,15 @@ public class EObjectQueryInstanceOfEClassStepBuilder<S> extends EObjectQueryStep
 
     @Override
     public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
+        String eClassID = tx.getEPackageRegistry().getEClassID(this.eClass);
         if (this.allowSubclasses == false) {
-            String eClassID = tx.getEPackageRegistry().getEClassID(this.eClass);
-            String key = ChronoSphereGraphFormat.V_PROP__ECLASS_ID;
-            return traversal.has(key, eClassID);
+            return traversal.has(ChronoSphereGraphFormat.V_PROP__ECLASS_ID, eClassID);
+        } else if (ChronoSphereGraphFormat.isEClassHierarchyIndexed(tx.getGraph())) {
+            // the hierarchy contains the EClass itself as well as all of its supertypes
+            return traversal.has(ChronoSphereGraphFormat.V_PROP__ECLASS_HIERARCHY, eClassID);
         } else {
-            // we want to include subclasses, we don't have much choice other
-            // than resolving the EObjects and using the Ecore API. Optimization?
+            // the EObjects at this timestamp may not carry an EClass hierarchy yet. We don't have
+            // much choice other than resolving the EObjects and using the Ecore API.
             return traversal
                 .map(t -> QueryUtils.mapVertexToEObject(tx, t))
                 .filter(this::filterEObject)
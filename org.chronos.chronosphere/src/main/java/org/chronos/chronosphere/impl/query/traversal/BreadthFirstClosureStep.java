@@ -0,0 +1,154 @@
+package org.chronos.chronosphere.impl.query.traversal;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
+import org.chronos.common.exceptions.UnknownEnumLiteralException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * A Gremlin step which computes the transitive closure of each incoming vertex via a breadth-first search.
+ *
+ * <p>
+ * Starting from the incoming vertex, this step repeatedly follows the edges with the given labels in the given
+ * direction. In contrast to <code>repeat(out(label).simplePath()).emit()</code>, which enumerates every simple path,
+ * this step keeps a set of visited vertex IDs and expands every vertex at most once. The search proceeds level by
+ * level: the vertices of the next level are loaded from the graph in one batch, emitted, and then expanded in turn.
+ * </p>
+ *
+ * <p>
+ * The incoming vertex itself is never emitted. Every other vertex in the closure is emitted exactly once per incoming
+ * vertex. The closure is computed lazily, i.e. the next level is only loaded once the previous one has been consumed.
+ * </p>
+ */
+public class BreadthFirstClosureStep extends FlatMapStep<Vertex, Vertex> {
+
+    /** Indicates that the closure should not be limited in depth. */
+    public static final int UNLIMITED_DEPTH = -1;
+
+    private final Direction direction;
+    private final String[] edgeLabels;
+    private final int maxDepth;
+
+    public BreadthFirstClosureStep(final Traversal.Admin<?, ?> traversal, final Direction direction, final int maxDepth, final String... edgeLabels) {
+        super(traversal);
+        checkNotNull(direction, "Precondition violation - argument 'direction' must not be NULL!");
+        checkArgument(maxDepth > 0 || maxDepth == UNLIMITED_DEPTH, "Precondition violation - argument 'maxDepth' must either be positive or UNLIMITED_DEPTH!");
+        this.direction = direction;
+        this.edgeLabels = edgeLabels == null ? new String[0] : edgeLabels;
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    protected Iterator<Vertex> flatMap(final Traverser.Admin<Vertex> traverser) {
+        return new ClosureIterator(traverser.get());
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.direction, Arrays.asList(this.edgeLabels), this.maxDepth);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.direction.hashCode() ^ Arrays.hashCode(this.edgeLabels) ^ Integer.hashCode(this.maxDepth);
+    }
+
+    // =====================================================================================================================
+    // INNER CLASSES
+    // =====================================================================================================================
+
+    private class ClosureIterator extends AbstractIterator<Vertex> {
+
+        private final ChronoGraphTransaction tx;
+        private final Set<String> visitedVertexIds = Sets.newHashSet();
+
+        /** The vertices of the current level which have been emitted; they will be expanded when the level is done. */
+        private final List<Vertex> emittedVertices = Lists.newArrayList();
+        private Iterator<Vertex> currentLevel;
+        private int depth = 0;
+
+        private ClosureIterator(final Vertex start) {
+            this.tx = ((ChronoGraph) start.graph()).tx().getCurrentTransaction();
+            this.visitedVertexIds.add((String) start.id());
+            this.currentLevel = this.loadNextLevel(Collections.singletonList(start));
+        }
+
+        @Override
+        protected Vertex computeNext() {
+            while (true) {
+                if (this.currentLevel.hasNext()) {
+                    Vertex vertex = this.currentLevel.next();
+                    this.emittedVertices.add(vertex);
+                    return vertex;
+                }
+                if (this.emittedVertices.isEmpty()) {
+                    // the previous level was empty; the closure is complete.
+                    return this.endOfData();
+                }
+                List<Vertex> levelToExpand = Lists.newArrayList(this.emittedVertices);
+                this.emittedVertices.clear();
+                this.currentLevel = this.loadNextLevel(levelToExpand);
+            }
+        }
+
+        private Iterator<Vertex> loadNextLevel(final List<Vertex> verticesToExpand) {
+            if (maxDepth != UNLIMITED_DEPTH && this.depth >= maxDepth) {
+                return Collections.emptyIterator();
+            }
+            this.depth++;
+            List<String> nextLevelIds = Lists.newArrayList();
+            for (Vertex vertex : verticesToExpand) {
+                Iterator<Edge> edges = vertex.edges(direction, edgeLabels);
+                while (edges.hasNext()) {
+                    String neighborId = this.getOtherEndVertexId(vertex, edges.next());
+                    if (this.visitedVertexIds.add(neighborId)) {
+                        nextLevelIds.add(neighborId);
+                    }
+                }
+            }
+            if (nextLevelIds.isEmpty()) {
+                return Collections.emptyIterator();
+            }
+            // load the entire level at once
+            return this.tx.getVerticesIterator(nextLevelIds);
+        }
+
+        private String getOtherEndVertexId(final Vertex vertex, final Edge edge) {
+            // note: the end points of an edge are lazy, retrieving their IDs does not load them.
+            switch (direction) {
+                case OUT:
+                    return (String) edge.inVertex().id();
+                case IN:
+                    return (String) edge.outVertex().id();
+                case BOTH:
+                    String inId = (String) edge.inVertex().id();
+                    if (inId.equals(vertex.id())) {
+                        return (String) edge.outVertex().id();
+                    } else {
+                        return inId;
+                    }
+                default:
+                    throw new UnknownEnumLiteralException(direction);
+            }
+        }
+
+    }
+
+}
@@ -311,6 +311,7 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 		this.assertNotClosed();
 		this.tx.commit();
 		this.eObjectCache.invalidateAll();
+		this.graphEStore.clearEReferenceEdgeCache();
 		this.closed = true;
 	}
 
@@ -319,6 +320,7 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 		this.assertNotClosed();
 		this.tx.commit(commitMetadata);
 		this.eObjectCache.invalidateAll();
+		this.graphEStore.clearEReferenceEdgeCache();
 		this.closed = true;
 	}
 
@@ -326,6 +328,7 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 	public void commitIncremental() {
 		this.assertNotClosed();
 		this.eObjectCache.invalidateAll();
+		this.graphEStore.clearEReferenceEdgeCache();
 		this.tx.commitIncremental();
 	}
 
@@ -334,6 +337,7 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 		this.assertNotClosed();
 		this.tx.rollback();
 		this.eObjectCache.invalidateAll();
+		this.graphEStore.clearEReferenceEdgeCache();
 		this.closed = true;
 	}
 
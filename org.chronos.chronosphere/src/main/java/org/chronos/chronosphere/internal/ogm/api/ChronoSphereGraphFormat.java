@@ -26,6 +26,7 @@ import org.eclipse.emf.ecore.EStructuralFeature;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -48,6 +49,19 @@ public class ChronoSphereGraphFormat {
      * the vertex property that contains the ID of the EClass.
      */
     public static final String V_PROP__ECLASS_ID = "eClass";
+    /**
+     * The vertex property that contains the IDs of the EClass of an EObject and of all of its (transitive) supertypes.
+     *
+     * <p>
+     * This property is indexed, which allows to answer "all instances of X (including subclasses)" without resolving
+     * the EClass hierarchy at query time.
+     */
+    public static final String V_PROP__ECLASS_HIERARCHY = "eClassHierarchy";
+    /**
+     * The vertex property on EClass vertices that contains the EClass hierarchy which has last been written to the
+     * {@linkplain #V_PROP__ECLASS_HIERARCHY instances} of the EClass.
+     */
+    public static final String V_PROP__ECLASS_SUPERTYPE_CLOSURE = "eSuperTypeClosure";
     /**
      * The common prefix for vertex properties that represent {@link EAttribute} values.
      */
@@ -118,6 +132,15 @@ public class ChronoSphereGraphFormat {
      * The edge property that contains the ordering for multiplicity-many {@link EReference} links.
      */
     public static final String E_PROP__ORDER = "eRefOrder";
+    /**
+     * The distance between the order keys of two adjacent {@link EReference} edges when the order keys are (re-)assigned.
+     *
+     * <p>
+     * The gaps allow to insert a new edge between two existing ones by picking an order key in between, without
+     * renumbering the other edges. The first edge receives this value as its order key as well, which leaves room
+     * for prepending edges.
+     */
+    public static final long EREFERENCE_ORDER_GAP = 1L << 16;
 
     public static final String V_ID__EPACKAGE_REGISTRY = "EPackageRegistry_ca68f96b-676c-49de-a260-ac6628a7c455";
 
@@ -126,6 +149,17 @@ public class ChronoSphereGraphFormat {
      */
     public static final String VARIABLES__GRAPH_FORMAT_VERSION = "chronosphere.graphformat.version";
 
+    /**
+     * Graph Variable Name: Marks that the {@linkplain #V_PROP__ECLASS_HIERARCHY EClass hierarchy} is present on all
+     * EObject vertices.
+     *
+     * <p>
+     * Graph variables are versioned like all other graph data. Transactions on timestamps before the EClass hierarchy
+     * has been created for the existing EObjects do not see this variable, and have to check the EClass of each EObject
+     * instead.
+     */
+    public static final String VARIABLES__ECLASS_HIERARCHY_INDEXED = "chronosphere.eclasshierarchy.indexed";
+
     // =================================================================================================================
     // CONSTRUCTOR
     // =================================================================================================================
@@ -334,7 +368,7 @@ public class ChronoSphereGraphFormat {
      * @param edge       The edge to set the order index for. Must not be <code>null</code>.
      * @param orderIndex The oder index to set. Must not be negative.
      */
-    public static void setEReferenceEdgeOrder(final Edge edge, final int orderIndex) {
+    public static void setEReferenceEdgeOrder(final Edge edge, final long orderIndex) {
         checkNotNull(edge, "Precondition violation - argument 'edge' must not be NULL!");
         checkArgument(orderIndex >= 0, "Precondition violation - argument 'orderIndex' must not be negative!");
         edge.property(E_PROP__ORDER, orderIndex);
@@ -343,12 +377,20 @@ public class ChronoSphereGraphFormat {
     /**
      * Returns the <code>order</code> property of the given {@link Edge} that represents an {@link EReference} link.
      *
+     * <p>
+     * Older versions of the graph format stored the order as a dense sequence of integers. These values are still
+     * supported, they simply leave no room for insertions (see {@link #insertEReferenceTarget(ChronoEPackageRegistry, Vertex, EReference, List, int, Vertex)}).
+     *
      * @param edge The edge to get the order property for. Must not be <code>null</code>.
-     * @return The order, as an integer. If no order is set, -1 will be returned.
+     * @return The order, as a long. If no order is set, -1 will be returned.
      */
-    public static int getEReferenceEdgeOrder(final Edge edge) {
+    public static long getEReferenceEdgeOrder(final Edge edge) {
         checkNotNull(edge, "Precondition violation - argument 'edge' must not be NULL!");
-        return (int) edge.property(E_PROP__ORDER).orElse(-1);
+        Object order = edge.property(E_PROP__ORDER).orElse(null);
+        if (order == null) {
+            return -1;
+        }
+        return ((Number) order).longValue();
     }
 
     /**
@@ -394,21 +436,194 @@ public class ChronoSphereGraphFormat {
         checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
         String edgeLabel = createReferenceEdgeLabel(registry, eReference);
         if (eReference.isOrdered()) {
-            // get the reference edges (as they contain the ordering)
-            List<Edge> edges = Lists.newArrayList(eObjectVertex.edges(Direction.OUT, edgeLabel));
-            // sort the edges by their ordering
-            edges.sort((e1, e2) -> {
-                int order1 = getEReferenceEdgeOrder(e1);
-                int order2 = getEReferenceEdgeOrder(e2);
-                return Integer.compare(order1, order2);
-            });
-            // for each edge, get the target vertex
+            // get the reference edges (as they contain the ordering), and for each edge, get the target vertex
+            List<Edge> edges = getEReferenceEdges(registry, eObjectVertex, eReference);
             return edges.stream().map(edge -> edge.inVertex()).collect(Collectors.toList());
         } else {
             return Lists.newArrayList(eObjectVertex.vertices(Direction.OUT, edgeLabel));
         }
     }
 
+    /**
+     * Returns the edges which represent the links of the given {@link EReference} on the given {@link EObject} vertex.
+     *
+     * <p>
+     * If the EReference is {@linkplain EReference#isOrdered() ordered}, the edges are sorted by their order property.
+     * The returned list can be passed to the methods which modify single targets of the reference, e.g.
+     * {@link #insertEReferenceTarget(ChronoEPackageRegistry, Vertex, EReference, List, int, Vertex)}.
+     *
+     * @param registry      The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param eObjectVertex The vertex that represents the EObject to get the reference edges for. Must not be <code>null</code>.
+     * @param eReference    The EReference to get the edges for. Must not be <code>null</code>. Must be many-valued.
+     * @return The (mutable) list of reference edges. May be empty, but never <code>null</code>.
+     */
+    public static List<Edge> getEReferenceEdges(final ChronoEPackageRegistry registry, final Vertex eObjectVertex,
+                                                final EReference eReference) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+        checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
+        String edgeLabel = createReferenceEdgeLabel(registry, eReference);
+        List<Edge> edges = Lists.newArrayList(eObjectVertex.edges(Direction.OUT, edgeLabel));
+        if (eReference.isOrdered()) {
+            // sort the edges by their ordering
+            edges.sort(Comparator.comparingLong(ChronoSphereGraphFormat::getEReferenceEdgeOrder));
+        }
+        return edges;
+    }
+
+    /**
+     * Inserts a new link of the given {@link EReference} at the given position.
+     *
+     * <p>
+     * The new edge receives an order key in between the keys of its neighbours; none of the other edges is modified,
+     * unless there is no free key left between the neighbours. In this (rare) case, all edges are renumbered with
+     * gaps of {@link #EREFERENCE_ORDER_GAP}.
+     *
+     * @param registry      The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param eObjectVertex The vertex representing the EObject which owns the reference. Must not be <code>null</code>.
+     * @param eReference    The EReference to modify. Must not be <code>null</code>, must be many-valued.
+     * @param edges         The current edges of the reference, as returned by {@link #getEReferenceEdges(ChronoEPackageRegistry, Vertex, EReference)}.
+     *                      Must not be <code>null</code>. Will be updated to contain the new edge.
+     * @param index         The position at which to insert the new target. Must be in the range <code>[0, edges.size()]</code>.
+     * @param target        The vertex representing the target EObject. Must not be <code>null</code>.
+     * @return The newly created edge. Never <code>null</code>.
+     */
+    public static Edge insertEReferenceTarget(final ChronoEPackageRegistry registry, final Vertex eObjectVertex,
+                                              final EReference eReference, final List<Edge> edges, final int index,
+                                              final Vertex target) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+        checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
+        checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+        checkPositionIndex(index, edges.size());
+        checkNotNull(target, "Precondition violation - argument 'target' must not be NULL!");
+        String edgeLabel = createReferenceEdgeLabel(registry, eReference);
+        Edge edge = eObjectVertex.addEdge(edgeLabel, target);
+        edges.add(index, edge);
+        assignEReferenceEdgeOrder(edges, index);
+        return edge;
+    }
+
+    /**
+     * Adds a new link of the given {@link EReference} with the given order key, without inspecting the existing links.
+     *
+     * <p>
+     * This method is intended for bulk loading, where the links of a reference are created in ascending order, and the
+     * caller keeps track of the order keys (e.g. the position in the list plus one, times {@link #EREFERENCE_ORDER_GAP}).
+     *
+     * @param registry      The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param eObjectVertex The vertex representing the EObject which owns the reference. Must not be <code>null</code>.
+     * @param eReference    The EReference to modify. Must not be <code>null</code>, must be many-valued.
+     * @param target        The vertex representing the target EObject. Must not be <code>null</code>.
+     * @param order         The order key of the new link. Must not be negative.
+     * @return The newly created edge. Never <code>null</code>.
+     */
+    public static Edge addEReferenceTarget(final ChronoEPackageRegistry registry, final Vertex eObjectVertex,
+                                           final EReference eReference, final Vertex target, final long order) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+        checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
+        checkNotNull(target, "Precondition violation - argument 'target' must not be NULL!");
+        String edgeLabel = createReferenceEdgeLabel(registry, eReference);
+        Edge edge = eObjectVertex.addEdge(edgeLabel, target);
+        setEReferenceEdgeOrder(edge, order);
+        return edge;
+    }
+
+    /**
+     * Removes the link of the given {@link EReference} at the given position.
+     *
+     * <p>
+     * The order keys of the remaining edges are left untouched.
+     *
+     * @param edges The current edges of the reference, as returned by {@link #getEReferenceEdges(ChronoEPackageRegistry, Vertex, EReference)}.
+     *              Must not be <code>null</code>. Will be updated to no longer contain the removed edge.
+     * @param index The position of the target to remove. Must be in the range <code>[0, edges.size())</code>.
+     * @return The vertex representing the former target EObject. Never <code>null</code>.
+     */
+    public static Vertex removeEReferenceTarget(final List<Edge> edges, final int index) {
+        checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+        checkElementIndex(index, edges.size());
+        Edge edge = edges.remove(index);
+        Vertex target = edge.inVertex();
+        edge.remove();
+        return target;
+    }
+
+    /**
+     * Moves the link of the given {@link EReference} at the <code>sourceIndex</code> to the <code>targetIndex</code>.
+     *
+     * <p>
+     * Only the order key of the moved edge is changed (unless the keys need to be renumbered, see
+     * {@link #insertEReferenceTarget(ChronoEPackageRegistry, Vertex, EReference, List, int, Vertex)}).
+     *
+     * @param edges       The current edges of the reference, as returned by {@link #getEReferenceEdges(ChronoEPackageRegistry, Vertex, EReference)}.
+     *                    Must not be <code>null</code>. Will be updated to reflect the new ordering.
+     * @param targetIndex The new position of the target. Must be in the range <code>[0, edges.size())</code>.
+     * @param sourceIndex The old position of the target. Must be in the range <code>[0, edges.size())</code>.
+     * @return The vertex representing the moved target EObject. Never <code>null</code>.
+     */
+    public static Vertex moveEReferenceTarget(final List<Edge> edges, final int targetIndex, final int sourceIndex) {
+        checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+        checkElementIndex(targetIndex, edges.size());
+        checkElementIndex(sourceIndex, edges.size());
+        Edge edge = edges.get(sourceIndex);
+        if (targetIndex != sourceIndex) {
+            edges.remove(sourceIndex);
+            edges.add(targetIndex, edge);
+            assignEReferenceEdgeOrder(edges, targetIndex);
+        }
+        return edge.inVertex();
+    }
+
+    /**
+     * Replaces the target of the link of the given {@link EReference} at the given position.
+     *
+     * <p>
+     * The new edge takes over the order key of the replaced edge.
+     *
+     * @param registry      The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param eObjectVertex The vertex representing the EObject which owns the reference. Must not be <code>null</code>.
+     * @param eReference    The EReference to modify. Must not be <code>null</code>, must be many-valued.
+     * @param edges         The current edges of the reference, as returned by {@link #getEReferenceEdges(ChronoEPackageRegistry, Vertex, EReference)}.
+     *                      Must not be <code>null</code>. Will be updated to contain the new edge.
+     * @param index         The position of the target to replace. Must be in the range <code>[0, edges.size())</code>.
+     * @param target        The vertex representing the new target EObject. Must not be <code>null</code>.
+     * @return The vertex representing the former target EObject. Never <code>null</code>.
+     */
+    public static Vertex replaceEReferenceTarget(final ChronoEPackageRegistry registry, final Vertex eObjectVertex,
+                                                 final EReference eReference, final List<Edge> edges, final int index,
+                                                 final Vertex target) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+        checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
+        checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+        checkElementIndex(index, edges.size());
+        checkNotNull(target, "Precondition violation - argument 'target' must not be NULL!");
+        Edge oldEdge = edges.get(index);
+        Vertex oldTarget = oldEdge.inVertex();
+        if (oldTarget.id().equals(target.id())) {
+            // nothing to do
+            return oldTarget;
+        }
+        String edgeLabel = createReferenceEdgeLabel(registry, eReference);
+        Edge newEdge = eObjectVertex.addEdge(edgeLabel, target);
+        long order = getEReferenceEdgeOrder(oldEdge);
+        if (order >= 0) {
+            setEReferenceEdgeOrder(newEdge, order);
+        }
+        oldEdge.remove();
+        edges.set(index, newEdge);
+        if (order < 0) {
+            assignEReferenceEdgeOrder(edges, index);
+        }
+        return oldTarget;
+    }
+
     /**
      * Sets the target of the given {@link EReference} on the given {@link EObject} vertex to the given target vertex.
      *
@@ -457,11 +672,58 @@ public class ChronoSphereGraphFormat {
         } else {
             // set the targets
             List<Edge> edges = GremlinUtils.setEdgeTargets(eObjectVertex, edgeLabel, targets);
-            int order = 0;
-            for (Edge edge : edges) {
+            renumberEReferenceEdges(edges);
+        }
+    }
+
+    /**
+     * Assigns an order key to the edge at the given index which lies between the keys of its neighbours.
+     *
+     * <p>
+     * If there is no free key between the neighbours, all edges are renumbered.
+     *
+     * @param edges The reference edges, in the desired order. Must not be <code>null</code>.
+     * @param index The index of the edge which should receive a new order key.
+     */
+    private static void assignEReferenceEdgeOrder(final List<Edge> edges, final int index) {
+        long lower = index > 0 ? getEReferenceEdgeOrder(edges.get(index - 1)) : -1;
+        long order;
+        if (index + 1 < edges.size()) {
+            long upper = getEReferenceEdgeOrder(edges.get(index + 1));
+            if ((lower < 0 && index > 0) || upper - lower < 2) {
+                // no free order key in between; fall back to renumbering
+                renumberEReferenceEdges(edges);
+                return;
+            }
+            order = lower + (upper - lower) / 2;
+        } else {
+            if (lower < 0 && index > 0) {
+                // the predecessor has no order key
+                renumberEReferenceEdges(edges);
+                return;
+            }
+            // append after the last edge
+            order = lower < 0 ? EREFERENCE_ORDER_GAP : lower + EREFERENCE_ORDER_GAP;
+        }
+        setEReferenceEdgeOrder(edges.get(index), order);
+    }
+
+    /**
+     * Assigns fresh order keys to all given edges, with gaps of {@link #EREFERENCE_ORDER_GAP} in between.
+     *
+     * <p>
+     * The first key is {@link #EREFERENCE_ORDER_GAP} rather than zero, so that edges can be prepended without
+     * renumbering.
+     *
+     * @param edges The reference edges, in the desired order. Must not be <code>null</code>.
+     */
+    private static void renumberEReferenceEdges(final List<Edge> edges) {
+        long order = EREFERENCE_ORDER_GAP;
+        for (Edge edge : edges) {
+            if (getEReferenceEdgeOrder(edge) != order) {
                 setEReferenceEdgeOrder(edge, order);
-                order++;
             }
+            order += EREFERENCE_ORDER_GAP;
         }
     }
 
@@ -894,6 +1156,145 @@ public class ChronoSphereGraphFormat {
             throw new IllegalStateException("There is no Vertex in the Graph representing EClass '" + eClass.getName() + "'!");
         }
         vertex.property(V_PROP__ECLASS_ID, (String) eClassVertex.id());
+        setEClassHierarchyForEObjectVertex(registry, vertex, eClass);
+    }
+
+    /**
+     * Returns the IDs of the given {@link EClass} and of all of its {@linkplain EClass#getEAllSuperTypes() supertypes}.
+     *
+     * <p>
+     * Supertypes which are not part of the given registry are ignored.
+     *
+     * @param registry The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param eClass   The EClass to get the hierarchy IDs for. Must be part of the given package. Must not be <code>null</code>.
+     * @return The sorted list of EClass IDs. Never <code>null</code>, never empty.
+     */
+    public static List<String> getEClassHierarchyIDs(final ChronoEPackageRegistry registry, final EClass eClass) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(eClass, "Precondition violation - argument 'eClass' must not be NULL!");
+        String eClassID = registry.getEClassID(eClass);
+        if (eClassID == null) {
+            throw new IllegalStateException(
+                "There is no ID for EClass '" + eClass.getName() + "'! Did you forget to register an EPackage?");
+        }
+        List<String> hierarchyIDs = Lists.newArrayList(eClassID);
+        for (EClass superType : eClass.getEAllSuperTypes()) {
+            String superTypeID = registry.getEClassID(superType);
+            if (superTypeID != null) {
+                hierarchyIDs.add(superTypeID);
+            }
+        }
+        Collections.sort(hierarchyIDs);
+        return hierarchyIDs;
+    }
+
+    /**
+     * Sets the {@linkplain #V_PROP__ECLASS_HIERARCHY EClass hierarchy} for the EObject represented by the given vertex.
+     *
+     * @param registry The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param vertex   The vertex representing the EObject to set the EClass hierarchy for. Must not be <code>null</code>.
+     * @param eClass   The eClass of the EObject. Must be part of the given package. Must not be <code>null</code>.
+     */
+    public static void setEClassHierarchyForEObjectVertex(final ChronoEPackageRegistry registry, final Vertex vertex,
+                                                          final EClass eClass) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+        checkNotNull(eClass, "Precondition violation - argument 'eClass' must not be NULL!");
+        vertex.property(V_PROP__ECLASS_HIERARCHY, getEClassHierarchyIDs(registry, eClass));
+    }
+
+    /**
+     * Brings the {@linkplain #V_PROP__ECLASS_HIERARCHY EClass hierarchy} of all EObject vertices in the given graph up
+     * to date with the given registry.
+     *
+     * <p>
+     * Every EClass vertex remembers the hierarchy which has last been written to its instances. Only the instances of
+     * EClasses whose hierarchy has changed since then (or which have never been processed) are updated.
+     *
+     * @param registry The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param graph    The graph to update. Must not be <code>null</code>.
+     * @return The number of updated EObject vertices.
+     */
+    public static long updateEClassHierarchies(final ChronoEPackageRegistry registry, final ChronoGraph graph) {
+        return updateEClassHierarchies(registry, graph, 0);
+    }
+
+    /**
+     * Brings the {@linkplain #V_PROP__ECLASS_HIERARCHY EClass hierarchy} of all EObject vertices in the given graph up
+     * to date with the given registry, performing an incremental commit after every batch of updated vertices.
+     *
+     * <p>
+     * The caller is responsible for performing the final commit.
+     *
+     * @param registry  The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param graph     The graph to update. Must not be <code>null</code>.
+     * @param batchSize The number of updated vertices after which an incremental commit is performed. Use zero to
+     *                  disable incremental commits. Must not be negative.
+     * @return The number of updated EObject vertices.
+     */
+    public static long updateEClassHierarchies(final ChronoEPackageRegistry registry, final ChronoGraph graph,
+                                               final int batchSize) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+        checkArgument(batchSize >= 0, "Precondition violation - argument 'batchSize' must not be negative!");
+        long updatedVertices = 0;
+        int pendingVertices = 0;
+        for (EClass eClass : registry.getEClasses()) {
+            Vertex eClassVertex = getVertexForEClass(registry, graph, eClass);
+            if (eClassVertex == null) {
+                continue;
+            }
+            List<String> hierarchyIDs = getEClassHierarchyIDs(registry, eClass);
+            Object previousHierarchyIDs = eClassVertex.property(V_PROP__ECLASS_SUPERTYPE_CLOSURE).orElse(null);
+            if (hierarchyIDs.equals(previousHierarchyIDs)) {
+                // the instances are up to date
+                continue;
+            }
+            List<Vertex> instanceVertices = graph.traversal()
+                // start from all vertices
+                .V()
+                // restrict to EObjects only
+                .has(V_PROP__KIND, VertexKind.EOBJECT.toString())
+                // restrict to the direct instances of the EClass
+                .has(V_PROP__ECLASS_ID, eClassVertex.id())
+                .toList();
+            for (Vertex instanceVertex : instanceVertices) {
+                instanceVertex.property(V_PROP__ECLASS_HIERARCHY, hierarchyIDs);
+                pendingVertices++;
+                if (batchSize > 0 && pendingVertices >= batchSize) {
+                    graph.tx().commitIncremental();
+                    pendingVertices = 0;
+                }
+            }
+            eClassVertex.property(V_PROP__ECLASS_SUPERTYPE_CLOSURE, hierarchyIDs);
+            updatedVertices += instanceVertices.size();
+        }
+        return updatedVertices;
+    }
+
+    /**
+     * Checks if the {@linkplain #V_PROP__ECLASS_HIERARCHY EClass hierarchy} is present on all EObject vertices of the
+     * given graph (at the timestamp of its current transaction).
+     *
+     * @param graph The graph to check. Must not be <code>null</code>.
+     * @return <code>true</code> if the EClass hierarchy can be used for instance-of queries, otherwise <code>false</code>.
+     * @see #VARIABLES__ECLASS_HIERARCHY_INDEXED
+     */
+    public static boolean isEClassHierarchyIndexed(final ChronoGraph graph) {
+        checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+        return graph.variables().get(VARIABLES__ECLASS_HIERARCHY_INDEXED).isPresent();
+    }
+
+    /**
+     * Marks the {@linkplain #V_PROP__ECLASS_HIERARCHY EClass hierarchy} as present on all EObject vertices of the given
+     * graph. The marker becomes visible with the next commit.
+     *
+     * @param graph The graph to mark. Must not be <code>null</code>.
+     * @see #VARIABLES__ECLASS_HIERARCHY_INDEXED
+     */
+    public static void markEClassHierarchyAsIndexed(final ChronoGraph graph) {
+        checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+        graph.variables().set(VARIABLES__ECLASS_HIERARCHY_INDEXED, true);
     }
 
     /**
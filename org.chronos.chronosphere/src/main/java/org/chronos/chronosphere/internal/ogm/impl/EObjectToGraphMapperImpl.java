@@ -135,7 +135,7 @@ public class EObjectToGraphMapperImpl implements EObjectToGraphMapper {
 			GremlinUtils.setEdgeTargets(vertex, label, Sets.newHashSet(targetEObjectToVertex.values()));
 			if (reference.isOrdered()) {
 				// assign ordering properties
-				int orderIndex = 0;
+				long orderIndex = ChronoSphereGraphFormat.EREFERENCE_ORDER_GAP;
 				for (ChronoEObject target : targets) {
 					// get the vertex that represents this target
 					Vertex targetVertex = targetEObjectToVertex.get(target);
@@ -143,7 +143,7 @@ public class EObjectToGraphMapperImpl implements EObjectToGraphMapper {
 					Edge edge = GremlinUtils.getEdge(vertex, label, targetVertex);
 					// set the order
 					ChronoSphereGraphFormat.setEReferenceEdgeOrder(edge, orderIndex);
-					orderIndex++;
+					orderIndex += ChronoSphereGraphFormat.EREFERENCE_ORDER_GAP;
 				}
 			}
 		}
@@ -180,6 +180,8 @@ public class EObjectToGraphMapperImpl implements EObjectToGraphMapper {
 		String eClassId = cep.getEClassID(eClass);
 		// set the property value
 		vertex.property(ChronoSphereGraphFormat.V_PROP__ECLASS_ID, eClassId);
+		// set the EClass hierarchy for instance-of queries
+		ChronoSphereGraphFormat.setEClassHierarchyForEObjectVertex(cep, vertex, eClass);
 	}
 
 }
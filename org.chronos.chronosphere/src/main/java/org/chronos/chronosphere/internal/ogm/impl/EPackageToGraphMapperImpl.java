@@ -117,6 +117,8 @@ public class EPackageToGraphMapperImpl implements EPackageToGraphMapper {
 		registry.seal();
 		// map the ESuperType edges
 		this.mergeESuperTypeEdges(registry, graph);
+		// the supertypes may have changed; update the EClass hierarchy of the existing EObjects
+		ChronoSphereGraphFormat.updateEClassHierarchies(this.readChronoEPackageRegistryFromGraph(graph), graph);
 	}
 
 	private Vertex mergeEPackageIntoGraphRecursive(final Vertex bundleVertex, final EPackage ePackage,
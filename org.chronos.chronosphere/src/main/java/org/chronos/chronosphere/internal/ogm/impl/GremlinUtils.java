@@ -4,14 +4,15 @@ import static com.google.common.base.Preconditions.*;
 
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
@@ -159,23 +160,22 @@ public class GremlinUtils {
 		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
 		checkNotNull(targets, "Precondition violation - argument 'targets' must not be NULL!");
 		List<Edge> resultList = Lists.newArrayList();
-		Set<Edge> existingEdges = Sets.newHashSet(source.edges(Direction.OUT, label));
+		// group the existing edges by target vertex, such that we can find a reusable edge without scanning them all
+		ListMultimap<Object, Edge> existingEdges = ArrayListMultimap.create();
+		source.edges(Direction.OUT, label).forEachRemaining(edge -> existingEdges.put(edge.inVertex().id(), edge));
 		for (Vertex targetVertex : targets) {
-			Optional<Edge> maybeEdge = existingEdges.stream().filter(edge -> edge.inVertex().equals(targetVertex))
-					.findAny();
-			if (maybeEdge.isPresent()) {
-				Edge edge = maybeEdge.get();
+			List<Edge> edgesToTarget = existingEdges.get(targetVertex.id());
+			if (edgesToTarget.isEmpty() == false) {
 				// we reuse this edge
-				resultList.add(edge);
 				// ... and make sure that we don't reuse it twice
-				existingEdges.remove(edge);
+				resultList.add(edgesToTarget.remove(edgesToTarget.size() - 1));
 			} else {
 				// we don't have an edge to this target; add one
 				resultList.add(source.addEdge(label, targetVertex));
 			}
 		}
 		// all edges that remain are "unused" and therefore need to be deleted
-		existingEdges.forEach(edge -> edge.remove());
+		existingEdges.values().forEach(edge -> edge.remove());
 		return resultList;
 	}
 
@@ -0,0 +1,699 @@
+package org.chronos.chronosphere.internal.ogm.impl;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronosphere.api.exceptions.emf.XMIConversionFailedException;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+import org.chronos.chronosphere.internal.ogm.api.VertexKind;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Imports EObjects from XMI data directly into the graph of a {@link ChronoSphereTransactionInternal transaction},
+ * without materializing the model in memory.
+ *
+ * <p>
+ * The XMI data is read with a StAX parser, element by element. Each model element is written to the graph as soon as
+ * its start tag has been read, together with its attributes and its containment link. Only the elements on the path
+ * from the current element to its root are kept in memory.
+ *
+ * <p>
+ * Non-containment references may point to elements which have not been read yet. They are therefore written to a
+ * temporary file, and resolved in a second pass once all elements exist in the graph. No map from XMI identifiers to
+ * vertex IDs is required for this: the vertex ID of every element is derived from its XMI identifier (the
+ * <code>xmi:id</code>, the value of the {@linkplain EClass#getEIDAttribute() ID attribute}, or the URI fragment path,
+ * in this order) via a name-based UUID.
+ *
+ * <p>
+ * The transaction is {@linkplain ChronoSphereTransactionInternal#commitIncremental() committed incrementally} every
+ * <code>batchSize</code> changes.
+ *
+ * <p>
+ * Limitations: references to other resources (<code>href</code>s) are not supported and will be skipped, as are
+ * references which cannot be resolved within the XMI data.
+ */
+public class XMIStreamingImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(XMIStreamingImporter.class);
+
+    private static final String XSI_NAMESPACE_URI = XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI;
+
+    // =================================================================================================================
+    // FIELDS
+    // =================================================================================================================
+
+    private final ChronoSphereTransactionInternal tx;
+    private final int batchSize;
+
+    /** A random prefix for the vertex ID derivation, such that importing the same data twice produces distinct EObjects. */
+    private final String vertexIdPrefix = UUID.randomUUID().toString() + "#";
+
+    private final Map<String, EPackage> nsURIToEPackage = Maps.newHashMap();
+
+    /** The non-containment references which occur in the deferred reference file; the file refers to them by index. */
+    private final List<EReference> deferredEReferences = Lists.newArrayList();
+    private final Map<EReference, Integer> deferredEReferenceToIndex = Maps.newHashMap();
+
+    /** The elements from the current element up to its root. */
+    private final Deque<ElementFrame> openElements = new ArrayDeque<>();
+
+    private DataOutputStream deferredReferencesOut;
+    private long deferredReferenceCount = 0;
+    private boolean insideXMIWrapper = false;
+    private int rootCount = 0;
+    private int changesInBatch = 0;
+    private long importedEObjects = 0;
+    private long skippedReferences = 0;
+
+    // =================================================================================================================
+    // CONSTRUCTOR
+    // =================================================================================================================
+
+    public XMIStreamingImporter(final ChronoSphereTransactionInternal tx, final int batchSize) {
+        checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+        checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+        this.tx = tx;
+        this.batchSize = batchSize;
+        for (EPackage ePackage : EMFUtils.flattenEPackages(tx.getEPackageRegistry().getEPackages())) {
+            this.nsURIToEPackage.put(ePackage.getNsURI(), ePackage);
+        }
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    /**
+     * Imports the EObjects from the given XMI data.
+     *
+     * <p>
+     * The character encoding is taken from the XML declaration.
+     *
+     * @param xmiInput The stream to read the XMI data from. Must not be <code>null</code>. Will not be closed.
+     * @return The number of imported EObjects.
+     */
+    public long importXMI(final InputStream xmiInput) {
+        checkNotNull(xmiInput, "Precondition violation - argument 'xmiInput' must not be NULL!");
+        try {
+            return this.importXMI(createXMLInputFactory().createXMLStreamReader(xmiInput));
+        } catch (XMLStreamException e) {
+            throw new XMIConversionFailedException("Could not read EObject(s) from XMI data!", e);
+        }
+    }
+
+    /**
+     * Imports the EObjects from the given XMI data.
+     *
+     * @param xmiInput The reader to read the XMI data from. Must not be <code>null</code>. Will not be closed.
+     * @return The number of imported EObjects.
+     */
+    public long importXMI(final Reader xmiInput) {
+        checkNotNull(xmiInput, "Precondition violation - argument 'xmiInput' must not be NULL!");
+        try {
+            return this.importXMI(createXMLInputFactory().createXMLStreamReader(xmiInput));
+        } catch (XMLStreamException e) {
+            throw new XMIConversionFailedException("Could not read EObject(s) from XMI data!", e);
+        }
+    }
+
+    // =================================================================================================================
+    // FIRST PASS: ELEMENTS, ATTRIBUTES & CONTAINMENTS
+    // =================================================================================================================
+
+    private long importXMI(final XMLStreamReader reader) {
+        Path deferredReferencesFile = null;
+        try {
+            deferredReferencesFile = Files.createTempFile("chronosphere-xmi-import-", ".refs");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(deferredReferencesFile)))) {
+                this.deferredReferencesOut = out;
+                this.readElements(reader);
+            } finally {
+                this.deferredReferencesOut = null;
+            }
+            this.resolveDeferredReferences(deferredReferencesFile);
+        } catch (IOException e) {
+            throw new XMIConversionFailedException("Could not buffer the references of the XMI data on disk!", e);
+        } catch (XMLStreamException e) {
+            throw new XMIConversionFailedException("Could not read EObject(s) from XMI data!", e);
+        } finally {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                log.debug("Failed to close XML stream reader.", e);
+            }
+            if (deferredReferencesFile != null) {
+                try {
+                    Files.deleteIfExists(deferredReferencesFile);
+                } catch (IOException e) {
+                    log.warn("Failed to delete temporary file '" + deferredReferencesFile + "'.", e);
+                }
+            }
+        }
+        if (this.skippedReferences > 0) {
+            log.warn("Skipped " + this.skippedReferences + " reference target(s) during XMI import, because they " +
+                "point to other resources or could not be resolved.");
+        }
+        return this.importedEObjects;
+    }
+
+    private void readElements(final XMLStreamReader reader) throws XMLStreamException, IOException {
+        // the nesting depth of the element we are currently skipping (0 if we are not skipping anything)
+        int skipDepth = 0;
+        boolean isDocumentElement = true;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    if (skipDepth > 0) {
+                        skipDepth++;
+                    } else if (isDocumentElement && isXMINamespace(reader.getNamespaceURI()) && "XMI".equals(reader.getLocalName())) {
+                        // the <xmi:XMI> wrapper element, its children are the root EObjects
+                        this.insideXMIWrapper = true;
+                    } else if (this.startElement(reader) == false) {
+                        skipDepth = 1;
+                    }
+                    isDocumentElement = false;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (skipDepth > 0) {
+                        skipDepth--;
+                    } else if (this.openElements.isEmpty() == false) {
+                        this.endElement(this.openElements.pop());
+                    }
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                    if (skipDepth == 0 && this.openElements.isEmpty() == false) {
+                        ElementFrame frame = this.openElements.peek();
+                        if (frame.isValueElement()) {
+                            frame.text.append(reader.getText());
+                        }
+                    }
+                    break;
+                default:
+                    // ignore
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Processes the start tag at the current position of the given reader.
+     *
+     * @return <code>true</code> if the element has been processed, or <code>false</code> if the element and its
+     * children should be skipped.
+     */
+    private boolean startElement(final XMLStreamReader reader) {
+        if (isXMINamespace(reader.getNamespaceURI())) {
+            // xmi:Extension, xmi:Documentation, ...
+            return false;
+        }
+        if (this.openElements.isEmpty()) {
+            // a root EObject
+            EClass eClass = this.resolveXsiType(reader);
+            if (eClass == null) {
+                eClass = this.getEClass(reader, reader.getNamespaceURI(), reader.getLocalName());
+            }
+            // note: we always use the index in the root segment, see #normalizeURIFragment(...)
+            String uriFragment = "/" + this.rootCount;
+            this.rootCount++;
+            this.openElements.push(this.createEObject(reader, eClass, uriFragment, null, null, 0));
+            return true;
+        }
+        ElementFrame parent = this.openElements.peek();
+        if (parent.isValueElement()) {
+            // attribute values have no nested elements
+            return false;
+        }
+        String featureName = reader.getLocalName();
+        EStructuralFeature feature = parent.eClass.getEStructuralFeature(featureName);
+        if (feature == null) {
+            throw new XMIConversionFailedException("EClass '" + parent.eClass.getName() + "' has no feature named '"
+                + featureName + "'" + location(reader) + "!");
+        }
+        if (feature instanceof EAttribute) {
+            EAttribute eAttribute = (EAttribute) feature;
+            if ("true".equals(reader.getAttributeValue(XSI_NAMESPACE_URI, "nil"))) {
+                // NULL values are not stored
+                return false;
+            }
+            this.openElements.push(new ElementFrame(eAttribute));
+            return true;
+        }
+        EReference eReference = (EReference) feature;
+        String href = reader.getAttributeValue(null, "href");
+        if (eReference.isContainment() == false) {
+            // a cross-reference in element notation; there is nothing inside of it
+            if (href != null) {
+                this.deferReference(parent, eReference, new String[]{href});
+            }
+            return false;
+        }
+        if (href != null) {
+            // a containment proxy; we can't resolve those
+            this.skippedReferences++;
+            return false;
+        }
+        EClass eClass = this.resolveXsiType(reader);
+        if (eClass == null) {
+            eClass = eReference.getEReferenceType();
+        }
+        int position = parent.nextPosition(eReference);
+        String uriFragment = parent.uriFragment + "/@" + eReference.getName() + (eReference.isMany() ? "." + position : "");
+        this.openElements.push(this.createEObject(reader, eClass, uriFragment, parent, eReference, position));
+        return true;
+    }
+
+    private void endElement(final ElementFrame frame) throws IOException {
+        ChronoEPackageRegistry registry = this.tx.getEPackageRegistry();
+        if (frame.isValueElement()) {
+            // the value of a (many-valued) EAttribute in element notation
+            ElementFrame owner = this.openElements.peek();
+            Object value = EcoreUtil.createFromString(frame.eAttribute.getEAttributeType(), frame.text.toString());
+            if (frame.eAttribute.isMany()) {
+                owner.manyValuedAttributes.computeIfAbsent(frame.eAttribute, a -> Lists.newArrayList()).add(value);
+            } else {
+                ChronoSphereGraphFormat.setEAttributeValue(registry, this.getVertex(owner), frame.eAttribute, value);
+            }
+            return;
+        }
+        if (frame.manyValuedAttributes.isEmpty() == false) {
+            Vertex vertex = this.getVertex(frame);
+            for (Map.Entry<EAttribute, List<Object>> entry : frame.manyValuedAttributes.entrySet()) {
+                ChronoSphereGraphFormat.setEAttributeValues(registry, vertex, entry.getKey(), entry.getValue());
+            }
+        }
+        this.writeDeferredReferences(frame);
+        this.importedEObjects++;
+        this.countChange();
+    }
+
+    private ElementFrame createEObject(final XMLStreamReader reader, final EClass eClass, final String uriFragment,
+                                       final ElementFrame parent, final EReference containment, final int position) {
+        if (eClass.isAbstract() || eClass.isInterface()) {
+            throw new XMIConversionFailedException("Cannot instantiate abstract EClass '" + eClass.getName() + "'"
+                + location(reader) + "!");
+        }
+        ChronoEPackageRegistry registry = this.tx.getEPackageRegistry();
+        String vertexId = this.createVertexId(this.getXMIIdentifier(reader, eClass, uriFragment));
+        Vertex vertex = this.getGraph().addVertex(T.id, vertexId);
+        ChronoSphereGraphFormat.setVertexKind(vertex, VertexKind.EOBJECT);
+        ChronoSphereGraphFormat.setEClassForEObjectVertex(registry, vertex, eClass);
+        ElementFrame frame = new ElementFrame(vertexId, eClass, uriFragment);
+        frame.vertex = vertex;
+        if (parent != null) {
+            Vertex parentVertex = this.getVertex(parent);
+            if (containment.isMany()) {
+                // leave room for prepending targets before the first one
+                long order = (position + 1) * ChronoSphereGraphFormat.EREFERENCE_ORDER_GAP;
+                ChronoSphereGraphFormat.addEReferenceTarget(registry, parentVertex, containment, vertex, order);
+            } else {
+                ChronoSphereGraphFormat.setEReferenceTarget(registry, parentVertex, containment, vertex);
+            }
+            ChronoSphereGraphFormat.setEContainer(vertex, parentVertex);
+            // same encoding as in ChronoGraphEStore#mergeEReferencesAndEContainer(...)
+            int containingFeatureID;
+            if (eClass.getFeatureID(containment) >= 0) {
+                containingFeatureID = eClass.getFeatureID(containment);
+            } else {
+                containingFeatureID = -1 - containment.getFeatureID();
+            }
+            ChronoSphereGraphFormat.setEContainingFeatureId(vertex, containingFeatureID);
+            EReference containerReference = containment.getEOpposite();
+            if (containerReference != null) {
+                ChronoSphereGraphFormat.setEReferenceTarget(registry, vertex, containerReference, parentVertex);
+            }
+        }
+        // process the features in attribute notation
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String namespace = reader.getAttributeNamespace(i);
+            if (namespace != null && namespace.isEmpty() == false) {
+                // xmi:id, xsi:type, ...
+                continue;
+            }
+            String name = reader.getAttributeLocalName(i);
+            EStructuralFeature feature = eClass.getEStructuralFeature(name);
+            if (feature == null) {
+                if ("href".equals(name)) {
+                    continue;
+                }
+                throw new XMIConversionFailedException("EClass '" + eClass.getName() + "' has no feature named '"
+                    + name + "'" + location(reader) + "!");
+            }
+            String value = reader.getAttributeValue(i);
+            if (feature instanceof EAttribute) {
+                EAttribute eAttribute = (EAttribute) feature;
+                if (eAttribute.isMany()) {
+                    List<Object> values = frame.manyValuedAttributes.computeIfAbsent(eAttribute, a -> Lists.newArrayList());
+                    for (String token : splitTokens(value)) {
+                        values.add(EcoreUtil.createFromString(eAttribute.getEAttributeType(), token));
+                    }
+                } else {
+                    Object attributeValue = EcoreUtil.createFromString(eAttribute.getEAttributeType(), value);
+                    ChronoSphereGraphFormat.setEAttributeValue(registry, vertex, eAttribute, attributeValue);
+                }
+            } else {
+                EReference eReference = (EReference) feature;
+                if (eReference.isContainment() || eReference.isContainer()) {
+                    // containments are given by nesting, containers are implied by it
+                    continue;
+                }
+                this.deferReference(frame, eReference, splitTokens(value));
+            }
+        }
+        return frame;
+    }
+
+    private void deferReference(final ElementFrame frame, final EReference eReference, final String[] tokens) {
+        // a reference may occur more than once in element notation; we collect all of its targets in the frame,
+        // such that every (source, reference) pair occurs only once in the deferred reference file
+        List<String> targetIdentifiers = null;
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i];
+            int hashIndex = token.indexOf('#');
+            String targetIdentifier;
+            if (hashIndex == 0) {
+                // a local reference in URI notation
+                targetIdentifier = token.substring(1);
+            } else if (hashIndex > 0) {
+                // a reference to another resource
+                this.skippedReferences++;
+                continue;
+            } else if (i + 1 < tokens.length && tokens[i + 1].indexOf('#') > 0 && token.indexOf(':') > 0) {
+                // the type qualifier of a reference to another resource (e.g. "pkg:MyClass other.xmi#//@x.0")
+                continue;
+            } else {
+                targetIdentifier = token;
+            }
+            if (targetIdentifiers == null) {
+                targetIdentifiers = frame.deferredReferenceTargets.computeIfAbsent(eReference, r -> Lists.newArrayList());
+            }
+            targetIdentifiers.add(targetIdentifier);
+        }
+    }
+
+    private void writeDeferredReferences(final ElementFrame frame) throws IOException {
+        DataOutputStream out = this.deferredReferencesOut;
+        for (Map.Entry<EReference, List<String>> entry : frame.deferredReferenceTargets.entrySet()) {
+            EReference eReference = entry.getKey();
+            List<String> targetIdentifiers = entry.getValue();
+            Integer eReferenceIndex = this.deferredEReferenceToIndex.get(eReference);
+            if (eReferenceIndex == null) {
+                eReferenceIndex = this.deferredEReferences.size();
+                this.deferredEReferences.add(eReference);
+                this.deferredEReferenceToIndex.put(eReference, eReferenceIndex);
+            }
+            out.writeUTF(frame.vertexId);
+            out.writeInt(eReferenceIndex);
+            out.writeInt(targetIdentifiers.size());
+            for (String targetIdentifier : targetIdentifiers) {
+                out.writeUTF(targetIdentifier);
+            }
+            this.deferredReferenceCount++;
+        }
+    }
+
+    // =================================================================================================================
+    // SECOND PASS: CROSS-REFERENCES
+    // =================================================================================================================
+
+    private void resolveDeferredReferences(final Path deferredReferencesFile) throws IOException {
+        ChronoEPackageRegistry registry = this.tx.getEPackageRegistry();
+        // the order keys of the EOpposite edges we derive; a global counter is ascending for every single vertex too
+        long oppositeOrder = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(deferredReferencesFile)))) {
+            for (long i = 0; i < this.deferredReferenceCount; i++) {
+                String sourceVertexId = in.readUTF();
+                EReference eReference = this.deferredEReferences.get(in.readInt());
+                int targetCount = in.readInt();
+                List<Vertex> targetVertices = Lists.newArrayListWithCapacity(targetCount);
+                for (int t = 0; t < targetCount; t++) {
+                    Vertex targetVertex = this.getVertex(this.createVertexId(in.readUTF()));
+                    if (targetVertex == null) {
+                        // dangling reference
+                        this.skippedReferences++;
+                        continue;
+                    }
+                    targetVertices.add(targetVertex);
+                }
+                Vertex sourceVertex = this.getVertex(sourceVertexId);
+                if (sourceVertex == null || targetVertices.isEmpty()) {
+                    continue;
+                }
+                // every (source, reference) pair occurs only once in the file, see #deferReference(...)
+                if (eReference.isMany()) {
+                    ChronoSphereGraphFormat.setEReferenceTargets(registry, sourceVertex, eReference, targetVertices);
+                } else {
+                    targetVertices = targetVertices.subList(0, 1);
+                    ChronoSphereGraphFormat.setEReferenceTarget(registry, sourceVertex, eReference, targetVertices.get(0));
+                }
+                // EMF serializes both ends of a bidirectional reference, unless one of them is transient. We only
+                // derive the opposite edges if the opposite end does not occur in the data, otherwise we would
+                // create them twice.
+                EReference eOpposite = eReference.getEOpposite();
+                if (eOpposite != null && this.deferredEReferenceToIndex.containsKey(eOpposite) == false) {
+                    for (Vertex targetVertex : targetVertices) {
+                        if (eOpposite.isMany()) {
+                            oppositeOrder += ChronoSphereGraphFormat.EREFERENCE_ORDER_GAP;
+                            ChronoSphereGraphFormat.addEReferenceTarget(registry, targetVertex, eOpposite, sourceVertex, oppositeOrder);
+                        } else {
+                            ChronoSphereGraphFormat.setEReferenceTarget(registry, targetVertex, eOpposite, sourceVertex);
+                        }
+                    }
+                }
+                this.countChange();
+            }
+        }
+    }
+
+    // =================================================================================================================
+    // HELPER METHODS
+    // =================================================================================================================
+
+    private void countChange() {
+        this.changesInBatch++;
+        if (this.changesInBatch >= this.batchSize) {
+            this.tx.commitIncremental();
+            this.changesInBatch = 0;
+            // the vertex objects may not be reused after an incremental commit, we need to fetch them again
+            for (ElementFrame frame : this.openElements) {
+                frame.vertex = null;
+            }
+        }
+    }
+
+    private ChronoGraph getGraph() {
+        return this.tx.getGraph();
+    }
+
+    private Vertex getVertex(final ElementFrame frame) {
+        if (frame.vertex == null) {
+            frame.vertex = this.getVertex(frame.vertexId);
+        }
+        return frame.vertex;
+    }
+
+    private Vertex getVertex(final String vertexId) {
+        return Iterators.getOnlyElement(this.getGraph().vertices(vertexId), null);
+    }
+
+    private String createVertexId(final String xmiIdentifier) {
+        String identifier = normalizeURIFragment(xmiIdentifier);
+        return UUID.nameUUIDFromBytes((this.vertexIdPrefix + identifier).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Returns the identifier by which the element at the current reader position is referenced within the XMI data.
+     *
+     * <p>
+     * This is the same identifier which EMF uses for the URI fragment of the element: the <code>xmi:id</code> (if
+     * present), the value of the ID attribute of the EClass (if any), or the path of the element otherwise.
+     */
+    private String getXMIIdentifier(final XMLStreamReader reader, final EClass eClass, final String uriFragment) {
+        String xmiId = getXMIAttributeValue(reader, "id");
+        if (xmiId != null) {
+            return xmiId;
+        }
+        EAttribute idAttribute = eClass.getEIDAttribute();
+        if (idAttribute != null) {
+            String id = reader.getAttributeValue(null, idAttribute.getName());
+            if (id != null) {
+                return id;
+            }
+        }
+        return uriFragment;
+    }
+
+    private EClass resolveXsiType(final XMLStreamReader reader) {
+        String type = reader.getAttributeValue(XSI_NAMESPACE_URI, "type");
+        if (type == null) {
+            type = getXMIAttributeValue(reader, "type");
+        }
+        if (type == null) {
+            return null;
+        }
+        int separatorIndex = type.indexOf(':');
+        String prefix = separatorIndex < 0 ? XMLConstants.DEFAULT_NS_PREFIX : type.substring(0, separatorIndex);
+        String name = type.substring(separatorIndex + 1);
+        return this.getEClass(reader, reader.getNamespaceURI(prefix), name);
+    }
+
+    private EClass getEClass(final XMLStreamReader reader, final String nsURI, final String name) {
+        EPackage ePackage = nsURI == null ? null : this.nsURIToEPackage.get(nsURI);
+        if (ePackage == null) {
+            throw new XMIConversionFailedException("There is no registered EPackage with Namespace URI '" + nsURI
+                + "'" + location(reader) + "! Please register your EPackages before inserting model data.");
+        }
+        EClassifier eClassifier = ePackage.getEClassifier(name);
+        if (eClassifier instanceof EClass == false) {
+            throw new XMIConversionFailedException("There is no EClass named '" + name + "' in EPackage '"
+                + ePackage.getNsURI() + "'" + location(reader) + "!");
+        }
+        return (EClass) eClassifier;
+    }
+
+    private static String getXMIAttributeValue(final XMLStreamReader reader, final String localName) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (localName.equals(reader.getAttributeLocalName(i)) && isXMINamespace(reader.getAttributeNamespace(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isXMINamespace(final String namespaceURI) {
+        if (namespaceURI == null) {
+            return false;
+        }
+        return namespaceURI.startsWith("http://www.omg.org/XMI") || namespaceURI.startsWith("http://www.omg.org/spec/XMI");
+    }
+
+    /**
+     * EMF omits the index of the root element in URI fragments if there is only a single root (i.e. <code>//@x.0</code>
+     * instead of <code>/0/@x.0</code>). Since we don't know the number of roots while streaming, we always use the
+     * index form.
+     */
+    private static String normalizeURIFragment(final String identifier) {
+        if (identifier.startsWith("//") || identifier.equals("/")) {
+            return "/0" + identifier.substring(1);
+        }
+        return identifier;
+    }
+
+    private static String[] splitTokens(final String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return new String[0];
+        }
+        return trimmed.split("\\s+");
+    }
+
+    private static String location(final XMLStreamReader reader) {
+        return " (line " + reader.getLocation().getLineNumber() + ")";
+    }
+
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        // XMI data never needs a DTD; don't resolve anything from the outside
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    // =================================================================================================================
+    // INNER CLASSES
+    // =================================================================================================================
+
+    /**
+     * An open XML element, which either represents an EObject, or the value of an {@link EAttribute} in element
+     * notation.
+     */
+    private static class ElementFrame {
+
+        private final String vertexId;
+        private final EClass eClass;
+        private final String uriFragment;
+        private final Map<EReference, Integer> nextPositions;
+        private final Map<EAttribute, List<Object>> manyValuedAttributes;
+        /** The targets of the non-containment references, to be written to the deferred reference file. */
+        private final Map<EReference, List<String>> deferredReferenceTargets;
+        /** The vertex of the EObject; <code>null</code> if it has to be fetched again. */
+        private Vertex vertex;
+
+        private final EAttribute eAttribute;
+        private final StringBuilder text;
+
+        private ElementFrame(final String vertexId, final EClass eClass, final String uriFragment) {
+            this.vertexId = vertexId;
+            this.eClass = eClass;
+            this.uriFragment = uriFragment;
+            this.nextPositions = Maps.newHashMap();
+            this.manyValuedAttributes = Maps.newLinkedHashMap();
+            this.deferredReferenceTargets = Maps.newLinkedHashMap();
+            this.eAttribute = null;
+            this.text = null;
+        }
+
+        private ElementFrame(final EAttribute eAttribute) {
+            this.vertexId = null;
+            this.eClass = null;
+            this.uriFragment = null;
+            this.nextPositions = null;
+            this.manyValuedAttributes = null;
+            this.deferredReferenceTargets = null;
+            this.eAttribute = eAttribute;
+            this.text = new StringBuilder();
+        }
+
+        private boolean isValueElement() {
+            return this.eAttribute != null;
+        }
+
+        private int nextPosition(final EReference eReference) {
+            int position = this.nextPositions.getOrDefault(eReference, 0);
+            this.nextPositions.put(eReference, position + 1);
+            return position;
+        }
+
+    }
+
+}
@@ -2,6 +2,8 @@ package org.chronos.chronosphere.test.cases.emf.estore.impl;
 
 import org.chronos.chronosphere.emf.internal.util.EMFUtils;
 import org.chronos.chronosphere.test.cases.emf.estore.base.EStoreTest;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
@@ -447,6 +449,65 @@ public class BasicEStoreTest extends EStoreTest {
         assertNull(child2.eContainingFeature());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void orderedMultiplicityManyCrossRefKeepsOrderOnSingleElementChanges() {
+        this.createEPackageMultiplicityManyCrossRefNoOpposite();
+        EPackage ePackage = this.getEPackageByNsURI("http://www.example.com/model");
+        EClass myClass = (EClass) ePackage.getEClassifier("MyEClass");
+        EClass yourClass = (EClass) ePackage.getEClassifier("YourEClass");
+        EReference childRef = (EReference) myClass.getEStructuralFeature("children");
+        assertTrue(childRef.isOrdered());
+        EObject parent = this.createEObject(myClass);
+        EList<EObject> children = (EList<EObject>) parent.eGet(childRef);
+        EList<EObject> expected = new BasicEList<>();
+        for (int i = 0; i < 5; i++) {
+            EObject child = this.createEObject(yourClass);
+            children.add(child);
+            expected.add(child);
+        }
+        assertEquals(expected, parent.eGet(childRef));
+
+        // insert at the front and in the middle
+        EObject first = this.createEObject(yourClass);
+        children.add(0, first);
+        expected.add(0, first);
+        EObject middle = this.createEObject(yourClass);
+        children.add(3, middle);
+        expected.add(3, middle);
+        assertEquals(expected, parent.eGet(childRef));
+
+        // insert many elements at the same position, such that there is no room left in between
+        for (int i = 0; i < 40; i++) {
+            EObject child = this.createEObject(yourClass);
+            children.add(1, child);
+            expected.add(1, child);
+        }
+        assertEquals(expected, parent.eGet(childRef));
+
+        // move elements around
+        children.move(0, expected.size() - 1);
+        expected.move(0, expected.size() - 1);
+        children.move(expected.size() - 1, 2);
+        expected.move(expected.size() - 1, 2);
+        children.move(10, 20);
+        expected.move(10, 20);
+        assertEquals(expected, parent.eGet(childRef));
+
+        // replace and remove single elements
+        EObject replacement = this.createEObject(yourClass);
+        children.set(5, replacement);
+        expected.set(5, replacement);
+        children.remove(7);
+        expected.remove(7);
+        children.remove(0);
+        expected.remove(0);
+        assertEquals(expected, parent.eGet(childRef));
+        assertEquals(expected.size(), children.size());
+        assertEquals(5, children.indexOf(replacement));
+        assertTrue(children.contains(middle));
+    }
+
     @Test
     public void symmetricMultiplicityManyCrossRefWorks() {
         this.createEPackageSymmetricMultiplicityManyCrosssRef();
@@ -1,10 +1,15 @@
 package org.chronos.chronosphere.test.cases.query;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronosphere.api.ChronoSphere;
 import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.api.query.Direction;
 import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.api.ChronoSphereInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
 import org.chronos.chronosphere.test.testmodels.instance.JohnDoeFamilyModel;
 import org.chronos.chronosphere.test.testmodels.meta.PersonMetamodel;
@@ -14,6 +19,8 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.junit.Test;
 
 import java.util.List;
@@ -280,4 +287,166 @@ public class QueryAPITest extends AllChronoSphereBackendsTest {
 
     }
 
+    @Test
+    public void canCalculateTransitiveClosureOnDenselyConnectedModel() {
+        ChronoSphere sphere = this.getChronoSphere();
+        EPackage personEPackage = PersonMetamodel.createPersonEPackage();
+        sphere.getEPackageManager().registerOrUpdateEPackage(personEPackage);
+
+        int personCount = 30;
+        { // setup
+            ChronoSphereTransaction tx = sphere.tx();
+            EClass person = tx.getEClassBySimpleName("Person");
+            EAttribute firstName = EMFUtils.getEAttribute(person, "firstName");
+            EReference friend = EMFUtils.getEReference(person, "friend");
+
+            // every person is a friend of every other person. The number of simple
+            // paths in this model is factorial in the number of persons.
+            List<EObject> persons = Lists.newArrayList();
+            for (int i = 0; i < personCount; i++) {
+                EObject p = tx.createAndAttach(person);
+                p.eSet(firstName, "p" + i);
+                persons.add(p);
+            }
+            for (EObject p : persons) {
+                for (EObject other : persons) {
+                    if (p != other) {
+                        EMFUtils.eGetMany(p, friend).add(other);
+                    }
+                }
+            }
+            // a chain of persons which is only reachable via incoming references
+            EObject chain1 = tx.createAndAttach(person);
+            chain1.eSet(firstName, "chain1");
+            EObject chain2 = tx.createAndAttach(person);
+            chain2.eSet(firstName, "chain2");
+            EMFUtils.eGetMany(chain1, friend).add(chain2);
+            EMFUtils.eGetMany(chain2, friend).add(persons.get(0));
+
+            tx.commit();
+        }
+
+        { // test
+            ChronoSphereTransaction tx = sphere.tx();
+            EClass person = tx.getEClassBySimpleName("Person");
+            EAttribute firstName = EMFUtils.getEAttribute(person, "firstName");
+            EReference friend = EMFUtils.getEReference(person, "friend");
+
+            EObject p0 = Iterables.getOnlyElement(tx.find().startingFromInstancesOf(person).has(firstName, "p0").toSet());
+            List<EObject> closure = tx.find().startingFromEObject(p0).closure(friend).toList();
+            assertThat(closure.size(), is(personCount - 1));
+            assertThat(Sets.newHashSet(closure).size(), is(personCount - 1));
+            assertFalse(closure.contains(p0));
+
+            // closures of multiple start objects are deduplicated
+            Set<EObject> allPersons = tx.find().startingFromInstancesOf(person).toSet();
+            List<EObject> combinedClosure = tx.find().startingFromEObjects(allPersons).closure(friend).toList();
+            assertThat(combinedClosure.size(), is(personCount + 1));
+
+            List<String> incoming = tx.find().startingFromEObject(p0).closure(friend, Direction.INCOMING)
+                .map(eObj -> (String) eObj.eGet(firstName)).toList();
+            assertThat(incoming, hasItems("chain1", "chain2", "p1"));
+            assertThat(incoming.size(), is(personCount + 1));
+        }
+    }
+
+    @Test
+    public void canFindInstancesOfEClassIncludingSubclasses() {
+        ChronoSphere sphere = this.getChronoSphere();
+        sphere.getEPackageManager().registerOrUpdateEPackage(this.createHierarchyEPackage());
+
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            EClass person = tx.getEClassBySimpleName("Person");
+            EClass employee = tx.getEClassBySimpleName("Employee");
+            EClass company = tx.getEClassBySimpleName("Company");
+            EAttribute name = EMFUtils.getEAttribute(person, "name");
+            tx.createAndAttach(person).eSet(name, "p1");
+            tx.createAndAttach(person).eSet(name, "p2");
+            tx.createAndAttach(employee).eSet(name, "e1");
+            tx.createAndAttach(company).eSet(name, "c1");
+            tx.commit();
+        }
+
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            EClass named = tx.getEClassBySimpleName("Named");
+            EClass person = tx.getEClassBySimpleName("Person");
+            EClass employee = tx.getEClassBySimpleName("Employee");
+            EAttribute name = EMFUtils.getEAttribute(person, "name");
+
+            // direct instances only
+            assertThat(tx.find().startingFromInstancesOf(person).count(), is(2L));
+            assertThat(tx.find().startingFromInstancesOf(named).count(), is(0L));
+            // including subclasses
+            assertThat(tx.find().startingFromInstancesOf(named, true).count(), is(4L));
+            assertThat(tx.find().startingFromInstancesOf(employee, true).count(), is(1L));
+            Set<String> personNames = tx.find().startingFromInstancesOf(person, true)
+                .map(eObj -> (String) eObj.eGet(name)).toSet();
+            assertThat(personNames, containsInAnyOrder("p1", "p2", "e1"));
+            Set<String> filteredNames = tx.find().startingFromAllEObjects().isInstanceOf("Person")
+                .map(eObj -> (String) eObj.eGet(name)).toSet();
+            assertThat(filteredNames, containsInAnyOrder("p1", "p2", "e1"));
+            assertThat(tx.find().startingFromAllEObjects().isInstanceOf(person, false).count(), is(2L));
+        }
+    }
+
+    @Test
+    public void canFindInstancesOfEClassIncludingSubclassesWithoutEClassHierarchy() {
+        ChronoSphere sphere = this.getChronoSphere();
+        sphere.getEPackageManager().registerOrUpdateEPackage(this.createHierarchyEPackage());
+
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            EClass person = tx.getEClassBySimpleName("Person");
+            EClass employee = tx.getEClassBySimpleName("Employee");
+            EAttribute name = EMFUtils.getEAttribute(person, "name");
+            tx.createAndAttach(person).eSet(name, "p1");
+            tx.createAndAttach(employee).eSet(name, "e1");
+            tx.commit();
+        }
+        // simulate the state of the graph before the EClass hierarchy was introduced
+        ChronoGraph graph = ((ChronoSphereInternal) sphere).getRootGraph();
+        try (ChronoGraph txGraph = graph.tx().createThreadedTx()) {
+            txGraph.variables().remove(ChronoSphereGraphFormat.VARIABLES__ECLASS_HIERARCHY_INDEXED);
+            txGraph.traversal().V().properties(ChronoSphereGraphFormat.V_PROP__ECLASS_HIERARCHY).drop().iterate();
+            txGraph.tx().commit();
+        }
+
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            EClass named = tx.getEClassBySimpleName("Named");
+            EClass person = tx.getEClassBySimpleName("Person");
+            EAttribute name = EMFUtils.getEAttribute(person, "name");
+            assertThat(tx.find().startingFromInstancesOf(named, true).count(), is(2L));
+            Set<String> personNames = tx.find().startingFromInstancesOf(person, true)
+                .map(eObj -> (String) eObj.eGet(name)).toSet();
+            assertThat(personNames, containsInAnyOrder("p1", "e1"));
+            Set<String> filteredNames = tx.find().startingFromAllEObjects().isInstanceOf("Named", true)
+                .map(eObj -> (String) eObj.eGet(name)).toSet();
+            assertThat(filteredNames, containsInAnyOrder("p1", "e1"));
+        }
+    }
+
+    private EPackage createHierarchyEPackage() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("hierarchy");
+        ePackage.setNsURI("http://www.example.com/model/hierarchy");
+        ePackage.setNsPrefix("hierarchy");
+        EClass ecNamed = EcoreFactory.eINSTANCE.createEClass();
+        ecNamed.setName("Named");
+        ecNamed.setAbstract(true);
+        EAttribute eaName = EcoreFactory.eINSTANCE.createEAttribute();
+        eaName.setName("name");
+        eaName.setEType(EcorePackage.Literals.ESTRING);
+        ecNamed.getEStructuralFeatures().add(eaName);
+        EClass ecPerson = EcoreFactory.eINSTANCE.createEClass();
+        ecPerson.setName("Person");
+        ecPerson.getESuperTypes().add(ecNamed);
+        EClass ecEmployee = EcoreFactory.eINSTANCE.createEClass();
+        ecEmployee.setName("Employee");
+        ecEmployee.getESuperTypes().add(ecPerson);
+        EClass ecCompany = EcoreFactory.eINSTANCE.createEClass();
+        ecCompany.setName("Company");
+        ecCompany.getESuperTypes().add(ecNamed);
+        ePackage.getEClassifiers().addAll(Lists.newArrayList(ecNamed, ecPerson, ecEmployee, ecCompany));
+        return ePackage;
+    }
+
 }
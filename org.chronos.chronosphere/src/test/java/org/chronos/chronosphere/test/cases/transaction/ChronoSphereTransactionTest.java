@@ -1,12 +1,17 @@
 package org.chronos.chronosphere.test.cases.transaction;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.api.ChronoSphere;
 import org.chronos.chronosphere.api.ChronoSphereTransaction;
 import org.chronos.chronosphere.emf.api.ChronoEObject;
 import org.chronos.chronosphere.emf.impl.ChronoEFactory;
 import org.chronos.chronosphere.emf.internal.api.ChronoEObjectInternal;
 import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
 import org.chronos.chronosphere.test.utils.EMFTestUtils;
 import org.chronos.common.test.junit.categories.IntegrationTest;
@@ -23,6 +28,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.Assert.*;
@@ -308,6 +314,170 @@ public class ChronoSphereTransactionTest extends AllChronoSphereBackendsTest {
         }
     }
 
+    @Test
+    public void prependingToOrderedCrossReferenceDoesNotRewriteExistingEdges() {
+        ChronoSphere sphere = this.getChronoSphere();
+        EPackage ePackage = this.createEPackageWithNonUniqueMultiplicityManyOrderedCrossReference();
+        sphere.getEPackageManager().registerOrUpdateEPackage(ePackage);
+        String sourceId;
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            ePackage = tx.getEPackageByNsURI("http://com.example.model.MyEPackage");
+            EClass eClass = (EClass) ePackage.getEClassifier("MyClass");
+            EReference eRef = (EReference) eClass.getEStructuralFeature("ref");
+            EAttribute name = (EAttribute) eClass.getEStructuralFeature("Name");
+            EObject source = tx.createAndAttach(eClass);
+            source.eSet(name, "Source");
+            EList<EObject> targets = EMFUtils.eGetMany(source, eRef);
+            for (int i = 0; i < 3; i++) {
+                EObject target = tx.createAndAttach(eClass);
+                target.eSet(name, "Original" + i);
+                targets.add(target);
+            }
+            sourceId = ((ChronoEObject) source).getId();
+            tx.commit();
+        }
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            ePackage = tx.getEPackageByNsURI("http://com.example.model.MyEPackage");
+            EClass eClass = (EClass) ePackage.getEClassifier("MyClass");
+            EReference eRef = (EReference) eClass.getEStructuralFeature("ref");
+            EAttribute name = (EAttribute) eClass.getEStructuralFeature("Name");
+            ChronoSphereTransactionInternal txInternal = (ChronoSphereTransactionInternal) tx;
+            Vertex sourceVertex = ChronoSphereGraphFormat.getVertexForEObject(txInternal.getGraph(), sourceId);
+            List<Edge> originalEdges = ChronoSphereGraphFormat.getEReferenceEdges(txInternal.getEPackageRegistry(), sourceVertex, eRef);
+            assertEquals(3, originalEdges.size());
+            // the first edge must leave room for prepends
+            assertEquals(ChronoSphereGraphFormat.EREFERENCE_ORDER_GAP, ChronoSphereGraphFormat.getEReferenceEdgeOrder(originalEdges.get(0)));
+            Map<Object, Long> originalOrders = Maps.newHashMap();
+            for (Edge edge : originalEdges) {
+                originalOrders.put(edge.id(), ChronoSphereGraphFormat.getEReferenceEdgeOrder(edge));
+            }
+            // prepend a couple of elements
+            EObject source = tx.getEObjectById(sourceId);
+            EList<EObject> targets = EMFUtils.eGetMany(source, eRef);
+            for (int i = 0; i < 5; i++) {
+                EObject target = tx.createAndAttach(eClass);
+                target.eSet(name, "Prepended" + i);
+                targets.add(0, target);
+            }
+            // the existing edges must not have been renumbered
+            List<Edge> edges = ChronoSphereGraphFormat.getEReferenceEdges(txInternal.getEPackageRegistry(), sourceVertex, eRef);
+            assertEquals(8, edges.size());
+            for (Edge edge : edges) {
+                Long originalOrder = originalOrders.get(edge.id());
+                if (originalOrder != null) {
+                    assertEquals(originalOrder.longValue(), ChronoSphereGraphFormat.getEReferenceEdgeOrder(edge));
+                }
+            }
+            tx.commit();
+        }
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            ePackage = tx.getEPackageByNsURI("http://com.example.model.MyEPackage");
+            EClass eClass = (EClass) ePackage.getEClassifier("MyClass");
+            EReference eRef = (EReference) eClass.getEStructuralFeature("ref");
+            EAttribute name = (EAttribute) eClass.getEStructuralFeature("Name");
+            EList<EObject> targets = EMFUtils.eGetMany(tx.getEObjectById(sourceId), eRef);
+            assertEquals(8, targets.size());
+            for (int i = 0; i < 5; i++) {
+                assertEquals("Prepended" + (4 - i), targets.get(i).eGet(name));
+            }
+            for (int i = 0; i < 3; i++) {
+                assertEquals("Original" + i, targets.get(5 + i).eGet(name));
+            }
+        }
+    }
+
+    @Test
+    public void canBatchInsertXMIWithForwardReferences() {
+        ChronoSphere sphere = this.getChronoSphere();
+        EPackage ePackage = this.createEPackageWithContainmentAndCrossReference();
+        sphere.getEPackageManager().registerOrUpdateEPackage(ePackage);
+        String xmi = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<ex:Node xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" xmlns:ex=\"http://com.example.model.MyEPackage\" xmi:id=\"root\" name=\"Root\" ref=\"c3 c1 c3\">\n" +
+            "  <children xmi:id=\"c1\" name=\"Child1\" ref=\"c2\"/>\n" +
+            "  <children xmi:id=\"c2\" name=\"Child2\"/>\n" +
+            "  <children xmi:id=\"c3\" name=\"Child3\">\n" +
+            "    <children xmi:id=\"c4\" name=\"GrandChild\" ref=\"root c1\"/>\n" +
+            "  </children>\n" +
+            "</ex:Node>\n";
+        sphere.batchInsertModelData(xmi);
+
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            ePackage = tx.getEPackageByNsURI("http://com.example.model.MyEPackage");
+            EClass ecNode = (EClass) ePackage.getEClassifier("Node");
+            EAttribute eaName = (EAttribute) ecNode.getEStructuralFeature("name");
+            EReference erChildren = (EReference) ecNode.getEStructuralFeature("children");
+            EReference erRef = (EReference) ecNode.getEStructuralFeature("ref");
+            assertEquals(5, tx.find().startingFromAllEObjects().count());
+
+            EObject root = Iterables.getOnlyElement(tx.find().startingFromAllEObjects().has(eaName, "Root").toSet());
+            assertNull(root.eContainer());
+            EList<EObject> children = EMFUtils.eGetMany(root, erChildren);
+            assertEquals(3, children.size());
+            assertEquals("Child1", children.get(0).eGet(eaName));
+            assertEquals("Child2", children.get(1).eGet(eaName));
+            assertEquals("Child3", children.get(2).eGet(eaName));
+            for (EObject child : children) {
+                assertEquals(root, child.eContainer());
+                assertEquals(erChildren, child.eContainingFeature());
+            }
+            // the cross-references point forward in the document
+            EList<EObject> rootRefs = EMFUtils.eGetMany(root, erRef);
+            assertEquals(3, rootRefs.size());
+            assertEquals(children.get(2), rootRefs.get(0));
+            assertEquals(children.get(0), rootRefs.get(1));
+            assertEquals(children.get(2), rootRefs.get(2));
+            assertEquals(children.get(1), Iterables.getOnlyElement(EMFUtils.eGetMany(children.get(0), erRef)));
+
+            EObject grandChild = Iterables.getOnlyElement(EMFUtils.eGetMany(children.get(2), erChildren));
+            assertEquals("GrandChild", grandChild.eGet(eaName));
+            assertEquals(children.get(2), grandChild.eContainer());
+            EList<EObject> grandChildRefs = EMFUtils.eGetMany(grandChild, erRef);
+            assertEquals(2, grandChildRefs.size());
+            assertEquals(root, grandChildRefs.get(0));
+            assertEquals(children.get(0), grandChildRefs.get(1));
+        }
+    }
+
+    @Test
+    public void batchInsertXMICreatesEOppositesOfCrossReferences() {
+        ChronoSphere sphere = this.getChronoSphere();
+        EPackage ePackage = this.createEPackageWithBidirectionalCrossReference();
+        sphere.getEPackageManager().registerOrUpdateEPackage(ePackage);
+        // the "incoming" end of the reference is transient and therefore not part of the XMI data;
+        // the targets of "outgoing" in element notation are interrupted by a child element
+        String xmi = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<ex:Node xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" xmlns:ex=\"http://com.example.model.MyEPackage\" xmi:id=\"root\" name=\"Root\">\n" +
+            "  <outgoing href=\"#c2\"/>\n" +
+            "  <children xmi:id=\"c1\" name=\"Child1\" outgoing=\"c2\"/>\n" +
+            "  <outgoing href=\"#c1\"/>\n" +
+            "  <children xmi:id=\"c2\" name=\"Child2\"/>\n" +
+            "</ex:Node>\n";
+        sphere.batchInsertModelData(xmi);
+
+        try (ChronoSphereTransaction tx = sphere.tx()) {
+            ePackage = tx.getEPackageByNsURI("http://com.example.model.MyEPackage");
+            EClass ecNode = (EClass) ePackage.getEClassifier("Node");
+            EAttribute eaName = (EAttribute) ecNode.getEStructuralFeature("name");
+            EReference erOutgoing = (EReference) ecNode.getEStructuralFeature("outgoing");
+            EReference erIncoming = (EReference) ecNode.getEStructuralFeature("incoming");
+            EObject root = Iterables.getOnlyElement(tx.find().startingFromAllEObjects().has(eaName, "Root").toSet());
+            EObject child1 = Iterables.getOnlyElement(tx.find().startingFromAllEObjects().has(eaName, "Child1").toSet());
+            EObject child2 = Iterables.getOnlyElement(tx.find().startingFromAllEObjects().has(eaName, "Child2").toSet());
+            EList<EObject> rootOutgoing = EMFUtils.eGetMany(root, erOutgoing);
+            assertEquals(2, rootOutgoing.size());
+            assertEquals(child2, rootOutgoing.get(0));
+            assertEquals(child1, rootOutgoing.get(1));
+            assertEquals(child2, Iterables.getOnlyElement(EMFUtils.eGetMany(child1, erOutgoing)));
+            // the opposite ends have been derived during the import
+            assertTrue(EMFUtils.eGetMany(root, erIncoming).isEmpty());
+            assertEquals(root, Iterables.getOnlyElement(EMFUtils.eGetMany(child1, erIncoming)));
+            EList<EObject> child2Incoming = EMFUtils.eGetMany(child2, erIncoming);
+            assertEquals(2, child2Incoming.size());
+            assertTrue(child2Incoming.contains(root));
+            assertTrue(child2Incoming.contains(child1));
+        }
+    }
+
     @Test
     public void canWorkWithGrabatsFragmentModel() {
         // the following test uses a fragment of the 'JDTAST.ecore' model (from GRABATS).
@@ -552,6 +722,81 @@ public class ChronoSphereTransactionTest extends AllChronoSphereBackendsTest {
         return ePackage;
     }
 
+    private EPackage createEPackageWithContainmentAndCrossReference() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("MyEPackage");
+        ePackage.setNsURI("http://com.example.model.MyEPackage");
+        ePackage.setNsPrefix("com.example");
+        EClass ecNode = EcoreFactory.eINSTANCE.createEClass();
+        ecNode.setName("Node");
+        EAttribute eaName = EcoreFactory.eINSTANCE.createEAttribute();
+        eaName.setName("name");
+        eaName.setLowerBound(0);
+        eaName.setUpperBound(1);
+        eaName.setEType(EcorePackage.Literals.ESTRING);
+        ecNode.getEStructuralFeatures().add(eaName);
+        EReference erChildren = EcoreFactory.eINSTANCE.createEReference();
+        erChildren.setName("children");
+        erChildren.setLowerBound(0);
+        erChildren.setUpperBound(-1);
+        erChildren.setContainment(true);
+        erChildren.setEType(ecNode);
+        ecNode.getEStructuralFeatures().add(erChildren);
+        EReference erRef = EcoreFactory.eINSTANCE.createEReference();
+        erRef.setName("ref");
+        erRef.setLowerBound(0);
+        erRef.setUpperBound(-1);
+        erRef.setUnique(false);
+        erRef.setOrdered(true);
+        erRef.setContainment(false);
+        erRef.setEType(ecNode);
+        ecNode.getEStructuralFeatures().add(erRef);
+        ePackage.getEClassifiers().add(ecNode);
+        return ePackage;
+    }
+
+    private EPackage createEPackageWithBidirectionalCrossReference() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("MyEPackage");
+        ePackage.setNsURI("http://com.example.model.MyEPackage");
+        ePackage.setNsPrefix("com.example");
+        EClass ecNode = EcoreFactory.eINSTANCE.createEClass();
+        ecNode.setName("Node");
+        EAttribute eaName = EcoreFactory.eINSTANCE.createEAttribute();
+        eaName.setName("name");
+        eaName.setLowerBound(0);
+        eaName.setUpperBound(1);
+        eaName.setEType(EcorePackage.Literals.ESTRING);
+        ecNode.getEStructuralFeatures().add(eaName);
+        EReference erChildren = EcoreFactory.eINSTANCE.createEReference();
+        erChildren.setName("children");
+        erChildren.setLowerBound(0);
+        erChildren.setUpperBound(-1);
+        erChildren.setContainment(true);
+        erChildren.setEType(ecNode);
+        ecNode.getEStructuralFeatures().add(erChildren);
+        EReference erOutgoing = EcoreFactory.eINSTANCE.createEReference();
+        erOutgoing.setName("outgoing");
+        erOutgoing.setLowerBound(0);
+        erOutgoing.setUpperBound(-1);
+        erOutgoing.setOrdered(true);
+        erOutgoing.setContainment(false);
+        erOutgoing.setEType(ecNode);
+        ecNode.getEStructuralFeatures().add(erOutgoing);
+        EReference erIncoming = EcoreFactory.eINSTANCE.createEReference();
+        erIncoming.setName("incoming");
+        erIncoming.setLowerBound(0);
+        erIncoming.setUpperBound(-1);
+        erIncoming.setContainment(false);
+        erIncoming.setTransient(true);
+        erIncoming.setEType(ecNode);
+        ecNode.getEStructuralFeatures().add(erIncoming);
+        erOutgoing.setEOpposite(erIncoming);
+        erIncoming.setEOpposite(erOutgoing);
+        ePackage.getEClassifiers().add(ecNode);
+        return ePackage;
+    }
+
     private EPackage createEPackageForGrabatsFragmentTest() {
         // the following is a fragment of the 'JDTAST.ecore' model (from GRABATS).
         EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
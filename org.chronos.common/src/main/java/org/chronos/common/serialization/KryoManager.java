@@ -49,6 +49,15 @@ public class KryoManager {
 		return getKryo().deserialize(serialForm);
 	}
 
+	public static <T> T deserialize(final byte[] serialForm, final int offset, final int length) {
+		checkNotNull(serialForm, "Precondition violation - argument 'serialForm' must not be NULL!");
+		checkArgument(offset >= 0, "Precondition violation - argument 'offset' must not be negative!");
+		checkArgument(length >= 0, "Precondition violation - argument 'length' must not be negative!");
+		checkArgument(offset + length <= serialForm.length,
+				"Precondition violation - arguments 'offset' and 'length' exceed the bounds of 'serialForm'!");
+		return getKryo().deserialize(serialForm, offset, length);
+	}
+
 	public static <T> T deepCopy(final T element) {
 		return getKryo().deepCopy(element);
 	}
@@ -160,6 +169,16 @@ public class KryoManager {
 			return (T) object;
 		}
 
+		@SuppressWarnings("unchecked")
+		public <T> T deserialize(final byte[] serialForm, final int offset, final int length) {
+			Input input = new Input(serialForm, offset, length);
+			Object object = this.getKryo().readClassAndObject(input);
+			input.close();
+			this.usageCount++;
+			this.destroyKryoIfNecessary();
+			return (T) object;
+		}
+
 		@SuppressWarnings("unchecked")
 		public <T> T deserializeObjectFromFile(final File file) throws IOException {
 			try (Input input = new Input(new FileInputStream(file))) {